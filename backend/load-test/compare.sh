@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Run load-test.js at increasing client counts against a running backend and
+# print throughput and p99 for each step. Run it once per execution mode with
+# a different label, then compare the two tables:
+#
+#   gradle bootRun --args='--app.rate-limit.enabled=false'
+#   ./compare.sh platform
+#
+#   gradle bootRun -PjavaVersion=21 \
+#       --args='--spring.profiles.active=virtual-threads --app.rate-limit.enabled=false'
+#   ./compare.sh virtual
+#
+# Requires k6 and jq. Extra environment (BASE_URL, OUTING_ID, DURATION, ...)
+# is passed through to load-test.js. Raise the open file limit (ulimit -n)
+# on both sides for the larger steps.
+set -euo pipefail
+
+LABEL="${1:?usage: compare.sh <label> [client counts...]}"
+shift
+if [ $# -gt 0 ]; then STEPS=("$@"); else STEPS=(1000 2500 5000 10000); fi
+
+DIR="$(cd "$(dirname "$0")" && pwd)"
+OUT="$DIR/results"
+mkdir -p "$OUT"
+
+printf '%-10s %8s %12s %12s %12s %14s\n' mode clients 'req/s' 'p99 ms' 'errors %' 'chat p99 ms'
+for clients in "${STEPS[@]}"; do
+  summary="$OUT/$LABEL-$clients.json"
+  k6 run --quiet -e CLIENTS="$clients" --summary-export "$summary" "$DIR/load-test.js" > "$OUT/$LABEL-$clients.log" 2>&1 || true
+  jq -r --arg mode "$LABEL" --arg clients "$clients" '[
+      $mode,
+      $clients,
+      (.metrics.http_reqs.rate | floor),
+      (.metrics.http_req_duration["p(99)"] | floor),
+      ((.metrics.http_req_failed.value // 0) * 100 | . * 100 | floor / 100),
+      ((.metrics.chat_delivery_latency["p(99)"] // null) | if . == null then "-" else floor end)
+    ] | @tsv' "$summary" | awk -F'\t' '{ printf "%-10s %8s %12s %12s %12s %14s\n", $1, $2, $3, $4, $5, $6 }'
+done
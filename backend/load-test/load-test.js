@@ -0,0 +1,139 @@
+// k6 load test: REST throughput/latency and chat fan-out under N concurrent clients.
+//
+//   k6 run -e CLIENTS=1000 -e OUTING_ID=<outing organized by the test user> load-test.js
+//
+// Environment:
+//   BASE_URL          backend URL (default http://localhost:8080)
+//   CLIENTS           concurrent HTTP clients (default 1000)
+//   DURATION          test duration (default 2m)
+//   THINK_MS          pause between requests of one client (default 100)
+//   EMAIL, PASSWORD   test user (default: seeded mario@example.com)
+//   OUTING_ID         enables the chat scenario: CLIENTS / 10 STOMP sessions on the outing chat
+//   SEND_INTERVAL_MS  interval between messages of each sending chat client (default 5000)
+//
+// Run the backend with app.rate-limit.enabled=false, otherwise logins are throttled.
+
+import http from 'k6/http';
+import ws from 'k6/ws';
+import { check, sleep } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const WS_URL = BASE_URL.replace(/^http/, 'ws') + '/ws/websocket';
+const CLIENTS = parseInt(__ENV.CLIENTS || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const THINK_MS = parseInt(__ENV.THINK_MS || '100', 10);
+const EMAIL = __ENV.EMAIL || 'mario@example.com';
+const PASSWORD = __ENV.PASSWORD || 'password123';
+const OUTING_ID = __ENV.OUTING_ID;
+const SEND_INTERVAL_MS = parseInt(__ENV.SEND_INTERVAL_MS || '5000', 10);
+
+const chatLatency = new Trend('chat_delivery_latency', true);
+const chatReceived = new Counter('chat_messages_received');
+const chatErrors = new Counter('chat_errors');
+
+const scenarios = {
+  http: { executor: 'constant-vus', vus: CLIENTS, duration: DURATION, exec: 'httpClient' },
+};
+if (OUTING_ID) {
+  scenarios.chat = {
+    executor: 'constant-vus',
+    vus: Math.max(1, Math.ceil(CLIENTS / 10)),
+    duration: DURATION,
+    exec: 'chatClient',
+  };
+}
+
+export const options = {
+  scenarios,
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+function login() {
+  const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ email: EMAIL, password: PASSWORD }), {
+    headers: JSON_HEADERS,
+    tags: { name: 'login' },
+  });
+  check(res, { 'login 200': (r) => r.status === 200 });
+  return res.status === 200 ? res.json('accessToken') : null;
+}
+
+export function setup() {
+  const token = login();
+  if (!token) {
+    throw new Error(`Login failed for ${EMAIL}`);
+  }
+  let chatId = null;
+  if (OUTING_ID) {
+    const res = http.get(`${BASE_URL}/api/chats/outing/${OUTING_ID}/presence`, {
+      headers: { Authorization: `Bearer ${token}` },
+    });
+    if (res.status !== 200) {
+      throw new Error(`No chat for outing ${OUTING_ID} (HTTP ${res.status})`);
+    }
+    chatId = res.json('chatId');
+  }
+  return { token, chatId };
+}
+
+// Mostly JPA-bound reads, plus BCrypt-bound logins
+export function httpClient(data) {
+  if (Math.random() < 0.1) {
+    login();
+  } else {
+    const res = http.get(`${BASE_URL}/api/outings`, {
+      headers: { Authorization: `Bearer ${data.token}` },
+      tags: { name: 'outings' },
+    });
+    check(res, { 'outings 200': (r) => r.status === 200 });
+  }
+  sleep(THINK_MS / 1000);
+}
+
+function stompFrame(command, headers, body = '') {
+  const lines = Object.entries(headers).map(([key, value]) => `${key}:${value}`);
+  return `${command}\n${lines.join('\n')}\n\n${body}\0`;
+}
+
+// One STOMP session per VU subscribed to the chat; one in ten sessions also sends
+export function chatClient(data) {
+  const sending = __VU % 10 === 0;
+  ws.connect(WS_URL, {}, (socket) => {
+    socket.on('open', () => {
+      socket.send(stompFrame('CONNECT', {
+        'accept-version': '1.2',
+        host: 'localhost',
+        'heart-beat': '0,0',
+        Authorization: `Bearer ${data.token}`,
+      }));
+    });
+
+    socket.on('message', (frame) => {
+      if (frame.startsWith('CONNECTED')) {
+        socket.send(stompFrame('SUBSCRIBE', { id: 'sub-0', destination: `/topic/chat/${data.chatId}` }));
+        if (sending) {
+          socket.setInterval(() => {
+            socket.send(stompFrame('SEND', {
+              destination: `/app/chat/${OUTING_ID}/send`,
+              'content-type': 'application/json',
+            }, JSON.stringify({ content: `lt:${Date.now()}` })));
+          }, SEND_INTERVAL_MS);
+        }
+      } else if (frame.startsWith('MESSAGE')) {
+        chatReceived.add(1);
+        const body = frame.substring(frame.indexOf('\n\n') + 2, frame.lastIndexOf('\0'));
+        const sentAt = /lt:(\d+)/.exec(body);
+        if (sentAt) {
+          chatLatency.add(Date.now() - parseInt(sentAt[1], 10));
+        }
+      } else if (frame.startsWith('ERROR')) {
+        chatErrors.add(1);
+      }
+    });
+
+    socket.on('error', () => chatErrors.add(1));
+    socket.setTimeout(() => socket.close(), 30000);
+  });
+}
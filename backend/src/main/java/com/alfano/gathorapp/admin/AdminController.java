@@ -1,5 +1,6 @@
 package com.alfano.gathorapp.admin;
 
+import com.alfano.gathorapp.streaming.JsonArrayStreamer;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.dto.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -10,8 +11,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -38,18 +39,18 @@ import java.util.UUID;
 public class AdminController {
 
     private final AdminService adminService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     /**
      * GET /api/admin/users
-     * Get all users in the system.
+     * Get all users in the system, streamed as a JSON array.
      */
     @Operation(summary = "List all users", description = "Get a list of all registered users (ADMIN only)")
     @GetMapping("/users")
-    public ResponseEntity<List<UserResponse>> getAllUsers() {
+    public ResponseEntity<StreamingResponseBody> getAllUsers() {
         log.info("GET /api/admin/users - Listing all users");
 
-        List<UserResponse> users = adminService.getAllUsers();
-        return ResponseEntity.ok(users);
+        return jsonArrayStreamer.<UserResponse>ok(adminService::streamAllUsers);
     }
 
     /**
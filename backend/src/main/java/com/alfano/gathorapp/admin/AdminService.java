@@ -1,17 +1,14 @@
 package com.alfano.gathorapp.admin;
 
 import com.alfano.gathorapp.chat.ChatDeactivationScheduler;
-import com.alfano.gathorapp.chat.ChatRepository;
-import com.alfano.gathorapp.event.EventRepository;
-import com.alfano.gathorapp.outing.OutingRepository;
-import com.alfano.gathorapp.participation.ParticipationRepository;
+import com.alfano.gathorapp.streaming.EntityStreams;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserMapper;
 import com.alfano.gathorapp.user.UserRepository;
 import com.alfano.gathorapp.user.dto.UserResponse;
-import com.alfano.gathorapp.voucher.VoucherRepository;
 import com.alfano.gathorapp.voucher.VoucherService;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,10 +16,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Service for administrative operations.
@@ -35,26 +31,22 @@ import java.util.stream.Collectors;
 public class AdminService {
 
         private final UserRepository userRepository;
-        private final EventRepository eventRepository;
-        private final OutingRepository outingRepository;
-        private final ParticipationRepository participationRepository;
-        private final ChatRepository chatRepository;
-        private final VoucherRepository voucherRepository;
         private final UserMapper userMapper;
         private final ChatDeactivationScheduler chatDeactivationScheduler;
         private final VoucherService voucherService;
+        private final EntityManager entityManager;
+        private final StatsSnapshot statsSnapshot;
 
         /**
-         * Get all users in the system.
+         * Stream all users in the system to the action, without holding them
+         * all in memory.
          */
         @Transactional(readOnly = true)
-        public List<UserResponse> getAllUsers() {
-                log.debug("Fetching all users");
+        public void streamAllUsers(Consumer<UserResponse> action) {
+                log.debug("Streaming all users");
 
-                return userRepository.findAll()
-                                .stream()
-                                .map(userMapper::toResponse)
-                                .collect(Collectors.toList());
+                EntityStreams.forEachDetached(userRepository.streamAll(), entityManager,
+                                user -> action.accept(userMapper.toResponse(user)));
         }
 
         /**
@@ -71,6 +63,7 @@ public class AdminService {
                 user.setRole(newRole);
 
                 User savedUser = userRepository.save(user);
+                statsSnapshot.markChanged(StatsSnapshot.Domain.USERS);
                 log.info("User {} role changed from {} to {}", userId, oldRole, newRole);
 
                 return userMapper.toResponse(savedUser);
@@ -89,6 +82,7 @@ public class AdminService {
                 // Delete associated data
                 // Note: Cascading deletes should be configured in entities for production
                 userRepository.delete(user);
+                statsSnapshot.markChanged(StatsSnapshot.Domain.values());
 
                 log.info("User {} deleted successfully", userId);
         }
@@ -126,64 +120,13 @@ public class AdminService {
         }
 
         /**
-         * Get application-wide statistics.
+         * Get application-wide statistics from the {@link StatsSnapshot}.
          */
         @Transactional(readOnly = true)
         public Map<String, Object> getStatistics() {
                 log.debug("Generating platform statistics");
 
-                Map<String, Object> stats = new HashMap<>();
-
-                // User statistics
-                long totalUsers = userRepository.count();
-                long baseUsers = userRepository.countByRole(Role.USER);
-                long premiumUsers = userRepository.countByRole(Role.PREMIUM);
-                long businessUsers = userRepository.countByRole(Role.BUSINESS);
-
-                stats.put("users", Map.of(
-                                "total", totalUsers,
-                                "base", baseUsers,
-                                "premium", premiumUsers,
-                                "business", businessUsers));
-
-                // Event statistics
-                long totalEvents = eventRepository.count();
-                long upcomingEvents = eventRepository.findUpcomingEvents(LocalDateTime.now()).size();
-
-                stats.put("events", Map.of(
-                                "total", totalEvents,
-                                "upcoming", upcomingEvents));
-
-                // Outing statistics
-                long totalOutings = outingRepository.count();
-                long upcomingOutings = outingRepository.findUpcomingOutings(LocalDateTime.now()).size();
-
-                stats.put("outings", Map.of(
-                                "total", totalOutings,
-                                "upcoming", upcomingOutings));
-
-                // Participation statistics
-                long totalParticipations = participationRepository.count();
-
-                stats.put("participations", Map.of(
-                                "total", totalParticipations));
-
-                // Chat statistics
-                long totalChats = chatRepository.count();
-                long activeChats = chatRepository.findByActiveTrue().size();
-
-                stats.put("chats", Map.of(
-                                "total", totalChats,
-                                "active", activeChats));
-
-                // Voucher statistics
-                long totalVouchers = voucherRepository.count();
-                long activeVouchers = voucherRepository.countAllActiveVouchers(LocalDateTime.now());
-
-                stats.put("vouchers", Map.of(
-                                "total", totalVouchers,
-                                "active", activeVouchers));
-
+                Map<String, Object> stats = new HashMap<>(statsSnapshot.read());
                 stats.put("generated_at", LocalDateTime.now());
 
                 log.info("Statistics generated successfully");
@@ -0,0 +1,186 @@
+package com.alfano.gathorapp.admin;
+
+import com.alfano.gathorapp.chat.ChatRepository;
+import com.alfano.gathorapp.event.EventChangedEvent;
+import com.alfano.gathorapp.event.EventRepository;
+import com.alfano.gathorapp.outing.OutingChangedEvent;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.participation.ParticipationChangedEvent;
+import com.alfano.gathorapp.participation.ParticipationRepository;
+import com.alfano.gathorapp.transaction.Transactions;
+import com.alfano.gathorapp.user.UserRepository;
+import com.alfano.gathorapp.voucher.VoucherRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-memory snapshot of the platform statistics shown on the admin
+ * dashboard.
+ *
+ * Each domain is counted by one aggregate query and the result is kept until
+ * the domain changes. Changes are signalled by the domain events, or by
+ * {@link #markChanged} for writes that publish none, and only invalidate the
+ * affected domain, so a dashboard refresh normally runs no query at all.
+ * Entries also expire after a maximum age: upcoming and active counts move
+ * with the clock, and chats, vouchers and registrations change without an
+ * event.
+ */
+@Component
+@Slf4j
+public class StatsSnapshot {
+
+    /**
+     * Domains of the statistics, in response order.
+     */
+    public enum Domain {
+        USERS,
+        EVENTS,
+        OUTINGS,
+        PARTICIPATIONS,
+        CHATS,
+        VOUCHERS
+    }
+
+    private record Entry(long version, Instant computedAt, Map<String, Long> counts) {
+    }
+
+    private final Map<Domain, Function<LocalDateTime, Map<String, Long>>> queries = new EnumMap<>(Domain.class);
+    private final Map<Domain, AtomicLong> versions = new EnumMap<>(Domain.class);
+    private final Map<Domain, Entry> entries = new ConcurrentHashMap<>();
+    private final Duration maxAge;
+    private final Clock clock;
+
+    @Autowired
+    public StatsSnapshot(
+            UserRepository userRepository,
+            EventRepository eventRepository,
+            OutingRepository outingRepository,
+            ParticipationRepository participationRepository,
+            ChatRepository chatRepository,
+            VoucherRepository voucherRepository,
+            @Value("${app.admin.stats.max-age-seconds:60}") long maxAgeSeconds) {
+        this(userRepository, eventRepository, outingRepository, participationRepository, chatRepository,
+                voucherRepository, maxAgeSeconds, Clock.systemDefaultZone());
+    }
+
+    StatsSnapshot(
+            UserRepository userRepository,
+            EventRepository eventRepository,
+            OutingRepository outingRepository,
+            ParticipationRepository participationRepository,
+            ChatRepository chatRepository,
+            VoucherRepository voucherRepository,
+            long maxAgeSeconds,
+            Clock clock) {
+        this.maxAge = Duration.ofSeconds(maxAgeSeconds);
+        this.clock = clock;
+
+        queries.put(Domain.USERS, now -> {
+            UserRepository.RoleCounts counts = userRepository.countPerRole();
+            return Map.of(
+                    "total", counts.getTotal(),
+                    "base", counts.getBase(),
+                    "premium", counts.getPremium(),
+                    "business", counts.getBusiness());
+        });
+        queries.put(Domain.EVENTS, now -> {
+            EventRepository.EventCounts counts = eventRepository.countTotalAndUpcoming(now);
+            return Map.of("total", counts.getTotal(), "upcoming", counts.getUpcoming());
+        });
+        queries.put(Domain.OUTINGS, now -> {
+            OutingRepository.OutingCounts counts = outingRepository.countTotalAndUpcoming(now);
+            return Map.of("total", counts.getTotal(), "upcoming", counts.getUpcoming());
+        });
+        queries.put(Domain.PARTICIPATIONS, now -> Map.of("total", participationRepository.count()));
+        queries.put(Domain.CHATS, now -> {
+            ChatRepository.ChatCounts counts = chatRepository.countTotalAndActive();
+            return Map.of("total", counts.getTotal(), "active", counts.getActive());
+        });
+        queries.put(Domain.VOUCHERS, now -> {
+            VoucherRepository.VoucherCounts counts = voucherRepository.countTotalAndActive(now);
+            return Map.of("total", counts.getTotal(), "active", counts.getActive());
+        });
+        for (Domain domain : Domain.values()) {
+            versions.put(domain, new AtomicLong());
+        }
+    }
+
+    /**
+     * Counts of every domain, keyed by the lower-case domain name. Only the
+     * domains that changed or expired since the last read are queried.
+     */
+    public Map<String, Object> read() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        for (Domain domain : Domain.values()) {
+            stats.put(domain.name().toLowerCase(), counts(domain));
+        }
+        return stats;
+    }
+
+    /**
+     * Invalidate the given domains. Inside a transaction this takes effect
+     * after commit, so a concurrent read cannot keep the old counts.
+     */
+    public void markChanged(Domain... domains) {
+        Transactions.afterCommit(() -> bump(domains));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent event) {
+        if (event.change() == EventChangedEvent.Change.DELETED) {
+            // Outings of the event go with it, along with their participations and chats
+            bump(Domain.EVENTS, Domain.OUTINGS, Domain.PARTICIPATIONS, Domain.CHATS);
+        } else {
+            bump(Domain.EVENTS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutingChanged(OutingChangedEvent event) {
+        if (event.change() == OutingChangedEvent.Change.DELETED) {
+            bump(Domain.OUTINGS, Domain.PARTICIPATIONS, Domain.CHATS);
+        } else if (event.change() == OutingChangedEvent.Change.CREATED) {
+            bump(Domain.OUTINGS);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipationChanged(ParticipationChangedEvent event) {
+        bump(Domain.PARTICIPATIONS);
+    }
+
+    private Map<String, Long> counts(Domain domain) {
+        // Read the version before querying: a change committed meanwhile leaves the entry stale
+        long version = versions.get(domain).get();
+        Instant now = clock.instant();
+        Entry entry = entries.get(domain);
+        if (entry != null && entry.version() == version && now.isBefore(entry.computedAt().plus(maxAge))) {
+            return entry.counts();
+        }
+
+        log.debug("Recounting {} statistics", domain);
+        Map<String, Long> counts = queries.get(domain).apply(LocalDateTime.now(clock));
+        entries.put(domain, new Entry(version, now, counts));
+        return counts;
+    }
+
+    private void bump(Domain... domains) {
+        for (Domain domain : domains) {
+            versions.get(domain).incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.alfano.gathorapp.analytics;
+
+import com.alfano.gathorapp.analytics.dto.AnalyticsSeriesResponse;
+import com.alfano.gathorapp.analytics.dto.AnalyticsTopResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * REST Controller for activity trends on the admin dashboard.
+ *
+ * Only accessible by users with ADMIN role.
+ *
+ * Endpoints:
+ * - GET /api/admin/analytics/{metric} → Count per time bucket in a range
+ * - GET /api/admin/analytics/{metric}/top → Top chats, outings or businesses in a range
+ */
+@Tag(name = "Analytics", description = "Time-series rollups of platform activity")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@Slf4j
+@PreAuthorize("hasRole('ADMIN')")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    /**
+     * GET /api/admin/analytics/{metric}
+     * Count of a metric per bucket, optionally for a single dimension.
+     */
+    @Operation(summary = "Metric time series",
+            description = "Count per minute, hour or day in [from, to), e.g. outings created per day")
+    @GetMapping("/{metric}")
+    public ResponseEntity<AnalyticsSeriesResponse> getSeries(
+            @PathVariable("metric") AnalyticsMetric metric,
+            @RequestParam(name = "granularity", defaultValue = "HOUR") Granularity granularity,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "dimension", required = false) String dimension) {
+        log.info("GET /api/admin/analytics/{} - {} from {} to {}", metric, granularity, from, to);
+
+        return ResponseEntity.ok(analyticsService.getSeries(metric, granularity, from,
+                to != null ? to : LocalDateTime.now(), dimension));
+    }
+
+    /**
+     * GET /api/admin/analytics/{metric}/top
+     * Dimensions with the highest count, e.g. messages per chat.
+     */
+    @Operation(summary = "Top dimensions",
+            description = "Chats, outings or businesses with the highest count in [from, to)")
+    @GetMapping("/{metric}/top")
+    public ResponseEntity<AnalyticsTopResponse> getTop(
+            @PathVariable("metric") AnalyticsMetric metric,
+            @RequestParam(name = "granularity", defaultValue = "DAY") Granularity granularity,
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(name = "to", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(name = "limit", defaultValue = "10") int limit) {
+        log.info("GET /api/admin/analytics/{}/top - {} from {} to {}", metric, granularity, from, to);
+
+        return ResponseEntity.ok(analyticsService.getTop(metric, granularity, from,
+                to != null ? to : LocalDateTime.now(), limit));
+    }
+}
@@ -0,0 +1,20 @@
+package com.alfano.gathorapp.analytics;
+
+/**
+ * Activity counted into analytics rollups. Each metric is counted per
+ * dimension; metrics without a natural breakdown use the empty dimension.
+ */
+public enum AnalyticsMetric {
+
+    /** Outings created; no dimension. */
+    OUTINGS_CREATED,
+
+    /** Participation requests approved (joins); dimension is the outing. */
+    PARTICIPATIONS_APPROVED,
+
+    /** Chat messages sent; dimension is the chat. */
+    MESSAGES_SENT,
+
+    /** Vouchers redeemed; dimension is the redeeming business. */
+    VOUCHERS_REDEEMED
+}
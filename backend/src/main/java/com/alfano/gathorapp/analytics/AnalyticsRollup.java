@@ -0,0 +1,52 @@
+package com.alfano.gathorapp.analytics;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Count of one metric and dimension in one time bucket, written by
+ * {@link AnalyticsRollups} when it flushes its in-memory counters.
+ */
+@Entity
+@Table(name = "analytics_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_analytics_rollup",
+                columnNames = { "metric", "granularity", "bucket_start", "dimension" })
+}, indexes = {
+        @Index(name = "idx_analytics_rollup_range", columnList = "metric, granularity, bucket_start")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AnalyticsRollup {
+
+    /**
+     * Dimension of metrics that are not broken down.
+     */
+    public static final String NO_DIMENSION = "";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private AnalyticsMetric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private Granularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false, length = 64)
+    private String dimension;
+
+    @Column(name = "event_count", nullable = false)
+    private Long count;
+}
@@ -0,0 +1,103 @@
+package com.alfano.gathorapp.analytics;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for AnalyticsRollup entity.
+ */
+@Repository
+public interface AnalyticsRollupRepository extends JpaRepository<AnalyticsRollup, UUID> {
+
+    /**
+     * Atomically add to an existing bucket.
+     */
+    @Modifying
+    @Query("UPDATE AnalyticsRollup r SET r.count = r.count + :delta " +
+           "WHERE r.metric = :metric AND r.granularity = :granularity " +
+           "AND r.bucketStart = :bucketStart AND r.dimension = :dimension")
+    int increment(@Param("metric") AnalyticsMetric metric,
+                  @Param("granularity") Granularity granularity,
+                  @Param("bucketStart") LocalDateTime bucketStart,
+                  @Param("dimension") String dimension,
+                  @Param("delta") long delta);
+
+    /**
+     * Count per bucket in [from, to), summed over all dimensions.
+     */
+    @Query("SELECT r.bucketStart AS bucketStart, SUM(r.count) AS total FROM AnalyticsRollup r " +
+           "WHERE r.metric = :metric AND r.granularity = :granularity " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.bucketStart")
+    List<BucketCount> sumPerBucket(@Param("metric") AnalyticsMetric metric,
+                                   @Param("granularity") Granularity granularity,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to);
+
+    /**
+     * Count per bucket in [from, to) for one dimension.
+     */
+    @Query("SELECT r.bucketStart AS bucketStart, SUM(r.count) AS total FROM AnalyticsRollup r " +
+           "WHERE r.metric = :metric AND r.granularity = :granularity AND r.dimension = :dimension " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.bucketStart")
+    List<BucketCount> sumPerBucket(@Param("metric") AnalyticsMetric metric,
+                                   @Param("granularity") Granularity granularity,
+                                   @Param("dimension") String dimension,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to);
+
+    /**
+     * Dimensions with the highest count in [from, to), highest first.
+     */
+    @Query("SELECT r.dimension AS dimension, SUM(r.count) AS total FROM AnalyticsRollup r " +
+           "WHERE r.metric = :metric AND r.granularity = :granularity " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "GROUP BY r.dimension ORDER BY SUM(r.count) DESC, r.dimension")
+    List<DimensionCount> findTopDimensions(@Param("metric") AnalyticsMetric metric,
+                                           @Param("granularity") Granularity granularity,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to,
+                                           Pageable pageable);
+
+    /**
+     * Count per dimension in [from, to) for the given dimensions only.
+     */
+    @Query("SELECT r.dimension AS dimension, SUM(r.count) AS total FROM AnalyticsRollup r " +
+           "WHERE r.metric = :metric AND r.granularity = :granularity AND r.dimension IN :dimensions " +
+           "AND r.bucketStart >= :from AND r.bucketStart < :to GROUP BY r.dimension")
+    List<DimensionCount> sumPerDimension(@Param("metric") AnalyticsMetric metric,
+                                         @Param("granularity") Granularity granularity,
+                                         @Param("dimensions") Collection<String> dimensions,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM AnalyticsRollup r WHERE r.granularity = :granularity AND r.bucketStart < :before")
+    int deleteOlderThan(@Param("granularity") Granularity granularity, @Param("before") LocalDateTime before);
+
+    /**
+     * Projection of the count of one bucket.
+     */
+    interface BucketCount {
+        LocalDateTime getBucketStart();
+
+        long getTotal();
+    }
+
+    /**
+     * Projection of the count of one dimension.
+     */
+    interface DimensionCount {
+        String getDimension();
+
+        long getTotal();
+    }
+}
@@ -0,0 +1,193 @@
+package com.alfano.gathorapp.analytics;
+
+import com.alfano.gathorapp.chat.ChatMessageSentEvent;
+import com.alfano.gathorapp.outing.OutingChangedEvent;
+import com.alfano.gathorapp.participation.ParticipationChangedEvent;
+import com.alfano.gathorapp.voucher.VoucherRedeemedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Rolls domain events up into per-minute, per-hour and per-day counters.
+ *
+ * Counting an event only updates in-memory buckets; every
+ * {@code flush-interval-ms} the buckets are added to the analytics_rollups
+ * table with one UPDATE (or INSERT) per bucket, so several nodes can flush
+ * into the same rows. Counts not flushed yet are exposed through
+ * {@link #forEachUnflushed} so that queries stay current. A failed flush is
+ * kept in memory and retried.
+ *
+ * Minute and hour buckets are purged after their retention period; day
+ * buckets are kept.
+ */
+@Component
+@Slf4j
+public class AnalyticsRollups {
+
+    /**
+     * One in-memory bucket.
+     */
+    record BucketKey(AnalyticsMetric metric, Granularity granularity, LocalDateTime bucketStart, String dimension) {
+    }
+
+    private final AnalyticsRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minuteRetention;
+    private final Duration hourRetention;
+    private final Clock clock;
+    private final Map<BucketKey, Long> pending = new ConcurrentHashMap<>();
+    private volatile Map<BucketKey, Long> flushing = Map.of();
+
+    @Autowired
+    public AnalyticsRollups(
+            AnalyticsRollupRepository rollupRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.analytics.retention.minute-hours:48}") long minuteRetentionHours,
+            @Value("${app.analytics.retention.hour-days:90}") long hourRetentionDays) {
+        this(rollupRepository, transactionManager, minuteRetentionHours, hourRetentionDays,
+                Clock.systemDefaultZone());
+    }
+
+    AnalyticsRollups(
+            AnalyticsRollupRepository rollupRepository,
+            PlatformTransactionManager transactionManager,
+            long minuteRetentionHours,
+            long hourRetentionDays,
+            Clock clock) {
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.minuteRetention = Duration.ofHours(minuteRetentionHours);
+        this.hourRetention = Duration.ofDays(hourRetentionDays);
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutingChanged(OutingChangedEvent event) {
+        if (event.change() == OutingChangedEvent.Change.CREATED) {
+            record(AnalyticsMetric.OUTINGS_CREATED, AnalyticsRollup.NO_DIMENSION);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipationChanged(ParticipationChangedEvent event) {
+        if (event.change() == ParticipationChangedEvent.Change.APPROVED) {
+            record(AnalyticsMetric.PARTICIPATIONS_APPROVED, dimensionOf(event.outingId()));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMessageSent(ChatMessageSentEvent event) {
+        record(AnalyticsMetric.MESSAGES_SENT, dimensionOf(event.chatId()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVoucherRedeemed(VoucherRedeemedEvent event) {
+        record(AnalyticsMetric.VOUCHERS_REDEEMED, dimensionOf(event.businessId()));
+    }
+
+    /**
+     * Count one occurrence of a metric now, in every granularity.
+     */
+    void record(AnalyticsMetric metric, String dimension) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (Granularity granularity : Granularity.values()) {
+            pending.merge(new BucketKey(metric, granularity, granularity.bucketOf(now), dimension), 1L, Long::sum);
+        }
+    }
+
+    /**
+     * Pass every count of the metric and granularity that is not in the
+     * database yet to the action, keyed by bucket.
+     */
+    void forEachUnflushed(AnalyticsMetric metric, Granularity granularity, BiConsumer<BucketKey, Long> action) {
+        BiConsumer<BucketKey, Long> matching = (key, count) -> {
+            if (key.metric() == metric && key.granularity() == granularity) {
+                action.accept(key, count);
+            }
+        };
+        flushing.forEach(matching);
+        pending.forEach(matching);
+    }
+
+    /**
+     * Add the in-memory counts to the rollup table.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        Map<BucketKey, Long> batch = new HashMap<>();
+        for (BucketKey key : pending.keySet()) {
+            Long count = pending.remove(key);
+            if (count != null) {
+                batch.put(key, count);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        flushing = batch;
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::incrementOrInsert));
+            log.debug("Flushed {} analytics buckets", batch.size());
+        } catch (RuntimeException e) {
+            // Typically another node inserted one of the buckets first; the UPDATE wins next time
+            log.warn("Analytics flush failed, retrying later: {}", e.getMessage());
+            batch.forEach((key, count) -> pending.merge(key, count, Long::sum));
+        } finally {
+            flushing = Map.of();
+        }
+    }
+
+    /**
+     * Delete minute and hour buckets past their retention.
+     */
+    @Scheduled(cron = "${app.analytics.purge-cron:0 15 * * * *}")
+    public void purge() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Integer minutes = transactionTemplate.execute(status ->
+                rollupRepository.deleteOlderThan(Granularity.MINUTE, now.minus(minuteRetention)));
+        Integer hours = transactionTemplate.execute(status ->
+                rollupRepository.deleteOlderThan(Granularity.HOUR, now.minus(hourRetention)));
+        log.debug("Purged {} minute and {} hour analytics buckets", minutes, hours);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private void incrementOrInsert(BucketKey key, long count) {
+        if (rollupRepository.increment(key.metric(), key.granularity(), key.bucketStart(), key.dimension(), count) > 0) {
+            return;
+        }
+        rollupRepository.saveAndFlush(AnalyticsRollup.builder()
+                .metric(key.metric())
+                .granularity(key.granularity())
+                .bucketStart(key.bucketStart())
+                .dimension(key.dimension())
+                .count(count)
+                .build());
+    }
+
+    private static String dimensionOf(UUID id) {
+        return id != null ? id.toString() : AnalyticsRollup.NO_DIMENSION;
+    }
+}
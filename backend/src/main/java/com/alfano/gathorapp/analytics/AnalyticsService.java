@@ -0,0 +1,148 @@
+package com.alfano.gathorapp.analytics;
+
+import com.alfano.gathorapp.analytics.dto.AnalyticsSeriesResponse;
+import com.alfano.gathorapp.analytics.dto.AnalyticsTopResponse;
+import com.alfano.gathorapp.exception.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Range queries over the analytics rollups.
+ *
+ * Reads only the rollup buckets of the requested granularity, plus the counts
+ * still held in memory by {@link AnalyticsRollups}; the raw tables are never
+ * scanned. A range may span at most {@code app.analytics.max-buckets}
+ * buckets, so long ranges must use a coarser granularity.
+ */
+@Service
+@Slf4j
+public class AnalyticsService {
+
+    private final AnalyticsRollupRepository rollupRepository;
+    private final AnalyticsRollups rollups;
+    private final long maxBuckets;
+
+    public AnalyticsService(
+            AnalyticsRollupRepository rollupRepository,
+            AnalyticsRollups rollups,
+            @Value("${app.analytics.max-buckets:1500}") long maxBuckets) {
+        this.rollupRepository = rollupRepository;
+        this.rollups = rollups;
+        this.maxBuckets = maxBuckets;
+    }
+
+    /**
+     * Count of a metric per bucket in [from, to), for one dimension or, when
+     * the dimension is null, summed over all of them.
+     */
+    @Transactional(readOnly = true)
+    public AnalyticsSeriesResponse getSeries(AnalyticsMetric metric, Granularity granularity,
+            LocalDateTime from, LocalDateTime to, String dimension) {
+        checkRange(granularity, from, to);
+        log.debug("Fetching {} series per {} from {} to {}", metric, granularity, from, to);
+
+        LocalDateTime first = granularity.bucketOf(from);
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        List<AnalyticsRollupRepository.BucketCount> stored = dimension == null
+                ? rollupRepository.sumPerBucket(metric, granularity, first, to)
+                : rollupRepository.sumPerBucket(metric, granularity, dimension, first, to);
+        stored.forEach(bucket -> counts.merge(bucket.getBucketStart(), bucket.getTotal(), Long::sum));
+        rollups.forEachUnflushed(metric, granularity, (key, count) -> {
+            if ((dimension == null || dimension.equals(key.dimension())) && inRange(key, first, to)) {
+                counts.merge(key.bucketStart(), count, Long::sum);
+            }
+        });
+
+        List<AnalyticsSeriesResponse.Point> points = new ArrayList<>();
+        for (LocalDateTime bucket = first; bucket.isBefore(to); bucket = granularity.next(bucket)) {
+            points.add(AnalyticsSeriesResponse.Point.builder()
+                    .bucketStart(bucket)
+                    .count(counts.getOrDefault(bucket, 0L))
+                    .build());
+        }
+
+        return AnalyticsSeriesResponse.builder()
+                .metric(metric)
+                .granularity(granularity)
+                .dimension(dimension)
+                .from(from)
+                .to(to)
+                .points(points)
+                .build();
+    }
+
+    /**
+     * The dimensions with the highest count of a metric in [from, to).
+     */
+    @Transactional(readOnly = true)
+    public AnalyticsTopResponse getTop(AnalyticsMetric metric, Granularity granularity,
+            LocalDateTime from, LocalDateTime to, int limit) {
+        checkRange(granularity, from, to);
+        if (limit < 1) {
+            throw new BadRequestException("limit must be positive");
+        }
+        log.debug("Fetching top {} {} per {} from {} to {}", limit, metric, granularity, from, to);
+
+        LocalDateTime first = granularity.bucketOf(from);
+        Map<String, Long> unflushed = new HashMap<>();
+        rollups.forEachUnflushed(metric, granularity, (key, count) -> {
+            if (inRange(key, first, to)) {
+                unflushed.merge(key.dimension(), count, Long::sum);
+            }
+        });
+
+        // Candidates are the stored top entries and every dimension with unflushed counts,
+        // whose stored counts are read as well; together that is the exact top
+        Map<String, Long> counts = new HashMap<>();
+        rollupRepository.findTopDimensions(metric, granularity, first, to, PageRequest.of(0, limit))
+                .forEach(entry -> counts.put(entry.getDimension(), entry.getTotal()));
+        List<String> missing = unflushed.keySet().stream().filter(key -> !counts.containsKey(key)).toList();
+        if (!missing.isEmpty()) {
+            rollupRepository.sumPerDimension(metric, granularity, missing, first, to)
+                    .forEach(entry -> counts.put(entry.getDimension(), entry.getTotal()));
+        }
+        unflushed.forEach((dimension, count) -> counts.merge(dimension, count, Long::sum));
+
+        List<AnalyticsTopResponse.Entry> entries = counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(entry -> AnalyticsTopResponse.Entry.builder()
+                        .dimension(entry.getKey())
+                        .count(entry.getValue())
+                        .build())
+                .toList();
+
+        return AnalyticsTopResponse.builder()
+                .metric(metric)
+                .granularity(granularity)
+                .from(from)
+                .to(to)
+                .entries(entries)
+                .build();
+    }
+
+    private void checkRange(Granularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("from must be before to");
+        }
+        if (granularity.bucketsBetween(from, to) > maxBuckets) {
+            throw new BadRequestException("Range spans more than " + maxBuckets + " " + granularity
+                    + " buckets; use a coarser granularity");
+        }
+    }
+
+    private static boolean inRange(AnalyticsRollups.BucketKey key, LocalDateTime first, LocalDateTime to) {
+        return !key.bucketStart().isBefore(first) && key.bucketStart().isBefore(to);
+    }
+}
@@ -0,0 +1,41 @@
+package com.alfano.gathorapp.analytics;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Width of an analytics rollup bucket.
+ */
+public enum Granularity {
+
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    Granularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    /**
+     * Start of the bucket containing the given time.
+     */
+    public LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * Start of the bucket following the one that starts at the given time.
+     */
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    /**
+     * Number of buckets touched by the range [from, to).
+     */
+    public long bucketsBetween(LocalDateTime from, LocalDateTime to) {
+        return unit.between(bucketOf(from), bucketOf(to.minusNanos(1))) + 1;
+    }
+}
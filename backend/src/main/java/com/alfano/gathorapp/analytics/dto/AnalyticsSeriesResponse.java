@@ -0,0 +1,37 @@
+package com.alfano.gathorapp.analytics.dto;
+
+import com.alfano.gathorapp.analytics.AnalyticsMetric;
+import com.alfano.gathorapp.analytics.Granularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the counts of a metric per time bucket, one point per bucket in
+ * the requested range (including empty buckets).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsSeriesResponse {
+    private AnalyticsMetric metric;
+    private Granularity granularity;
+    private String dimension;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Point> points;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDateTime bucketStart;
+        private long count;
+    }
+}
@@ -0,0 +1,36 @@
+package com.alfano.gathorapp.analytics.dto;
+
+import com.alfano.gathorapp.analytics.AnalyticsMetric;
+import com.alfano.gathorapp.analytics.Granularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for the dimensions (chats, outings, businesses) with the highest count
+ * of a metric in a time range, highest first.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalyticsTopResponse {
+    private AnalyticsMetric metric;
+    private Granularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<Entry> entries;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entry {
+        private String dimension;
+        private long count;
+    }
+}
@@ -4,6 +4,7 @@ import com.alfano.gathorapp.auth.dto.AuthResponse;
 import com.alfano.gathorapp.auth.dto.LoginRequest;
 import com.alfano.gathorapp.auth.dto.RefreshTokenRequest;
 import com.alfano.gathorapp.auth.dto.RegisterRequest;
+import com.alfano.gathorapp.ratelimit.AuthRateLimiter;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +38,7 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final AuthRateLimiter rateLimiter;
 
     /**
      * POST /api/auth/register
@@ -44,11 +47,14 @@ public class AuthController {
     @Operation(summary = "Register a new user", description = "Creates a new user account with USER role by default")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User registered successfully", content = @Content(schema = @Schema(implementation = AuthResponse.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid input or email already in use")
+            @ApiResponse(responseCode = "400", description = "Invalid input or email already in use"),
+            @ApiResponse(responseCode = "429", description = "Too many registration attempts")
     })
     @PostMapping("/register")
-    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request,
+            HttpServletRequest httpRequest) {
         log.info("POST /api/auth/register - Registration request for: {}", request.getEmail());
+        rateLimiter.checkRegister(httpRequest);
         AuthResponse response = authService.register(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -60,12 +66,16 @@ public class AuthController {
     @Operation(summary = "Login", description = "Authenticate user and receive JWT access and refresh tokens")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login successful", content = @Content(schema = @Schema(implementation = AuthResponse.class))),
-            @ApiResponse(responseCode = "401", description = "Invalid credentials")
+            @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts")
     })
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
         log.info("POST /api/auth/login - Login request for: {}", request.getEmail());
+        rateLimiter.checkLogin(httpRequest, request.getEmail());
         AuthResponse response = authService.login(request);
+        rateLimiter.loginSucceeded(request.getEmail());
         return ResponseEntity.ok(response);
     }
 
@@ -1,6 +1,8 @@
 package com.alfano.gathorapp.chat;
 
+import com.alfano.gathorapp.chat.dto.ChatMessagePageResponse;
 import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
+import com.alfano.gathorapp.chat.dto.ChatPresenceResponse;
 import com.alfano.gathorapp.chat.dto.SendMessageRequest;
 import com.alfano.gathorapp.security.SecurityUser;
 
@@ -23,7 +25,9 @@ import java.util.UUID;
  * 
  * Endpoints:
  * - GET /api/chats/outing/{outingId}/messages → Get all messages
+ * - GET /api/chats/{outingId}/messages?before=&limit= → Get a page of history
  * - POST /api/chats/outing/{outingId}/messages → Send a message
+ * - GET /api/chats/outing/{outingId}/presence → Users connected to the chat
  */
 @Tag(name = "Chat", description = "Chat management APIs")
 @SecurityRequirement(name = "bearerAuth")
@@ -66,6 +70,37 @@ public class ChatController {
         return ResponseEntity.ok(messages);
     }
 
+    /**
+     * GET /api/chats/{outingId}/messages?before={cursor}&limit={n}
+     * Get the newest messages of an outing's chat, paging backwards in time.
+     */
+    @Operation(summary = "Get chat history page", description = "Get the newest messages of an outing's chat. Pass the returned nextCursor as 'before' to load older messages. Only participants and organizer can view.")
+    @GetMapping("/{outingId}/messages")
+    public ResponseEntity<ChatMessagePageResponse> getMessagePage(
+            @PathVariable("outingId") UUID outingId,
+            @RequestParam(name = "before", required = false) String before,
+            @RequestParam(name = "limit", required = false) Integer limit,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        UUID userId = securityUser.getUserId();
+        log.info("GET /api/chats/{}/messages - User: {}, before: {}, limit: {}", outingId, userId, before, limit);
+        ChatMessagePageResponse page = chatService.getMessagePage(outingId, userId, before, limit);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * GET /api/chats/outing/{outingId}/presence
+     * Get how many users are connected to an outing's chat.
+     */
+    @Operation(summary = "Get chat presence", description = "Get the number of users currently connected to an outing's chat. Only participants and organizer can view.")
+    @GetMapping("/outing/{outingId}/presence")
+    public ResponseEntity<ChatPresenceResponse> getPresence(
+            @PathVariable("outingId") UUID outingId,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        UUID userId = securityUser.getUserId();
+        log.debug("GET /api/chats/outing/{}/presence - User: {}", outingId, userId);
+        return ResponseEntity.ok(chatService.getPresence(outingId, userId));
+    }
+
     /**
      * Simple DTO for chat information.
      */
@@ -0,0 +1,48 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset cursor for chat history paging.
+ *
+ * Points at the oldest message of a page; the next page contains the messages
+ * strictly before it in (timestamp, id) order.
+ */
+public record ChatCursor(LocalDateTime timestamp, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static ChatCursor of(ChatMessage message) {
+        return new ChatCursor(message.getTimestamp(), message.getId());
+    }
+
+    /**
+     * Encode as a URL-safe token.
+     */
+    public String encode() {
+        String raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}.
+     *
+     * @throws BadRequestException if the token is malformed
+     */
+    public static ChatCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new ChatCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.alfano.gathorapp.chat;
 
 import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.transaction.Transactions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -9,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Scheduled task to automatically deactivate chats after their outing has ended.
@@ -24,6 +26,8 @@ import java.util.List;
 public class ChatDeactivationScheduler {
 
     private final ChatRepository chatRepository;
+    private final RecentMessageBuffer recentMessageBuffer;
+    private final ChatMembershipCache membershipCache;
 
     /**
      * Number of days after outing date before chat is deactivated.
@@ -58,6 +62,9 @@ public class ChatDeactivationScheduler {
 
             chat.deactivate();
             chatRepository.save(chat);
+            UUID chatId = chat.getId();
+            Transactions.afterCommit(() -> recentMessageBuffer.invalidate(chatId));
+            Transactions.afterCommit(() -> membershipCache.chatDeactivated(outing.getId()));
         }
 
         log.info("Successfully deactivated {} chats", expiredChats.size());
@@ -69,7 +76,7 @@ public class ChatDeactivationScheduler {
      * @param chatId ID of the chat to deactivate
      */
     @Transactional
-    public void deactivateChat(java.util.UUID chatId) {
+    public void deactivateChat(UUID chatId) {
         Chat chat = chatRepository.findById(chatId)
             .orElseThrow(() -> new RuntimeException("Chat not found with id: " + chatId));
 
@@ -80,6 +87,9 @@ public class ChatDeactivationScheduler {
 
         chat.deactivate();
         chatRepository.save(chat);
+        Transactions.afterCommit(() -> recentMessageBuffer.invalidate(chatId));
+        UUID outingId = chat.getOuting().getId();
+        Transactions.afterCommit(() -> membershipCache.chatDeactivated(outingId));
         log.info("Manually deactivated chat {}", chatId);
     }
 }
@@ -24,4 +24,21 @@ public class ChatMapper {
                 .timestamp(message.getTimestamp())
                 .build();
     }
+
+    /**
+     * Convert a ChatMessage entity to ChatMessageResponse DTO using an already
+     * known sender name, so an unloaded sender reference is not initialized.
+     */
+    public ChatMessageResponse toMessageResponse(ChatMessage message, String senderName) {
+        return ChatMessageResponse.builder()
+                .id(message.getId())
+                .chatId(message.getChat().getId())
+                .sender(ChatMessageResponse.SenderInfo.builder()
+                        .id(message.getSender().getId())
+                        .name(senderName)
+                        .build())
+                .content(message.getContent())
+                .timestamp(message.getTimestamp())
+                .build();
+    }
 }
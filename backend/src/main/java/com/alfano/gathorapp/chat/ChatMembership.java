@@ -0,0 +1,64 @@
+package com.alfano.gathorapp.chat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of who may use an outing's chat.
+ *
+ * @param chatId       the chat, or null if it has not been created yet
+ * @param participants approved participants, id to display name
+ */
+public record ChatMembership(
+        UUID outingId,
+        String outingTitle,
+        UUID organizerId,
+        String organizerName,
+        UUID chatId,
+        boolean active,
+        Map<UUID, String> participants) {
+
+    public ChatMembership {
+        participants = Collections.unmodifiableMap(new HashMap<>(participants));
+    }
+
+    /**
+     * Whether the user is the organizer or an approved participant.
+     */
+    public boolean isMember(UUID userId) {
+        return organizerId.equals(userId) || participants.containsKey(userId);
+    }
+
+    /**
+     * Display name of a member, or null if the user is not a member.
+     */
+    public String nameOf(UUID userId) {
+        return organizerId.equals(userId) ? organizerName : participants.get(userId);
+    }
+
+    /**
+     * Ids of the approved participants.
+     */
+    public Set<UUID> participantIds() {
+        return participants.keySet();
+    }
+
+    public ChatMembership withChat(UUID chatId, boolean active) {
+        return new ChatMembership(outingId, outingTitle, organizerId, organizerName, chatId, active, participants);
+    }
+
+    public ChatMembership withParticipant(UUID userId, String name) {
+        Map<UUID, String> updated = new HashMap<>(participants);
+        updated.put(userId, name);
+        return new ChatMembership(outingId, outingTitle, organizerId, organizerName, chatId, active, updated);
+    }
+
+    public ChatMembership withoutParticipant(UUID userId) {
+        Map<UUID, String> updated = new HashMap<>(participants);
+        updated.remove(userId);
+        return new ChatMembership(outingId, outingTitle, organizerId, organizerName, chatId, active, updated);
+    }
+}
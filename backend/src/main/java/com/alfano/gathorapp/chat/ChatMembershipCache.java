@@ -0,0 +1,223 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingChangedEvent;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.participation.ParticipationChangedEvent;
+import com.alfano.gathorapp.participation.ParticipationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of chat memberships keyed by outing id, so that chat access checks do
+ * not query outings, users and participations for every message.
+ *
+ * Entries are loaded on first use and then kept current by participation
+ * events (approve/reject/leave) and chat lifecycle calls from the chat package.
+ * A time-to-live bounds staleness for changes made outside this node. Above
+ * {@code max-entries}, expired entries are dropped first and then the
+ * longest-cached live ones, down to nine tenths of the limit.
+ */
+@Component
+@Slf4j
+public class ChatMembershipCache {
+
+    private final Map<UUID, Slot> slots = new ConcurrentHashMap<>();
+    private final OutingRepository outingRepository;
+    private final ChatRepository chatRepository;
+    private final ParticipationRepository participationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Clock clock;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    public ChatMembershipCache(
+            OutingRepository outingRepository,
+            ChatRepository chatRepository,
+            ParticipationRepository participationRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.chat.membership-cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${app.chat.membership-cache.max-entries:10000}") int maxEntries) {
+        this.outingRepository = outingRepository;
+        this.chatRepository = chatRepository;
+        this.participationRepository = participationRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.clock = Clock.systemUTC();
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Membership of an outing's chat, loading it on a miss.
+     *
+     * @throws RuntimeException if the outing does not exist
+     */
+    public ChatMembership get(UUID outingId) {
+        long now = clock.millis();
+        Slot slot = slots.get(outingId);
+        if (slot != null && slot.membership != null && slot.expiresAt > now) {
+            return slot.membership;
+        }
+
+        Slot loading = new Slot(null, 0);
+        slots.put(outingId, loading);
+        ChatMembership membership;
+        try {
+            membership = load(outingId);
+        } catch (RuntimeException e) {
+            slots.remove(outingId, loading);
+            throw e;
+        }
+
+        // Only publish the snapshot if nothing changed while it was being read
+        if (!loading.stale) {
+            if (slots.size() > maxEntries) {
+                trim(now);
+            }
+            slots.replace(outingId, loading, new Slot(membership, now + ttlMillis));
+        } else {
+            slots.remove(outingId, loading);
+        }
+        return membership;
+    }
+
+    /**
+     * Cached membership without loading, if present.
+     */
+    public Optional<ChatMembership> peek(UUID outingId) {
+        Slot slot = slots.get(outingId);
+        if (slot == null || slot.membership == null || slot.expiresAt <= clock.millis()) {
+            return Optional.empty();
+        }
+        return Optional.of(slot.membership);
+    }
+
+    /**
+     * Record the chat created for an outing.
+     */
+    public void chatCreated(UUID outingId, UUID chatId, boolean active) {
+        update(outingId, membership -> membership.withChat(chatId, active));
+    }
+
+    /**
+     * Record that an outing's chat has been deactivated.
+     */
+    public void chatDeactivated(UUID outingId) {
+        update(outingId, membership -> membership.withChat(membership.chatId(), false));
+    }
+
+    /**
+     * Forget an outing.
+     */
+    public void evict(UUID outingId) {
+        Slot slot = slots.remove(outingId);
+        if (slot != null) {
+            slot.stale = true;
+        }
+    }
+
+    /**
+     * Keep approved participants in sync once a participation change commits.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipationChanged(ParticipationChangedEvent event) {
+        switch (event.change()) {
+            case APPROVED -> update(event.outingId(),
+                    membership -> membership.withParticipant(event.userId(), event.userName()));
+            case REJECTED, LEFT -> update(event.outingId(),
+                    membership -> membership.withoutParticipant(event.userId()));
+            default -> {
+                // Pending requests do not grant chat access
+            }
+        }
+    }
+
+    /**
+     * Forget a deleted outing once the deletion commits.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutingChanged(OutingChangedEvent event) {
+        if (event.change() == OutingChangedEvent.Change.DELETED) {
+            evict(event.outingId());
+        }
+    }
+
+    private void update(UUID outingId, UnaryOperator<ChatMembership> change) {
+        slots.computeIfPresent(outingId, (id, slot) -> {
+            if (slot.membership == null) {
+                // A load is in flight and may have read the old state
+                slot.stale = true;
+                return slot;
+            }
+            return new Slot(change.apply(slot.membership), slot.expiresAt);
+        });
+    }
+
+    private void trim(long now) {
+        slots.values().removeIf(slot -> slot.membership != null && slot.expiresAt <= now);
+        int excess = slots.size() - (maxEntries - maxEntries / 10);
+        if (excess <= 0) {
+            return;
+        }
+        // Still full of live entries: drop the oldest, with headroom so that not every miss sorts
+        slots.entrySet().stream()
+                .filter(entry -> entry.getValue().membership != null)
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().expiresAt))
+                .limit(excess)
+                .toList()
+                .forEach(entry -> slots.remove(entry.getKey(), entry.getValue()));
+    }
+
+    private ChatMembership load(UUID outingId) {
+        log.debug("Loading chat membership for outing {}", outingId);
+        return readOnlyTransaction.execute(status -> {
+            Outing outing = outingRepository.findById(outingId)
+                    .orElseThrow(() -> new RuntimeException("Outing not found"));
+            Optional<Chat> chat = chatRepository.findByOutingId(outingId);
+            Map<UUID, String> participants = participationRepository
+                    .findApprovedParticipantsByOutingId(outingId)
+                    .stream()
+                    .collect(Collectors.toMap(
+                            ParticipationRepository.ApprovedParticipant::getUserId,
+                            ParticipationRepository.ApprovedParticipant::getUserName,
+                            (a, b) -> a));
+            return new ChatMembership(
+                    outing.getId(),
+                    outing.getTitle(),
+                    outing.getOrganizer().getId(),
+                    outing.getOrganizer().getName(),
+                    chat.map(Chat::getId).orElse(null),
+                    chat.map(Chat::getActive).orElse(true),
+                    participants);
+        });
+    }
+
+    /**
+     * Holder for a cached membership; a null membership marks a load in
+     * progress.
+     */
+    private static final class Slot {
+        private final ChatMembership membership;
+        private final long expiresAt;
+        private volatile boolean stale;
+
+        Slot(ChatMembership membership, long expiresAt) {
+            this.membership = membership;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 /**
@@ -12,7 +13,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "chat_messages", indexes = {
-        @Index(name = "idx_message_chat", columnList = "chat_id"),
+        @Index(name = "idx_message_chat_timestamp", columnList = "chat_id, timestamp"),
         @Index(name = "idx_message_sender", columnList = "sender_id"),
         @Index(name = "idx_message_timestamp", columnList = "timestamp")
 })
@@ -48,7 +49,9 @@ public class ChatMessage {
     private String content;
 
     /**
-     * When the message was sent.
+     * When the message was sent. Kept at microsecond precision so that values
+     * read back from the database compare equal to the ones handed out in
+     * paging cursors.
      */
     @Column(nullable = false)
     private LocalDateTime timestamp;
@@ -56,7 +59,7 @@ public class ChatMessage {
     @PrePersist
     protected void onCreate() {
         if (timestamp == null) {
-            timestamp = LocalDateTime.now();
+            timestamp = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,253 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of chat messages accepted by the write-behind queue
+ * but not yet inserted into the database.
+ *
+ * The journal is split into numbered segment files. A new segment is started
+ * when the current one grows past the size limit, and whole segments are
+ * deleted once every message in them has been flushed. Each record carries a
+ * CRC so that a record torn by a crash is detected and ignored on replay.
+ *
+ * Record layout: length (int), crc32 (int), then the payload: message id,
+ * chat id and sender id (16 bytes each), timestamp as epoch seconds (long)
+ * and nanos (int), content as UTF-8.
+ *
+ * Not thread-safe; callers serialize access.
+ */
+@Slf4j
+class ChatMessageJournal implements AutoCloseable {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("chat-journal-(\\d+)\\.log");
+    private static final int HEADER_BYTES = 8;
+    private static final int FIXED_PAYLOAD_BYTES = 16 * 3 + 8 + 4;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private FileChannel channel;
+    private long currentSegment;
+    private long currentSize;
+    private boolean dirty;
+
+    /**
+     * A journaled message and the segment holding it.
+     */
+    record Entry(ChatMessageResponse message, long segment) {
+    }
+
+    ChatMessageJournal(Path directory, long segmentBytes) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.forEach(file -> {
+                    Matcher matcher = SEGMENT_NAME.matcher(file.getFileName().toString());
+                    if (matcher.matches()) {
+                        segments.put(Long.parseLong(matcher.group(1)), file);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open chat journal in " + directory, e);
+        }
+        currentSegment = segments.isEmpty() ? 0 : segments.lastKey();
+    }
+
+    /**
+     * Read every intact record left by a previous run, oldest first.
+     */
+    List<Entry> readExisting() {
+        List<Entry> entries = new ArrayList<>();
+        for (var segment : segments.entrySet()) {
+            readSegment(segment.getKey(), segment.getValue(), entries);
+        }
+        return entries;
+    }
+
+    /**
+     * Append a message to the current segment, starting a new one if needed.
+     *
+     * @return the segment the message was written to
+     */
+    long append(ChatMessageResponse message) {
+        byte[] content = message.getContent().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(FIXED_PAYLOAD_BYTES + content.length);
+        putUuid(payload, message.getId());
+        putUuid(payload, message.getChatId());
+        putUuid(payload, message.getSender().getId());
+        payload.putLong(message.getTimestamp().toEpochSecond(ZoneOffset.UTC));
+        payload.putInt(message.getTimestamp().getNano());
+        payload.put(content);
+        payload.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payload.remaining());
+        record.putInt(payload.remaining());
+        record.putInt((int) crc.getValue());
+        record.put(payload);
+        record.flip();
+
+        try {
+            if (channel == null || currentSize >= segmentBytes) {
+                roll();
+            }
+            while (record.hasRemaining()) {
+                currentSize += channel.write(record);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to chat journal", e);
+        }
+        dirty = true;
+        return currentSegment;
+    }
+
+    /**
+     * Force appended records to disk.
+     */
+    void force() {
+        if (!dirty || channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+            dirty = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot sync chat journal", e);
+        }
+    }
+
+    /**
+     * Delete segments whose messages have all been flushed, i.e. every
+     * segment older than {@code segment}. The segment being written is never
+     * deleted.
+     */
+    void deleteSegmentsBefore(long segment) {
+        long limit = channel == null ? segment : Math.min(segment, currentSegment);
+        var iterator = segments.headMap(limit, false).entrySet().iterator();
+        while (iterator.hasNext()) {
+            Path file = iterator.next().getValue();
+            try {
+                Files.deleteIfExists(file);
+                iterator.remove();
+            } catch (IOException e) {
+                log.warn("Cannot delete flushed chat journal segment {}: {}", file, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    long currentSegment() {
+        return currentSegment;
+    }
+
+    int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        if (channel != null) {
+            try {
+                force();
+                channel.close();
+            } catch (IOException e) {
+                log.warn("Cannot close chat journal: {}", e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    private void roll() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+        }
+        currentSegment++;
+        Path file = directory.resolve(String.format("chat-journal-%012d.log", currentSegment));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segments.put(currentSegment, file);
+        currentSize = 0;
+    }
+
+    private void readSegment(long segment, Path file, List<Entry> entries) {
+        ByteBuffer data;
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            data = ByteBuffer.allocate((int) in.size());
+            while (data.hasRemaining() && in.read(data) >= 0) {
+                // keep reading
+            }
+            data.flip();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read chat journal segment " + file, e);
+        }
+
+        while (data.remaining() >= HEADER_BYTES) {
+            int length = data.getInt();
+            int expectedCrc = data.getInt();
+            if (length < FIXED_PAYLOAD_BYTES || length > data.remaining()) {
+                log.warn("Ignoring truncated record at the end of chat journal segment {}", file);
+                return;
+            }
+            ByteBuffer payload = data.slice(data.position(), length);
+            data.position(data.position() + length);
+
+            CRC32 crc = new CRC32();
+            crc.update(payload.duplicate());
+            if ((int) crc.getValue() != expectedCrc) {
+                log.warn("Ignoring corrupt record at the end of chat journal segment {}", file);
+                return;
+            }
+            entries.add(new Entry(decode(payload), segment));
+        }
+    }
+
+    private static ChatMessageResponse decode(ByteBuffer payload) {
+        UUID id = getUuid(payload);
+        UUID chatId = getUuid(payload);
+        UUID senderId = getUuid(payload);
+        LocalDateTime timestamp = LocalDateTime.ofEpochSecond(payload.getLong(), payload.getInt(), ZoneOffset.UTC);
+        byte[] content = new byte[payload.remaining()];
+        payload.get(content);
+        return ChatMessageResponse.builder()
+                .id(id)
+                .chatId(chatId)
+                .sender(ChatMessageResponse.SenderInfo.builder().id(senderId).build())
+                .content(new String(content, StandardCharsets.UTF_8))
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID uuid) {
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
@@ -1,5 +1,6 @@
 package com.alfano.gathorapp.chat;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,18 +24,27 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, UUID>
     /**
      * Find all messages for a specific chat ID, ordered by timestamp.
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.chat.id = :chatId ORDER BY m.timestamp ASC")
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender WHERE m.chat.id = :chatId ORDER BY m.timestamp ASC")
     List<ChatMessage> findByChatIdOrderByTimestamp(@Param("chatId") UUID chatId);
 
     /**
-     * Find recent messages (last N messages).
+     * Find the newest messages of a chat, newest first.
+     * Served by the (chat_id, timestamp) index; use the pageable to bound the
+     * result size.
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.chat = :chat ORDER BY m.timestamp DESC")
-    List<ChatMessage> findRecentMessagesByChat(@Param("chat") Chat chat);
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender WHERE m.chat.id = :chatId "
+            + "ORDER BY m.timestamp DESC, m.id DESC")
+    List<ChatMessage> findLatestByChatId(@Param("chatId") UUID chatId, Pageable pageable);
 
     /**
-     * Find messages after a specific timestamp.
+     * Find the messages of a chat strictly older than the given (timestamp, id)
+     * position, newest first (keyset paging).
      */
-    @Query("SELECT m FROM ChatMessage m WHERE m.chat = :chat AND m.timestamp > :after ORDER BY m.timestamp ASC")
-    List<ChatMessage> findMessagesByAfter(@Param("chat") Chat chat, @Param("after") LocalDateTime after);
-}
\ No newline at end of file
+    @Query("SELECT m FROM ChatMessage m JOIN FETCH m.sender WHERE m.chat.id = :chatId "
+            + "AND (m.timestamp < :timestamp OR (m.timestamp = :timestamp AND m.id < :id)) "
+            + "ORDER BY m.timestamp DESC, m.id DESC")
+    List<ChatMessage> findPageBefore(@Param("chatId") UUID chatId,
+            @Param("timestamp") LocalDateTime timestamp,
+            @Param("id") UUID id,
+            Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package com.alfano.gathorapp.chat;
+
+import java.util.UUID;
+
+/**
+ * Application event published by {@link ChatService} for every message sent.
+ * Listeners that keep derived state (counters) should react after the
+ * publishing transaction commits.
+ */
+public record ChatMessageSentEvent(UUID chatId, UUID outingId, UUID senderId) {
+}
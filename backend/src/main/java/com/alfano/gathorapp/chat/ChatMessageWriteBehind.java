@@ -0,0 +1,294 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Optional write-behind persistence for chat messages
+ * ({@code app.chat.write-behind.enabled}).
+ *
+ * Accepted messages are appended to a local {@link ChatMessageJournal} and to
+ * a bounded queue; a background thread drains the queue and inserts messages
+ * in JDBC batches, every {@code flush-interval-ms} or {@code batch-size}
+ * messages, whichever comes first. Journal segments are deleted once their
+ * messages are in the database, and segments left by a crash are replayed on
+ * startup, skipping messages that were already inserted.
+ *
+ * Messages reach the database a few milliseconds after they are broadcast,
+ * so the full-history endpoint may briefly lag behind the live chat; the
+ * newest page is served from {@link RecentMessageBuffer} and is not affected.
+ */
+@Component
+@Slf4j
+public class ChatMessageWriteBehind implements SmartLifecycle {
+
+    static final String INSERT_SQL =
+            "INSERT INTO chat_messages (id, chat_id, sender_id, content, timestamp) VALUES (?, ?, ?, ?, ?)";
+    private static final int REPLAY_LOOKUP_CHUNK = 500;
+    private static final long RETRY_BACKOFF_MILLIS = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Path journalDirectory;
+    private final long segmentBytes;
+    private final BlockingQueue<ChatMessageJournal.Entry> queue;
+    private final Object appendLock = new Object();
+
+    private ChatMessageJournal journal;
+    private Thread flusher;
+    private volatile boolean running;
+    private volatile boolean drained;
+
+    public ChatMessageWriteBehind(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.chat.write-behind.enabled:false}") boolean enabled,
+            @Value("${app.chat.write-behind.batch-size:200}") int batchSize,
+            @Value("${app.chat.write-behind.flush-interval-ms:5}") long flushIntervalMillis,
+            @Value("${app.chat.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${app.chat.write-behind.journal-dir:data/chat-journal}") String journalDirectory,
+            @Value("${app.chat.write-behind.segment-bytes:16777216}") long segmentBytes) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.journalDirectory = Path.of(journalDirectory);
+        this.segmentBytes = segmentBytes;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Persist a message, normally through the journal and the batch queue.
+     * When the queue is full (or write-behind is not running) the message is
+     * inserted synchronously instead, so senders are slowed down rather than
+     * messages being dropped.
+     */
+    public void submit(ChatMessageResponse message) {
+        synchronized (appendLock) {
+            if (running && queue.remainingCapacity() > 0) {
+                long segment = journal.append(message);
+                queue.add(new ChatMessageJournal.Entry(message, segment));
+                return;
+            }
+        }
+        if (running) {
+            log.warn("Chat write-behind queue is full, inserting message {} synchronously", message.getId());
+        }
+        jdbcTemplate.update(INSERT_SQL, row(message));
+    }
+
+    /**
+     * Number of messages waiting to be inserted.
+     */
+    public int pending() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        journal = new ChatMessageJournal(journalDirectory, segmentBytes);
+        replay();
+        running = true;
+        flusher = new Thread(this::flushLoop, "chat-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Chat write-behind started (batch size {}, flush interval {} ms, journal {})",
+                batchSize, flushIntervalMillis, journalDirectory.toAbsolutePath());
+    }
+
+    /**
+     * Stop accepting messages and drain the queue. Messages that cannot be
+     * inserted stay in the journal and are replayed on the next start.
+     */
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        synchronized (appendLock) {
+            running = false;
+        }
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (appendLock) {
+            journal.close();
+            if (drained) {
+                journal.deleteSegmentsBefore(Long.MAX_VALUE);
+            }
+        }
+        log.info("Chat write-behind stopped, {} messages left in the journal", queue.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Insert the messages left in the journal by the previous run.
+     */
+    private void replay() {
+        List<ChatMessageJournal.Entry> entries = journal.readExisting();
+        if (!entries.isEmpty()) {
+            List<ChatMessageResponse> missing = new ArrayList<>();
+            for (int from = 0; from < entries.size(); from += REPLAY_LOOKUP_CHUNK) {
+                List<ChatMessageJournal.Entry> chunk =
+                        entries.subList(from, Math.min(entries.size(), from + REPLAY_LOOKUP_CHUNK));
+                Set<UUID> existing = existingIds(chunk);
+                for (ChatMessageJournal.Entry entry : chunk) {
+                    if (existing.add(entry.message().getId())) {
+                        missing.add(entry.message());
+                    }
+                }
+            }
+            for (int from = 0; from < missing.size(); from += batchSize) {
+                insert(missing.subList(from, Math.min(missing.size(), from + batchSize)));
+            }
+            log.info("Replayed chat journal: {} messages, {} were not yet persisted", entries.size(), missing.size());
+        }
+        journal.deleteSegmentsBefore(Long.MAX_VALUE);
+    }
+
+    private Set<UUID> existingIds(List<ChatMessageJournal.Entry> entries) {
+        String placeholders = String.join(", ", Collections.nCopies(entries.size(), "?"));
+        Object[] ids = entries.stream().map(entry -> entry.message().getId()).toArray();
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM chat_messages WHERE id IN (" + placeholders + ")", UUID.class, ids));
+    }
+
+    private void flushLoop() {
+        drained = false;
+        List<ChatMessageJournal.Entry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty() && !collect(batch)) {
+                    continue;
+                }
+                flush(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                // Interrupted by stop(): keep draining until the queue is empty
+            } catch (DataAccessException e) {
+                log.error("Chat write-behind flush of {} messages failed, retrying: {}", batch.size(), e.getMessage());
+                if (!running || !sleep(RETRY_BACKOFF_MILLIS)) {
+                    // Shutting down: leave the rest in the journal for the next start
+                    return;
+                }
+            }
+        }
+        drained = true;
+    }
+
+    /**
+     * Wait for a first message, then gather more until the batch is full or
+     * the flush interval has elapsed.
+     *
+     * @return whether anything was collected
+     */
+    private boolean collect(List<ChatMessageJournal.Entry> batch) throws InterruptedException {
+        ChatMessageJournal.Entry first = running
+                ? queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS)
+                : queue.poll();
+        if (first == null) {
+            return false;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            ChatMessageJournal.Entry next = running && remaining > 0
+                    ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                    : queue.poll();
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    private void flush(List<ChatMessageJournal.Entry> batch) {
+        synchronized (appendLock) {
+            journal.force();
+        }
+        insert(batch.stream().map(ChatMessageJournal.Entry::message).toList());
+        synchronized (appendLock) {
+            ChatMessageJournal.Entry oldestPending = queue.peek();
+            journal.deleteSegmentsBefore(oldestPending != null ? oldestPending.segment() : journal.currentSegment());
+        }
+    }
+
+    /**
+     * Insert messages in one batch. If the batch violates a constraint, fall
+     * back to row by row inserts so that a single bad row (e.g. its chat was
+     * deleted meanwhile) does not block the others.
+     */
+    private void insert(List<ChatMessageResponse> messages) {
+        List<Object[]> rows = messages.stream().map(ChatMessageWriteBehind::row).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+        } catch (DataIntegrityViolationException e) {
+            for (int i = 0; i < rows.size(); i++) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, rows.get(i));
+                } catch (DataIntegrityViolationException rowError) {
+                    log.warn("Dropping chat message {} that cannot be inserted: {}",
+                            messages.get(i).getId(), rowError.getMessage());
+                }
+            }
+        }
+    }
+
+    private static Object[] row(ChatMessageResponse message) {
+        return new Object[] {
+                message.getId(),
+                message.getChatId(),
+                message.getSender().getId(),
+                message.getContent(),
+                message.getTimestamp()
+        };
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+}
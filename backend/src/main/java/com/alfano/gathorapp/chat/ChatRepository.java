@@ -40,4 +40,20 @@ public interface ChatRepository extends JpaRepository<Chat, UUID> {
      */
     @Query("SELECT c FROM Chat c WHERE c.active = true AND c.outing.outingDate < :expirationDate")
     List<Chat> findActiveChatsWithExpiredOutings(@Param("expirationDate") LocalDateTime expirationDate);
-}
\ No newline at end of file
+
+    /**
+     * Count all chats and the active ones in a single scan (for admin
+     * statistics).
+     */
+    @Query("SELECT COUNT(c) AS total, COUNT(c) FILTER (WHERE c.active = true) AS active FROM Chat c")
+    ChatCounts countTotalAndActive();
+
+    /**
+     * Projection of the chat counts.
+     */
+    interface ChatCounts {
+        long getTotal();
+
+        long getActive();
+    }
+}
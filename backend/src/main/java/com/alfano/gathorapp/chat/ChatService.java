@@ -1,21 +1,29 @@
 package com.alfano.gathorapp.chat;
 
+import com.alfano.gathorapp.chat.dto.ChatMessagePageResponse;
 import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
+import com.alfano.gathorapp.chat.dto.ChatPresenceResponse;
 import com.alfano.gathorapp.chat.dto.SendMessageRequest;
 import com.alfano.gathorapp.outing.Outing;
 import com.alfano.gathorapp.outing.OutingRepository;
-import com.alfano.gathorapp.participation.ParticipationRepository;
-import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.transaction.Transactions;
 import com.alfano.gathorapp.user.UserRepository;
 import com.alfano.gathorapp.notification.NotificationService;
 import com.alfano.gathorapp.notification.NotificationType;
-import com.alfano.gathorapp.participation.Participation;
+import com.alfano.gathorapp.websocket.PresenceRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -27,13 +35,20 @@ import java.util.stream.Collectors;
 @Slf4j
 public class ChatService {
 
+        static final int DEFAULT_PAGE_SIZE = 50;
+        static final int MAX_PAGE_SIZE = 100;
+
         private final ChatRepository chatRepository;
         private final ChatMessageRepository chatMessageRepository;
         private final OutingRepository outingRepository;
         private final UserRepository userRepository;
-        private final ParticipationRepository participationRepository;
         private final ChatMapper chatMapper;
         private final NotificationService notificationService;
+        private final RecentMessageBuffer recentMessageBuffer;
+        private final ChatMembershipCache membershipCache;
+        private final ChatMessageWriteBehind writeBehind;
+        private final PresenceRegistry presenceRegistry;
+        private final ApplicationEventPublisher eventPublisher;
 
         /**
          * Get or create chat for an outing.
@@ -49,7 +64,10 @@ public class ChatService {
                                                         .outing(outing)
                                                         .active(true)
                                                         .build();
-                                        return chatRepository.save(chat);
+                                        Chat savedChat = chatRepository.save(chat);
+                                        Transactions.afterCommit(() -> membershipCache.chatCreated(outingId, savedChat.getId(),
+                                                        true));
+                                        return savedChat;
                                 });
         }
 
@@ -60,108 +78,197 @@ public class ChatService {
         public List<ChatMessageResponse> getMessages(UUID outingId, UUID userId) {
                 log.debug("Fetching messages for outing: {}", outingId);
 
-                // Verify user is participant or organizer
-                Outing outing = outingRepository.findById(outingId)
-                                .orElseThrow(() -> new RuntimeException("Outing not found"));
+                ChatMembership membership = requireMember(outingId, userId,
+                                "Only participants and organizer can view messages");
+
+                // Reads never create the chat: no chat simply means no messages yet
+                if (membership.chatId() == null) {
+                        return List.of();
+                }
+                return chatMessageRepository.findByChatIdOrderByTimestamp(membership.chatId())
+                                .stream()
+                                .map(chatMapper::toMessageResponse)
+                                .collect(Collectors.toList());
+        }
+
+        /**
+         * Get a page of chat history, newest messages first, paging backwards
+         * with a keyset cursor on (timestamp, id).
+         *
+         * @param before cursor returned by the previous page, or null for the newest page
+         * @param limit  page size, clamped to [1, MAX_PAGE_SIZE]
+         */
+        @Transactional(readOnly = true)
+        public ChatMessagePageResponse getMessagePage(UUID outingId, UUID userId, String before, Integer limit) {
+                log.debug("Fetching message page for outing: {} before: {}", outingId, before);
+
+                ChatMembership membership = requireMember(outingId, userId,
+                                "Only participants and organizer can view messages");
 
-                User user = userRepository.findById(userId)
-                                .orElseThrow(() -> new RuntimeException("User not found"));
+                int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+                ChatCursor cursor = before == null || before.isBlank() ? null : ChatCursor.decode(before);
 
-                boolean isOrganizer = outing.getOrganizer().getId().equals(userId);
-                boolean isParticipant = participationRepository.existsByUserAndOuting(user, outing);
+                UUID chatId = membership.chatId();
+                if (chatId == null) {
+                        return ChatMessagePageResponse.builder().messages(List.of()).hasMore(false).build();
+                }
 
-                if (!isOrganizer && !isParticipant) {
-                        throw new UnauthorizedChatAccessException("Only participants and organizer can view messages");
+                // The newest page of an active chat comes from the in-memory buffer
+                if (cursor == null && membership.active()) {
+                        Optional<RecentMessageBuffer.Page> buffered = recentMessageBuffer.latest(chatId, pageSize,
+                                        rows -> loadLatest(chatId, rows));
+                        if (buffered.isPresent()) {
+                                return toPageResponse(buffered.get().newestFirst(), buffered.get().hasMore());
+                        }
                 }
 
-                // Get or create chat (in case it wasn't created with the outing, e.g., seed
-                // data)
-                Chat chat = getOrCreateChat(outingId);
+                // Fetch one extra row to know whether an older page exists
+                List<ChatMessageResponse> newestFirst = cursor == null
+                                ? loadLatest(chatId, pageSize + 1)
+                                : chatMessageRepository.findPageBefore(chatId, cursor.timestamp(), cursor.id(),
+                                                PageRequest.of(0, pageSize + 1))
+                                                .stream()
+                                                .map(chatMapper::toMessageResponse)
+                                                .collect(Collectors.toList());
+
+                boolean hasMore = newestFirst.size() > pageSize;
+                return toPageResponse(hasMore ? newestFirst.subList(0, pageSize) : newestFirst, hasMore);
+        }
 
-                // Get messages
-                return chatMessageRepository.findByChatOrderByTimestampAsc(chat)
+        private List<ChatMessageResponse> loadLatest(UUID chatId, int rows) {
+                return chatMessageRepository.findLatestByChatId(chatId, PageRequest.of(0, rows))
                                 .stream()
                                 .map(chatMapper::toMessageResponse)
                                 .collect(Collectors.toList());
         }
 
+        /**
+         * Build a page response from messages ordered newest first.
+         */
+        private ChatMessagePageResponse toPageResponse(List<ChatMessageResponse> newestFirst, boolean hasMore) {
+                List<ChatMessageResponse> messages = new ArrayList<>(newestFirst);
+                Collections.reverse(messages);
+
+                String nextCursor = null;
+                if (hasMore && !messages.isEmpty()) {
+                        ChatMessageResponse oldest = messages.get(0);
+                        nextCursor = new ChatCursor(oldest.getTimestamp(), oldest.getId()).encode();
+                }
+
+                return ChatMessagePageResponse.builder()
+                                .messages(messages)
+                                .nextCursor(nextCursor)
+                                .hasMore(hasMore)
+                                .build();
+        }
+
         /**
          * Send a message to a chat.
+         *
+         * Access is checked against the membership cache, so in the common case
+         * the only statement executed is the message INSERT. With write-behind
+         * enabled the message gets a time-ordered id here and is handed to
+         * {@link ChatMessageWriteBehind} once the transaction commits.
          */
         @Transactional
         public ChatMessageResponse sendMessage(UUID outingId, SendMessageRequest request, UUID userId) {
                 log.info("User {} sending message to outing {}", userId, outingId);
 
-                // Verify user is participant or organizer
-                Outing outing = outingRepository.findById(outingId)
-                                .orElseThrow(() -> new RuntimeException("Outing not found"));
-
-                User user = userRepository.findById(userId)
-                                .orElseThrow(() -> new RuntimeException("User not found"));
-
-                boolean isOrganizer = outing.getOrganizer().getId().equals(userId);
-                boolean isParticipant = participationRepository.existsByUserAndOuting(user, outing);
+                ChatMembership membership = requireMember(outingId, userId,
+                                "Only participants and organizer can send messages");
 
-                if (!isOrganizer && !isParticipant) {
-                        throw new UnauthorizedChatAccessException("Only participants and organizer can send messages");
+                // Create the chat on first message (e.g. outings from seed data)
+                UUID chatId = membership.chatId();
+                boolean active = membership.active();
+                if (chatId == null) {
+                        Chat chat = getOrCreateChat(outingId);
+                        chatId = chat.getId();
+                        active = Boolean.TRUE.equals(chat.getActive());
                 }
 
-                // Get or create chat
-                Chat chat = getOrCreateChat(outingId);
-
                 // Check if chat is active
-                if (!chat.getActive()) {
+                if (!active) {
                         throw new InactiveChatException("This chat has been deactivated");
                 }
 
-                // Create message
-                ChatMessage message = ChatMessage.builder()
-                                .chat(chat)
-                                .sender(user)
-                                .content(request.getContent())
-                                .build();
+                String senderName = membership.nameOf(userId);
+                ChatMessageResponse response;
+                if (writeBehind.isEnabled()) {
+                        response = ChatMessageResponse.builder()
+                                        .id(UuidV7.generate())
+                                        .chatId(chatId)
+                                        .sender(ChatMessageResponse.SenderInfo.builder()
+                                                        .id(userId)
+                                                        .name(senderName)
+                                                        .build())
+                                        .content(request.getContent())
+                                        .timestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                                        .build();
+                        Transactions.afterCommit(() -> writeBehind.submit(response));
+                } else {
+                        // Create message; references avoid loading the chat and sender rows
+                        ChatMessage message = ChatMessage.builder()
+                                        .chat(chatRepository.getReferenceById(chatId))
+                                        .sender(userRepository.getReferenceById(userId))
+                                        .content(request.getContent())
+                                        .build();
 
-                ChatMessage savedMessage = chatMessageRepository.save(message);
+                        ChatMessage savedMessage = chatMessageRepository.save(message);
+                        response = chatMapper.toMessageResponse(savedMessage, senderName);
+                }
                 log.info("Message sent successfully");
 
                 // Send notifications to all participants (except sender)
-                notifyParticipants(outing, user, savedMessage);
+                notifyParticipants(membership, userId, senderName, response.getContent());
 
-                return chatMapper.toMessageResponse(savedMessage);
+                Transactions.afterCommit(() -> recentMessageBuffer.append(response));
+                eventPublisher.publishEvent(new ChatMessageSentEvent(chatId, outingId, userId));
+                return response;
         }
 
-        // Add this new private method to the class:
         /**
-         * Notify all participants of a new message (except the sender).
+         * Number of users connected to an outing's chat over WebSocket.
+         * Answered from memory, without touching the database.
+         */
+        public ChatPresenceResponse getPresence(UUID outingId, UUID userId) {
+                ChatMembership membership = requireMember(outingId, userId,
+                                "Only participants and organizer can view messages");
+                UUID chatId = membership.chatId();
+                return ChatPresenceResponse.builder()
+                                .chatId(chatId)
+                                .online(chatId == null ? 0 : presenceRegistry.onlineCount(chatId))
+                                .build();
+        }
+
+        /**
+         * Check that the user is the organizer or an approved participant of the
+         * outing.
          */
-        private void notifyParticipants(Outing outing, User sender, ChatMessage message) {
-                // Get all approved participants
-                List<Participation> participants = participationRepository.findApprovedByOuting(outing);
+        private ChatMembership requireMember(UUID outingId, UUID userId, String deniedMessage) {
+                ChatMembership membership = membershipCache.get(outingId);
+                if (!membership.isMember(userId)) {
+                        throw new UnauthorizedChatAccessException(deniedMessage);
+                }
+                return membership;
+        }
 
-                // Notify each participant (except sender)
-                for (Participation participation : participants) {
-                        UUID participantId = participation.getUser().getId();
+        /**
+         * Notify all participants of a new message (except the sender).
+         */
+        private void notifyParticipants(ChatMembership membership, UUID senderId, String senderName, String content) {
+                List<UUID> recipients = new ArrayList<>(membership.participantIds());
+                recipients.add(membership.organizerId());
 
-                        if (!participantId.equals(sender.getId())) {
+                for (UUID recipientId : recipients) {
+                        if (!recipientId.equals(senderId)) {
                                 notificationService.createNotification(
-                                                participantId,
+                                                recipientId,
                                                 NotificationType.NEW_MESSAGE,
-                                                "New message in " + outing.getTitle(),
-                                                sender.getName() + ": " + message.getContent(),
-                                                outing.getId(),
+                                                "New message in " + membership.outingTitle(),
+                                                senderName + ": " + content,
+                                                membership.outingId(),
                                                 "OUTING");
                         }
                 }
-
-                // Also notify organizer if they're not the sender
-                if (!outing.getOrganizer().getId().equals(sender.getId())) {
-                        notificationService.createNotification(
-                                        outing.getOrganizer().getId(),
-                                        NotificationType.NEW_MESSAGE,
-                                        "New message in " + outing.getTitle(),
-                                        sender.getName() + ": " + message.getContent(),
-                                        outing.getId(),
-                                        "OUTING");
-                }
         }
 }
@@ -2,6 +2,7 @@ package com.alfano.gathorapp.chat;
 
 import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
 import com.alfano.gathorapp.chat.dto.SendMessageRequest;
+import com.alfano.gathorapp.chat.dto.TypingRequest;
 import com.alfano.gathorapp.security.SecurityUser;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +37,7 @@ public class ChatWebSocketController {
 
     private final ChatService chatService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final TypingIndicatorService typingIndicatorService;
 
     /**
      * Handle incoming chat messages via WebSocket.
@@ -79,6 +81,9 @@ public class ChatWebSocketController {
 
             log.info("=== Message broadcast successful to /topic/chat/{} ===", chatId);
 
+            // Sending a message ends the sender's typing indicator
+            typingIndicatorService.stopped(chatId, userId);
+
         } catch (RuntimeException e) {
             log.error("=== Error sending WebSocket message: {} ===", e.getMessage(), e);
 
@@ -92,34 +97,26 @@ public class ChatWebSocketController {
 
     /**
      * Handle typing indicator events.
-     * Notifies other chat participants that a user is typing.
+     * Handled in memory by {@link TypingIndicatorService}, which broadcasts the
+     * users typing in each chat to /topic/chat/{chatId}/typing.
      *
-     * @param outingId     ID of the outing
-     * @param securityUser Authenticated user
+     * @param outingId  ID of the outing
+     * @param request   Whether the user started or stopped typing (defaults to started)
+     * @param principal Authenticated user
      */
     @MessageMapping("/chat/{outingId}/typing")
     public void userTyping(
             @DestinationVariable UUID outingId,
+            @Payload(required = false) TypingRequest request,
             Principal principal) {
 
         // Extract SecurityUser from Principal
         SecurityUser securityUser = getSecurityUser(principal);
         UUID userId = securityUser.getUserId();
-        log.debug("User {} is typing in outing {}", userId, outingId);
+        log.debug("User {} typing event in outing {}", userId, outingId);
 
         try {
-            // Get chat for this outing
-            Chat chat = chatService.getOrCreateChat(outingId);
-
-            // Broadcast typing indicator to all participants (except sender)
-            TypingIndicator indicator = new TypingIndicator(
-                    userId,
-                    securityUser.getUsername());
-
-            messagingTemplate.convertAndSend(
-                    "/topic/chat/" + chat.getId() + "/typing",
-                    indicator);
-
+            typingIndicatorService.typing(outingId, userId, request == null || request.isTyping());
         } catch (RuntimeException e) {
             log.error("Error handling typing indicator: {}", e.getMessage());
         }
@@ -146,9 +143,4 @@ public class ChatWebSocketController {
     private record ErrorMessage(String message) {
     }
 
-    /**
-     * DTO for typing indicator events.
-     */
-    private record TypingIndicator(UUID userId, String username) {
-    }
 }
@@ -0,0 +1,265 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-memory ring buffer of the most recent messages of each active chat.
+ *
+ * A chat's ring is hydrated lazily from the database on the first history read
+ * and kept up to date by {@link ChatService#sendMessage} afterwards, so opening
+ * a busy chat does not touch chat_messages. Rings always hold the newest
+ * contiguous messages of their chat, in (timestamp, id) order.
+ *
+ * Memory is bounded by a global byte budget; when it is exceeded the least
+ * recently used rings are dropped and will be hydrated again on demand.
+ */
+@Component
+@Slf4j
+public class RecentMessageBuffer {
+
+    /**
+     * Same ordering as the (timestamp, id) keyset used by the database queries.
+     * UUIDs are compared as unsigned 128-bit values, like PostgreSQL and H2 do.
+     */
+    static final Comparator<ChatMessageResponse> ORDER = Comparator
+            .comparing(ChatMessageResponse::getTimestamp)
+            .thenComparing(ChatMessageResponse::getId, RecentMessageBuffer::compareUnsigned);
+
+    private static final long BASE_MESSAGE_BYTES = 256;
+
+    private final Map<UUID, Ring> rings = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final int capacityPerChat;
+    private final long maxBytes;
+
+    public RecentMessageBuffer(
+            @Value("${app.chat.recent-buffer.messages-per-chat:100}") int capacityPerChat,
+            @Value("${app.chat.recent-buffer.max-bytes:33554432}") long maxBytes) {
+        this.capacityPerChat = capacityPerChat;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * A page taken from the buffer, newest message first.
+     */
+    public record Page(List<ChatMessageResponse> newestFirst, boolean hasMore) {
+    }
+
+    /**
+     * Newest {@code limit} messages of a chat, hydrating the ring with
+     * {@code loader} on a miss. The loader receives the number of rows to fetch
+     * and must return the newest messages of the chat, newest first.
+     *
+     * @return the page, or empty if the buffer cannot answer it (the caller
+     *         should then read from the database)
+     */
+    public Optional<Page> latest(UUID chatId, int limit, Function<Integer, List<ChatMessageResponse>> loader) {
+        Ring ring = rings.get(chatId);
+        if (ring == null) {
+            ring = hydrate(chatId, loader);
+        }
+        return ring.latest(limit);
+    }
+
+    /**
+     * Add a committed message to its chat's ring, if the chat is buffered.
+     */
+    public void append(ChatMessageResponse message) {
+        Ring ring = rings.get(message.getChatId());
+        if (ring != null) {
+            totalBytes.addAndGet(ring.add(message));
+            enforceBudget();
+        }
+    }
+
+    /**
+     * Drop a chat's ring, e.g. when the chat is deactivated.
+     */
+    public void invalidate(UUID chatId) {
+        Ring ring = rings.remove(chatId);
+        if (ring != null) {
+            totalBytes.addAndGet(-ring.evict());
+            log.debug("Invalidated recent message buffer for chat {}", chatId);
+        }
+    }
+
+    /**
+     * Estimated memory held by all rings, in bytes.
+     */
+    public long totalBytes() {
+        return totalBytes.get();
+    }
+
+    /**
+     * Number of buffered chats.
+     */
+    public int size() {
+        return rings.size();
+    }
+
+    /**
+     * Register an empty ring before querying the database, so that messages
+     * committed while the query runs are captured by {@link #append} and merged
+     * into the loaded snapshot instead of being lost.
+     */
+    private Ring hydrate(UUID chatId, Function<Integer, List<ChatMessageResponse>> loader) {
+        Ring fresh = new Ring(capacityPerChat);
+        Ring ring = rings.putIfAbsent(chatId, fresh);
+        if (ring != null) {
+            return ring;
+        }
+        try {
+            List<ChatMessageResponse> newestFirst = loader.apply(capacityPerChat + 1);
+            totalBytes.addAndGet(fresh.load(newestFirst));
+        } catch (RuntimeException e) {
+            if (rings.remove(chatId, fresh)) {
+                totalBytes.addAndGet(-fresh.evict());
+            }
+            throw e;
+        }
+        enforceBudget();
+        return fresh;
+    }
+
+    private void enforceBudget() {
+        while (totalBytes.get() > maxBytes && !rings.isEmpty()) {
+            Map.Entry<UUID, Ring> eldest = null;
+            for (Map.Entry<UUID, Ring> entry : rings.entrySet()) {
+                if (eldest == null || entry.getValue().lastAccess < eldest.getValue().lastAccess) {
+                    eldest = entry;
+                }
+            }
+            if (eldest != null && rings.remove(eldest.getKey(), eldest.getValue())) {
+                totalBytes.addAndGet(-eldest.getValue().evict());
+                log.debug("Evicted recent message buffer for idle chat {}", eldest.getKey());
+            }
+        }
+    }
+
+    private static long estimateBytes(ChatMessageResponse message) {
+        long bytes = BASE_MESSAGE_BYTES;
+        if (message.getContent() != null) {
+            bytes += 2L * message.getContent().length();
+        }
+        if (message.getSender() != null && message.getSender().getName() != null) {
+            bytes += 2L * message.getSender().getName().length();
+        }
+        return bytes;
+    }
+
+    private static int compareUnsigned(UUID a, UUID b) {
+        int result = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return result != 0 ? result : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+
+    /**
+     * Bounded, ordered window over the newest messages of one chat.
+     */
+    private static final class Ring {
+
+        private final int capacity;
+        private final ArrayList<ChatMessageResponse> messages;
+        private boolean loaded;
+        /**
+         * True when the ring holds the whole history of the chat.
+         */
+        private boolean complete;
+        /**
+         * Set once the ring is removed from the map; later writes are ignored so
+         * the global byte count stays exact.
+         */
+        private boolean evicted;
+        private long bytes;
+        private volatile long lastAccess = System.nanoTime();
+
+        Ring(int capacity) {
+            this.capacity = capacity;
+            this.messages = new ArrayList<>(capacity + 1);
+        }
+
+        synchronized long load(List<ChatMessageResponse> newestFirst) {
+            if (evicted) {
+                return 0;
+            }
+            long before = bytes;
+            complete = newestFirst.size() <= capacity;
+            int count = Math.min(newestFirst.size(), capacity);
+            for (int i = count - 1; i >= 0; i--) {
+                insert(newestFirst.get(i));
+            }
+            trim();
+            loaded = true;
+            return bytes - before;
+        }
+
+        synchronized long add(ChatMessageResponse message) {
+            if (evicted) {
+                return 0;
+            }
+            long before = bytes;
+            insert(message);
+            trim();
+            lastAccess = System.nanoTime();
+            return bytes - before;
+        }
+
+        synchronized Optional<Page> latest(int limit) {
+            lastAccess = System.nanoTime();
+            int size = messages.size();
+            if (!loaded || (size < limit && !complete)) {
+                return Optional.empty();
+            }
+            int count = Math.min(limit, size);
+            List<ChatMessageResponse> newestFirst = new ArrayList<>(count);
+            for (int i = size - 1; i >= size - count; i--) {
+                newestFirst.add(messages.get(i));
+            }
+            return Optional.of(new Page(newestFirst, size > limit || !complete));
+        }
+
+        synchronized long evict() {
+            evicted = true;
+            return bytes;
+        }
+
+        /**
+         * Insert keeping (timestamp, id) order; new messages normally belong at
+         * the end, so the scan from the tail is usually a single comparison.
+         */
+        private void insert(ChatMessageResponse message) {
+            int i = messages.size();
+            while (i > 0) {
+                int cmp = ORDER.compare(messages.get(i - 1), message);
+                if (cmp == 0) {
+                    return;
+                }
+                if (cmp < 0) {
+                    break;
+                }
+                i--;
+            }
+            messages.add(i, message);
+            bytes += estimateBytes(message);
+        }
+
+        private void trim() {
+            while (messages.size() > capacity) {
+                bytes -= estimateBytes(messages.remove(0));
+                complete = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
+import com.alfano.gathorapp.chat.dto.TypingUsersResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-memory typing indicators.
+ *
+ * Typing events only update per-chat state; a periodic tick broadcasts one
+ * frame per chat listing everyone currently typing, and only when that list
+ * changed. Repeated keystrokes from the same user therefore cost nothing
+ * until they stop typing, and a busy chat gets at most one frame per tick.
+ * A user who stops sending events is dropped after the expiry time.
+ *
+ * Outing to chat resolution and the access check use
+ * {@link ChatMembershipCache}, so typing does not touch the database.
+ */
+@Service
+@Slf4j
+public class TypingIndicatorService {
+
+    private final ChatMembershipCache membershipCache;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Clock clock;
+    private final long expiryMillis;
+    private final Map<UUID, ChatTyping> chats = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TypingIndicatorService(
+            ChatMembershipCache membershipCache,
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${app.chat.typing.expiry-ms:3000}") long expiryMillis) {
+        this(membershipCache, messagingTemplate, Clock.systemUTC(), expiryMillis);
+    }
+
+    TypingIndicatorService(ChatMembershipCache membershipCache, SimpMessagingTemplate messagingTemplate,
+            Clock clock, long expiryMillis) {
+        this.membershipCache = membershipCache;
+        this.messagingTemplate = messagingTemplate;
+        this.clock = clock;
+        this.expiryMillis = expiryMillis;
+    }
+
+    /**
+     * Record that a user started or stopped typing in an outing's chat.
+     * Events from non-members, or for outings without a chat, are ignored.
+     */
+    public void typing(UUID outingId, UUID userId, boolean typing) {
+        ChatMembership membership = membershipCache.get(outingId);
+        if (membership.chatId() == null || !membership.active() || !membership.isMember(userId)) {
+            log.debug("Ignoring typing event from user {} for outing {}", userId, outingId);
+            return;
+        }
+        if (typing) {
+            long expiresAt = clock.millis() + expiryMillis;
+            chats.compute(membership.chatId(), (id, chat) -> {
+                ChatTyping current = chat != null ? chat : new ChatTyping();
+                current.start(userId, membership.nameOf(userId), expiresAt);
+                return current;
+            });
+        } else {
+            stopped(membership.chatId(), userId);
+        }
+    }
+
+    /**
+     * Clear a user's indicator, e.g. once their message has been sent.
+     */
+    public void stopped(UUID chatId, UUID userId) {
+        ChatTyping chat = chats.get(chatId);
+        if (chat != null) {
+            chat.stop(userId);
+        }
+    }
+
+    /**
+     * Expire idle typists and broadcast the chats whose typing list changed.
+     */
+    @Scheduled(fixedDelayString = "${app.chat.typing.tick-ms:500}")
+    public void tick() {
+        long now = clock.millis();
+        chats.forEach((chatId, chat) -> {
+            chat.expire(now);
+            if (chat.changed.getAndSet(false)) {
+                messagingTemplate.convertAndSend("/topic/chat/" + chatId + "/typing",
+                        TypingUsersResponse.builder().chatId(chatId).users(chat.snapshot()).build());
+            }
+            // Drop idle chats; compute() keeps this atomic with typing()
+            chats.computeIfPresent(chatId, (id, current) ->
+                    current.typists.isEmpty() && !current.changed.get() ? null : current);
+        });
+    }
+
+    private record Typist(String name, long expiresAt) {
+    }
+
+    /**
+     * Who is typing in one chat, and whether that changed since the last tick.
+     */
+    private static final class ChatTyping {
+
+        private final Map<UUID, Typist> typists = new ConcurrentHashMap<>();
+        private final AtomicBoolean changed = new AtomicBoolean();
+
+        void start(UUID userId, String name, long expiresAt) {
+            if (typists.put(userId, new Typist(name, expiresAt)) == null) {
+                changed.set(true);
+            }
+        }
+
+        void stop(UUID userId) {
+            if (typists.remove(userId) != null) {
+                changed.set(true);
+            }
+        }
+
+        void expire(long now) {
+            if (typists.values().removeIf(typist -> typist.expiresAt() <= now)) {
+                changed.set(true);
+            }
+        }
+
+        List<ChatMessageResponse.SenderInfo> snapshot() {
+            List<ChatMessageResponse.SenderInfo> users = new ArrayList<>(typists.size());
+            typists.forEach((id, typist) -> users.add(ChatMessageResponse.SenderInfo.builder()
+                    .id(id)
+                    .name(typist.name())
+                    .build()));
+            return users;
+        }
+    }
+}
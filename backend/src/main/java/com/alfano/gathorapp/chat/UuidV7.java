@@ -0,0 +1,28 @@
+package com.alfano.gathorapp.chat;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7): a 48-bit Unix millisecond
+ * timestamp followed by 74 random bits.
+ *
+ * Used for message ids assigned by the application, so that rows inserted
+ * later by the write-behind flusher still sort by creation time.
+ */
+public final class UuidV7 {
+
+    private UuidV7() {
+    }
+
+    public static UUID generate() {
+        return generate(System.currentTimeMillis());
+    }
+
+    static UUID generate(long epochMillis) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long msb = (epochMillis << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,25 @@
+package com.alfano.gathorapp.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for a page of chat history.
+ *
+ * Messages are in chronological order. {@code nextCursor} is passed as
+ * {@code before} to fetch the previous (older) page and is null when there is
+ * nothing older.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessagePageResponse {
+    private List<ChatMessageResponse> messages;
+    private String nextCursor;
+    private boolean hasMore;
+}
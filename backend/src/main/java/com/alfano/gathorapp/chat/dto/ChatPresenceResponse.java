@@ -0,0 +1,20 @@
+package com.alfano.gathorapp.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * DTO for the number of users currently connected to a chat.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatPresenceResponse {
+    private UUID chatId;
+    private int online;
+}
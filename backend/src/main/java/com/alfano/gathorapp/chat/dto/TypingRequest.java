@@ -0,0 +1,23 @@
+package com.alfano.gathorapp.chat.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a typing indicator event sent by a client.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingRequest {
+
+    /**
+     * Whether the user started (true) or stopped (false) typing.
+     */
+    @JsonProperty("isTyping")
+    private boolean typing;
+}
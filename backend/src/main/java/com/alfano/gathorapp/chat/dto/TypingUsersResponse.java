@@ -0,0 +1,22 @@
+package com.alfano.gathorapp.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO listing everyone currently typing in a chat.
+ * Broadcast to /topic/chat/{chatId}/typing whenever the list changes.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TypingUsersResponse {
+    private UUID chatId;
+    private List<ChatMessageResponse.SenderInfo> users;
+}
@@ -0,0 +1,174 @@
+package com.alfano.gathorapp.conditional;
+
+import com.alfano.gathorapp.event.EventRepository;
+import com.alfano.gathorapp.notification.NotificationRepository;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.security.SecurityUser;
+import com.alfano.gathorapp.user.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Conditional GET for the list and detail endpoints that clients poll.
+ *
+ * Before the controller runs, the rows behind the response are versioned
+ * with {@link ResourceStamp} aggregate queries and turned into a weak ETag
+ * together with the request URI and the current user. Detail endpoints
+ * version only the requested row and the rows its response embeds; list
+ * endpoints version whole tables through their updated_at indexes. A matching
+ * If-None-Match ends the request with 304, so neither the entities nor the
+ * DTOs are loaded. Responses are marked private and must be revalidated.
+ *
+ * Endpoints backed by a service cache also hash the current cache window,
+ * so an ETag cannot pin a body that was served from a stale cache entry.
+ */
+@Component
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private final Clock clock;
+    private final long cachedWindowMillis;
+    private final Map<String, Version> versions;
+
+    @Autowired
+    public ConditionalGetInterceptor(
+            OutingRepository outingRepository,
+            EventRepository eventRepository,
+            UserRepository userRepository,
+            NotificationRepository notificationRepository,
+            @Value("${app.conditional.cached-window-seconds:30}") long cachedWindowSeconds) {
+        this(outingRepository, eventRepository, userRepository, notificationRepository, cachedWindowSeconds,
+                Clock.systemDefaultZone());
+    }
+
+    ConditionalGetInterceptor(
+            OutingRepository outingRepository,
+            EventRepository eventRepository,
+            UserRepository userRepository,
+            NotificationRepository notificationRepository,
+            long cachedWindowSeconds,
+            Clock clock) {
+        this.cachedWindowMillis = cachedWindowSeconds * 1000;
+        this.clock = clock;
+
+        // Keyed by the matched handler pattern; outings embed their event and users, events their creator
+        Version outings = (userId, path) -> List.of(
+                outingRepository.stamp(), eventRepository.stamp(), userRepository.stamp());
+        Version outing = (userId, path) -> id(path).map(id -> List.<Object>of(
+                outingRepository.stampById(id))).orElse(null);
+        Version upcomingOutings = (userId, path) -> List.of(
+                outingRepository.stampUpcoming(now()), eventRepository.stamp(), userRepository.stamp());
+        Version events = (userId, path) -> List.of(
+                eventRepository.stamp(), userRepository.stamp());
+        Version event = (userId, path) -> id(path).map(id -> List.<Object>of(
+                eventRepository.stampById(id))).orElse(null);
+        Version upcomingEvents = (userId, path) -> List.of(
+                eventRepository.stampUpcoming(now()), userRepository.stamp());
+        Version notifications = (userId, path) -> List.of(
+                notificationRepository.stampByUserId(userId));
+
+        this.versions = Map.ofEntries(
+                Map.entry("/api/outings", outings),
+                Map.entry("/api/outings/{id}", outing),
+                Map.entry("/api/outings/my", outings),
+                Map.entry("/api/outings/event/{eventId}", outings),
+                Map.entry("/api/outings/upcoming", cached(upcomingOutings)),
+                Map.entry("/api/outings/top-rated", outings),
+                Map.entry("/api/map/outings/nearby", upcomingOutings),
+                Map.entry("/api/events", events),
+                Map.entry("/api/events/{id}", event),
+                Map.entry("/api/events/my", events),
+                Map.entry("/api/events/upcoming", cached(upcomingEvents)),
+                Map.entry("/api/events/top-rated", events),
+                Map.entry("/api/map/events/nearby", upcomingEvents),
+                Map.entry("/api/notifications", notifications),
+                Map.entry("/api/notifications/unread", notifications),
+                Map.entry("/api/notifications/unread/count", notifications));
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+            @NonNull Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        Version version = versions.get(
+                (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        UUID userId = currentUserId();
+        if (version == null || userId == null) {
+            return true;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, String> path = (Map<String, String>) request.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        List<Object> stamps = version.of(userId, path == null ? Map.of() : path);
+        if (stamps == null) {
+            return true;
+        }
+
+        String etag = etag(request, userId, stamps);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE.getHeaderValue());
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+
+    private Version cached(Version version) {
+        return (userId, path) -> List.of(version.of(userId, path), clock.millis() / cachedWindowMillis);
+    }
+
+    /**
+     * The {id} path variable, empty when it is not a UUID (the controller rejects it).
+     */
+    private static Optional<UUID> id(Map<String, String> path) {
+        try {
+            return Optional.ofNullable(path.get("id")).map(UUID::fromString);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    static String etag(HttpServletRequest request, UUID userId, List<Object> version) {
+        String key = request.getRequestURI() + '?' + request.getQueryString() + '|' + userId + '|' + version;
+        return "W/\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + '"';
+    }
+
+    /**
+     * Stamps versioning one endpoint's response, or null to skip conditional handling.
+     */
+    @FunctionalInterface
+    private interface Version {
+        List<Object> of(UUID userId, Map<String, String> path);
+    }
+
+    private static UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof SecurityUser securityUser) {
+            return securityUser.getUserId();
+        }
+        return null;
+    }
+}
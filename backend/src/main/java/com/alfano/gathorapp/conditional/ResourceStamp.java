@@ -0,0 +1,13 @@
+package com.alfano.gathorapp.conditional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap version of a set of rows: how many there are and when the latest
+ * one changed. Any insert, update or delete changes at least one of the two,
+ * so the pair can stand in for the rows when computing an ETag.
+ *
+ * @param lastModified null when there are no rows
+ */
+public record ResourceStamp(long count, LocalDateTime lastModified) {
+}
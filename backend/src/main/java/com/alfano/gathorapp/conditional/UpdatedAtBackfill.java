@@ -0,0 +1,30 @@
+package com.alfano.gathorapp.conditional;
+
+import com.alfano.gathorapp.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Fills in, on startup, the updatedAt of users saved before it was tracked,
+ * so that {@link UserRepository#stamp()} needs no fallback to createdAt.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UpdatedAtBackfill {
+
+    private final UserRepository userRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int users = userRepository.backfillUpdatedAt();
+        if (users > 0) {
+            log.info("Backfilled updatedAt of {} users", users);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.alfano.gathorapp.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Spring Cache configuration.
+ *
+ * Service-level caches and the Hibernate second-level cache share one JCache
+ * (Ehcache 3) cache manager configured by ehcache.xml, which holds the TTL
+ * and size bound of every cache. Entries are evicted after commit by
+ * {@link CacheEvictionListener} when the underlying data changes.
+ */
+@Configuration
+@EnableCaching
+@Slf4j
+public class CacheConfig {
+
+    public static final String UPCOMING_EVENTS = "upcoming-events";
+    public static final String UPCOMING_OUTINGS = "upcoming-outings";
+    public static final String EVENT_REWARDS = "event-rewards";
+    public static final String EVENT_REVIEWS = "event-reviews";
+    public static final String OUTING_DISCOVERY = "outing-discovery";
+
+    static final List<String> SERVICE_CACHES =
+            List.of(UPCOMING_EVENTS, UPCOMING_OUTINGS, EVENT_REWARDS, EVENT_REVIEWS, OUTING_DISCOVERY);
+
+    /**
+     * Let Hibernate use the Spring-managed cache manager for its regions.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheManager(JCacheCacheManager cacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManager.getCacheManager());
+    }
+
+    /**
+     * Hit ratio (0-1) of each service cache and second-level cache region, as
+     * cache.hit.ratio{cache=...}; request counts are published by Spring Boot
+     * as cache.gets. Both come from the JCache statistics enabled in
+     * ehcache.xml, so Hibernate's own statistics can stay off.
+     */
+    @Bean
+    public MeterBinder cacheHitRatioMetrics(JCacheCacheManager cacheManager) {
+        return registry -> cacheManager.getCacheNames().forEach(name -> Gauge.builder("cache.hit.ratio", () -> hitRatio(name))
+                .description("Share of cache lookups served from the cache")
+                .tag("cache", name)
+                .register(registry));
+    }
+
+    private static double hitRatio(String cacheName) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            Set<ObjectName> names = server.queryNames(
+                    new ObjectName("javax.cache:type=CacheStatistics,Cache=" + cacheName + ",*"), null);
+            for (ObjectName name : names) {
+                return ((Number) server.getAttribute(name, "CacheHitPercentage")).doubleValue() / 100;
+            }
+        } catch (JMException e) {
+            log.debug("No statistics for cache {}: {}", cacheName, e.getMessage());
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,93 @@
+package com.alfano.gathorapp.config;
+
+import com.alfano.gathorapp.event.EventChangedEvent;
+import com.alfano.gathorapp.outing.OutingChangedEvent;
+import com.alfano.gathorapp.participation.ParticipationChangedEvent;
+import com.alfano.gathorapp.review.ReviewChangedEvent;
+import com.alfano.gathorapp.reward.RewardChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+/**
+ * Evicts the service caches of {@link CacheConfig} once a change commits, so
+ * that a concurrent read cannot put the old state back before the commit.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheEvictionListener {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventChanged(EventChangedEvent event) {
+        clear(CacheConfig.UPCOMING_EVENTS);
+        if (event.change() != EventChangedEvent.Change.CREATED) {
+            // Outings embed their linked event
+            clear(CacheConfig.UPCOMING_OUTINGS);
+            clear(CacheConfig.OUTING_DISCOVERY);
+            evict(CacheConfig.EVENT_REWARDS, event.eventId());
+            evict(CacheConfig.EVENT_REVIEWS, event.eventId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOutingChanged(OutingChangedEvent event) {
+        clear(CacheConfig.UPCOMING_OUTINGS);
+        clear(CacheConfig.OUTING_DISCOVERY);
+    }
+
+    /**
+     * Approved and leaving participants change the participant counts shown
+     * in outing lists and the popularity used by discovery.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipationChanged(ParticipationChangedEvent event) {
+        if (event.change() == ParticipationChangedEvent.Change.APPROVED
+                || event.change() == ParticipationChangedEvent.Change.LEFT) {
+            clear(CacheConfig.UPCOMING_OUTINGS);
+            clear(CacheConfig.OUTING_DISCOVERY);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRewardChanged(RewardChangedEvent event) {
+        evict(CacheConfig.EVENT_REWARDS, event.eventId());
+    }
+
+    /**
+     * Reviews also change the rating shown in event and outing lists.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.eventId() != null) {
+            evict(CacheConfig.EVENT_REVIEWS, event.eventId());
+            clear(CacheConfig.UPCOMING_EVENTS);
+        }
+        if (event.outingId() != null) {
+            clear(CacheConfig.UPCOMING_OUTINGS);
+            clear(CacheConfig.OUTING_DISCOVERY);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            log.debug("Clearing cache {}", cacheName);
+            cache.clear();
+        }
+    }
+
+    private void evict(String cacheName, UUID key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -35,12 +35,14 @@ public class CorsConfig {
                 "Accept",
                 "Authorization",
                 "Access-Control-Request-Method",
-                "Access-Control-Request-Headers"));
+                "Access-Control-Request-Headers",
+                "If-None-Match"));
 
         // Expose headers to frontend
         config.setExposedHeaders(Arrays.asList(
                 "Authorization",
-                "Content-Disposition"));
+                "Content-Disposition",
+                "ETag"));
 
         // Allow all HTTP methods
         config.setAllowedMethods(Arrays.asList(
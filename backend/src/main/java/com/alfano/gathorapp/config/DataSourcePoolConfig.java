@@ -0,0 +1,64 @@
+package com.alfano.gathorapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.NonNull;
+
+/**
+ * Connection pool sizing for the prod profile.
+ *
+ * Unless app.datasource.pool-size is set, the Hikari pool gets a fixed size
+ * of (2 x cores) + 1 connections, following the HikariCP sizing guideline:
+ * more connections than the database can run in parallel only add
+ * contention. Idle connections are kept at the same size so that bursts do
+ * not pay for connection setup.
+ *
+ * An explicit spring.datasource.hikari.maximum-pool-size (for example from
+ * the virtual-threads profile) takes precedence and the pool is left alone;
+ * an explicit minimum-idle is kept as well.
+ */
+@Configuration
+@Profile("prod")
+@Slf4j
+public class DataSourcePoolConfig {
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizing(Environment environment) {
+        int configured = environment.getProperty("app.datasource.pool-size", Integer.class, 0);
+        Integer hikariMaximum = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class);
+        if (hikariMaximum != null) {
+            if (configured > 0 && configured != hikariMaximum) {
+                log.warn("Both app.datasource.pool-size ({}) and spring.datasource.hikari.maximum-pool-size ({}) "
+                        + "are set; using the Hikari setting", configured, hikariMaximum);
+            }
+            // An explicit Hikari setting wins: leave the pool as configured
+            return new BeanPostProcessor() {
+            };
+        }
+        int poolSize = configured > 0 ? configured : poolSizeFor(Runtime.getRuntime().availableProcessors());
+        boolean keepMinimumIdle = environment.containsProperty("spring.datasource.hikari.minimum-idle");
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    dataSource.setMaximumPoolSize(poolSize);
+                    if (!keepMinimumIdle) {
+                        dataSource.setMinimumIdle(poolSize);
+                    }
+                    log.info("Hikari pool '{}' sized to {} connections", beanName, poolSize);
+                }
+                return bean;
+            }
+        };
+    }
+
+    static int poolSizeFor(int cores) {
+        return cores * 2 + 1;
+    }
+}
@@ -2,6 +2,7 @@ package com.alfano.gathorapp.config;
 
 import com.alfano.gathorapp.security.Http401UnauthorizedEntryPoint;
 import com.alfano.gathorapp.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -44,6 +45,8 @@ public class SecurityConfig {
                                 .cors(cors -> cors.configure(http))
                                 .csrf(AbstractHttpConfigurer::disable)
                                 .authorizeHttpRequests(auth -> auth
+                                                // Completion of streamed responses; the request itself was authorized
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                                                 // Public endpoints (no authentication required)
                                                 .requestMatchers(
                                                                 "/api/auth/**",
@@ -57,6 +60,8 @@ public class SecurityConfig {
                                                                 "/webjars/**",
                                                                 "/error")
                                                 .permitAll()
+                                                // Operational metrics
+                                                .requestMatchers("/actuator/**").hasRole("ADMIN")
                                                 // All other endpoints require authentication
                                                 .anyRequest().authenticated())
                                 .exceptionHandling(exceptions -> exceptions
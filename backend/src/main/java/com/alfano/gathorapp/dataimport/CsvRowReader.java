@@ -0,0 +1,167 @@
+package com.alfano.gathorapp.dataimport;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Streaming parser of RFC 4180 CSV with a header row.
+ *
+ * Fields are separated by commas and may be enclosed in double quotes, in
+ * which case they can contain commas, line breaks and doubled quotes. Records
+ * end with LF or CRLF. The header names the fields of the following records;
+ * blank lines are skipped, and a record with a different number of fields
+ * than the header is returned as malformed.
+ */
+class CsvRowReader implements RowReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> header;
+    private int position;
+    private int limit;
+    private long number;
+    private String recordError;
+
+    CsvRowReader(Reader reader) throws IOException {
+        this.reader = reader;
+        if (peek() == '\uFEFF') {
+            position++;
+        }
+        List<String> names = nextRecord();
+        this.header = names != null ? names : List.of();
+        Set<String> seen = new HashSet<>();
+        for (String name : header) {
+            if (name == null || !seen.add(name)) {
+                throw new IOException("CSV header has a blank or repeated field name: " + header);
+            }
+        }
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> fields = nextRecord();
+        if (fields == null) {
+            return null;
+        }
+        number++;
+        if (recordError != null) {
+            return ImportRow.malformed(number, recordError);
+        }
+        if (fields.size() != header.size()) {
+            return ImportRow.malformed(number,
+                    "Expected " + header.size() + " fields but found " + fields.size());
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i) != null) {
+                values.put(header.get(i), fields.get(i));
+            }
+        }
+        return ImportRow.of(number, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Read the next non-blank record, or null at the end of the input.
+     * Empty unquoted fields are null; header names are trimmed.
+     */
+    private List<String> nextRecord() throws IOException {
+        while (true) {
+            recordError = null;
+            if (peek() < 0) {
+                return null;
+            }
+            List<String> fields = readRecord();
+            if (fields.size() > 1 || fields.get(0) != null) {
+                return header == null ? trimmed(fields) : fields;
+            }
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        boolean inQuotes = false;
+        while (true) {
+            int c = read();
+            if (inQuotes) {
+                if (c < 0) {
+                    recordError = "Unterminated quoted field";
+                    fields.add(field.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        position++;
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty() && !quoted) {
+                quoted = true;
+                inQuotes = true;
+            } else if (c == ',') {
+                fields.add(value(quoted));
+                field.setLength(0);
+                quoted = false;
+            } else if (c == '\n' || c == '\r' || c < 0) {
+                if (c == '\r' && peek() == '\n') {
+                    position++;
+                }
+                fields.add(value(quoted));
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private String value(boolean quoted) {
+        return field.isEmpty() && !quoted ? null : field.toString();
+    }
+
+    private static List<String> trimmed(List<String> names) {
+        List<String> trimmed = new ArrayList<>(names.size());
+        for (String name : names) {
+            trimmed.add(name == null || name.isBlank() ? null : name.trim());
+        }
+        return trimmed;
+    }
+
+    private int read() throws IOException {
+        int c = peek();
+        if (c >= 0) {
+            position++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit) {
+            limit = reader.read(buffer, 0, BUFFER_SIZE);
+            position = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[position];
+    }
+}
@@ -0,0 +1,97 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.alfano.gathorapp.event.EventChangedEvent;
+import com.alfano.gathorapp.event.dto.CreateEventRequest;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Imports events. Rows have the fields of {@link CreateEventRequest}; the
+ * creator is the job's owner or, in imports by admins, the business user
+ * whose email is in the {@code creatorEmail} field.
+ */
+@Component
+@RequiredArgsConstructor
+class EventRowImporter implements RowImporter {
+
+    static final String INSERT_SQL = "INSERT INTO events (id, title, description, location, latitude, longitude, "
+            + "event_date, creator_id, rating_sum, rating_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)";
+
+    private final RowBinder binder;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public ImportType type() {
+        return ImportType.EVENTS;
+    }
+
+    @Override
+    public List<Rejection> importRows(ImportJob job, List<ImportRow> rows) {
+        Map<String, UserRepository.UserRef> creators = job.getOwnerId() != null ? Map.of() : userRepository
+                .findRefsByEmailIn(rows.stream().map(row -> row.get("creatorEmail")).filter(Objects::nonNull).toList())
+                .stream()
+                .collect(Collectors.toMap(UserRepository.UserRef::getEmail, Function.identity()));
+
+        List<Rejection> rejections = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>(rows.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (ImportRow row : rows) {
+            try {
+                CreateEventRequest request = binder.bind(row, CreateEventRequest.class);
+                UUID creatorId = job.getOwnerId() != null ? job.getOwnerId() : creatorOf(row, creators);
+                inserts.add(new Object[] {
+                        UUID.randomUUID(),
+                        request.getTitle(),
+                        request.getDescription(),
+                        request.getLocation(),
+                        request.getLatitude(),
+                        request.getLongitude(),
+                        request.getEventDate(),
+                        creatorId,
+                        now,
+                        now
+                });
+            } catch (InvalidRowException e) {
+                rejections.add(new Rejection(row.number(), e.getMessage()));
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        for (Object[] insert : inserts) {
+            eventPublisher.publishEvent(new EventChangedEvent((UUID) insert[0], EventChangedEvent.Change.CREATED));
+        }
+        return rejections;
+    }
+
+    private static UUID creatorOf(ImportRow row, Map<String, UserRepository.UserRef> creators)
+            throws InvalidRowException {
+        String email = row.get("creatorEmail");
+        if (email == null) {
+            throw new InvalidRowException("Creator email is required");
+        }
+        UserRepository.UserRef creator = creators.get(email);
+        if (creator == null) {
+            throw new InvalidRowException("Unknown creator " + email);
+        }
+        if (creator.getRole() != Role.BUSINESS) {
+            throw new InvalidRowException("Creator " + email + " is not a business user");
+        }
+        return creator.getId();
+    }
+}
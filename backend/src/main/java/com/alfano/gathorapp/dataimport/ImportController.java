@@ -0,0 +1,121 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.alfano.gathorapp.dataimport.dto.ImportJobResponse;
+import com.alfano.gathorapp.dataimport.dto.ImportRowErrorResponse;
+import com.alfano.gathorapp.security.SecurityUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST Controller for bulk imports.
+ *
+ * Endpoints:
+ * - POST /api/imports/{type} → Upload a CSV or NDJSON file of users, events or outings
+ * - GET /api/imports → Get current user's imports
+ * - GET /api/imports/{id} → Get the progress of an import
+ * - GET /api/imports/{id}/errors → Get the rejected rows of an import
+ * - POST /api/imports/{id}/resume → Resume a failed import
+ */
+@Tag(name = "Imports", description = "Bulk data import APIs")
+@SecurityRequirement(name = "bearerAuth")
+@RestController
+@RequestMapping("/api/imports")
+@PreAuthorize("hasAnyRole('ADMIN', 'BUSINESS')")
+@RequiredArgsConstructor
+@Slf4j
+public class ImportController {
+
+    private final ImportService importService;
+
+    /**
+     * POST /api/imports/{type}
+     * Upload a file as the request body and queue its import.
+     */
+    @Operation(summary = "Import data",
+            description = "Upload a text/csv (with a header row) or application/x-ndjson file of users, events or outings. "
+                    + "Business users can only import their own events. The import runs in the background.")
+    @PostMapping(value = "/{type}", consumes = { "text/csv", "application/x-ndjson" })
+    public ResponseEntity<ImportJobResponse> submit(
+            @PathVariable("type") String type,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        UUID userId = securityUser.getUserId();
+        log.info("POST /api/imports/{} - User: {}", type, userId);
+
+        ImportJobResponse job = importService.submit(ImportType.fromPath(type), contentType, body, userId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * GET /api/imports
+     * Get the imports of the current user, newest first.
+     */
+    @Operation(summary = "Get my imports", description = "Get the imports uploaded by the current user, newest first")
+    @GetMapping
+    public ResponseEntity<List<ImportJobResponse>> getMyJobs(
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        UUID userId = securityUser.getUserId();
+        log.info("GET /api/imports - User: {}", userId);
+
+        return ResponseEntity.ok(importService.getMyJobs(userId));
+    }
+
+    /**
+     * GET /api/imports/{id}
+     * Get the status and progress of an import.
+     */
+    @Operation(summary = "Get import", description = "Get the status and progress of an import")
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobResponse> getJob(
+            @PathVariable("id") UUID id,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        UUID userId = securityUser.getUserId();
+        log.info("GET /api/imports/{} - User: {}", id, userId);
+
+        return ResponseEntity.ok(importService.getJob(id, userId));
+    }
+
+    /**
+     * GET /api/imports/{id}/errors
+     * Get the rows of an import that were rejected, and why.
+     */
+    @Operation(summary = "Get import errors", description = "Get the rejected rows of an import, in file order")
+    @GetMapping("/{id}/errors")
+    public ResponseEntity<List<ImportRowErrorResponse>> getErrors(
+            @PathVariable("id") UUID id,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        UUID userId = securityUser.getUserId();
+        log.info("GET /api/imports/{}/errors - User: {}", id, userId);
+
+        return ResponseEntity.ok(importService.getErrors(id, userId));
+    }
+
+    /**
+     * POST /api/imports/{id}/resume
+     * Resume a failed import after its last committed row.
+     */
+    @Operation(summary = "Resume import", description = "Queue a failed import again; it continues after its last committed row")
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<ImportJobResponse> resume(
+            @PathVariable("id") UUID id,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        UUID userId = securityUser.getUserId();
+        log.info("POST /api/imports/{}/resume - User: {}", id, userId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.resume(id, userId));
+    }
+}
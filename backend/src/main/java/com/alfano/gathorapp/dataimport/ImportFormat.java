@@ -0,0 +1,46 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.alfano.gathorapp.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+/**
+ * File format of a bulk import, chosen by the Content-Type of the upload.
+ */
+public enum ImportFormat {
+
+    /**
+     * Comma-separated values with a header row naming the fields (RFC 4180).
+     */
+    CSV("text/csv"),
+
+    /**
+     * Newline-delimited JSON: one object per line.
+     */
+    NDJSON("application/x-ndjson");
+
+    private final String mediaType;
+
+    ImportFormat(String mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Format of an upload with the given Content-Type.
+     */
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType type = MediaType.parseMediaType(contentType);
+            for (ImportFormat format : values()) {
+                if (MediaType.parseMediaType(format.mediaType).equalsTypeAndSubtype(type)) {
+                    return format;
+                }
+            }
+        }
+        throw new BadRequestException("Unsupported import format " + contentType
+                + ", expected " + CSV.mediaType + " or " + NDJSON.mediaType);
+    }
+}
@@ -0,0 +1,113 @@
+package com.alfano.gathorapp.dataimport;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A bulk import of one uploaded file.
+ *
+ * The file is kept on disk until the job completes. Rows are imported in
+ * chunks, and {@link #processedRows} is advanced in the transaction that
+ * inserts each chunk, so a failed or interrupted job resumes after the last
+ * committed chunk without importing a row twice.
+ */
+@Entity
+@Table(name = "import_jobs", indexes = {
+        @Index(name = "idx_import_job_requester", columnList = "requested_by, created_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ImportType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    @Builder.Default
+    private ImportStatus status = ImportStatus.QUEUED;
+
+    /**
+     * User who uploaded the file.
+     */
+    @Column(name = "requested_by", nullable = false)
+    private UUID requestedBy;
+
+    /**
+     * When set, every imported event is created by this user instead of the
+     * one named in its row (imports by business partners).
+     */
+    @Column(name = "owner_id")
+    private UUID ownerId;
+
+    /**
+     * Node the job is queued or running on, which holds its file. Only that
+     * node fails the job when it restarts.
+     */
+    @Column(length = 255)
+    private String node;
+
+    /**
+     * Uploaded file, in the import directory.
+     */
+    @Column(name = "file_path", nullable = false, length = 500)
+    private String filePath;
+
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    /**
+     * Data rows read and committed (imported or rejected); the resume point.
+     */
+    @Column(name = "processed_rows", nullable = false)
+    @Builder.Default
+    private Long processedRows = 0L;
+
+    @Column(name = "imported_rows", nullable = false)
+    @Builder.Default
+    private Long importedRows = 0L;
+
+    @Column(name = "failed_rows", nullable = false)
+    @Builder.Default
+    private Long failedRows = 0L;
+
+    /**
+     * Why the job failed, if it did.
+     */
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,68 @@
+package com.alfano.gathorapp.dataimport;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for ImportJob entity.
+ */
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+
+    List<ImportJob> findByRequestedByOrderByCreatedAtDesc(UUID requestedBy);
+
+    /**
+     * Move a job from one status to another and assign it to a node, only if
+     * it is still in the expected status; returns 0 if another worker or
+     * request got there first.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :to, j.node = :node, j.updatedAt = :now, j.errorMessage = NULL " +
+           "WHERE j.id = :id AND j.status IN :from")
+    int transition(@Param("id") UUID id, @Param("from") Collection<ImportStatus> from,
+            @Param("to") ImportStatus to, @Param("node") String node, @Param("now") LocalDateTime now);
+
+    /**
+     * Record a committed chunk, in the transaction that inserted it; returns
+     * 0, and the chunk must be rolled back, if the job is no longer running
+     * on the node.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.processedRows = :processedRows, " +
+           "j.importedRows = j.importedRows + :imported, j.failedRows = j.failedRows + :failed, " +
+           "j.updatedAt = :now WHERE j.id = :id AND j.node = :node " +
+           "AND j.status = com.alfano.gathorapp.dataimport.ImportStatus.RUNNING")
+    int recordChunk(@Param("id") UUID id, @Param("node") String node, @Param("processedRows") long processedRows,
+            @Param("imported") long imported, @Param("failed") long failed, @Param("now") LocalDateTime now);
+
+    /**
+     * Finish a job queued or running on the node.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = :status, j.errorMessage = :errorMessage, " +
+           "j.updatedAt = :now, j.finishedAt = :now WHERE j.id = :id AND j.node = :node " +
+           "AND j.status IN (com.alfano.gathorapp.dataimport.ImportStatus.QUEUED, " +
+           "com.alfano.gathorapp.dataimport.ImportStatus.RUNNING)")
+    int finish(@Param("id") UUID id, @Param("node") String node, @Param("status") ImportStatus status,
+            @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now);
+
+    /**
+     * Mark the jobs left queued or running on the node by its previous run
+     * as failed, so that they can be resumed. Other nodes' jobs are left alone.
+     */
+    @Modifying
+    @Query("UPDATE ImportJob j SET j.status = com.alfano.gathorapp.dataimport.ImportStatus.FAILED, " +
+           "j.errorMessage = :errorMessage, j.updatedAt = :now " +
+           "WHERE j.node = :node AND j.status IN (com.alfano.gathorapp.dataimport.ImportStatus.QUEUED, " +
+           "com.alfano.gathorapp.dataimport.ImportStatus.RUNNING)")
+    int failUnfinished(@Param("node") String node, @Param("errorMessage") String errorMessage,
+            @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,36 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.alfano.gathorapp.dataimport.dto.ImportJobResponse;
+import com.alfano.gathorapp.dataimport.dto.ImportRowErrorResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper for converting import entities to DTOs.
+ */
+@Component
+public class ImportMapper {
+
+    public ImportJobResponse toResponse(ImportJob job) {
+        return ImportJobResponse.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .fileSize(job.getFileSize())
+                .processedRows(job.getProcessedRows())
+                .importedRows(job.getImportedRows())
+                .failedRows(job.getFailedRows())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+
+    public ImportRowErrorResponse toResponse(ImportRowError error) {
+        return ImportRowErrorResponse.builder()
+                .rowNumber(error.getRowNumber())
+                .message(error.getMessage())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.alfano.gathorapp.dataimport;
+
+import java.util.UUID;
+
+/**
+ * Published when an import job is queued or resumed; the
+ * {@link ImportRunner} starts it once the transaction has committed.
+ */
+public record ImportQueuedEvent(UUID jobId) {
+}
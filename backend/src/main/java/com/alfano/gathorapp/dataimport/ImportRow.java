@@ -0,0 +1,25 @@
+package com.alfano.gathorapp.dataimport;
+
+import java.util.Map;
+
+/**
+ * A data row of an import file.
+ *
+ * @param number 1-based position among the data rows (the CSV header is not counted)
+ * @param values field values by name; empty fields are absent
+ * @param error why the row could not be read, in which case there are no values
+ */
+record ImportRow(long number, Map<String, String> values, String error) {
+
+    static ImportRow of(long number, Map<String, String> values) {
+        return new ImportRow(number, values, null);
+    }
+
+    static ImportRow malformed(long number, String error) {
+        return new ImportRow(number, Map.of(), error);
+    }
+
+    String get(String field) {
+        return values.get(field);
+    }
+}
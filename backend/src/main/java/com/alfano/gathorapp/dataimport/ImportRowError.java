@@ -0,0 +1,41 @@
+package com.alfano.gathorapp.dataimport;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * A row of an import that was rejected, and why.
+ */
+@Entity
+@Table(name = "import_row_errors", indexes = {
+        @Index(name = "idx_import_row_error_job", columnList = "job_id, row_num")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImportRowError {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private ImportJob job;
+
+    /**
+     * Number of the data row in the file, starting at 1 (the CSV header is not counted).
+     */
+    @Column(name = "row_num", nullable = false)
+    private Long rowNumber;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+}
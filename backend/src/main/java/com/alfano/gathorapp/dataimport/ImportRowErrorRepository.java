@@ -0,0 +1,16 @@
+package com.alfano.gathorapp.dataimport;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository for ImportRowError entity.
+ */
+@Repository
+public interface ImportRowErrorRepository extends JpaRepository<ImportRowError, UUID> {
+
+    List<ImportRowError> findByJobIdOrderByRowNumber(UUID jobId);
+}
@@ -0,0 +1,284 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.alfano.gathorapp.transaction.Transactions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs import jobs in the background, one at a time.
+ *
+ * The file is streamed and its rows are imported in chunks of
+ * {@code app.import.chunk-size}. Each chunk is one transaction: the
+ * importer's JDBC batch, the rejected rows and the job's progress are
+ * committed together, so a job that fails or is interrupted by a restart
+ * resumes after its last committed chunk. If a chunk's batch violates a
+ * constraint (e.g. an email registered meanwhile), its rows are imported
+ * again one by one and only the conflicting ones are rejected. At most
+ * {@code app.import.max-errors} rejected rows are kept per job; the others
+ * are only counted.
+ *
+ * Jobs run on the node that received them, which holds their file and is
+ * recorded on the job ({@code app.import.node-id}, the host name by default).
+ * On startup, the jobs left queued or running on this node are marked
+ * failed so that they can be resumed. A chunk only commits while its job is
+ * still running on this node, so a job resumed elsewhere meanwhile is never
+ * imported twice.
+ */
+@Component
+@Slf4j
+public class ImportRunner {
+
+    private final ImportJobRepository jobRepository;
+    private final ImportRowErrorRepository errorRepository;
+    private final Map<ImportType, RowImporter> importers = new EnumMap<>(ImportType.class);
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxErrors;
+    private final Executor executor;
+    private final String node;
+
+    private volatile boolean stopping;
+
+    @Autowired
+    public ImportRunner(
+            ImportJobRepository jobRepository,
+            ImportRowErrorRepository errorRepository,
+            List<RowImporter> importers,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.import.chunk-size:500}") int chunkSize,
+            @Value("${app.import.max-errors:1000}") int maxErrors,
+            @Value("${app.import.queue-capacity:100}") int queueCapacity,
+            @Value("${app.import.node-id:}") String node) {
+        this(jobRepository, errorRepository, importers, objectMapper, transactionManager, chunkSize, maxErrors,
+                node.isBlank() ? hostName() : node,
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<>(queueCapacity),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "import-runner");
+                            thread.setDaemon(true);
+                            return thread;
+                        }));
+    }
+
+    ImportRunner(ImportJobRepository jobRepository, ImportRowErrorRepository errorRepository,
+            List<RowImporter> importers, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+            int chunkSize, int maxErrors, String node, Executor executor) {
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        importers.forEach(importer -> this.importers.put(importer.type(), importer));
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+        this.executor = executor;
+        this.node = node;
+    }
+
+    /**
+     * This node, as recorded on the jobs it queues and runs.
+     */
+    String node() {
+        return node;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImportQueued(ImportQueuedEvent event) {
+        try {
+            executor.execute(() -> run(event.jobId()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Import queue is full, failing job {}", event.jobId());
+            finish(event.jobId(), ImportStatus.FAILED, "Too many imports queued, resume it later");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        Integer failed = transactionTemplate.execute(status ->
+                jobRepository.failUnfinished(node, "Interrupted by a restart, resume it to continue",
+                        LocalDateTime.now()));
+        if (failed != null && failed > 0) {
+            log.info("Marked {} interrupted import jobs as failed", failed);
+        }
+    }
+
+    /**
+     * Stop the running job after its current chunk; it is failed on this
+     * node's next startup and can then be resumed. Queued jobs are left as they are.
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        stopping = true;
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+            if (!service.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Import runner stopped with a chunk still being imported");
+            }
+        }
+    }
+
+    /**
+     * Run a queued job to completion, unless another worker already claimed it.
+     */
+    void run(UUID jobId) {
+        if (stopping) {
+            return;
+        }
+        Integer claimed = transactionTemplate.execute(status -> jobRepository.transition(
+                jobId, List.of(ImportStatus.QUEUED), ImportStatus.RUNNING, node, LocalDateTime.now()));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+        ImportJob job = jobRepository.findById(jobId).orElseThrow();
+        RowImporter importer = importers.get(job.getType());
+        Path file = Path.of(job.getFilePath());
+        log.info("Import {} of {} started after row {}", jobId, job.getType(), job.getProcessedRows());
+
+        try (RowReader reader = RowReader.open(job.getFormat(),
+                Files.newBufferedReader(file, StandardCharsets.UTF_8), objectMapper)) {
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                if (row.number() <= job.getProcessedRows()) {
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(job, importer, chunk);
+                    chunk.clear();
+                    if (stopping) {
+                        log.info("Import {} stopped by shutdown after row {}", jobId, job.getProcessedRows());
+                        return;
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, importer, chunk);
+            }
+        } catch (JobLostException e) {
+            log.warn("Import {} stopped after row {}: it is no longer running on this node",
+                    jobId, job.getProcessedRows());
+            return;
+        } catch (IOException | RuntimeException e) {
+            log.error("Import {} failed after row {}: {}", jobId, job.getProcessedRows(), e.getMessage(), e);
+            finish(jobId, ImportStatus.FAILED, e.getMessage());
+            return;
+        }
+
+        finish(jobId, ImportStatus.COMPLETED, null);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+        log.info("Import {} completed: {} rows imported, {} rejected",
+                jobId, job.getImportedRows(), job.getFailedRows());
+    }
+
+    private void importChunk(ImportJob job, RowImporter importer, List<ImportRow> rows) {
+        List<ImportRow> chunk = importer.prepare(rows);
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    commit(job, chunk, importer.importRows(job, chunk)));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Import {} chunk after row {} conflicts with existing data, importing its rows one by one",
+                    job.getId(), job.getProcessedRows());
+            for (ImportRow row : chunk) {
+                List<ImportRow> single = List.of(row);
+                try {
+                    transactionTemplate.executeWithoutResult(status ->
+                            commit(job, single, importer.importRows(job, single)));
+                } catch (DataIntegrityViolationException rowError) {
+                    transactionTemplate.executeWithoutResult(status -> commit(job, single, List.of(
+                            new RowImporter.Rejection(row.number(), "Conflicts with existing data"))));
+                }
+            }
+        }
+    }
+
+    /**
+     * Store the rejected rows and advance the job past the chunk, in the
+     * chunk's transaction. The job is updated in memory only once it commits.
+     */
+    private void commit(ImportJob job, List<ImportRow> chunk, List<RowImporter.Rejection> rejections) {
+        long kept = Math.min(job.getFailedRows(), maxErrors);
+        List<ImportRowError> errors = rejections.stream()
+                .sorted(Comparator.comparingLong(RowImporter.Rejection::rowNumber))
+                .limit(Math.max(0, maxErrors - kept))
+                .map(rejection -> ImportRowError.builder()
+                        .job(job)
+                        .rowNumber(rejection.rowNumber())
+                        .message(truncate(rejection.message()))
+                        .build())
+                .toList();
+        errorRepository.saveAll(errors);
+
+        long processed = chunk.get(chunk.size() - 1).number();
+        long imported = chunk.size() - rejections.size();
+        if (jobRepository.recordChunk(job.getId(), node, processed, imported, rejections.size(),
+                LocalDateTime.now()) == 0) {
+            throw new JobLostException();
+        }
+        Transactions.afterCommit(() -> {
+            job.setProcessedRows(processed);
+            job.setImportedRows(job.getImportedRows() + imported);
+            job.setFailedRows(job.getFailedRows() + rejections.size());
+        });
+    }
+
+    private void finish(UUID jobId, ImportStatus status, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx ->
+                jobRepository.finish(jobId, node, status, truncate(errorMessage), LocalDateTime.now()));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Cannot resolve the host name, set app.import.node-id", e);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+
+    /**
+     * The job was failed or resumed elsewhere while this node was importing it.
+     */
+    private static final class JobLostException extends RuntimeException {
+    }
+}
@@ -0,0 +1,196 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.alfano.gathorapp.dataimport.dto.ImportJobResponse;
+import com.alfano.gathorapp.dataimport.dto.ImportRowErrorResponse;
+import com.alfano.gathorapp.exception.BadRequestException;
+import com.alfano.gathorapp.exception.ForbiddenException;
+import com.alfano.gathorapp.exception.ResourceNotFoundException;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service for bulk imports.
+ *
+ * Admins can import users, events and outings. Business users can import
+ * events only, and always as their creator. The uploaded file is stored in
+ * {@code app.import.dir} and the job is queued for the {@link ImportRunner};
+ * its progress and rejected rows are then available until it is deleted.
+ */
+@Service
+@Slf4j
+public class ImportService {
+
+    private final ImportJobRepository jobRepository;
+    private final ImportRowErrorRepository errorRepository;
+    private final UserRepository userRepository;
+    private final ImportMapper importMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImportRunner importRunner;
+    private final Path directory;
+    private final long maxBytes;
+
+    public ImportService(
+            ImportJobRepository jobRepository,
+            ImportRowErrorRepository errorRepository,
+            UserRepository userRepository,
+            ImportMapper importMapper,
+            ApplicationEventPublisher eventPublisher,
+            ImportRunner importRunner,
+            @Value("${app.import.dir:data/imports}") String directory,
+            @Value("${app.import.max-bytes:104857600}") long maxBytes) {
+        this.jobRepository = jobRepository;
+        this.errorRepository = errorRepository;
+        this.userRepository = userRepository;
+        this.importMapper = importMapper;
+        this.eventPublisher = eventPublisher;
+        this.importRunner = importRunner;
+        this.directory = Path.of(directory);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Store an uploaded file and queue its import.
+     * Not transactional: the upload is copied before the job is saved.
+     */
+    public ImportJobResponse submit(ImportType type, String contentType, InputStream body, UUID userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (user.getRole() == Role.BUSINESS && type != ImportType.EVENTS) {
+            throw new ForbiddenException("Business users can only import events");
+        }
+        if (user.getRole() != Role.BUSINESS && user.getRole() != Role.ADMIN) {
+            throw new ForbiddenException("Only admins and business users can import data");
+        }
+        ImportFormat format = ImportFormat.fromContentType(contentType);
+
+        Path file = directory.resolve(UUID.randomUUID() + "." + format.name().toLowerCase());
+        long size = store(body, file);
+
+        ImportJob job = jobRepository.save(ImportJob.builder()
+                .type(type)
+                .format(format)
+                .requestedBy(userId)
+                .ownerId(user.getRole() == Role.BUSINESS ? userId : null)
+                .node(importRunner.node())
+                .filePath(file.toString())
+                .fileSize(size)
+                .build());
+        log.info("Import {} of {} queued by {} ({} bytes)", job.getId(), type, userId, size);
+        eventPublisher.publishEvent(new ImportQueuedEvent(job.getId()));
+        return importMapper.toResponse(job);
+    }
+
+    @Transactional(readOnly = true)
+    public ImportJobResponse getJob(UUID jobId, UUID userId) {
+        return importMapper.toResponse(findAccessible(jobId, userId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ImportJobResponse> getMyJobs(UUID userId) {
+        return jobRepository.findByRequestedByOrderByCreatedAtDesc(userId).stream()
+                .map(importMapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * Rejected rows of a job, in file order.
+     */
+    @Transactional(readOnly = true)
+    public List<ImportRowErrorResponse> getErrors(UUID jobId, UUID userId) {
+        findAccessible(jobId, userId);
+        return errorRepository.findByJobIdOrderByRowNumber(jobId).stream()
+                .map(importMapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * Queue a failed job again on this node; it continues after its last committed row.
+     */
+    @Transactional
+    public ImportJobResponse resume(UUID jobId, UUID userId) {
+        ImportJob job = findAccessible(jobId, userId);
+        if (!Files.exists(Path.of(job.getFilePath()))) {
+            throw new BadRequestException("The file of import " + jobId + " is no longer available");
+        }
+        if (jobRepository.transition(jobId, List.of(ImportStatus.FAILED), ImportStatus.QUEUED,
+                importRunner.node(), LocalDateTime.now()) == 0) {
+            throw new BadRequestException("Only failed imports can be resumed");
+        }
+        log.info("Import {} resumed after row {}", jobId, job.getProcessedRows());
+        eventPublisher.publishEvent(new ImportQueuedEvent(jobId));
+        ImportJobResponse response = importMapper.toResponse(job);
+        response.setStatus(ImportStatus.QUEUED);
+        response.setErrorMessage(null);
+        return response;
+    }
+
+    private ImportJob findAccessible(UUID jobId, UUID userId) {
+        ImportJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found with id: " + jobId));
+        if (!job.getRequestedBy().equals(userId)) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+            if (user.getRole() != Role.ADMIN) {
+                throw new ForbiddenException("You can only access your own imports");
+            }
+        }
+        return job;
+    }
+
+    /**
+     * Copy the upload to the file, up to {@code app.import.max-bytes}.
+     *
+     * @return the size of the file
+     */
+    private long store(InputStream body, Path file) {
+        long size = 0;
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream out = Files.newOutputStream(file)) {
+                byte[] buffer = new byte[65536];
+                int read;
+                while ((read = body.read(buffer)) >= 0) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new BadRequestException("Import files are limited to " + maxBytes + " bytes");
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (size == 0) {
+                throw new BadRequestException("Import file is empty");
+            }
+            return size;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException("Could not store import file", e);
+        } catch (RuntimeException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete import file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.alfano.gathorapp.dataimport;
+
+/**
+ * Lifecycle of an {@link ImportJob}.
+ */
+public enum ImportStatus {
+    QUEUED,     // Waiting for the import worker
+    RUNNING,    // Rows are being imported
+    COMPLETED,  // Every row was read; rejected rows are listed as row errors
+    FAILED      // Stopped early (unreadable file, interruption); can be resumed
+}
@@ -0,0 +1,25 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.alfano.gathorapp.exception.BadRequestException;
+
+import java.util.Locale;
+
+/**
+ * Kind of entity a bulk import creates.
+ */
+public enum ImportType {
+    USERS,
+    EVENTS,
+    OUTINGS;
+
+    /**
+     * Type named in an import URL, e.g. "events".
+     */
+    public static ImportType fromPath(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unknown import type " + name + ", expected users, events or outings");
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.alfano.gathorapp.dataimport;
+
+/**
+ * A row that cannot be imported; the message is reported to the uploader.
+ */
+class InvalidRowException extends Exception {
+
+    InvalidRowException(String message) {
+        super(message);
+    }
+}
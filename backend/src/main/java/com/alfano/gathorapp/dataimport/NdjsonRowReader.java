@@ -0,0 +1,62 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reader of newline-delimited JSON: each non-blank line is one row, a JSON
+ * object whose scalar members are the row's fields. Null members are absent.
+ */
+class NdjsonRowReader implements RowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long number;
+
+    NdjsonRowReader(Reader reader, ObjectMapper objectMapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        number++;
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return ImportRow.malformed(number, "Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ImportRow.malformed(number, "Expected a JSON object");
+        }
+        Map<String, String> values = new HashMap<>();
+        for (Map.Entry<String, JsonNode> member : node.properties()) {
+            JsonNode value = member.getValue();
+            if (!value.isNull()) {
+                values.put(member.getKey(), value.isValueNode() ? value.asText() : value.toString());
+            }
+        }
+        return ImportRow.of(number, values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
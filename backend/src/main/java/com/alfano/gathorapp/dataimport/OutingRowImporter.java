@@ -0,0 +1,107 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.alfano.gathorapp.event.EventRepository;
+import com.alfano.gathorapp.outing.OutingChangedEvent;
+import com.alfano.gathorapp.outing.OutingQuotas;
+import com.alfano.gathorapp.outing.dto.CreateOutingRequest;
+import com.alfano.gathorapp.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Imports outings. Rows have the fields of {@link CreateOutingRequest} and
+ * the email of the organizer in {@code organizerEmail}. Imports are run by
+ * admins, so the organizers' monthly limits are not enforced, but the
+ * imported outings count towards them.
+ */
+@Component
+@RequiredArgsConstructor
+class OutingRowImporter implements RowImporter {
+
+    static final String INSERT_SQL = "INSERT INTO outings (id, title, description, location, latitude, longitude, "
+            + "outing_date, max_participants, organizer_id, event_id, rating_sum, rating_count, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)";
+
+    private final RowBinder binder;
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final OutingQuotas outingQuotas;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public ImportType type() {
+        return ImportType.OUTINGS;
+    }
+
+    @Override
+    public List<Rejection> importRows(ImportJob job, List<ImportRow> rows) {
+        Map<String, UUID> organizers = userRepository
+                .findRefsByEmailIn(rows.stream().map(row -> row.get("organizerEmail")).filter(Objects::nonNull).toList())
+                .stream()
+                .collect(Collectors.toMap(UserRepository.UserRef::getEmail, UserRepository.UserRef::getId));
+
+        List<Rejection> rejections = new ArrayList<>();
+        Map<ImportRow, CreateOutingRequest> requests = new LinkedHashMap<>();
+        for (ImportRow row : rows) {
+            try {
+                requests.put(row, binder.bind(row, CreateOutingRequest.class));
+            } catch (InvalidRowException e) {
+                rejections.add(new Rejection(row.number(), e.getMessage()));
+            }
+        }
+        Set<UUID> events = new HashSet<>(eventRepository.findExistingIds(requests.values().stream()
+                .map(CreateOutingRequest::getEventId).filter(Objects::nonNull).collect(Collectors.toSet())));
+
+        List<Object[]> inserts = new ArrayList<>(requests.size());
+        Map<UUID, Integer> outingsPerOrganizer = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        requests.forEach((row, request) -> {
+            String email = row.get("organizerEmail");
+            UUID organizerId = email != null ? organizers.get(email) : null;
+            if (organizerId == null) {
+                rejections.add(new Rejection(row.number(),
+                        email == null ? "Organizer email is required" : "Unknown organizer " + email));
+            } else if (request.getEventId() != null && !events.contains(request.getEventId())) {
+                rejections.add(new Rejection(row.number(), "Unknown event " + request.getEventId()));
+            } else {
+                outingsPerOrganizer.merge(organizerId, 1, Integer::sum);
+                inserts.add(new Object[] {
+                        UUID.randomUUID(),
+                        request.getTitle(),
+                        request.getDescription(),
+                        request.getLocation(),
+                        request.getLatitude(),
+                        request.getLongitude(),
+                        request.getOutingDate(),
+                        request.getMaxParticipants(),
+                        organizerId,
+                        request.getEventId(),
+                        now,
+                        now
+                });
+            }
+        });
+
+        outingsPerOrganizer.forEach(outingQuotas::add);
+        jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        for (Object[] insert : inserts) {
+            eventPublisher.publishEvent(new OutingChangedEvent(
+                    (UUID) insert[0], (UUID) insert[9], OutingChangedEvent.Change.CREATED));
+        }
+        return rejections;
+    }
+}
@@ -0,0 +1,61 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Binds import rows to the request DTOs of the regular API and validates
+ * them with the same constraints, so that an imported row is accepted
+ * exactly when the equivalent request would be.
+ */
+@Component
+@RequiredArgsConstructor
+class RowBinder {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * Convert a row to the given type and validate it.
+     *
+     * @param unchecked properties whose constraints are not checked
+     * @throws InvalidRowException if the row is malformed, a value cannot be
+     *         converted or a constraint is violated
+     */
+    <T> T bind(ImportRow row, Class<T> type, String... unchecked) throws InvalidRowException {
+        if (row.error() != null) {
+            throw new InvalidRowException(row.error());
+        }
+        T value;
+        try {
+            value = objectMapper.convertValue(row.values(), type);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRowException(conversionError(e));
+        }
+        List<String> skipped = Arrays.asList(unchecked);
+        String violations = validator.validate(value).stream()
+                .filter(violation -> !skipped.contains(violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (!violations.isEmpty()) {
+            throw new InvalidRowException(violations);
+        }
+        return value;
+    }
+
+    private static String conversionError(IllegalArgumentException e) {
+        if (e.getCause() instanceof JsonMappingException mapping && !mapping.getPath().isEmpty()) {
+            return "Invalid value for " + mapping.getPath().get(mapping.getPath().size() - 1).getFieldName();
+        }
+        return "Invalid row: " + e.getMessage();
+    }
+}
@@ -0,0 +1,35 @@
+package com.alfano.gathorapp.dataimport;
+
+import java.util.List;
+
+/**
+ * Validates and inserts the rows of one {@link ImportType}.
+ */
+interface RowImporter {
+
+    ImportType type();
+
+    /**
+     * Do the work on a chunk that needs no database, before its transaction
+     * opens (and only once, even if its rows are then retried one by one).
+     *
+     * @return the chunk's rows, one for each given row and in the same order
+     */
+    default List<ImportRow> prepare(List<ImportRow> rows) {
+        return rows;
+    }
+
+    /**
+     * Import a chunk of rows in the caller's transaction: rows that pass
+     * validation are inserted in one JDBC batch, the others are rejected.
+     *
+     * @return the rejected rows; every other row was inserted
+     */
+    List<Rejection> importRows(ImportJob job, List<ImportRow> rows);
+
+    /**
+     * A row that was not imported, and why.
+     */
+    record Rejection(long rowNumber, String message) {
+    }
+}
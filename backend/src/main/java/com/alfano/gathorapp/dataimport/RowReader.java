@@ -0,0 +1,29 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Streams the data rows of an import file, one at a time, so that files of
+ * any size are read in constant memory.
+ */
+interface RowReader extends Closeable {
+
+    /**
+     * The next data row, or null at the end of the file. A row that cannot be
+     * parsed is returned with its error, and reading goes on with the next one.
+     *
+     * @throws IOException if the file cannot be read any further
+     */
+    ImportRow next() throws IOException;
+
+    static RowReader open(ImportFormat format, Reader reader, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRowReader(reader);
+            case NDJSON -> new NdjsonRowReader(reader, objectMapper);
+        };
+    }
+}
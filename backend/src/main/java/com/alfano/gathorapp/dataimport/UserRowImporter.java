@@ -0,0 +1,189 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.alfano.gathorapp.admin.StatsSnapshot;
+import com.alfano.gathorapp.auth.dto.RegisterRequest;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Imports users. Rows have the fields of {@link RegisterRequest}, an optional
+ * {@code role} (USER, PREMIUM or BUSINESS; USER by default) and either a
+ * plain {@code password}, which is hashed here, or a BCrypt
+ * {@code passwordHash} migrated from another system.
+ *
+ * BCrypt is slow by design: plain passwords are hashed in
+ * {@link #prepare(List)}, before the chunk's transaction holds a
+ * connection, on a pool of {@code app.import.hash-threads} threads.
+ */
+@Component
+class UserRowImporter implements RowImporter {
+
+    static final String INSERT_SQL = "INSERT INTO users (id, name, email, password_hash, role, banned, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, FALSE, ?, ?)";
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}");
+
+    private final RowBinder binder;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final StatsSnapshot statsSnapshot;
+    private final ExecutorService hashExecutor;
+
+    UserRowImporter(
+            RowBinder binder,
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            JdbcTemplate jdbcTemplate,
+            StatsSnapshot statsSnapshot,
+            @Value("${app.import.hash-threads:0}") int hashThreads) {
+        this.binder = binder;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.statsSnapshot = statsSnapshot;
+        AtomicInteger threads = new AtomicInteger();
+        this.hashExecutor = Executors.newFixedThreadPool(
+                hashThreads > 0 ? hashThreads : Runtime.getRuntime().availableProcessors(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "import-hash-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    @Override
+    public ImportType type() {
+        return ImportType.USERS;
+    }
+
+    /**
+     * Replace the plain password of every otherwise valid row with its hash.
+     * Invalid rows are left as they are and rejected by {@link #importRows}.
+     */
+    @Override
+    public List<ImportRow> prepare(List<ImportRow> rows) {
+        List<CompletableFuture<ImportRow>> hashed = rows.stream()
+                .map(row -> needsHash(row)
+                        ? CompletableFuture.supplyAsync(() -> withHash(row), hashExecutor)
+                        : CompletableFuture.completedFuture(row))
+                .toList();
+        return hashed.stream().map(CompletableFuture::join).toList();
+    }
+
+    private boolean needsHash(ImportRow row) {
+        if (row.get("passwordHash") != null || row.get("password") == null) {
+            return false;
+        }
+        try {
+            binder.bind(row, RegisterRequest.class);
+            roleOf(row.get("role"));
+            return true;
+        } catch (InvalidRowException e) {
+            return false;
+        }
+    }
+
+    private ImportRow withHash(ImportRow row) {
+        Map<String, String> values = new HashMap<>(row.values());
+        values.put("passwordHash", passwordEncoder.encode(values.remove("password")));
+        return ImportRow.of(row.number(), values);
+    }
+
+    @Override
+    public List<Rejection> importRows(ImportJob job, List<ImportRow> rows) {
+        Set<String> taken = userRepository
+                .findRefsByEmailIn(rows.stream().map(row -> row.get("email")).filter(Objects::nonNull).toList())
+                .stream()
+                .map(UserRepository.UserRef::getEmail)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<Rejection> rejections = new ArrayList<>();
+        List<NewUser> users = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            try {
+                users.add(toUser(row, taken));
+            } catch (InvalidRowException e) {
+                rejections.add(new Rejection(row.number(), e.getMessage()));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> inserts = users.stream()
+                .map(user -> new Object[] {
+                        UUID.randomUUID(),
+                        user.name(),
+                        user.email(),
+                        user.passwordHash() != null ? user.passwordHash() : passwordEncoder.encode(user.password()),
+                        user.role().name(),
+                        now,
+                        now
+                })
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        if (!inserts.isEmpty()) {
+            statsSnapshot.markChanged(StatsSnapshot.Domain.USERS);
+        }
+        return rejections;
+    }
+
+    private NewUser toUser(ImportRow row, Set<String> taken) throws InvalidRowException {
+        String passwordHash = row.get("passwordHash");
+        RegisterRequest request = passwordHash != null
+                ? binder.bind(row, RegisterRequest.class, "password")
+                : binder.bind(row, RegisterRequest.class);
+        if (passwordHash != null && !BCRYPT_HASH.matcher(passwordHash).matches()) {
+            throw new InvalidRowException("Password hash is not a BCrypt hash");
+        }
+        Role role = roleOf(row.get("role"));
+        if (!taken.add(request.getEmail())) {
+            throw new InvalidRowException("Email " + request.getEmail() + " is already registered");
+        }
+        return new NewUser(request.getName(), request.getEmail(), request.getPassword(), passwordHash, role);
+    }
+
+    private static Role roleOf(String value) throws InvalidRowException {
+        if (value == null) {
+            return Role.USER;
+        }
+        try {
+            Role role = Role.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            if (role != Role.ADMIN) {
+                return role;
+            }
+        } catch (IllegalArgumentException e) {
+            // Reported below
+        }
+        throw new InvalidRowException("Role must be USER, PREMIUM or BUSINESS");
+    }
+
+    private record NewUser(String name, String email, String password, String passwordHash, Role role) {
+    }
+}
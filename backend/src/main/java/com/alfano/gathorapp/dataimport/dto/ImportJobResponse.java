@@ -0,0 +1,34 @@
+package com.alfano.gathorapp.dataimport.dto;
+
+import com.alfano.gathorapp.dataimport.ImportFormat;
+import com.alfano.gathorapp.dataimport.ImportStatus;
+import com.alfano.gathorapp.dataimport.ImportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for ImportJob response: the job and its progress.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+    private UUID id;
+    private ImportType type;
+    private ImportFormat format;
+    private ImportStatus status;
+    private Long fileSize;
+    private Long processedRows;
+    private Long importedRows;
+    private Long failedRows;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+}
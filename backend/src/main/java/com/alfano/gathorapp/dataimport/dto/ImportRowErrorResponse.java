@@ -0,0 +1,18 @@
+package com.alfano.gathorapp.dataimport.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a rejected row of an import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowErrorResponse {
+    private Long rowNumber;
+    private String message;
+}
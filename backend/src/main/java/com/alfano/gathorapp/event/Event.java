@@ -2,6 +2,11 @@ package com.alfano.gathorapp.event;
 
 import com.alfano.gathorapp.user.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -10,13 +15,17 @@ import java.util.UUID;
 /**
  * Entity representing a public event created by a BUSINESS user.
  * Events can be concerts, workshops, exhibitions, organized aperitifs, etc.
+ * Cached in the "events" second-level cache region (see ehcache.xml).
  */
 @Entity
 @Table(name = "events", indexes = {
         @Index(name = "idx_event_date", columnList = "event_date"),
         @Index(name = "idx_event_creator", columnList = "creator_id"),
-        @Index(name = "idx_event_location", columnList = "latitude, longitude")
+        @Index(name = "idx_event_location", columnList = "latitude, longitude"),
+        // Latest change, for conditional requests
+        @Index(name = "idx_event_updated", columnList = "updated_at")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -65,6 +74,29 @@ public class Event {
     @JoinColumn(name = "creator_id", nullable = false)
     private User creator;
 
+    /**
+     * Sum of the ratings of the reviews of this event, maintained together
+     * with {@link #ratingCount} when a review is created so that lists can
+     * show the average without an aggregate query per row. Written only by
+     * {@link com.alfano.gathorapp.review.RatingAggregates} and the startup
+     * reconciliation, never by saving the entity; re-read after an update so
+     * that a stale instance does not put old values in the cache.
+     */
+    @ColumnDefault("0")
+    @Generated(event = EventType.UPDATE)
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    @Builder.Default
+    private Long ratingSum = 0L;
+
+    /**
+     * Number of reviews of this event.
+     */
+    @ColumnDefault("0")
+    @Generated(event = EventType.UPDATE)
+    @Column(name = "rating_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Long ratingCount = 0L;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -81,4 +113,14 @@ public class Event {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * Average rating of the reviews, or null if there are none.
+     */
+    public Double getAverageRating() {
+        if (ratingCount == null || ratingCount == 0) {
+            return null;
+        }
+        return (double) ratingSum / ratingCount;
+    }
 }
@@ -0,0 +1,17 @@
+package com.alfano.gathorapp.event;
+
+import java.util.UUID;
+
+/**
+ * Application event published by {@link EventService} whenever an event is
+ * created, updated or deleted. Listeners that keep derived state (caches)
+ * should react after the publishing transaction commits.
+ */
+public record EventChangedEvent(UUID eventId, Change change) {
+
+    public enum Change {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+}
@@ -65,6 +65,20 @@ public class EventController {
         return ResponseEntity.ok(events);
     }
 
+    /**
+     * GET /api/events/top-rated
+     * Get the best rated events.
+     */
+    @Operation(summary = "Get top rated events",
+            description = "Events with the highest average rating among those with at least minRatings reviews")
+    @GetMapping("/top-rated")
+    public ResponseEntity<List<EventResponse>> getTopRatedEvents(
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @RequestParam(name = "minRatings", defaultValue = "3") long minRatings) {
+        log.info("GET /api/events/top-rated - Fetching top {} rated events", limit);
+        return ResponseEntity.ok(eventService.getTopRatedEvents(limit, minRatings));
+    }
+
     /**
      * GET /api/events/{id}
      * Get event by ID.
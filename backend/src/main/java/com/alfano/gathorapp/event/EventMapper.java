@@ -23,6 +23,8 @@ public class EventMapper {
                 .latitude(event.getLatitude())
                 .longitude(event.getLongitude())
                 .eventDate(event.getEventDate())
+                .averageRating(event.getAverageRating())
+                .ratingCount(event.getRatingCount())
                 .creator(EventResponse.CreatorInfo.builder()
                         .id(event.getCreator().getId())
                         .name(event.getCreator().getName())
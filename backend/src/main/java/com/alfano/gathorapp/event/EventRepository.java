@@ -1,12 +1,16 @@
 package com.alfano.gathorapp.event;
 
+import com.alfano.gathorapp.conditional.ResourceStamp;
 import com.alfano.gathorapp.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -26,6 +30,12 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
      */
     List<Event> findByCreatorId(UUID creatorId);
 
+    /**
+     * Those of the given ids that belong to an event (for bulk imports).
+     */
+    @Query("SELECT e.id FROM Event e WHERE e.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
     /**
      * Find all upcoming events (event date after now).
      */
@@ -51,4 +61,61 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
      * Used for proximity search to filter only upcoming events.
      */
     List<Event> findByEventDateAfter(LocalDateTime date);
+
+    /**
+     * Version of all events, for conditional requests.
+     */
+    @Query("SELECT new com.alfano.gathorapp.conditional.ResourceStamp(COUNT(e), MAX(e.updatedAt)) FROM Event e")
+    ResourceStamp stamp();
+
+    /**
+     * Version of the upcoming events, for conditional requests.
+     * Changes as well when an event stops being upcoming.
+     */
+    @Query("SELECT new com.alfano.gathorapp.conditional.ResourceStamp(COUNT(e), MAX(e.updatedAt)) FROM Event e " +
+           "WHERE e.eventDate > :now")
+    ResourceStamp stampUpcoming(@Param("now") LocalDateTime now);
+
+    /**
+     * Version of one event and its creator, for conditional requests.
+     */
+    @Query("SELECT new com.alfano.gathorapp.conditional.ResourceStamp(COUNT(e), " +
+           "GREATEST(MAX(e.updatedAt), MAX(c.updatedAt))) " +
+           "FROM Event e JOIN e.creator c WHERE e.id = :id")
+    ResourceStamp stampById(@Param("id") UUID id);
+
+    /**
+     * Bring the rating aggregate of every event whose review count is out of
+     * sync back in line with its reviews.
+     */
+    @Modifying
+    @Query("UPDATE Event e SET " +
+           "e.ratingSum = (SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.event = e), " +
+           "e.ratingCount = (SELECT COUNT(r) FROM Review r WHERE r.event = e) " +
+           "WHERE e.ratingCount <> (SELECT COUNT(r) FROM Review r WHERE r.event = e)")
+    int recomputeRatings();
+
+    /**
+     * Find the events with the highest average rating among those with at
+     * least the given number of reviews.
+     */
+    @Query("SELECT e FROM Event e WHERE e.ratingCount >= :minRatings " +
+           "ORDER BY e.ratingSum * 1.0 / e.ratingCount DESC, e.ratingCount DESC")
+    List<Event> findTopRated(@Param("minRatings") long minRatings, Pageable pageable);
+
+    /**
+     * Count all events and the upcoming ones in a single scan (for admin
+     * statistics).
+     */
+    @Query("SELECT COUNT(e) AS total, COUNT(e) FILTER (WHERE e.eventDate > :now) AS upcoming FROM Event e")
+    EventCounts countTotalAndUpcoming(@Param("now") LocalDateTime now);
+
+    /**
+     * Projection of the event counts.
+     */
+    interface EventCounts {
+        long getTotal();
+
+        long getUpcoming();
+    }
 }
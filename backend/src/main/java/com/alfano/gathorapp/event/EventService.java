@@ -1,5 +1,6 @@
 package com.alfano.gathorapp.event;
 
+import com.alfano.gathorapp.config.CacheConfig;
 import com.alfano.gathorapp.event.dto.CreateEventRequest;
 import com.alfano.gathorapp.event.dto.EventResponse;
 import com.alfano.gathorapp.event.dto.UpdateEventRequest;
@@ -8,6 +9,9 @@ import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +29,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class EventService {
 
+    static final int MAX_TOP_RATED = 50;
+
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final EventMapper eventMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all events.
@@ -43,14 +50,32 @@ public class EventService {
 
     /**
      * Get all upcoming events.
+     * Cached briefly (see ehcache.xml) so that past events drop out quickly.
      */
+    @Cacheable(CacheConfig.UPCOMING_EVENTS)
     @Transactional(readOnly = true)
     public List<EventResponse> getUpcomingEvents() {
         log.debug("Fetching upcoming events");
         return eventRepository.findUpcomingEvents(LocalDateTime.now())
                 .stream()
                 .map(eventMapper::toResponse)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    /**
+     * Get the best rated events among those with at least minRatings reviews,
+     * ordered by their rating aggregate.
+     *
+     * @param limit number of events, clamped to [1, MAX_TOP_RATED]
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> getTopRatedEvents(int limit, long minRatings) {
+        log.debug("Fetching top {} rated events", limit);
+        int size = Math.max(1, Math.min(limit, MAX_TOP_RATED));
+        return eventRepository.findTopRated(minRatings, PageRequest.of(0, size))
+                .stream()
+                .map(eventMapper::toResponse)
+                .toList();
     }
 
     /**
@@ -97,6 +122,7 @@ public class EventService {
         Event event = eventMapper.toEntity(request, creator);
         Event savedEvent = eventRepository.save(event);
 
+        eventPublisher.publishEvent(new EventChangedEvent(savedEvent.getId(), EventChangedEvent.Change.CREATED));
         log.info("Event created successfully: {}", savedEvent.getId());
         return eventMapper.toResponse(savedEvent);
     }
@@ -133,6 +159,7 @@ public class EventService {
         }
 
         Event updatedEvent = eventRepository.save(event);
+        eventPublisher.publishEvent(new EventChangedEvent(updatedEvent.getId(), EventChangedEvent.Change.UPDATED));
         log.info("Event updated successfully: {}", updatedEvent.getId());
 
         return eventMapper.toResponse(updatedEvent);
@@ -156,6 +183,7 @@ public class EventService {
         }
 
         eventRepository.delete(event);
+        eventPublisher.publishEvent(new EventChangedEvent(eventId, EventChangedEvent.Change.DELETED));
         log.info("Event deleted successfully: {}", eventId);
     }
 }
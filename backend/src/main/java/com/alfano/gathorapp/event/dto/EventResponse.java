@@ -23,6 +23,8 @@ public class EventResponse {
     private Double latitude;
     private Double longitude;
     private LocalDateTime eventDate;
+    private Double averageRating; // Null if the event has no reviews
+    private Long ratingCount;
     private CreatorInfo creator;
     private LocalDateTime createdAt;
 
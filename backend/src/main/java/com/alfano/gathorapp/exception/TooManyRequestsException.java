@@ -0,0 +1,21 @@
+package com.alfano.gathorapp.exception;
+
+import lombok.Getter;
+
+/**
+ * Exception thrown when a client exceeds a rate limit.
+ * This exception will be mapped to HTTP 429 status by the GlobalExceptionHandler.
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    /**
+     * Suggested delay before the client retries, in seconds.
+     */
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,82 @@
+package com.alfano.gathorapp.map;
+
+import com.alfano.gathorapp.exception.BadRequestException;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * A discovery request snapped to a geo-cell and a time bucket.
+ *
+ * Nearby callers in the same few minutes produce equal queries, so the
+ * ranking is computed once per cell and bucket and served from the
+ * outing-discovery cache. The search is centered on the cell, which moves it
+ * by at most half a cell diagonal (under 1 km).
+ *
+ * @param latitude    Latitude of the cell center
+ * @param longitude   Longitude of the cell center
+ * @param radiusKm    Search radius in kilometers
+ * @param windowStart Start of the time bucket; outings after it are considered
+ * @param days        Length of the date window in days
+ * @param limit       Number of results
+ */
+public record DiscoveryQuery(
+        double latitude,
+        double longitude,
+        double radiusKm,
+        LocalDateTime windowStart,
+        int days,
+        int limit) {
+
+    /**
+     * Size of a geo-cell in degrees (about 1.1 km of latitude).
+     */
+    static final double CELL_DEGREES = 0.01;
+
+    /**
+     * Size of a time bucket in minutes; matches the cache TTL in ehcache.xml.
+     */
+    static final int BUCKET_MINUTES = 5;
+
+    static final double MAX_RADIUS_KM = 100.0;
+    static final int MAX_DAYS = 90;
+    static final int MAX_LIMIT = 50;
+
+    /**
+     * Validate a request and snap it to its cell and bucket.
+     */
+    public static DiscoveryQuery of(double latitude, double longitude, double radiusKm, int days, int limit,
+            LocalDateTime now) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Invalid coordinates");
+        }
+        if (!(radiusKm > 0)) {
+            throw new BadRequestException("radiusKm must be positive");
+        }
+
+        LocalDateTime truncated = now.truncatedTo(ChronoUnit.HOURS);
+        long bucket = ChronoUnit.MINUTES.between(truncated, now) / BUCKET_MINUTES;
+
+        return new DiscoveryQuery(
+                snap(latitude),
+                snap(longitude),
+                Math.min(radiusKm, MAX_RADIUS_KM),
+                truncated.plusMinutes(bucket * BUCKET_MINUTES),
+                Math.max(1, Math.min(days, MAX_DAYS)),
+                Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    /**
+     * End of the date window.
+     */
+    public LocalDateTime windowEnd() {
+        return windowStart.plusDays(days);
+    }
+
+    private static double snap(double degrees) {
+        // The tolerance puts values on a cell edge (9.19 / 0.01 = 918.99...) into the cell they start,
+        // the rounding keeps cache keys free of floating point noise
+        long cell = (long) Math.floor(degrees / CELL_DEGREES + 1e-9);
+        return Math.round((cell + 0.5) * CELL_DEGREES * 1e6) / 1e6;
+    }
+}
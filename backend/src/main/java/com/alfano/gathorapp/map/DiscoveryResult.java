@@ -0,0 +1,32 @@
+package com.alfano.gathorapp.map;
+
+import com.alfano.gathorapp.outing.dto.OutingResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one ranked outing returned by discovery.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DiscoveryResult {
+
+    /**
+     * The outing itself.
+     */
+    private OutingResponse outing;
+
+    /**
+     * Distance from the searched cell, in kilometers.
+     */
+    private double distanceKm;
+
+    /**
+     * Combined score between 0 and 1; results are sorted by it.
+     */
+    private double score;
+}
@@ -0,0 +1,139 @@
+package com.alfano.gathorapp.map;
+
+import com.alfano.gathorapp.config.CacheConfig;
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingMapper;
+import com.alfano.gathorapp.outing.OutingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranks upcoming outings around a location for discovery.
+ *
+ * Each outing in the radius and date window gets a score between 0 and 1
+ * that combines:
+ * - proximity: 1 at the center, 0 at the edge of the radius
+ * - rating: the review average, pulled towards a neutral prior while there
+ *   are few reviews so that a single 5-star review does not dominate
+ * - popularity: approved participants, saturating as the count grows
+ *
+ * Candidates come from a bounding-box query on the location index and are
+ * scored from their aggregate columns; a min-heap of the requested size keeps
+ * the best ones, so only the results are loaded and mapped. Rankings are
+ * cached per geo-cell and time bucket (see {@link DiscoveryQuery}).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DiscoveryService {
+
+    static final double PROXIMITY_WEIGHT = 0.4;
+    static final double RATING_WEIGHT = 0.35;
+    static final double POPULARITY_WEIGHT = 0.25;
+
+    /**
+     * Neutral rating that outings without many reviews are pulled towards,
+     * and the number of reviews it counts for.
+     */
+    static final double PRIOR_RATING = 3.0;
+    static final double PRIOR_REVIEWS = 5.0;
+
+    /**
+     * Participant count that earns half of the popularity score.
+     */
+    static final double HALF_POPULARITY = 5.0;
+
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private final OutingRepository outingRepository;
+    private final OutingMapper outingMapper;
+
+    /**
+     * Find the best-scoring outings for a query, best first.
+     */
+    @Cacheable(CacheConfig.OUTING_DISCOVERY)
+    @Transactional(readOnly = true)
+    public List<DiscoveryResult> discover(DiscoveryQuery query) {
+        double latDelta = query.radiusKm() / KM_PER_DEGREE;
+        double cosLat = Math.cos(Math.toRadians(query.latitude()));
+        // Near the poles the box spans every longitude
+        double lonDelta = cosLat > 1e-6 ? query.radiusKm() / (KM_PER_DEGREE * cosLat) : 180;
+
+        List<OutingRepository.DiscoveryCandidate> candidates = outingRepository.findDiscoveryCandidates(
+                query.latitude() - latDelta, query.latitude() + latDelta,
+                query.longitude() - lonDelta, query.longitude() + lonDelta,
+                query.windowStart(), query.windowEnd());
+        log.debug("Ranking {} discovery candidates around ({}, {})",
+                candidates.size(), query.latitude(), query.longitude());
+
+        // Min-heap of the best results so far; its head is the first to drop
+        Comparator<Scored> worstFirst = Comparator.comparingDouble(Scored::score)
+                .thenComparing(Comparator.comparingDouble(Scored::distanceKm).reversed())
+                .thenComparing(Scored::id);
+        PriorityQueue<Scored> best = new PriorityQueue<>(query.limit() + 1, worstFirst);
+        for (OutingRepository.DiscoveryCandidate candidate : candidates) {
+            if (candidate.getLatitude() == null || candidate.getLongitude() == null) {
+                continue;
+            }
+            double distance = MapService.calculateDistance(query.latitude(), query.longitude(),
+                    candidate.getLatitude(), candidate.getLongitude());
+            if (distance > query.radiusKm()) {
+                continue;
+            }
+            best.offer(new Scored(candidate.getId(), distance, score(candidate, distance, query.radiusKm())));
+            if (best.size() > query.limit()) {
+                best.poll();
+            }
+        }
+
+        List<Scored> ranked = new ArrayList<>(best);
+        ranked.sort(Collections.reverseOrder(worstFirst));
+
+        Map<UUID, Outing> outings = outingRepository.findAllById(ranked.stream().map(Scored::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Outing::getId, Function.identity()));
+        return ranked.stream()
+                .filter(scored -> outings.containsKey(scored.id()))
+                .map(scored -> DiscoveryResult.builder()
+                        .outing(outingMapper.toResponse(outings.get(scored.id())))
+                        .distanceKm(scored.distanceKm())
+                        .score(scored.score())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Combined score of a candidate at the given distance.
+     */
+    static double score(OutingRepository.DiscoveryCandidate candidate, double distanceKm, double radiusKm) {
+        double proximity = Math.max(0, 1 - distanceKm / radiusKm);
+
+        long ratingSum = candidate.getRatingSum() != null ? candidate.getRatingSum() : 0;
+        long ratingCount = candidate.getRatingCount() != null ? candidate.getRatingCount() : 0;
+        double rating = (ratingSum + PRIOR_RATING * PRIOR_REVIEWS) / (ratingCount + PRIOR_REVIEWS) / 5.0;
+
+        int participants = candidate.getParticipantCount() != null ? candidate.getParticipantCount() : 0;
+        double popularity = participants / (participants + HALF_POPULARITY);
+
+        return PROXIMITY_WEIGHT * proximity + RATING_WEIGHT * rating + POPULARITY_WEIGHT * popularity;
+    }
+
+    /**
+     * A scored candidate kept in the heap.
+     */
+    private record Scored(UUID id, double distanceKm, double score) {
+    }
+}
@@ -10,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -18,6 +19,7 @@ import java.util.List;
  * Provides endpoints for:
  * - Finding nearby events based on coordinates
  * - Finding nearby outings based on coordinates
+ * - Discovering the best nearby outings, ranked by distance, rating and popularity
  * - Location autocomplete (future integration with OpenStreetMap Nominatim API)
  */
 @Tag(name = "Map", description = "Geolocation and map APIs")
@@ -29,6 +31,7 @@ import java.util.List;
 public class MapController {
 
     private final MapService mapService;
+    private final DiscoveryService discoveryService;
 
     /**
      * GET /api/map/events/nearby
@@ -82,6 +85,34 @@ public class MapController {
         return ResponseEntity.ok(outings);
     }
 
+    /**
+     * GET /api/map/outings/discover
+     * Rank upcoming outings around given coordinates by a combined score.
+     *
+     * @param latitude User's latitude
+     * @param longitude User's longitude
+     * @param radiusKm Search radius in kilometers (default: 10km, at most 100km)
+     * @param days Date window in days from now (default: 14, at most 90)
+     * @param limit Maximum number of results (default: 20, at most 50)
+     * @return Best outings first, with their distance and score
+     */
+    @Operation(summary = "Discover outings",
+               description = "Top outings in a radius and date window, ranked by proximity, reviews and participants")
+    @GetMapping("/outings/discover")
+    public ResponseEntity<List<DiscoveryResult>> discoverOutings(
+            @RequestParam("latitude") Double latitude,
+            @RequestParam("longitude") Double longitude,
+            @RequestParam(name = "radiusKm", defaultValue = "10.0") Double radiusKm,
+            @RequestParam(name = "days", defaultValue = "14") Integer days,
+            @RequestParam(name = "limit", defaultValue = "20") Integer limit) {
+
+        log.info("GET /api/map/outings/discover - lat: {}, lon: {}, radius: {}km, days: {}, limit: {}",
+                 latitude, longitude, radiusKm, days, limit);
+
+        DiscoveryQuery query = DiscoveryQuery.of(latitude, longitude, radiusKm, days, limit, LocalDateTime.now());
+        return ResponseEntity.ok(discoveryService.discover(query));
+    }
+
     /**
      * GET /api/map/geocode
      * Search for location coordinates by address/place name.
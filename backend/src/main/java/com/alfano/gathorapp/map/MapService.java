@@ -206,7 +206,7 @@ public class MapService {
      * @param lon2 Longitude of point 2
      * @return Distance in kilometers
      */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
+    static double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
         double dLat = Math.toRadians(lat2 - lat1);
         double dLon = Math.toRadians(lon2 - lon1);
 
@@ -1,5 +1,6 @@
 package com.alfano.gathorapp.notification;
 
+import com.alfano.gathorapp.conditional.ResourceStamp;
 import com.alfano.gathorapp.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -51,4 +52,12 @@ public interface NotificationRepository extends JpaRepository<Notification, UUID
      * Find notifications by type for a user.
      */
     List<Notification> findByUserIdAndType(UUID userId, NotificationType type);
+
+    /**
+     * Version of a user's notifications, for conditional requests.
+     * Reading a notification sets readAt, so it changes the version too.
+     */
+    @Query("SELECT new com.alfano.gathorapp.conditional.ResourceStamp(COUNT(n), MAX(COALESCE(n.readAt, n.createdAt))) " +
+           "FROM Notification n WHERE n.user.id = :userId")
+    ResourceStamp stampByUserId(@Param("userId") UUID userId);
 }
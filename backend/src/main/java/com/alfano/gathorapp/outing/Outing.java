@@ -3,6 +3,9 @@ package com.alfano.gathorapp.outing;
 import com.alfano.gathorapp.event.Event;
 import com.alfano.gathorapp.user.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -18,9 +21,12 @@ import java.util.UUID;
 @Entity
 @Table(name = "outings", indexes = {
         @Index(name = "idx_outing_date", columnList = "outing_date"),
-        @Index(name = "idx_outing_organizer", columnList = "organizer_id"),
+        // Serves lookups by organizer and the monthly quota range count
+        @Index(name = "idx_outing_organizer_created", columnList = "organizer_id, created_at"),
         @Index(name = "idx_outing_event", columnList = "event_id"),
-        @Index(name = "idx_outing_location", columnList = "latitude, longitude")
+        @Index(name = "idx_outing_location", columnList = "latitude, longitude"),
+        // Latest change, for conditional requests
+        @Index(name = "idx_outing_updated", columnList = "updated_at")
 })
 @Getter
 @Setter
@@ -87,7 +93,10 @@ public class Outing {
     /**
      * Users who have joined this outing as participants.
      * Does not include the organizer.
+     * The participant ids are kept in the second-level cache; the users
+     * themselves come from the users region.
      */
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "outing-participants")
     @ManyToMany
     @JoinTable(
         name = "outing_participants",
@@ -97,7 +106,27 @@ public class Outing {
     @Builder.Default
     private Set<User> participants = new HashSet<>();
 
-    @Column(nullable = false, updatable = false)
+    /**
+     * Sum of the ratings of the reviews of this outing, maintained together
+     * with {@link #ratingCount} when a review is created so that lists can
+     * show the average without an aggregate query per row. Written only by
+     * {@link com.alfano.gathorapp.review.RatingAggregates} and the startup
+     * reconciliation, never by saving the entity.
+     */
+    @ColumnDefault("0")
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    @Builder.Default
+    private Long ratingSum = 0L;
+
+    /**
+     * Number of reviews of this outing.
+     */
+    @ColumnDefault("0")
+    @Column(name = "rating_count", nullable = false, updatable = false)
+    @Builder.Default
+    private Long ratingCount = 0L;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(nullable = false)
@@ -123,20 +152,30 @@ public class Outing {
 
     /**
      * Add a participant to this outing.
+     * Touches updatedAt, which also versions the participant list.
      * @param user User to add
      * @return true if added, false if already present
      */
     public boolean addParticipant(User user) {
-        return participants.add(user);
+        boolean added = participants.add(user);
+        if (added) {
+            updatedAt = LocalDateTime.now();
+        }
+        return added;
     }
 
     /**
      * Remove a participant from this outing.
+     * Touches updatedAt, which also versions the participant list.
      * @param user User to remove
      * @return true if removed, false if not present
      */
     public boolean removeParticipant(User user) {
-        return participants.remove(user);
+        boolean removed = participants.remove(user);
+        if (removed) {
+            updatedAt = LocalDateTime.now();
+        }
+        return removed;
     }
 
     /**
@@ -163,4 +202,14 @@ public class Outing {
     public boolean isFull() {
         return getCurrentParticipantCount() >= maxParticipants;
     }
+
+    /**
+     * Average rating of the reviews, or null if there are none.
+     */
+    public Double getAverageRating() {
+        if (ratingCount == null || ratingCount == 0) {
+            return null;
+        }
+        return (double) ratingSum / ratingCount;
+    }
 }
@@ -0,0 +1,20 @@
+package com.alfano.gathorapp.outing;
+
+import java.util.UUID;
+
+/**
+ * Application event published by {@link OutingService} whenever an outing is
+ * created or deleted, or its participants change. Listeners that keep
+ * derived state (caches) should react after the publishing transaction
+ * commits.
+ *
+ * @param eventId the linked event, or null for independent outings
+ */
+public record OutingChangedEvent(UUID outingId, UUID eventId, Change change) {
+
+    public enum Change {
+        CREATED,
+        PARTICIPANTS_CHANGED,
+        DELETED
+    }
+}
@@ -3,6 +3,7 @@ package com.alfano.gathorapp.outing;
 import com.alfano.gathorapp.outing.dto.CreateOutingRequest;
 import com.alfano.gathorapp.outing.dto.OutingResponse;
 import com.alfano.gathorapp.security.SecurityUser;
+import com.alfano.gathorapp.streaming.JsonArrayStreamer;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -39,17 +41,17 @@ import java.util.UUID;
 public class OutingController {
 
     private final OutingService outingService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     /**
      * GET /api/outings
-     * Get all outings.
+     * Get all outings, streamed as a JSON array.
      */
     @Operation(summary = "Get all outings")
     @GetMapping
-    public ResponseEntity<List<OutingResponse>> getAllOutings() {
+    public ResponseEntity<StreamingResponseBody> getAllOutings() {
         log.info("GET /api/outings - Fetching all outings");
-        List<OutingResponse> outings = outingService.getAllOutings();
-        return ResponseEntity.ok(outings);
+        return jsonArrayStreamer.<OutingResponse>ok(outingService::streamAllOutings);
     }
 
     /**
@@ -64,6 +66,20 @@ public class OutingController {
         return ResponseEntity.ok(outings);
     }
 
+    /**
+     * GET /api/outings/top-rated
+     * Get the best rated outings.
+     */
+    @Operation(summary = "Get top rated outings",
+            description = "Outings with the highest average rating among those with at least minRatings reviews")
+    @GetMapping("/top-rated")
+    public ResponseEntity<List<OutingResponse>> getTopRatedOutings(
+            @RequestParam(name = "limit", defaultValue = "10") int limit,
+            @RequestParam(name = "minRatings", defaultValue = "3") long minRatings) {
+        log.info("GET /api/outings/top-rated - Fetching top {} rated outings", limit);
+        return ResponseEntity.ok(outingService.getTopRatedOutings(limit, minRatings));
+    }
+
     /**
      * GET /api/outings/{id}
      * Get outing by ID.
@@ -51,6 +51,8 @@ public class OutingMapper {
                 .participants(participantList)
                 .isParticipant(isParticipant)
                 .isFull(outing.isFull())
+                .averageRating(outing.getAverageRating())
+                .ratingCount(outing.getRatingCount())
                 .organizer(OutingResponse.OrganizerInfo.builder()
                         .id(outing.getOrganizer().getId())
                         .name(outing.getOrganizer().getName())
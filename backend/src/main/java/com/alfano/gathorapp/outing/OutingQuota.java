@@ -0,0 +1,40 @@
+package com.alfano.gathorapp.outing;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Number of outings an organizer created in one calendar month, kept by
+ * {@link OutingQuotas} so that the monthly limit is checked without counting
+ * the organizer's outings.
+ */
+@Entity
+@Table(name = "outing_quotas", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outing_quota", columnNames = { "organizer_id", "month_start" })
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutingQuota {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "organizer_id", nullable = false)
+    private UUID organizerId;
+
+    /**
+     * First day of the month.
+     */
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "outing_count", nullable = false)
+    private Integer count;
+}
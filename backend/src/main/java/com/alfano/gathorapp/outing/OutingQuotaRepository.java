@@ -0,0 +1,45 @@
+package com.alfano.gathorapp.outing;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository for OutingQuota entity.
+ */
+@Repository
+public interface OutingQuotaRepository extends JpaRepository<OutingQuota, UUID> {
+
+    @Query("SELECT q.count FROM OutingQuota q WHERE q.organizerId = :organizerId AND q.monthStart = :month")
+    Optional<Integer> findCount(@Param("organizerId") UUID organizerId, @Param("month") LocalDate month);
+
+    /**
+     * Increment the counter only if it still holds the expected value.
+     */
+    @Modifying
+    @Query("UPDATE OutingQuota q SET q.count = q.count + 1 " +
+           "WHERE q.organizerId = :organizerId AND q.monthStart = :month AND q.count = :expected")
+    int compareAndIncrement(@Param("organizerId") UUID organizerId, @Param("month") LocalDate month,
+            @Param("expected") int expected);
+
+    @Modifying
+    @Query("UPDATE OutingQuota q SET q.count = q.count + :outings " +
+           "WHERE q.organizerId = :organizerId AND q.monthStart = :month")
+    int add(@Param("organizerId") UUID organizerId, @Param("month") LocalDate month,
+            @Param("outings") int outings);
+
+    @Modifying
+    @Query("UPDATE OutingQuota q SET q.count = q.count - 1 " +
+           "WHERE q.organizerId = :organizerId AND q.monthStart = :month AND q.count > 0")
+    int decrement(@Param("organizerId") UUID organizerId, @Param("month") LocalDate month);
+
+    @Modifying
+    @Query("DELETE FROM OutingQuota q WHERE q.monthStart < :month")
+    int deleteBefore(@Param("month") LocalDate month);
+}
@@ -0,0 +1,163 @@
+package com.alfano.gathorapp.outing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.LongPredicate;
+
+/**
+ * Monthly outing counters per organizer, behind the limits of
+ * {@link com.alfano.gathorapp.pattern.strategy.UserLimitationStrategy}.
+ *
+ * A counter row is seeded once per organizer and month with a range count on
+ * the (organizer_id, created_at) index. From then on, creating an outing
+ * reads the counter by key and increments it with a compare-and-set UPDATE.
+ * Seed and increment happen in the creating transaction, on its connection,
+ * so a failed create also rolls them back. When two creates race for the
+ * last slot, only one UPDATE still finds the value it read. The other
+ * re-reads the counter and is checked again, on any node. Deleting an
+ * outing decrements the counter of the month it was created in.
+ */
+@Component
+@Slf4j
+public class OutingQuotas {
+
+    /**
+     * Compare-and-set attempts before giving up; each failed attempt means
+     * another create for the same organizer committed meanwhile.
+     */
+    static final int MAX_ATTEMPTS = 20;
+
+    static final String SEED_SQL = "INSERT INTO outing_quotas (id, organizer_id, month_start, outing_count) "
+            + "SELECT ?, ?, ?, ? WHERE NOT EXISTS "
+            + "(SELECT 1 FROM outing_quotas WHERE organizer_id = ? AND month_start = ?)";
+
+    private final OutingQuotaRepository quotaRepository;
+    private final OutingRepository outingRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutingQuotas(OutingQuotaRepository quotaRepository, OutingRepository outingRepository,
+            JdbcTemplate jdbcTemplate) {
+        this.quotaRepository = quotaRepository;
+        this.outingRepository = outingRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Count a new outing against the organizer's current month if allowed.
+     * Must run in the transaction that creates the outing.
+     *
+     * @param allowed decides from the number of outings already created this month
+     * @return false if the outing is not allowed, and nothing was counted
+     * @throws ConcurrencyFailureException if the counter keeps changing concurrently
+     */
+    public boolean tryAcquire(UUID organizerId, LongPredicate allowed) {
+        LocalDate month = monthOf(LocalDateTime.now());
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            int count = current(organizerId, month);
+            if (!allowed.test(count)) {
+                return false;
+            }
+            if (quotaRepository.compareAndIncrement(organizerId, month, count) > 0) {
+                return true;
+            }
+            log.debug("Outing quota of {} changed concurrently, reading it again", organizerId);
+        }
+        throw new ConcurrencyFailureException("Outing quota of " + organizerId
+                + " changed concurrently " + MAX_ATTEMPTS + " times, try again");
+    }
+
+    /**
+     * Count a new outing that is not subject to the limit.
+     */
+    public void acquire(UUID organizerId) {
+        tryAcquire(organizerId, count -> true);
+    }
+
+    /**
+     * Count outings created without a limit check, such as bulk imports.
+     * Must run in the transaction that creates them, before they are inserted.
+     */
+    public void add(UUID organizerId, int outings) {
+        LocalDate month = monthOf(LocalDateTime.now());
+        current(organizerId, month);
+        quotaRepository.add(organizerId, month, outings);
+    }
+
+    /**
+     * Give back the slot of a deleted outing.
+     */
+    public void release(Outing outing) {
+        if (outing.getCreatedAt() != null) {
+            quotaRepository.decrement(outing.getOrganizer().getId(), monthOf(outing.getCreatedAt()));
+        }
+    }
+
+    /**
+     * Number of outings the organizer created in the month.
+     */
+    int current(UUID organizerId, LocalDate month) {
+        return quotaRepository.findCount(organizerId, month)
+                .orElseGet(() -> seed(organizerId, month));
+    }
+
+    /**
+     * Drop the counters of past months, once a month.
+     */
+    @Scheduled(cron = "0 30 3 1 * *")
+    @Transactional
+    public void purgePastMonths() {
+        int deleted = quotaRepository.deleteBefore(monthOf(LocalDateTime.now()));
+        log.info("Deleted {} outing quota counters of past months", deleted);
+    }
+
+    /**
+     * Create the counter from the outings already in the database, in the
+     * caller's transaction and on its connection, so that seeding never needs
+     * a second connection. The insert runs under a savepoint: losing the race
+     * to a concurrent seed leaves the caller's transaction usable.
+     */
+    private int seed(UUID organizerId, LocalDate month) {
+        long created = outingRepository.countCreatedBetween(organizerId,
+                month.atStartOfDay(), month.plusMonths(1).atStartOfDay());
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(SEED_SQL)) {
+                insert.setObject(1, UUID.randomUUID());
+                insert.setObject(2, organizerId);
+                insert.setObject(3, month);
+                insert.setInt(4, (int) created);
+                insert.setObject(5, organizerId);
+                insert.setObject(6, month);
+                insert.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                connection.rollback(savepoint);
+                if (!(jdbcTemplate.getExceptionTranslator().translate("seed", SEED_SQL, e)
+                        instanceof DataIntegrityViolationException)) {
+                    throw e;
+                }
+                log.debug("Outing quota of {} for {} seeded concurrently", organizerId, month);
+            }
+            return null;
+        });
+        return quotaRepository.findCount(organizerId, month)
+                .orElseThrow(() -> new IllegalStateException("Outing quota of " + organizerId + " not seeded"));
+    }
+
+    private static LocalDate monthOf(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().withDayOfMonth(1);
+    }
+}
@@ -1,15 +1,22 @@
 package com.alfano.gathorapp.outing;
 
+import com.alfano.gathorapp.conditional.ResourceStamp;
 import com.alfano.gathorapp.event.Event;
 import com.alfano.gathorapp.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for Outing entity.
@@ -50,18 +57,121 @@ public interface OutingRepository extends JpaRepository<Outing, UUID> {
     List<Outing> findIndependentOutings();
 
     /**
-     * Count outings created by a user in a specific month.
+     * Count outings created by a user in [from, to), as a range on the
+     * (organizer_id, created_at) index.
      */
-    @Query("SELECT COUNT(o) FROM Outing o WHERE o.organizer = :organizer " +
-            "AND YEAR(o.createdAt) = :year AND MONTH(o.createdAt) = :month")
-    long countByOrganizerInMonth(
-            @Param("organizer") User organizer,
-            @Param("year") int year,
-            @Param("month") int month);
+    @Query("SELECT COUNT(o) FROM Outing o WHERE o.organizer.id = :organizerId " +
+            "AND o.createdAt >= :from AND o.createdAt < :to")
+    long countCreatedBetween(
+            @Param("organizerId") UUID organizerId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
 
     /**
      * Find all outings after a specific date.
      * Used for proximity search to filter only upcoming outings.
      */
     List<Outing> findByOutingDateAfter(LocalDateTime date);
+
+    /**
+     * Version of all outings, for conditional requests.
+     */
+    @Query("SELECT new com.alfano.gathorapp.conditional.ResourceStamp(COUNT(o), MAX(o.updatedAt)) FROM Outing o")
+    ResourceStamp stamp();
+
+    /**
+     * Version of the upcoming outings, for conditional requests.
+     * Changes as well when an outing stops being upcoming.
+     */
+    @Query("SELECT new com.alfano.gathorapp.conditional.ResourceStamp(COUNT(o), MAX(o.updatedAt)) FROM Outing o " +
+           "WHERE o.outingDate > :now")
+    ResourceStamp stampUpcoming(@Param("now") LocalDateTime now);
+
+    /**
+     * Version of one outing and what its response embeds: its event,
+     * organizer and participants. The count follows the participant rows.
+     */
+    @Query("SELECT new com.alfano.gathorapp.conditional.ResourceStamp(COUNT(o), " +
+           "GREATEST(MAX(o.updatedAt), MAX(e.updatedAt), MAX(u.updatedAt), MAX(p.updatedAt))) " +
+           "FROM Outing o JOIN o.organizer u LEFT JOIN o.event e LEFT JOIN o.participants p " +
+           "WHERE o.id = :id")
+    ResourceStamp stampById(@Param("id") UUID id);
+
+    /**
+     * Stream all outings, fetching rows from the database in batches.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT o FROM Outing o")
+    Stream<Outing> streamAll();
+
+    /**
+     * Bring the rating aggregate of every outing whose review count is out of
+     * sync back in line with its reviews.
+     */
+    @Modifying
+    @Query("UPDATE Outing o SET " +
+           "o.ratingSum = (SELECT COALESCE(SUM(r.rating), 0) FROM Review r WHERE r.outing = o), " +
+           "o.ratingCount = (SELECT COUNT(r) FROM Review r WHERE r.outing = o) " +
+           "WHERE o.ratingCount <> (SELECT COUNT(r) FROM Review r WHERE r.outing = o)")
+    int recomputeRatings();
+
+    /**
+     * Find the outings with the highest average rating among those with at
+     * least the given number of reviews.
+     */
+    @Query("SELECT o FROM Outing o WHERE o.ratingCount >= :minRatings " +
+           "ORDER BY o.ratingSum * 1.0 / o.ratingCount DESC, o.ratingCount DESC")
+    List<Outing> findTopRated(@Param("minRatings") long minRatings, Pageable pageable);
+
+    /**
+     * Outings inside a bounding box that take place in (from, to], with just
+     * the columns needed to rank them (for discovery). Uses the location
+     * index; the entities are only loaded for the ranked results.
+     */
+    @Query("SELECT o.id AS id, o.latitude AS latitude, o.longitude AS longitude, " +
+           "o.ratingSum AS ratingSum, o.ratingCount AS ratingCount, SIZE(o.participants) AS participantCount " +
+           "FROM Outing o WHERE o.latitude BETWEEN :minLat AND :maxLat " +
+           "AND o.longitude BETWEEN :minLon AND :maxLon " +
+           "AND o.outingDate > :from AND o.outingDate <= :to")
+    List<DiscoveryCandidate> findDiscoveryCandidates(
+            @Param("minLat") double minLat,
+            @Param("maxLat") double maxLat,
+            @Param("minLon") double minLon,
+            @Param("maxLon") double maxLon,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    /**
+     * Projection of an outing considered for discovery.
+     */
+    interface DiscoveryCandidate {
+        UUID getId();
+
+        Double getLatitude();
+
+        Double getLongitude();
+
+        Long getRatingSum();
+
+        Long getRatingCount();
+
+        Integer getParticipantCount();
+    }
+
+    /**
+     * Count all outings and the upcoming ones in a single scan (for admin
+     * statistics).
+     */
+    @Query("SELECT COUNT(o) AS total, COUNT(o) FILTER (WHERE o.outingDate > :now) AS upcoming FROM Outing o")
+    OutingCounts countTotalAndUpcoming(@Param("now") LocalDateTime now);
+
+    /**
+     * Projection of the outing counts.
+     */
+    interface OutingCounts {
+        long getTotal();
+
+        long getUpcoming();
+    }
 }
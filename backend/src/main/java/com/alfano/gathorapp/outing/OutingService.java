@@ -1,5 +1,6 @@
 package com.alfano.gathorapp.outing;
 
+import com.alfano.gathorapp.config.CacheConfig;
 import com.alfano.gathorapp.event.Event;
 import com.alfano.gathorapp.event.EventRepository;
 import com.alfano.gathorapp.exception.ResourceNotFoundException;
@@ -7,16 +8,22 @@ import com.alfano.gathorapp.outing.dto.CreateOutingRequest;
 import com.alfano.gathorapp.outing.dto.OutingResponse;
 import com.alfano.gathorapp.pattern.strategy.UserLimitationStrategy;
 import com.alfano.gathorapp.pattern.strategy.UserStrategyFactory;
+import com.alfano.gathorapp.streaming.EntityStreams;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -28,34 +35,55 @@ import java.util.stream.Collectors;
 @Slf4j
 public class OutingService {
 
+    static final int MAX_TOP_RATED = 50;
+
     private final OutingRepository outingRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final OutingMapper outingMapper;
     private final UserStrategyFactory strategyFactory;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final OutingQuotas outingQuotas;
 
     /**
-     * Get all outings.
+     * Stream all outings to the action, without holding them all in memory.
      */
     @Transactional(readOnly = true)
-    public List<OutingResponse> getAllOutings() {
-        log.debug("Fetching all outings");
-        return outingRepository.findAll()
-                .stream()
-                .map(outingMapper::toResponse)
-                .collect(Collectors.toList());
+    public void streamAllOutings(Consumer<OutingResponse> action) {
+        log.debug("Streaming all outings");
+        EntityStreams.forEachDetached(outingRepository.streamAll(), entityManager,
+                outing -> action.accept(outingMapper.toResponse(outing)));
     }
 
     /**
      * Get all upcoming outings.
+     * Cached briefly (see ehcache.xml) so that past outings drop out quickly.
      */
+    @Cacheable(CacheConfig.UPCOMING_OUTINGS)
     @Transactional(readOnly = true)
     public List<OutingResponse> getUpcomingOutings() {
         log.debug("Fetching upcoming outings");
         return outingRepository.findUpcomingOutings(LocalDateTime.now())
                 .stream()
                 .map(outingMapper::toResponse)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    /**
+     * Get the best rated outings among those with at least minRatings reviews,
+     * ordered by their rating aggregate.
+     *
+     * @param limit number of outings, clamped to [1, MAX_TOP_RATED]
+     */
+    @Transactional(readOnly = true)
+    public List<OutingResponse> getTopRatedOutings(int limit, long minRatings) {
+        log.debug("Fetching top {} rated outings", limit);
+        int size = Math.max(1, Math.min(limit, MAX_TOP_RATED));
+        return outingRepository.findTopRated(minRatings, PageRequest.of(0, size))
+                .stream()
+                .map(outingMapper::toResponse)
+                .toList();
     }
 
     /**
@@ -134,13 +162,12 @@ public class OutingService {
             if (!strategy.canCreateEventLinkedOuting(organizer)) {
                 throw new RuntimeException("You cannot create event-linked outings with your current role");
             }
+            // Event-linked outings are not limited but still count toward the month
+            outingQuotas.acquire(organizerId);
         } else {
-            // Independent outing - check monthly limit
-            int currentYear = LocalDateTime.now().getYear();
-            int currentMonth = LocalDateTime.now().getMonthValue();
-            long outingsThisMonth = outingRepository.countByOrganizerInMonth(organizer, currentYear, currentMonth);
-
-            if (!strategy.canCreateIndependentOuting(organizer, outingsThisMonth)) {
+            // Independent outing - check and count against the monthly limit in one step
+            if (!outingQuotas.tryAcquire(organizerId,
+                    outingsThisMonth -> strategy.canCreateIndependentOuting(organizer, outingsThisMonth))) {
                 throw new RuntimeException(
                         String.format("You have reached your monthly limit of %d independent outings",
                                 strategy.getMaxIndependentOutingsPerMonth()));
@@ -151,6 +178,7 @@ public class OutingService {
         Outing outing = outingMapper.toEntity(request, organizer, event);
         Outing savedOuting = outingRepository.save(outing);
 
+        publishChange(savedOuting, OutingChangedEvent.Change.CREATED);
         log.info("Outing created successfully: {}", savedOuting.getId());
         return outingMapper.toResponse(savedOuting);
     }
@@ -172,7 +200,9 @@ public class OutingService {
             throw new RuntimeException("Only the outing organizer can delete this outing");
         }
 
+        outingQuotas.release(outing);
         outingRepository.delete(outing);
+        publishChange(outing, OutingChangedEvent.Change.DELETED);
         log.info("Outing deleted successfully: {}", outingId);
     }
 
@@ -213,6 +243,7 @@ public class OutingService {
         outing.addParticipant(user);
         Outing savedOuting = outingRepository.save(outing);
 
+        publishChange(savedOuting, OutingChangedEvent.Change.PARTICIPANTS_CHANGED);
         log.info("User {} joined outing {} successfully", userId, outingId);
         return outingMapper.toResponse(savedOuting, userId);
     }
@@ -244,7 +275,13 @@ public class OutingService {
         outing.removeParticipant(user);
         Outing savedOuting = outingRepository.save(outing);
 
+        publishChange(savedOuting, OutingChangedEvent.Change.PARTICIPANTS_CHANGED);
         log.info("User {} left outing {} successfully", userId, outingId);
         return outingMapper.toResponse(savedOuting, userId);
     }
+
+    private void publishChange(Outing outing, OutingChangedEvent.Change change) {
+        UUID eventId = outing.getEvent() != null ? outing.getEvent().getId() : null;
+        eventPublisher.publishEvent(new OutingChangedEvent(outing.getId(), eventId, change));
+    }
 }
@@ -29,6 +29,8 @@ public class OutingResponse {
     private List<ParticipantInfo> participants;
     private Boolean isParticipant; // True if authenticated user is a participant
     private Boolean isFull; // True if outing reached max participants
+    private Double averageRating; // Null if the outing has no reviews
+    private Long ratingCount;
     private OrganizerInfo organizer;
     private EventInfo event;
     private LocalDateTime createdAt;
@@ -18,7 +18,8 @@ import java.util.UUID;
 }, indexes = {
         @Index(name = "idx_participation_outing", columnList = "outing_id"),
         @Index(name = "idx_participation_user", columnList = "user_id"),
-        @Index(name = "idx_participation_status", columnList = "status")
+        @Index(name = "idx_participation_status", columnList = "status"),
+        @Index(name = "idx_participation_status_updated", columnList = "status, updated_at")
 })
 @Getter
 @Setter
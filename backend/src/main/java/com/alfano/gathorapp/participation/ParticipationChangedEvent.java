@@ -0,0 +1,23 @@
+package com.alfano.gathorapp.participation;
+
+import java.util.UUID;
+
+/**
+ * Application event published by {@link ParticipationService} whenever a
+ * participation changes state. Listeners that keep derived state (caches,
+ * counters) should react after the publishing transaction commits.
+ */
+public record ParticipationChangedEvent(
+        UUID participationId,
+        UUID outingId,
+        UUID userId,
+        String userName,
+        Change change) {
+
+    public enum Change {
+        REQUESTED,
+        APPROVED,
+        REJECTED,
+        LEFT
+    }
+}
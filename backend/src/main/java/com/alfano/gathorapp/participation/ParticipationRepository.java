@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -64,6 +65,23 @@ public interface ParticipationRepository extends JpaRepository<Participation, UU
     @Query("SELECT p FROM Participation p WHERE p.outing = :outing AND p.status = 'APPROVED'")
     List<Participation> findApprovedByOuting(@Param("outing") Outing outing);
 
+    /**
+     * Ids and names of the approved participants of an outing, without loading
+     * the entities.
+     */
+    @Query("SELECT p.user.id AS userId, p.user.name AS userName FROM Participation p "
+            + "WHERE p.outing.id = :outingId AND p.status = 'APPROVED'")
+    List<ApprovedParticipant> findApprovedParticipantsByOutingId(@Param("outingId") UUID outingId);
+
+    /**
+     * Projection of an approved participant.
+     */
+    interface ApprovedParticipant {
+        UUID getUserId();
+
+        String getUserName();
+    }
+
     /**
      * Find all pending participations for an outing.
      */
@@ -74,4 +92,34 @@ public interface ParticipationRepository extends JpaRepository<Participation, UU
      * Count participations by outing and status.
      */
     long countByOutingAndStatus(Outing outing, ParticipationStatus status);
+
+    /**
+     * Approved participant count of every outing of an event organized by a
+     * Premium user, in one grouped query (for reward backfills).
+     */
+    @Query("SELECT p.outing.id AS outingId, p.outing.organizer.id AS organizerId, COUNT(p) AS approved "
+            + "FROM Participation p WHERE p.outing.event.id = :eventId AND p.status = 'APPROVED' "
+            + "AND p.outing.organizer.role = com.alfano.gathorapp.user.Role.PREMIUM "
+            + "GROUP BY p.outing.id, p.outing.organizer.id")
+    List<ApprovedCount> countApprovedPerPremiumOuting(@Param("eventId") UUID eventId);
+
+    /**
+     * Events with rewards that have an outing participation approved since the
+     * given time (for reconciling reward evaluations lost on restart).
+     */
+    @Query("SELECT DISTINCT p.outing.event.id FROM Participation p "
+            + "WHERE p.status = 'APPROVED' AND p.updatedAt >= :since "
+            + "AND EXISTS (SELECT r.id FROM Reward r WHERE r.event = p.outing.event)")
+    List<UUID> findRewardedEventIdsApprovedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Projection of an outing's approved participant count.
+     */
+    interface ApprovedCount {
+        UUID getOutingId();
+
+        UUID getOrganizerId();
+
+        long getApproved();
+    }
 }
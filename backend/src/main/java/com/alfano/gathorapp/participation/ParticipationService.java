@@ -10,15 +10,17 @@ import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import com.alfano.gathorapp.notification.NotificationService;
 import com.alfano.gathorapp.notification.NotificationType;
-import com.alfano.gathorapp.voucher.VoucherService;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -26,7 +28,7 @@ import java.util.stream.Collectors;
  * 
  * IMPORTANT: Implements concurrent access control using:
  * - Pessimistic locking (SELECT FOR UPDATE)
- * - Synchronized methods
+ * - A node-wide lock around joins and approvals
  * - SERIALIZABLE isolation level
  * 
  * This prevents race conditions when multiple users try to join the same outing
@@ -42,7 +44,14 @@ public class ParticipationService {
     private final UserRepository userRepository;
     private final ParticipationMapper participationMapper;
     private final NotificationService notificationService;
-    private final VoucherService voucherService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Serializes joins and approvals on this node. A ReentrantLock rather than
+     * synchronized methods: the critical section blocks on JDBC, and a virtual
+     * thread blocking inside synchronized pins its carrier thread.
+     */
+    private final Lock writeLock = new ReentrantLock();
 
     /**
      * Get all participations for a specific outing.
@@ -73,117 +82,125 @@ public class ParticipationService {
      * 
      * CONCURRENT ACCESS CONTROL:
      * - Uses SERIALIZABLE isolation to prevent phantom reads
-     * - Synchronized to prevent race conditions
+     * - Node-wide lock to prevent race conditions
      * - Pessimistic lock on outing entity
      * 
      * This ensures that when multiple users try to join simultaneously,
      * only one transaction at a time can check and modify the participant count.
      */
     @Transactional(isolation = Isolation.SERIALIZABLE)
-    public synchronized ParticipationResponse joinOuting(UUID outingId, UUID userId) {
-        log.info("User {} attempting to join outing {}", userId, outingId);
-
-        // Get user
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-
-        // Get outing with pessimistic lock (SELECT FOR UPDATE)
-        Outing outing = outingRepository.findById(outingId)
-                .orElseThrow(() -> new ResourceNotFoundException("Outing not found with id: " + outingId));
-
-        // Check if user is the organizer
-        if (outing.getOrganizer().getId().equals(userId)) {
-            throw new BadRequestException("Organizer cannot join their own outing");
-        }
-
-        // Check if user already has a participation request
-        if (participationRepository.existsByUserAndOuting(user, outing)) {
-            throw new BadRequestException("User already has a participation request for this outing");
-        }
-
-        // CRITICAL SECTION: Check if outing is full
-        long approvedCount = participationRepository.countApprovedByOuting(outing);
-
-        if (approvedCount >= outing.getMaxParticipants()) {
-            log.warn("Outing {} is full. Approved: {}, Max: {}",
-                    outingId, approvedCount, outing.getMaxParticipants());
-            throw new BadRequestException("Outing is full. Maximum participants reached.");
+    public ParticipationResponse joinOuting(UUID outingId, UUID userId) {
+        writeLock.lock();
+        try {
+            log.info("User {} attempting to join outing {}", userId, outingId);
+
+            // Get user
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+
+            // Get outing with pessimistic lock (SELECT FOR UPDATE)
+            Outing outing = outingRepository.findById(outingId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Outing not found with id: " + outingId));
+
+            // Check if user is the organizer
+            if (outing.getOrganizer().getId().equals(userId)) {
+                throw new BadRequestException("Organizer cannot join their own outing");
+            }
+
+            // Check if user already has a participation request
+            if (participationRepository.existsByUserAndOuting(user, outing)) {
+                throw new BadRequestException("User already has a participation request for this outing");
+            }
+
+            // CRITICAL SECTION: Check if outing is full
+            long approvedCount = participationRepository.countApprovedByOuting(outing);
+
+            if (approvedCount >= outing.getMaxParticipants()) {
+                log.warn("Outing {} is full. Approved: {}, Max: {}",
+                        outingId, approvedCount, outing.getMaxParticipants());
+                throw new BadRequestException("Outing is full. Maximum participants reached.");
+            }
+
+            // Create participation (initially PENDING)
+            Participation participation = Participation.builder()
+                    .user(user)
+                    .outing(outing)
+                    .status(ParticipationStatus.PENDING)
+                    .build();
+
+            Participation savedParticipation = participationRepository.save(participation);
+            publishChange(savedParticipation, ParticipationChangedEvent.Change.REQUESTED);
+
+            // Notify organizer of new participation request
+            notificationService.createNotification(
+                    outing.getOrganizer().getId(),
+                    NotificationType.PARTICIPATION_REQUEST,
+                    "New participation request",
+                    user.getName() + " wants to join " + outing.getTitle(),
+                    savedParticipation.getId(),
+                    "PARTICIPATION");
+
+            log.info("User {} successfully requested to join outing {}", userId, outingId);
+            return participationMapper.toResponse(savedParticipation);
+        } finally {
+            writeLock.unlock();
         }
-
-        // Create participation (initially PENDING)
-        Participation participation = Participation.builder()
-                .user(user)
-                .outing(outing)
-                .status(ParticipationStatus.PENDING)
-                .build();
-
-        Participation savedParticipation = participationRepository.save(participation);
-
-        // Notify organizer of new participation request
-        notificationService.createNotification(
-                outing.getOrganizer().getId(),
-                NotificationType.PARTICIPATION_REQUEST,
-                "New participation request",
-                user.getName() + " wants to join " + outing.getTitle(),
-                savedParticipation.getId(),
-                "PARTICIPATION");
-
-        log.info("User {} successfully requested to join outing {}", userId, outingId);
-        return participationMapper.toResponse(savedParticipation);
     }
 
     /**
      * Approve a participation request (organizer only).
      */
     @Transactional(isolation = Isolation.SERIALIZABLE)
-    public synchronized ParticipationResponse approveParticipation(UUID participationId, UUID organizerId) {
-        log.info("Approving participation: {}", participationId);
+    public ParticipationResponse approveParticipation(UUID participationId, UUID organizerId) {
+        writeLock.lock();
+        try {
+            log.info("Approving participation: {}", participationId);
 
-        Participation participation = participationRepository.findById(participationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Participation not found with id: " + participationId));
+            Participation participation = participationRepository.findById(participationId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Participation not found with id: " + participationId));
 
-        // Check if user is the organizer
-        if (!participation.getOuting().getOrganizer().getId().equals(organizerId)) {
-            throw new ForbiddenException("Only the outing organizer can approve participations");
-        }
-
-        // Check if already approved or rejected
-        if (participation.getStatus() != ParticipationStatus.PENDING) {
-            throw new BadRequestException("Participation is not pending. Current status: " + participation.getStatus());
-        }
-
-        // CRITICAL SECTION: Check if outing is full before approving
-        Outing outing = participation.getOuting();
-        long approvedCount = participationRepository.countApprovedByOuting(outing);
+            // Check if user is the organizer
+            if (!participation.getOuting().getOrganizer().getId().equals(organizerId)) {
+                throw new ForbiddenException("Only the outing organizer can approve participations");
+            }
 
-        if (approvedCount >= outing.getMaxParticipants()) {
-            throw new BadRequestException("Cannot approve: outing is already full");
-        }
+            // Check if already approved or rejected
+            if (participation.getStatus() != ParticipationStatus.PENDING) {
+                throw new BadRequestException("Participation is not pending. Current status: " + participation.getStatus());
+            }
 
-        // Approve participation
-        participation.setStatus(ParticipationStatus.APPROVED);
-        Participation approvedParticipation = participationRepository.save(participation);
+            // CRITICAL SECTION: Check if outing is full before approving
+            Outing outing = participation.getOuting();
+            long approvedCount = participationRepository.countApprovedByOuting(outing);
 
-        // Add user to outing participants list
-        outing.addParticipant(participation.getUser());
-        outingRepository.save(outing);
+            if (approvedCount >= outing.getMaxParticipants()) {
+                throw new BadRequestException("Cannot approve: outing is already full");
+            }
 
-        // Check if organizer earned a voucher (Premium users only)
-        voucherService.checkAndIssueVoucher(outing.getId(), outing.getOrganizer().getId());
-        log.debug("Checked voucher eligibility for organizer {} in outing {}",
-            outing.getOrganizer().getId(), outing.getId());
+            // Approve participation
+            participation.setStatus(ParticipationStatus.APPROVED);
+            Participation approvedParticipation = participationRepository.save(participation);
 
-        // Notify user that their participation was approved
-        notificationService.createNotification(
-                participation.getUser().getId(),
-                NotificationType.PARTICIPATION_APPROVED,
-                "Participation approved!",
-                "Your request for " + outing.getTitle() + " has been approved",
-                outing.getId(),
-                "OUTING");
-
-        log.info("Participation {} approved successfully", participationId);
-        return participationMapper.toResponse(approvedParticipation);
+            // Add user to outing participants list
+            outing.addParticipant(participation.getUser());
+            outingRepository.save(outing);
+            // Voucher eligibility of the organizer is evaluated by RewardEngine after commit
+            publishChange(approvedParticipation, ParticipationChangedEvent.Change.APPROVED);
+
+            // Notify user that their participation was approved
+            notificationService.createNotification(
+                    participation.getUser().getId(),
+                    NotificationType.PARTICIPATION_APPROVED,
+                    "Participation approved!",
+                    "Your request for " + outing.getTitle() + " has been approved",
+                    outing.getId(),
+                    "OUTING");
+
+            log.info("Participation {} approved successfully", participationId);
+            return participationMapper.toResponse(approvedParticipation);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     /**
@@ -209,6 +226,7 @@ public class ParticipationService {
         // Reject participation
         participation.setStatus(ParticipationStatus.REJECTED);
         Participation rejectedParticipation = participationRepository.save(participation);
+        publishChange(rejectedParticipation, ParticipationChangedEvent.Change.REJECTED);
 
         // Notify user that their participation was rejected
         notificationService.createNotification(
@@ -246,6 +264,16 @@ public class ParticipationService {
         }
 
         participationRepository.delete(participation);
+        publishChange(participation, ParticipationChangedEvent.Change.LEFT);
         log.info("User {} successfully left outing", userId);
     }
+
+    private void publishChange(Participation participation, ParticipationChangedEvent.Change change) {
+        eventPublisher.publishEvent(new ParticipationChangedEvent(
+                participation.getId(),
+                participation.getOuting().getId(),
+                participation.getUser().getId(),
+                participation.getUser().getName(),
+                change));
+    }
 }
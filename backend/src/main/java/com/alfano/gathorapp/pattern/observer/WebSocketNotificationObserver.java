@@ -2,17 +2,21 @@ package com.alfano.gathorapp.pattern.observer;
 
 import com.alfano.gathorapp.notification.Notification;
 import com.alfano.gathorapp.notification.dto.NotificationResponse;
+import com.alfano.gathorapp.websocket.PresenceRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 /**
  * Observer Pattern - Concrete Observer.
  * 
  * This observer sends notifications to users via WebSocket in real-time.
  * When a notification is created, it's immediately pushed to the user's
- * WebSocket connection if they're online.
+ * WebSocket connection if they're online; offline users are skipped using
+ * the {@link PresenceRegistry} and will see it on their next fetch.
  */
 @Component
 @RequiredArgsConstructor
@@ -20,9 +24,17 @@ import org.springframework.stereotype.Component;
 public class WebSocketNotificationObserver implements NotificationObserver {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final PresenceRegistry presenceRegistry;
 
     @Override
     public void onNotification(Notification notification) {
+        UUID recipientId = notification.getUser().getId();
+        if (!presenceRegistry.isOnline(recipientId)) {
+            log.debug("Skipping WebSocket delivery of notification {}: user {} is offline",
+                    notification.getId(), recipientId);
+            return;
+        }
+
         try {
             // Convert to DTO
             NotificationResponse response = NotificationResponse.builder()
@@ -39,7 +51,7 @@ public class WebSocketNotificationObserver implements NotificationObserver {
             // Send to specific user via WebSocket
             // Destination: /user/{userId}/queue/notifications
             String destination = "/queue/notifications";
-            String userId = notification.getUser().getId().toString();
+            String userId = recipientId.toString();
 
             messagingTemplate.convertAndSendToUser(
                     userId,
@@ -33,7 +33,8 @@ public interface UserLimitationStrategy {
      * Check if user can create an independent outing (not linked to an event).
      * 
      * @param user                     the user
-     * @param currentMonthOutingsCount how many outings created this month
+     * @param currentMonthOutingsCount how many outings created this month, read
+     *                                 from the organizer's monthly counter
      * @return true if user can create an outing
      */
     boolean canCreateIndependentOuting(User user, long currentMonthOutingsCount);
@@ -0,0 +1,126 @@
+package com.alfano.gathorapp.ratelimit;
+
+import com.alfano.gathorapp.exception.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Locale;
+
+/**
+ * Sliding-window throttling for the authentication endpoints.
+ *
+ * Login attempts are counted both per client IP and per email, so a single
+ * address cannot spray many accounts and many addresses cannot hammer a single
+ * account. Checks run before any user lookup or BCrypt comparison.
+ */
+@Component
+@Slf4j
+public class AuthRateLimiter {
+
+    private final RateLimitStore store;
+    private final Clock clock;
+    private final boolean enabled;
+    private final boolean trustForwardedFor;
+    private final RateLimitPolicy loginPerIp;
+    private final RateLimitPolicy loginPerEmail;
+    private final RateLimitPolicy registerPerIp;
+
+    @Autowired
+    public AuthRateLimiter(
+            RateLimitStore store,
+            @Value("${app.rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.rate-limit.trust-forwarded-for:false}") boolean trustForwardedFor,
+            @Value("${app.rate-limit.login.per-ip:30}") int loginPerIp,
+            @Value("${app.rate-limit.login.per-email:10}") int loginPerEmail,
+            @Value("${app.rate-limit.login.window-seconds:300}") long loginWindowSeconds,
+            @Value("${app.rate-limit.register.per-ip:10}") int registerPerIp,
+            @Value("${app.rate-limit.register.window-seconds:3600}") long registerWindowSeconds) {
+        this(store, Clock.systemUTC(), enabled, trustForwardedFor,
+                new RateLimitPolicy("login-ip", loginPerIp, loginWindowSeconds * 1000),
+                new RateLimitPolicy("login-email", loginPerEmail, loginWindowSeconds * 1000),
+                new RateLimitPolicy("register-ip", registerPerIp, registerWindowSeconds * 1000));
+    }
+
+    AuthRateLimiter(RateLimitStore store, Clock clock, boolean enabled, boolean trustForwardedFor,
+            RateLimitPolicy loginPerIp, RateLimitPolicy loginPerEmail, RateLimitPolicy registerPerIp) {
+        this.store = store;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.trustForwardedFor = trustForwardedFor;
+        this.loginPerIp = loginPerIp;
+        this.loginPerEmail = loginPerEmail;
+        this.registerPerIp = registerPerIp;
+    }
+
+    /**
+     * Count a login attempt and reject it if either the IP or the email is over
+     * its limit.
+     */
+    public void checkLogin(HttpServletRequest request, String email) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+        check(loginPerIp, clientIp(request), now);
+        check(loginPerEmail, normalize(email), now);
+    }
+
+    /**
+     * Clear the per-email counter after a successful login so a legitimate user
+     * is not locked out by their own earlier typos.
+     */
+    public void loginSucceeded(String email) {
+        if (enabled) {
+            store.reset(key(loginPerEmail, normalize(email)));
+        }
+    }
+
+    /**
+     * Count a registration attempt and reject it if the IP is over its limit.
+     */
+    public void checkRegister(HttpServletRequest request) {
+        if (enabled) {
+            check(registerPerIp, clientIp(request), clock.millis());
+        }
+    }
+
+    /**
+     * Periodically drop counters that fell out of their window.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evictExpired() {
+        store.evictExpired(clock.millis());
+    }
+
+    private void check(RateLimitPolicy policy, String subject, long now) {
+        long hits = store.hit(key(policy, subject), policy, now);
+        if (hits > policy.limit()) {
+            log.warn("Rate limit '{}' exceeded for {} ({} hits)", policy.name(), subject, hits);
+            throw new TooManyRequestsException("Too many attempts, please try again later",
+                    Math.max(1, policy.windowMillis() / 1000));
+        }
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwarded = request.getHeader("X-Forwarded-For");
+            if (forwarded != null && !forwarded.isBlank()) {
+                return forwarded.split(",")[0].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static String key(RateLimitPolicy policy, String subject) {
+        return policy.name() + ":" + subject;
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
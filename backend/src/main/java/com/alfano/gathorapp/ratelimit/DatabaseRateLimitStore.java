@@ -0,0 +1,70 @@
+package com.alfano.gathorapp.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Rate limit store shared through the database, for deployments running more
+ * than one node. Enabled with {@code app.rate-limit.store=database}.
+ *
+ * A hit is an UPDATE of the current bucket (or an INSERT of a new one) followed
+ * by a SUM over the buckets still inside the window. Every call runs in its own
+ * short transaction so it never joins, or rolls back with, the caller's work.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "database")
+@Slf4j
+public class DatabaseRateLimitStore implements RateLimitStore {
+
+    private final RateLimitBucketRepository bucketRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public DatabaseRateLimitStore(RateLimitBucketRepository bucketRepository,
+            PlatformTransactionManager transactionManager) {
+        this.bucketRepository = bucketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public long hit(String key, RateLimitPolicy policy, long nowMillis) {
+        long bucket = policy.bucketOf(nowMillis);
+        try {
+            transactionTemplate.executeWithoutResult(status -> incrementOrInsert(key, policy, bucket));
+        } catch (DataIntegrityViolationException e) {
+            // Another node created the bucket between our UPDATE and INSERT
+            transactionTemplate.executeWithoutResult(status -> bucketRepository.increment(key, bucket));
+        }
+        Long total = transactionTemplate.execute(
+                status -> bucketRepository.sumHitsSince(key, bucket - policy.buckets()));
+        return total != null ? total : 0;
+    }
+
+    @Override
+    public void reset(String key) {
+        transactionTemplate.executeWithoutResult(status -> bucketRepository.deleteByKey(key));
+    }
+
+    @Override
+    public void evictExpired(long nowMillis) {
+        Integer deleted = transactionTemplate.execute(status -> bucketRepository.deleteExpired(nowMillis));
+        log.debug("Deleted {} expired rate limit buckets", deleted);
+    }
+
+    private void incrementOrInsert(String key, RateLimitPolicy policy, long bucket) {
+        if (bucketRepository.increment(key, bucket) > 0) {
+            return;
+        }
+        bucketRepository.saveAndFlush(RateLimitBucket.builder()
+                .bucketKey(key)
+                .bucketStart(bucket)
+                .hits(1L)
+                .expiresAt((bucket + 1) * policy.bucketMillis() + policy.windowMillis())
+                .build());
+    }
+}
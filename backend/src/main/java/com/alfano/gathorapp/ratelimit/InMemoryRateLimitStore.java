@@ -0,0 +1,132 @@
+package com.alfano.gathorapp.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Process-local rate limit store.
+ *
+ * Every key owns a small ring of buckets. A bucket is a single long packing the
+ * bucket index (high bits) and its hit count (low bits), so a hit is a single
+ * CAS and stale buckets are recycled in place without locking.
+ *
+ * Memory is bounded by {@code app.rate-limit.max-keys}: expired counters are
+ * swept periodically, and if the map is still full when a new key arrives the
+ * oldest-inserted entries are dropped.
+ */
+@Component
+@ConditionalOnProperty(name = "app.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final int maxKeys;
+
+    public InMemoryRateLimitStore(@Value("${app.rate-limit.max-keys:100000}") int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public long hit(String key, RateLimitPolicy policy, long nowMillis) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() >= maxKeys) {
+                makeRoom(nowMillis);
+            }
+            counter = counters.computeIfAbsent(key, k -> new Counter(policy));
+        }
+        return counter.hit(nowMillis);
+    }
+
+    @Override
+    public void reset(String key) {
+        counters.remove(key);
+    }
+
+    @Override
+    public void evictExpired(long nowMillis) {
+        counters.values().removeIf(counter -> counter.isExpired(nowMillis));
+    }
+
+    /**
+     * Number of tracked keys.
+     */
+    public int size() {
+        return counters.size();
+    }
+
+    private void makeRoom(long nowMillis) {
+        evictExpired(nowMillis);
+        int excess = counters.size() - maxKeys + 1;
+        if (excess <= 0) {
+            return;
+        }
+        log.warn("Rate limit store full ({} keys), dropping {} live counters", counters.size(), excess);
+        Iterator<String> it = counters.keySet().iterator();
+        while (excess-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static final class Counter {
+
+        private final RateLimitPolicy policy;
+        private final AtomicLongArray slots;
+
+        Counter(RateLimitPolicy policy) {
+            this.policy = policy;
+            this.slots = new AtomicLongArray(policy.buckets());
+        }
+
+        long hit(long nowMillis) {
+            long bucket = policy.bucketOf(nowMillis);
+            int slot = (int) (bucket % slots.length());
+            while (true) {
+                long current = slots.get(slot);
+                long next;
+                if (current >>> COUNT_BITS == bucket) {
+                    long count = current & COUNT_MASK;
+                    next = count == COUNT_MASK ? current : current + 1;
+                } else {
+                    next = (bucket << COUNT_BITS) | 1;
+                }
+                if (slots.compareAndSet(slot, current, next)) {
+                    break;
+                }
+            }
+            return count(bucket);
+        }
+
+        private long count(long currentBucket) {
+            long oldest = currentBucket - slots.length();
+            long total = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                long value = slots.get(i);
+                if (value >>> COUNT_BITS > oldest) {
+                    total += value & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+
+        boolean isExpired(long nowMillis) {
+            long oldest = policy.bucketOf(nowMillis) - slots.length();
+            for (int i = 0; i < slots.length(); i++) {
+                if (slots.get(i) >>> COUNT_BITS > oldest) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.alfano.gathorapp.ratelimit;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * One time bucket of a rate limit counter, used by the database-backed store so
+ * that every node of a cluster sees the same counts.
+ */
+@Entity
+@Table(name = "rate_limit_buckets", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_rate_limit_bucket", columnNames = { "bucket_key", "bucket_start" })
+}, indexes = {
+        @Index(name = "idx_rate_limit_expires", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateLimitBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "bucket_key", nullable = false, length = 320)
+    private String bucketKey;
+
+    /**
+     * Bucket index (epoch millis divided by the bucket length).
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private Long bucketStart;
+
+    @Column(nullable = false)
+    private Long hits;
+
+    /**
+     * Epoch millis after which the bucket no longer overlaps its window.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+}
@@ -0,0 +1,37 @@
+package com.alfano.gathorapp.ratelimit;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repository for RateLimitBucket entity.
+ */
+@Repository
+public interface RateLimitBucketRepository extends JpaRepository<RateLimitBucket, UUID> {
+
+    /**
+     * Atomically add one hit to an existing bucket.
+     */
+    @Modifying
+    @Query("UPDATE RateLimitBucket b SET b.hits = b.hits + 1 WHERE b.bucketKey = :key AND b.bucketStart = :bucket")
+    int increment(@Param("key") String key, @Param("bucket") long bucket);
+
+    /**
+     * Sum of hits for a key in buckets newer than the given index.
+     */
+    @Query("SELECT COALESCE(SUM(b.hits), 0) FROM RateLimitBucket b WHERE b.bucketKey = :key AND b.bucketStart > :oldest")
+    long sumHitsSince(@Param("key") String key, @Param("oldest") long oldest);
+
+    @Modifying
+    @Query("DELETE FROM RateLimitBucket b WHERE b.bucketKey = :key")
+    int deleteByKey(@Param("key") String key);
+
+    @Modifying
+    @Query("DELETE FROM RateLimitBucket b WHERE b.expiresAt < :now")
+    int deleteExpired(@Param("now") long now);
+}
@@ -0,0 +1,34 @@
+package com.alfano.gathorapp.ratelimit;
+
+/**
+ * A rate limit: at most {@code limit} hits per {@code windowMillis}, counted in
+ * {@code buckets} sub-intervals (the granularity of the sliding window).
+ */
+public record RateLimitPolicy(String name, int limit, long windowMillis, int buckets) {
+
+    public static final int DEFAULT_BUCKETS = 10;
+
+    public RateLimitPolicy {
+        if (limit <= 0 || windowMillis <= 0 || buckets <= 0) {
+            throw new IllegalArgumentException("Rate limit policy values must be positive");
+        }
+    }
+
+    public RateLimitPolicy(String name, int limit, long windowMillis) {
+        this(name, limit, windowMillis, DEFAULT_BUCKETS);
+    }
+
+    /**
+     * Length of a single bucket in milliseconds.
+     */
+    public long bucketMillis() {
+        return Math.max(1, windowMillis / buckets);
+    }
+
+    /**
+     * Index of the bucket containing the given instant.
+     */
+    public long bucketOf(long nowMillis) {
+        return nowMillis / bucketMillis();
+    }
+}
@@ -0,0 +1,27 @@
+package com.alfano.gathorapp.ratelimit;
+
+/**
+ * Storage backend for sliding-window rate limit counters.
+ *
+ * Each key is counted in fixed-size time buckets; the sliding window is the sum
+ * of the buckets that still overlap it. Implementations must be safe for
+ * concurrent use.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Record one hit for the given key and return the number of hits inside the
+     * sliding window ending at {@code nowMillis}, including this one.
+     */
+    long hit(String key, RateLimitPolicy policy, long nowMillis);
+
+    /**
+     * Forget all hits recorded for the given key.
+     */
+    void reset(String key);
+
+    /**
+     * Drop counters whose buckets are all older than their window.
+     */
+    void evictExpired(long nowMillis);
+}
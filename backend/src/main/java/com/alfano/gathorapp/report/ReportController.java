@@ -3,6 +3,7 @@ package com.alfano.gathorapp.report;
 import com.alfano.gathorapp.report.dto.CreateReportRequest;
 import com.alfano.gathorapp.report.dto.ReportResponse;
 import com.alfano.gathorapp.security.SecurityUser;
+import com.alfano.gathorapp.streaming.JsonArrayStreamer;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -25,6 +27,7 @@ import java.util.UUID;
 public class ReportController {
 
     private final ReportService reportService;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
     /**
      * Create a new report (authenticated users only).
@@ -54,14 +57,13 @@ public class ReportController {
     }
 
     /**
-     * Get all reports (admin only).
+     * Get all reports (admin only), streamed as a JSON array.
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ReportResponse>> getAllReports() {
+    public ResponseEntity<StreamingResponseBody> getAllReports() {
         log.info("GET /api/reports - Fetching all reports");
-        List<ReportResponse> reports = reportService.getAllReports();
-        return ResponseEntity.ok(reports);
+        return jsonArrayStreamer.<ReportResponse>ok(reportService::streamAllReports);
     }
 
     /**
@@ -1,12 +1,16 @@
 package com.alfano.gathorapp.report;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for managing Report entities.
@@ -43,4 +47,12 @@ public interface ReportRepository extends JpaRepository<Report, UUID> {
      */
     @Query("SELECT r FROM Report r WHERE r.relatedEntityId = :entityId AND r.relatedEntityType = :entityType ORDER BY r.createdAt DESC")
     List<Report> findByRelatedEntity(@Param("entityId") UUID entityId, @Param("entityType") String entityType);
+
+    /**
+     * Stream all reports, fetching rows from the database in batches.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r FROM Report r")
+    Stream<Report> streamAll();
 }
@@ -4,9 +4,11 @@ import com.alfano.gathorapp.notification.NotificationService;
 import com.alfano.gathorapp.notification.NotificationType;
 import com.alfano.gathorapp.report.dto.CreateReportRequest;
 import com.alfano.gathorapp.report.dto.ReportResponse;
+import com.alfano.gathorapp.streaming.EntityStreams;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +31,7 @@ public class ReportService {
     private final UserRepository userRepository;
     private final ReportMapper reportMapper;
     private final NotificationService notificationService;
+    private final EntityManager entityManager;
 
     /**
      * Create a new report.
@@ -79,14 +83,13 @@ public class ReportService {
     }
 
     /**
-     * Get all reports (admin only).
+     * Stream all reports to the action, without holding them all in memory (admin only).
      */
     @Transactional(readOnly = true)
-    public List<ReportResponse> getAllReports() {
-        log.info("Fetching all reports");
-        return reportRepository.findAll().stream()
-            .map(reportMapper::toResponse)
-            .collect(Collectors.toList());
+    public void streamAllReports(Consumer<ReportResponse> action) {
+        log.info("Streaming all reports");
+        EntityStreams.forEachDetached(reportRepository.streamAll(), entityManager,
+            report -> action.accept(reportMapper.toResponse(report)));
     }
 
     /**
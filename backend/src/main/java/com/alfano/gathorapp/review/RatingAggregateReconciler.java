@@ -0,0 +1,34 @@
+package com.alfano.gathorapp.review;
+
+import com.alfano.gathorapp.event.EventRepository;
+import com.alfano.gathorapp.outing.OutingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Recomputes, on startup, the rating aggregates of outings and events whose
+ * review count does not match their reviews: rows that existed before the
+ * aggregate columns, or reviews inserted outside {@link ReviewService}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RatingAggregateReconciler {
+
+    private final OutingRepository outingRepository;
+    private final EventRepository eventRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcile() {
+        int outings = outingRepository.recomputeRatings();
+        int events = eventRepository.recomputeRatings();
+        if (outings > 0 || events > 0) {
+            log.info("Recomputed rating aggregates of {} outings and {} events", outings, events);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.alfano.gathorapp.review;
+
+import com.alfano.gathorapp.event.Event;
+import com.alfano.gathorapp.transaction.Transactions;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Adds review ratings to the rating aggregates of events and outings.
+ *
+ * The aggregate columns are not updatable through the entities, so saving an
+ * event or outing loaded before a review cannot overwrite its increment. The
+ * increment is a plain SQL UPDATE rather than an HQL one: Hibernate would
+ * evict the whole events cache region (and the outing participant lists) on
+ * every review. Only the reviewed event is evicted, after commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class RatingAggregates {
+
+    static final String ADD_EVENT_RATING_SQL = "UPDATE events SET rating_sum = rating_sum + ?, "
+            + "rating_count = rating_count + 1, updated_at = ? WHERE id = ?";
+    static final String ADD_OUTING_RATING_SQL = "UPDATE outings SET rating_sum = rating_sum + ?, "
+            + "rating_count = rating_count + 1, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Add a rating to the event's aggregate, in the caller's transaction.
+     * Touches updatedAt, which versions the event for conditional requests.
+     */
+    public void addEventRating(UUID eventId, int rating) {
+        jdbcTemplate.update(ADD_EVENT_RATING_SQL, rating, LocalDateTime.now(), eventId);
+        evictAfterCommit(eventId);
+    }
+
+    /**
+     * Add a rating to the outing's aggregate, in the caller's transaction.
+     * Outings are not in the second-level cache, so nothing is evicted.
+     */
+    public void addOutingRating(UUID outingId, int rating) {
+        jdbcTemplate.update(ADD_OUTING_RATING_SQL, rating, LocalDateTime.now(), outingId);
+    }
+
+    private void evictAfterCommit(UUID eventId) {
+        Transactions.afterCommit(() -> entityManagerFactory.getCache().evict(Event.class, eventId));
+    }
+}
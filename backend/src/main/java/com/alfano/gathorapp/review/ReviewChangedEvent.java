@@ -0,0 +1,14 @@
+package com.alfano.gathorapp.review;
+
+import java.util.UUID;
+
+/**
+ * Application event published by {@link ReviewService} whenever a review is
+ * created. Listeners that keep derived state (caches) should react after the
+ * publishing transaction commits.
+ *
+ * @param eventId  the reviewed event, or null for an outing review
+ * @param outingId the reviewed outing, or null for an event review
+ */
+public record ReviewChangedEvent(UUID reviewId, UUID eventId, UUID outingId) {
+}
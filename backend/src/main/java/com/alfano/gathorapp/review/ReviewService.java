@@ -1,5 +1,6 @@
 package com.alfano.gathorapp.review;
 
+import com.alfano.gathorapp.config.CacheConfig;
 import com.alfano.gathorapp.event.Event;
 import com.alfano.gathorapp.event.EventRepository;
 import com.alfano.gathorapp.outing.Outing;
@@ -11,6 +12,8 @@ import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,17 +35,20 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final ParticipationRepository participationRepository;
     private final ReviewMapper reviewMapper;
+    private final RatingAggregates ratingAggregates;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Get all reviews for an event.
      */
+    @Cacheable(CacheConfig.EVENT_REVIEWS)
     @Transactional(readOnly = true)
     public List<ReviewResponse> getReviewsByEvent(UUID eventId) {
         log.debug("Fetching reviews for event: {}", eventId);
         return reviewRepository.findByEventId(eventId)
                 .stream()
                 .map(reviewMapper::toResponse)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     /**
@@ -72,18 +78,13 @@ public class ReviewService {
     }
 
     /**
-     * Get average rating for an outing.
+     * Get average rating for an outing, from its rating aggregate.
      */
     @Transactional(readOnly = true)
     public Double getAverageRatingForOuting(UUID outingId) {
-        log.debug("Calculating average rating for outing: {}", outingId);
-        List<Review> reviews = reviewRepository.findByOutingId(outingId);
-        if (reviews.isEmpty()) {
-            return 0.0;
-        }
-        return reviews.stream()
-                .mapToInt(Review::getRating)
-                .average()
+        log.debug("Fetching average rating for outing: {}", outingId);
+        return outingRepository.findById(outingId)
+                .map(Outing::getAverageRating)
                 .orElse(0.0);
     }
 
@@ -144,6 +145,16 @@ public class ReviewService {
                 .build();
 
         Review savedReview = reviewRepository.save(review);
+
+        // Update the rating aggregate in the same transaction as the review
+        if (event != null) {
+            ratingAggregates.addEventRating(event.getId(), request.getRating());
+        } else {
+            ratingAggregates.addOutingRating(outing.getId(), request.getRating());
+        }
+
+        eventPublisher.publishEvent(new ReviewChangedEvent(savedReview.getId(),
+                event != null ? event.getId() : null, outing != null ? outing.getId() : null));
         log.info("Review created: {}", savedReview.getId());
 
         return reviewMapper.toResponse(savedReview);
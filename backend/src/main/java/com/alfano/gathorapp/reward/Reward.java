@@ -3,6 +3,8 @@ package com.alfano.gathorapp.reward;
 import com.alfano.gathorapp.event.Event;
 import com.alfano.gathorapp.user.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import lombok.*;
@@ -13,12 +15,14 @@ import java.util.UUID;
 /**
  * Entity representing a reward offered by a BUSINESS user for an event.
  * Premium users who bring enough participants receive the reward via QR code.
+ * Cached in the "rewards" second-level cache region (see ehcache.xml).
  */
 @Entity
 @Table(name = "rewards", indexes = {
         @Index(name = "idx_reward_event", columnList = "event_id"),
         @Index(name = "idx_reward_business", columnList = "business_id")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "rewards")
 @Getter
 @Setter
 @NoArgsConstructor
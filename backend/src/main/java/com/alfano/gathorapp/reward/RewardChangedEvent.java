@@ -0,0 +1,11 @@
+package com.alfano.gathorapp.reward;
+
+import java.util.UUID;
+
+/**
+ * Application event published by {@link RewardService} whenever a reward is
+ * created. Listeners that keep derived state (caches) should react after the
+ * publishing transaction commits.
+ */
+public record RewardChangedEvent(UUID rewardId, UUID eventId) {
+}
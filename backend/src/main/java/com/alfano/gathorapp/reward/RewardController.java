@@ -24,6 +24,7 @@ import java.util.UUID;
  * Endpoints:
  * - GET /api/rewards/event/{eventId} → Get rewards for an event
  * - POST /api/rewards → Create reward (BUSINESS only)
+ * - POST /api/rewards/event/{eventId}/evaluate → Issue missing vouchers of an event (owner only)
  */
 @Tag(name = "Rewards", description = "Reward management APIs (BUSINESS users)")
 @SecurityRequirement(name = "bearerAuth")
@@ -61,4 +62,19 @@ public class RewardController {
         RewardResponse reward = rewardService.createReward(request, userId);
         return ResponseEntity.status(HttpStatus.CREATED).body(reward);
     }
+
+    /**
+     * POST /api/rewards/event/{eventId}/evaluate
+     * Re-evaluate the rewards of an event in the background (event owner only).
+     */
+    @Operation(summary = "Re-evaluate rewards",
+            description = "Issue the vouchers earned by the outings of an event that are still missing. Runs asynchronously.")
+    @PostMapping("/event/{eventId}/evaluate")
+    public ResponseEntity<Void> reevaluateEvent(
+            @PathVariable("eventId") UUID eventId,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        log.info("POST /api/rewards/event/{}/evaluate - Re-evaluating rewards", eventId);
+        rewardService.reevaluateEvent(eventId, securityUser.getUserId());
+        return ResponseEntity.accepted().build();
+    }
 }
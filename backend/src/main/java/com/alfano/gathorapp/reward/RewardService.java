@@ -1,14 +1,20 @@
 package com.alfano.gathorapp.reward;
 
+import com.alfano.gathorapp.config.CacheConfig;
 import com.alfano.gathorapp.event.Event;
 import com.alfano.gathorapp.event.EventRepository;
+import com.alfano.gathorapp.exception.ForbiddenException;
+import com.alfano.gathorapp.exception.ResourceNotFoundException;
 import com.alfano.gathorapp.reward.dto.CreateRewardRequest;
 import com.alfano.gathorapp.reward.dto.RewardResponse;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
+import com.alfano.gathorapp.voucher.RewardEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,17 +34,20 @@ public class RewardService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final RewardMapper rewardMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RewardEngine rewardEngine;
 
     /**
      * Get all rewards for an event.
      */
+    @Cacheable(CacheConfig.EVENT_REWARDS)
     @Transactional(readOnly = true)
     public List<RewardResponse> getRewardsByEvent(UUID eventId) {
         log.debug("Fetching rewards for event: {}", eventId);
         return rewardRepository.findByEventId(eventId)
                 .stream()
                 .map(rewardMapper::toResponse)
-                .collect(Collectors.toList());
+                .toList();
     }
 
     /**
@@ -75,8 +84,26 @@ public class RewardService {
                 .build();
 
         Reward savedReward = rewardRepository.save(reward);
+        eventPublisher.publishEvent(new RewardChangedEvent(savedReward.getId(), event.getId()));
         log.info("Reward created: {}", savedReward.getId());
 
         return rewardMapper.toResponse(savedReward);
     }
+
+    /**
+     * Re-evaluate every reward of an event against its outings in the
+     * background, issuing missing vouchers (event owner only).
+     */
+    @Transactional(readOnly = true)
+    public void reevaluateEvent(UUID eventId, UUID businessId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found with id: " + eventId));
+
+        if (!event.getCreator().getId().equals(businessId)) {
+            throw new ForbiddenException("You can only re-evaluate rewards of your own events");
+        }
+
+        log.info("Re-evaluating rewards of event {}", eventId);
+        rewardEngine.submitEvent(eventId);
+    }
 }
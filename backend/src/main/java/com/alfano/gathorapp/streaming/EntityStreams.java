@@ -0,0 +1,37 @@
+package com.alfano.gathorapp.streaming;
+
+import jakarta.persistence.EntityManager;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Helpers for reading large result sets from repository streams.
+ */
+public final class EntityStreams {
+
+    /**
+     * Number of rows kept in the persistence context between clears.
+     */
+    static final int CLEAR_EVERY = 100;
+
+    private EntityStreams() {
+    }
+
+    /**
+     * Apply the action to every row, then close the stream. The persistence
+     * context is cleared every {@value #CLEAR_EVERY} rows, so memory use does
+     * not grow with the number of rows; the action must not keep entities.
+     */
+    public static <E> void forEachDetached(Stream<E> rows, EntityManager entityManager, Consumer<E> action) {
+        try (rows) {
+            int count = 0;
+            for (E row : (Iterable<E>) rows::iterator) {
+                action.accept(row);
+                if (++count % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.alfano.gathorapp.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes list responses as a JSON array one element at a time, so that a
+ * list endpoint never holds the whole list in memory.
+ *
+ * The producer is a service method that pushes each DTO to the given
+ * consumer while reading rows from a repository stream; it runs on the MVC
+ * async executor once the response is committed.
+ */
+@Component
+public class JsonArrayStreamer {
+
+    private final ObjectWriter writer;
+    private final ObjectMapper objectMapper;
+
+    public JsonArrayStreamer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // Leave flushing to the servlet buffer instead of flushing every element
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 200 response streaming the elements pushed by the producer.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> ok(Consumer<Consumer<T>> producer) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.writeStartArray();
+                producer.accept(element -> write(generator, element));
+                generator.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    private void write(JsonGenerator generator, Object element) {
+        try {
+            writer.writeValue(generator, element);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.alfano.gathorapp.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for work that must follow the current transaction.
+ */
+public final class Transactions {
+
+    private Transactions() {
+    }
+
+    /**
+     * Run an action once the current transaction commits, or immediately when
+     * there is no transaction (so in-memory state never sees rolled back data).
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -1,6 +1,8 @@
 package com.alfano.gathorapp.user;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import lombok.*;
 
 import java.time.LocalDateTime;
@@ -8,9 +10,14 @@ import java.util.UUID;
 
 /**
  * Entity representing a user in the system.
+ * Cached in the "users" second-level cache region (see ehcache.xml).
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // Latest change, for conditional requests
+        @Index(name = "idx_user_updated", columnList = "updated_at")
+})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -45,8 +52,20 @@ public class User {
 
     private LocalDateTime createdAt;
 
+    /**
+     * Last change to the user. Users saved before it was tracked get their
+     * creation time on startup (see UpdatedAtBackfill).
+     */
+    private LocalDateTime updatedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
@@ -1,11 +1,20 @@
 package com.alfano.gathorapp.user;
 
+import com.alfano.gathorapp.conditional.ResourceStamp;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository per l'entità User.
@@ -24,6 +33,12 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      */
     boolean existsByEmail(String email);
 
+    /**
+     * Id and role of the users with the given emails (for bulk imports).
+     */
+    @Query("SELECT u.id AS id, u.email AS email, u.role AS role FROM User u WHERE u.email IN :emails")
+    List<UserRef> findRefsByEmailIn(@Param("emails") Collection<String> emails);
+
     /**
      * Count users by role.
      */
@@ -33,4 +48,62 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * Find all users by role.
      */
     List<User> findByRole(Role role);
+
+    /**
+     * Version of all users, for conditional requests on responses that
+     * embed user names.
+     */
+    @Query("SELECT new com.alfano.gathorapp.conditional.ResourceStamp(COUNT(u), MAX(u.updatedAt)) FROM User u")
+    ResourceStamp stamp();
+
+    /**
+     * Give users saved before updatedAt was tracked their creation time, so
+     * that {@link #stamp()} can read the latest change from the index.
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.updatedAt = u.createdAt WHERE u.updatedAt IS NULL")
+    int backfillUpdatedAt();
+
+    /**
+     * Stream all users, fetching rows from the database in batches.
+     * Must be consumed inside a transaction and closed.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT u FROM User u")
+    Stream<User> streamAll();
+
+    /**
+     * Count all users and the users of each role in a single scan
+     * (for admin statistics).
+     */
+    @Query("SELECT COUNT(u) AS total, " +
+           "COUNT(u) FILTER (WHERE u.role = com.alfano.gathorapp.user.Role.USER) AS base, " +
+           "COUNT(u) FILTER (WHERE u.role = com.alfano.gathorapp.user.Role.PREMIUM) AS premium, " +
+           "COUNT(u) FILTER (WHERE u.role = com.alfano.gathorapp.user.Role.BUSINESS) AS business " +
+           "FROM User u")
+    RoleCounts countPerRole();
+
+    /**
+     * Projection of a user's identity and role.
+     */
+    interface UserRef {
+        UUID getId();
+
+        String getEmail();
+
+        Role getRole();
+    }
+
+    /**
+     * Projection of the user counts per role.
+     */
+    interface RoleCounts {
+        long getTotal();
+
+        long getBase();
+
+        long getPremium();
+
+        long getBusiness();
+    }
 }
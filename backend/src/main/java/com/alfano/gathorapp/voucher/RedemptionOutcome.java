@@ -0,0 +1,36 @@
+package com.alfano.gathorapp.voucher;
+
+/**
+ * Outcome of redeeming one QR code.
+ */
+public enum RedemptionOutcome {
+    /**
+     * Redeemed by this request.
+     */
+    REDEEMED,
+
+    /**
+     * No voucher has this QR code.
+     */
+    NOT_FOUND,
+
+    /**
+     * The voucher belongs to another business.
+     */
+    FORBIDDEN,
+
+    /**
+     * The voucher was redeemed before.
+     */
+    ALREADY_REDEEMED,
+
+    /**
+     * The voucher is past its expiration date.
+     */
+    EXPIRED,
+
+    /**
+     * The voucher was cancelled.
+     */
+    CANCELLED
+}
@@ -0,0 +1,124 @@
+package com.alfano.gathorapp.voucher;
+
+import com.alfano.gathorapp.participation.ParticipationChangedEvent;
+import com.alfano.gathorapp.reward.RewardChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Evaluates rewards in the background, after the change that may have earned
+ * a voucher has committed.
+ *
+ * An approved participation queues the evaluation of its outing; a new reward
+ * queues a backfill of its whole event, so that outings that already reached
+ * the threshold get their voucher too. Work runs on a single worker thread
+ * and is coalesced: an outing or event is queued at most once until its
+ * evaluation starts. Evaluations are idempotent; if another node issues the
+ * same voucher concurrently, the unique constraint rejects one insert and the
+ * evaluation is retried once, then sees the voucher.
+ *
+ * When the queue is full the evaluation runs on the publishing thread
+ * instead, after its commit. The queue is in memory only; work lost on a
+ * restart is queued again by {@link RewardReconciler}.
+ */
+@Component
+@Slf4j
+public class RewardEngine {
+
+    private final VoucherService voucherService;
+    private final Executor executor;
+    private final Set<UUID> queuedOutings = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> queuedEvents = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public RewardEngine(
+            VoucherService voucherService,
+            @Value("${app.rewards.engine.queue-capacity:10000}") int queueCapacity) {
+        this(voucherService, new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "reward-engine");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()));
+    }
+
+    RewardEngine(VoucherService voucherService, Executor executor) {
+        this.voucherService = voucherService;
+        this.executor = executor;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipationChanged(ParticipationChangedEvent event) {
+        if (event.change() == ParticipationChangedEvent.Change.APPROVED) {
+            submitOuting(event.outingId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRewardChanged(RewardChangedEvent event) {
+        submitEvent(event.eventId());
+    }
+
+    /**
+     * Queue the evaluation of an outing's rewards.
+     */
+    public void submitOuting(UUID outingId) {
+        if (queuedOutings.add(outingId)) {
+            executor.execute(() -> {
+                queuedOutings.remove(outingId);
+                run("outing " + outingId, () -> voucherService.evaluateOuting(outingId));
+            });
+        }
+    }
+
+    /**
+     * Queue the re-evaluation of every reward and outing of an event.
+     */
+    public void submitEvent(UUID eventId) {
+        if (queuedEvents.add(eventId)) {
+            executor.execute(() -> {
+                queuedEvents.remove(eventId);
+                run("event " + eventId, () -> voucherService.backfillEvent(eventId));
+            });
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (executor instanceof ExecutorService service) {
+            service.shutdown();
+            if (!service.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Reward engine stopped with evaluations still queued");
+            }
+        }
+    }
+
+    private void run(String target, Runnable evaluation) {
+        try {
+            try {
+                evaluation.run();
+            } catch (DataIntegrityViolationException e) {
+                log.debug("Voucher for {} issued concurrently, evaluating again", target);
+                evaluation.run();
+            }
+        } catch (RuntimeException e) {
+            log.error("Reward evaluation for {} failed: {}", target, e.getMessage(), e);
+        }
+    }
+}
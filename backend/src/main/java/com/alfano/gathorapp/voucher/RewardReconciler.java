@@ -0,0 +1,43 @@
+package com.alfano.gathorapp.voucher;
+
+import com.alfano.gathorapp.participation.ParticipationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Re-queues, on startup and then periodically, the backfill of every event
+ * with rewards that had a participation approved within the lookback window.
+ *
+ * {@link RewardEngine} only keeps its work in memory, so evaluations queued
+ * when a node stops, or that failed, would otherwise be lost until the next
+ * approval of the same outing. Backfills are idempotent and coalesced with
+ * the ones already queued.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RewardReconciler {
+
+    private final ParticipationRepository participationRepository;
+    private final RewardEngine rewardEngine;
+
+    @Value("${app.rewards.reconcile.lookback-hours:24}")
+    private long lookbackHours;
+
+    @Scheduled(fixedDelayString = "${app.rewards.reconcile.interval-ms:3600000}")
+    public void reconcile() {
+        List<UUID> eventIds = participationRepository
+                .findRewardedEventIdsApprovedSince(LocalDateTime.now().minusHours(lookbackHours));
+        eventIds.forEach(rewardEngine::submitEvent);
+        if (!eventIds.isEmpty()) {
+            log.info("Queued reward backfill of {} events with recent approvals", eventIds.size());
+        }
+    }
+}
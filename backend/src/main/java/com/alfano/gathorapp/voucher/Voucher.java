@@ -19,8 +19,11 @@ import java.util.UUID;
  * at the business location.
  */
 @Entity
-@Table(name = "vouchers", indexes = {
-        @Index(name = "idx_voucher_user", columnList = "user_id"),
+@EntityListeners(VoucherCodeListener.class)
+@Table(name = "vouchers", uniqueConstraints = {
+        // One voucher per reward and outing; also serves lookups by user
+        @UniqueConstraint(name = "uk_voucher_user_reward_outing", columnNames = { "user_id", "reward_id", "outing_id" })
+}, indexes = {
         @Index(name = "idx_voucher_reward", columnList = "reward_id"),
         @Index(name = "idx_voucher_status", columnList = "status")
 })
@@ -61,7 +64,7 @@ public class Voucher {
 
     /**
      * Unique QR code for redemption.
-     * Format: VOUCHER-{UUID}
+     * Format: 17 Crockford Base32 symbols, see {@link VoucherCodes}
      */
     @Column(nullable = false, unique = true, length = 100)
     private String qrCode;
@@ -98,7 +101,7 @@ public class Voucher {
             issuedAt = LocalDateTime.now();
         }
         if (qrCode == null) {
-            qrCode = "VOUCHER-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+            qrCode = VoucherCodes.generate();
         }
         if (expiresAt == null) {
             // Default: expires 60 days after issuance
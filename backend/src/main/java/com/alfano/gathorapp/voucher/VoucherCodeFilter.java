@@ -0,0 +1,96 @@
+package com.alfano.gathorapp.voucher;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter of issued voucher codes, so that scans of codes that
+ * were never issued are rejected without a database round trip.
+ *
+ * The filter is filled from the database by {@link VoucherService#rebuildCodeFilter()}
+ * at startup and periodically, and {@link VoucherCodeListener} adds every
+ * voucher inserted through JPA on this node once its transaction commits.
+ * Until the first rebuild completes every plausible code passes. A false
+ * positive only costs the query the filter would have saved; there are no
+ * false negatives for codes issued on this node.
+ *
+ * The filter is node-local: a code issued by another node is known here only
+ * after the next rebuild. It is therefore disabled by default
+ * ({@code app.vouchers.code-filter.enabled}); enable it only when a single
+ * node issues vouchers.
+ */
+@Component
+@Slf4j
+public class VoucherCodeFilter {
+
+    private final boolean enabled;
+    private final long expectedCodes;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter rebuilding;
+
+    @Autowired
+    public VoucherCodeFilter(
+            @Value("${app.vouchers.code-filter.enabled:false}") boolean enabled,
+            @Value("${app.vouchers.code-filter.expected-codes:1000000}") long expectedCodes,
+            @Value("${app.vouchers.code-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.enabled = enabled;
+        this.expectedCodes = expectedCodes;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * Whether a code may have been issued; false means it certainly was not.
+     */
+    public boolean mightExist(String code) {
+        if (!VoucherCodes.isPlausible(code)) {
+            return false;
+        }
+        BloomFilter current = filter;
+        return current == null || current.mightContain(code);
+    }
+
+    synchronized void add(String code) {
+        if (filter != null) {
+            filter.add(code);
+        }
+        if (rebuilding != null) {
+            rebuilding.add(code);
+        }
+    }
+
+    /**
+     * Replace the filter with one holding the given codes. The new filter
+     * receives added codes before the codes are queried, so a code committed
+     * after the query's snapshot is still added to it; none is lost in the swap.
+     *
+     * @param issuedCount number of codes, to size the new filter
+     * @param codes opens the query of all issued codes; the stream is closed here
+     */
+    void rebuild(long issuedCount, Supplier<Stream<String>> codes) {
+        if (!enabled) {
+            return;
+        }
+        BloomFilter next = new BloomFilter(Math.max(expectedCodes, issuedCount * 2), falsePositiveRate);
+        synchronized (this) {
+            rebuilding = next;
+        }
+        try (Stream<String> issued = codes.get()) {
+            issued.forEach(next::add);
+            synchronized (this) {
+                filter = next;
+            }
+        } finally {
+            synchronized (this) {
+                rebuilding = null;
+            }
+        }
+        log.debug("Voucher code filter rebuilt with {} codes", issuedCount);
+    }
+}
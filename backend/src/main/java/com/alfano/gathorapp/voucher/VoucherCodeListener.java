@@ -0,0 +1,25 @@
+package com.alfano.gathorapp.voucher;
+
+import com.alfano.gathorapp.transaction.Transactions;
+import jakarta.persistence.PostPersist;
+
+/**
+ * Entity listener adding the code of every voucher inserted through JPA to the
+ * {@link VoucherCodeFilter} once the inserting transaction commits, so that a
+ * rebuild cannot miss a voucher flushed before it and committed after it read
+ * the issued codes. Hibernate creates it through Spring, which injects the filter.
+ */
+class VoucherCodeListener {
+
+    private final VoucherCodeFilter codeFilter;
+
+    VoucherCodeListener(VoucherCodeFilter codeFilter) {
+        this.codeFilter = codeFilter;
+    }
+
+    @PostPersist
+    void onPersist(Voucher voucher) {
+        String code = voucher.getQrCode();
+        Transactions.afterCommit(() -> codeFilter.add(code));
+    }
+}
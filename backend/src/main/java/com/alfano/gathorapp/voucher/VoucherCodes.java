@@ -0,0 +1,132 @@
+package com.alfano.gathorapp.voucher;
+
+import java.security.SecureRandom;
+
+/**
+ * Voucher redemption codes.
+ *
+ * A code is 16 random Crockford Base32 symbols (80 bits) followed by a
+ * Luhn mod 32 check symbol: 17 upper-case characters, no separators. The
+ * alphabet has no I, L, O or U, so codes read back unambiguously, and the
+ * check symbol catches any single mistyped symbol and most swapped pairs
+ * before the database is asked. At a billion codes the chance that any two
+ * collide is below one in a million; the unique index stays the last guard.
+ *
+ * Codes issued before this format ("VOUCHER-" and 8 hex digits) remain
+ * valid; they are recognized by not having the fixed length and alphabet.
+ */
+final class VoucherCodes {
+
+    static final int LENGTH = 17;
+
+    private static final int RANDOM_SYMBOLS = LENGTH - 1;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private VoucherCodes() {
+    }
+
+    /**
+     * Generate a new code.
+     */
+    static String generate() {
+        byte[] bytes = new byte[RANDOM_SYMBOLS * 5 / 8];
+        RANDOM.nextBytes(bytes);
+
+        char[] code = new char[LENGTH];
+        long buffer = 0;
+        int bits = 0;
+        int position = 0;
+        for (byte b : bytes) {
+            buffer = (buffer << 8) | (b & 0xFF);
+            bits += 8;
+            while (bits >= 5) {
+                bits -= 5;
+                code[position++] = ALPHABET[(int) (buffer >>> bits) & 31];
+            }
+        }
+        code[position] = ALPHABET[checkValue(code, RANDOM_SYMBOLS)];
+        return new String(code);
+    }
+
+    /**
+     * Normalize a typed or scanned code: lower case is upper-cased and the
+     * look-alikes O, I and L are read as 0, 1 and 1. Anything that is not a
+     * code of this format is returned unchanged.
+     */
+    static String normalize(String code) {
+        if (code == null || code.length() != LENGTH) {
+            return code;
+        }
+        char[] normalized = new char[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            char c = Character.toUpperCase(code.charAt(i));
+            normalized[i] = switch (c) {
+                case 'O' -> '0';
+                case 'I', 'L' -> '1';
+                default -> c;
+            };
+            if (valueOf(normalized[i]) < 0) {
+                return code;
+            }
+        }
+        return new String(normalized);
+    }
+
+    /**
+     * Whether a code can exist: a code of this format must carry a valid check
+     * symbol, other non-blank codes are assumed to be of an older format.
+     */
+    static boolean isPlausible(String code) {
+        if (code == null || code.isBlank()) {
+            return false;
+        }
+        if (!isFormatted(code)) {
+            return true;
+        }
+        char[] symbols = code.toCharArray();
+        return valueOf(symbols[RANDOM_SYMBOLS]) == checkValue(symbols, RANDOM_SYMBOLS);
+    }
+
+    private static boolean isFormatted(String code) {
+        if (code.length() != LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < LENGTH; i++) {
+            if (valueOf(code.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Luhn mod 32 check value of the first {@code length} symbols.
+     */
+    private static int checkValue(char[] symbols, int length) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = length - 1; i >= 0; i--) {
+            int value = valueOf(symbols[i]);
+            if (doubled) {
+                value *= 2;
+                value = value / 32 + value % 32;
+            }
+            sum += value;
+            doubled = !doubled;
+        }
+        return (32 - sum % 32) % 32;
+    }
+
+    private static int valueOf(char symbol) {
+        if (symbol >= '0' && symbol <= '9') {
+            return symbol - '0';
+        }
+        for (int i = 10; i < ALPHABET.length; i++) {
+            if (ALPHABET[i] == symbol) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
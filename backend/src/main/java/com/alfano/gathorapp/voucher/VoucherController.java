@@ -1,10 +1,13 @@
 package com.alfano.gathorapp.voucher;
 
 import com.alfano.gathorapp.security.SecurityUser;
+import com.alfano.gathorapp.voucher.dto.BatchRedeemRequest;
+import com.alfano.gathorapp.voucher.dto.BatchRedeemResponse;
 import com.alfano.gathorapp.voucher.dto.VoucherResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +26,7 @@ import java.util.UUID;
  * - GET /api/vouchers/my/active → Get active vouchers only
  * - GET /api/vouchers/{id} → Get specific voucher details
  * - POST /api/vouchers/redeem/{qrCode} → Redeem voucher (BUSINESS only)
+ * - POST /api/vouchers/redeem → Redeem many vouchers at once (BUSINESS only)
  */
 @Tag(name = "Vouchers", description = "Voucher and reward redemption APIs")
 @SecurityRequirement(name = "bearerAuth")
@@ -99,4 +103,22 @@ public class VoucherController {
         VoucherResponse voucher = voucherService.redeemVoucher(qrCode, businessUserId);
         return ResponseEntity.ok(voucher);
     }
+
+    /**
+     * POST /api/vouchers/redeem
+     * Redeem many QR codes at once, e.g. scans synced by an offline scanner.
+     * Only BUSINESS users can redeem vouchers.
+     */
+    @Operation(summary = "Redeem vouchers in batch",
+            description = "Redeem up to 500 QR codes. Returns the outcome of each code; codes that cannot be redeemed do not fail the batch.")
+    @PostMapping("/redeem")
+    @PreAuthorize("hasRole('BUSINESS')")
+    public ResponseEntity<BatchRedeemResponse> redeemVouchers(
+            @Valid @RequestBody BatchRedeemRequest request,
+            @AuthenticationPrincipal SecurityUser securityUser) {
+        UUID businessUserId = securityUser.getUserId();
+        log.info("POST /api/vouchers/redeem - {} codes, business user: {}", request.getQrCodes().size(), businessUserId);
+
+        return ResponseEntity.ok(voucherService.redeemVouchers(request.getQrCodes(), businessUserId));
+    }
 }
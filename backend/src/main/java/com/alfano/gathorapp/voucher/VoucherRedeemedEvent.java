@@ -0,0 +1,11 @@
+package com.alfano.gathorapp.voucher;
+
+import java.util.UUID;
+
+/**
+ * Application event published by {@link VoucherService} whenever a business
+ * redeems a voucher. Listeners that keep derived state (counters) should
+ * react after the publishing transaction commits.
+ */
+public record VoucherRedeemedEvent(UUID voucherId, UUID rewardId, UUID businessId) {
+}
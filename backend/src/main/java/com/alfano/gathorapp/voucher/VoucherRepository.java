@@ -2,14 +2,17 @@ package com.alfano.gathorapp.voucher;
 
 import com.alfano.gathorapp.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for Voucher entity.
@@ -27,11 +30,84 @@ public interface VoucherRepository extends JpaRepository<Voucher, UUID> {
      */
     List<Voucher> findByUserId(UUID userId);
 
+    /**
+     * Check whether a user already holds a voucher for a reward earned
+     * through an outing (uses the unique index on those columns).
+     */
+    boolean existsByUserIdAndRewardIdAndOutingId(UUID userId, UUID rewardId, UUID outingId);
+
+    /**
+     * Outing and reward of every voucher issued for the rewards of an event.
+     */
+    @Query("SELECT v.outing.id AS outingId, v.reward.id AS rewardId FROM Voucher v WHERE v.reward.event.id = :eventId")
+    List<IssuedVoucher> findIssuedForEvent(@Param("eventId") UUID eventId);
+
+    /**
+     * Projection of an issued voucher.
+     */
+    interface IssuedVoucher {
+        UUID getOutingId();
+
+        UUID getRewardId();
+    }
+
+    /**
+     * Every issued code, to fill the {@link VoucherCodeFilter}.
+     */
+    @Query("SELECT v.qrCode FROM Voucher v")
+    Stream<String> streamAllQrCodes();
+
     /**
      * Find voucher by QR code.
      */
     Optional<Voucher> findByQrCode(String qrCode);
 
+    /**
+     * Find voucher by QR code with its reward, business and outing, for
+     * mapping in a single query.
+     */
+    @Query("SELECT v FROM Voucher v JOIN FETCH v.reward r JOIN FETCH r.business JOIN FETCH v.outing " +
+           "WHERE v.qrCode = :qrCode")
+    Optional<Voucher> findWithDetailsByQrCode(@Param("qrCode") String qrCode);
+
+    /**
+     * Redeem a voucher if it is active, not expired and belongs to a reward
+     * of the business. The affected row count (0 or 1) tells whether this
+     * call redeemed it, so concurrent scans of the same code cannot both
+     * succeed.
+     */
+    @Modifying
+    @Query("UPDATE Voucher v SET v.status = com.alfano.gathorapp.voucher.VoucherStatus.REDEEMED, v.redeemedAt = :now " +
+           "WHERE v.qrCode = :qrCode AND v.status = com.alfano.gathorapp.voucher.VoucherStatus.ACTIVE " +
+           "AND v.expiresAt > :now AND v.reward.id IN (SELECT r.id FROM Reward r WHERE r.business.id = :businessId)")
+    int redeemIfActive(@Param("qrCode") String qrCode, @Param("businessId") UUID businessId,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Redemption state of the vouchers with the given QR codes, to explain
+     * why a redemption did not happen.
+     */
+    @Query("SELECT v.id AS id, v.qrCode AS qrCode, v.reward.id AS rewardId, v.reward.business.id AS businessId, " +
+           "v.status AS status, v.expiresAt AS expiresAt FROM Voucher v WHERE v.qrCode IN :qrCodes")
+    List<RedemptionState> findRedemptionStates(@Param("qrCodes") Collection<String> qrCodes);
+
+    /**
+     * Projection of a voucher's redemption state.
+     */
+    interface RedemptionState {
+        UUID getId();
+
+        String getQrCode();
+
+        UUID getRewardId();
+
+        UUID getBusinessId();
+
+        VoucherStatus getStatus();
+
+        LocalDateTime getExpiresAt();
+    }
+
     /**
      * Find all active vouchers for a user.
      */
@@ -60,4 +136,21 @@ public interface VoucherRepository extends JpaRepository<Voucher, UUID> {
      */
     @Query("SELECT COUNT(v) FROM Voucher v WHERE v.status = 'ACTIVE' AND v.expiresAt > :now")
     long countAllActiveVouchers(@Param("now") LocalDateTime now);
+
+    /**
+     * Count all vouchers and the active ones in a single scan (for admin
+     * statistics).
+     */
+    @Query("SELECT COUNT(v) AS total, " +
+           "COUNT(v) FILTER (WHERE v.status = 'ACTIVE' AND v.expiresAt > :now) AS active FROM Voucher v")
+    VoucherCounts countTotalAndActive(@Param("now") LocalDateTime now);
+
+    /**
+     * Projection of the voucher counts.
+     */
+    interface VoucherCounts {
+        long getTotal();
+
+        long getActive();
+    }
 }
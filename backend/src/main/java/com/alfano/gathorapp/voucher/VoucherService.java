@@ -1,5 +1,6 @@
 package com.alfano.gathorapp.voucher;
 
+import com.alfano.gathorapp.exception.ResourceNotFoundException;
 import com.alfano.gathorapp.outing.Outing;
 import com.alfano.gathorapp.outing.OutingRepository;
 import com.alfano.gathorapp.participation.ParticipationRepository;
@@ -9,17 +10,28 @@ import com.alfano.gathorapp.reward.RewardRepository;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
+import com.alfano.gathorapp.voucher.dto.BatchRedeemResponse;
 import com.alfano.gathorapp.voucher.dto.VoucherResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Service for managing vouchers and reward distribution.
@@ -32,12 +44,19 @@ import java.util.stream.Collectors;
 @Slf4j
 public class VoucherService {
 
+    static final String REDEEM_SQL = "UPDATE vouchers SET status = 'REDEEMED', redeemed_at = ? "
+            + "WHERE qr_code = ? AND status = 'ACTIVE' AND expires_at > ? "
+            + "AND reward_id IN (SELECT id FROM rewards WHERE business_id = ?)";
+
     private final VoucherRepository voucherRepository;
     private final RewardRepository rewardRepository;
     private final OutingRepository outingRepository;
     private final ParticipationRepository participationRepository;
     private final UserRepository userRepository;
     private final VoucherMapper voucherMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final VoucherCodeFilter codeFilter;
 
     /**
      * Get all vouchers for a user.
@@ -84,33 +103,126 @@ public class VoucherService {
     /**
      * Redeem a voucher.
      * Called by business user scanning the QR code.
+     *
+     * The voucher is redeemed by one conditional UPDATE; only when it does
+     * not apply is the voucher read to report why. Codes that fail their
+     * check symbol or are unknown to the {@link VoucherCodeFilter} are
+     * rejected without a query.
      */
     @Transactional
-    public VoucherResponse redeemVoucher(String qrCode, UUID businessUserId) {
-        log.info("Redeeming voucher with QR code: {} by business user: {}", qrCode, businessUserId);
+    public VoucherResponse redeemVoucher(String scannedCode, UUID businessUserId) {
+        log.info("Redeeming voucher with QR code: {} by business user: {}", scannedCode, businessUserId);
 
-        Voucher voucher = voucherRepository.findByQrCode(qrCode)
-                .orElseThrow(() -> new com.alfano.gathorapp.exception.ResourceNotFoundException(
-                        "Voucher not found with QR code: " + qrCode));
-
-        // Verify the business user owns this reward
-        if (!voucher.getReward().getBusiness().getId().equals(businessUserId)) {
-            throw new UnauthorizedVoucherAccessException("Unauthorized: this voucher belongs to a different business");
+        String qrCode = VoucherCodes.normalize(scannedCode);
+        if (!codeFilter.mightExist(qrCode)) {
+            throw new ResourceNotFoundException("Voucher not found with QR code: " + scannedCode);
         }
 
-        // Redeem the voucher (throws IllegalStateException if cannot be redeemed)
-        try {
-            voucher.redeem();
-        } catch (IllegalStateException e) {
-            throw new VoucherRedemptionException(e.getMessage(), e);
+        LocalDateTime now = LocalDateTime.now();
+        if (voucherRepository.redeemIfActive(qrCode, businessUserId, now) == 0) {
+            VoucherRepository.RedemptionState state = voucherRepository.findRedemptionStates(List.of(qrCode))
+                    .stream()
+                    .findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("Voucher not found with QR code: " + qrCode));
+            RedemptionOutcome outcome = rejectionOf(state, businessUserId, now);
+            if (outcome == RedemptionOutcome.FORBIDDEN) {
+                throw new UnauthorizedVoucherAccessException("Unauthorized: this voucher belongs to a different business");
+            }
+            throw new VoucherRedemptionException(outcome == RedemptionOutcome.EXPIRED
+                    ? "Cannot redeem: voucher expired on " + state.getExpiresAt()
+                    : "Cannot redeem: voucher is " + state.getStatus());
         }
-        voucherRepository.save(voucher);
+
+        Voucher voucher = voucherRepository.findWithDetailsByQrCode(qrCode)
+                .orElseThrow(() -> new ResourceNotFoundException("Voucher not found with QR code: " + qrCode));
+        eventPublisher.publishEvent(new VoucherRedeemedEvent(
+                voucher.getId(), voucher.getReward().getId(), businessUserId));
 
         log.info("Voucher {} successfully redeemed", voucher.getId());
 
         return voucherMapper.toResponse(voucher);
     }
 
+    /**
+     * Redeem many QR codes at once, e.g. scans synced by an offline scanner.
+     *
+     * All codes are redeemed with one JDBC batch of conditional UPDATEs whose
+     * row counts decide which codes this call redeemed; the state of all
+     * codes is then read with one query to report the others. A code listed
+     * twice is redeemed once. Codes rejected by the {@link VoucherCodeFilter}
+     * are reported as not found without being sent to the database.
+     */
+    @Transactional
+    public BatchRedeemResponse redeemVouchers(List<String> qrCodes, UUID businessUserId) {
+        log.info("Redeeming {} vouchers by business user: {}", qrCodes.size(), businessUserId);
+
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<String> codes = qrCodes.stream().map(VoucherCodes::normalize).toList();
+
+        // Rows are updated in code order so that concurrent batches lock them in the same order
+        // and cannot deadlock; the sort is stable, so of repeated codes the first one is redeemed
+        List<Integer> order = IntStream.range(0, codes.size()).boxed()
+                .filter(i -> codeFilter.mightExist(codes.get(i)))
+                .sorted(Comparator.comparing(codes::get))
+                .toList();
+        int[] counts = new int[codes.size()];
+        Map<String, VoucherRepository.RedemptionState> states = Map.of();
+        if (!order.isEmpty()) {
+            int[] updated = jdbcTemplate.batchUpdate(REDEEM_SQL, order.stream()
+                    .map(i -> new Object[] { timestamp, codes.get(i), timestamp, businessUserId })
+                    .toList());
+            for (int i = 0; i < updated.length; i++) {
+                counts[order.get(i)] = updated[i];
+            }
+            states = voucherRepository.findRedemptionStates(order.stream().map(codes::get).distinct().toList())
+                    .stream()
+                    .collect(Collectors.toMap(VoucherRepository.RedemptionState::getQrCode, Function.identity()));
+        }
+
+        List<BatchRedeemResponse.Result> results = new ArrayList<>();
+        int redeemed = 0;
+        for (int i = 0; i < qrCodes.size(); i++) {
+            VoucherRepository.RedemptionState state = states.get(codes.get(i));
+            RedemptionOutcome outcome;
+            if (counts[i] > 0) {
+                outcome = RedemptionOutcome.REDEEMED;
+                redeemed++;
+                eventPublisher.publishEvent(new VoucherRedeemedEvent(state.getId(), state.getRewardId(), businessUserId));
+            } else {
+                outcome = state == null ? RedemptionOutcome.NOT_FOUND : rejectionOf(state, businessUserId, now);
+            }
+            results.add(BatchRedeemResponse.Result.builder()
+                    .qrCode(qrCodes.get(i))
+                    .outcome(outcome)
+                    // Ids of other businesses' vouchers are not disclosed
+                    .voucherId(state != null && outcome != RedemptionOutcome.FORBIDDEN ? state.getId() : null)
+                    .build());
+        }
+
+        log.info("Redeemed {} of {} vouchers", redeemed, qrCodes.size());
+        return BatchRedeemResponse.builder()
+                .redeemed(redeemed)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * Why an existing voucher could not be redeemed by the business.
+     */
+    private static RedemptionOutcome rejectionOf(VoucherRepository.RedemptionState state, UUID businessUserId,
+            LocalDateTime now) {
+        if (!state.getBusinessId().equals(businessUserId)) {
+            return RedemptionOutcome.FORBIDDEN;
+        }
+        return switch (state.getStatus()) {
+            case REDEEMED -> RedemptionOutcome.ALREADY_REDEEMED;
+            case CANCELLED -> RedemptionOutcome.CANCELLED;
+            // An active voucher of this business is only rejected once it has expired
+            case ACTIVE, EXPIRED -> RedemptionOutcome.EXPIRED;
+        };
+    }
+
     /**
      * Check if a Premium user is eligible for a reward based on their outing
      * participation.
@@ -121,14 +233,32 @@ public class VoucherService {
      */
     @Transactional
     public void checkAndIssueVoucher(UUID outingId, UUID userId) {
-        log.debug("Checking voucher eligibility for user {} in outing {}", userId, outingId);
-
         Outing outing = outingRepository.findById(outingId)
                 .orElseThrow(() -> new RuntimeException("Outing not found"));
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
+        checkAndIssueVoucher(outing, user);
+    }
+
+    /**
+     * Same as {@link #checkAndIssueVoucher(UUID, UUID)} for callers that
+     * already hold the outing and the user.
+     *
+     * A voucher is issued at most once per user, reward and outing: each
+     * reward is checked with an indexed existence query, and the unique
+     * constraint on the vouchers table rejects a concurrent duplicate.
+     *
+     * @param outing Outing the user organizes
+     * @param user   Premium user
+     */
+    @Transactional
+    public void checkAndIssueVoucher(Outing outing, User user) {
+        UUID outingId = outing.getId();
+        UUID userId = user.getId();
+        log.debug("Checking voucher eligibility for user {} in outing {}", userId, outingId);
+
         // Only for event-linked outings
         if (outing.getEvent() == null) {
             log.debug("Outing {} is not linked to an event, skipping voucher check", outingId);
@@ -163,10 +293,8 @@ public class VoucherService {
         for (Reward reward : rewards) {
             if (participantCount >= reward.getRequiredParticipants()) {
                 // Check if voucher already exists
-                boolean voucherExists = voucherRepository.findByUserId(userId)
-                        .stream()
-                        .anyMatch(v -> v.getReward().getId().equals(reward.getId()) &&
-                                v.getOuting().getId().equals(outingId));
+                boolean voucherExists = voucherRepository.existsByUserIdAndRewardIdAndOutingId(
+                        userId, reward.getId(), outingId);
 
                 if (!voucherExists) {
                     // Create voucher
@@ -185,6 +313,76 @@ public class VoucherService {
         }
     }
 
+    /**
+     * Evaluate the rewards of the outing's event for its organizer.
+     * Does nothing if the outing was deleted in the meantime.
+     *
+     * Runs in its own transaction: the {@link RewardEngine} may call it on
+     * the publishing thread after that thread's transaction has committed.
+     *
+     * @param outingId ID of the outing
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void evaluateOuting(UUID outingId) {
+        outingRepository.findById(outingId)
+                .ifPresentOrElse(outing -> checkAndIssueVoucher(outing, outing.getOrganizer()),
+                        () -> log.debug("Outing {} no longer exists, skipping voucher check", outingId));
+    }
+
+    /**
+     * Evaluate every reward of an event against every outing of the event,
+     * issuing the vouchers that are missing. Used when a reward is added
+     * after outings already reached its threshold.
+     *
+     * Reads the approved counts of all outings and the vouchers already
+     * issued with one query each, whatever the number of outings. Runs in its
+     * own transaction, like {@link #evaluateOuting(UUID)}.
+     *
+     * @param eventId ID of the event
+     * @return number of vouchers issued
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int backfillEvent(UUID eventId) {
+        List<Reward> rewards = rewardRepository.findByEventId(eventId);
+        if (rewards.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> issued = voucherRepository.findIssuedForEvent(eventId).stream()
+                .map(voucher -> voucher.getOutingId() + ":" + voucher.getRewardId())
+                .collect(Collectors.toSet());
+
+        List<Voucher> vouchers = new ArrayList<>();
+        for (ParticipationRepository.ApprovedCount outing : participationRepository.countApprovedPerPremiumOuting(eventId)) {
+            for (Reward reward : rewards) {
+                if (outing.getApproved() >= reward.getRequiredParticipants()
+                        && !issued.contains(outing.getOutingId() + ":" + reward.getId())) {
+                    vouchers.add(Voucher.builder()
+                            .user(userRepository.getReferenceById(outing.getOrganizerId()))
+                            .reward(reward)
+                            .outing(outingRepository.getReferenceById(outing.getOutingId()))
+                            .build());
+                }
+            }
+        }
+
+        voucherRepository.saveAll(vouchers);
+        log.info("Backfilled {} vouchers for event {}", vouchers.size(), eventId);
+        return vouchers.size();
+    }
+
+    /**
+     * Refill the {@link VoucherCodeFilter} with every issued code.
+     * Runs at startup and then every
+     * {@code app.vouchers.code-filter.rebuild-interval-ms}, which also drops
+     * deleted codes and picks up codes issued by other nodes.
+     */
+    @Scheduled(fixedDelayString = "${app.vouchers.code-filter.rebuild-interval-ms:3600000}")
+    @Transactional(readOnly = true)
+    public void rebuildCodeFilter() {
+        codeFilter.rebuild(voucherRepository.count(), voucherRepository::streamAllQrCodes);
+    }
+
     /**
      * Scheduled task to expire old vouchers.
      * Runs daily at 3:00 AM.
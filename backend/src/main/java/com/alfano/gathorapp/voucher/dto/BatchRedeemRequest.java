@@ -0,0 +1,25 @@
+package com.alfano.gathorapp.voucher.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO for redeeming many QR codes at once, e.g. scans synced by an offline
+ * scanner.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRedeemRequest {
+
+    @NotEmpty(message = "At least one QR code is required")
+    @Size(max = 500, message = "At most 500 QR codes can be redeemed at once")
+    private List<String> qrCodes;
+}
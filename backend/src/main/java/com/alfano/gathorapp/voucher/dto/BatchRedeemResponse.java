@@ -0,0 +1,36 @@
+package com.alfano.gathorapp.voucher.dto;
+
+import com.alfano.gathorapp.voucher.RedemptionOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO for the outcome of a batch redemption, one result per submitted code
+ * in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchRedeemResponse {
+    private int redeemed;
+    private List<Result> results;
+
+    /**
+     * Outcome of one QR code.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private String qrCode;
+        private RedemptionOutcome outcome;
+        private UUID voucherId;
+    }
+}
@@ -0,0 +1,216 @@
+package com.alfano.gathorapp.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Opt-in compact encoding of chat messages sent to /topic/chat/{chatId}.
+ *
+ * Disabled unless app.websocket.compact.enabled is set. A client then asks
+ * for it with the {@value #FORMAT_HEADER}: {@value #COMPACT} header on
+ * CONNECT. Chat frames for that session are then rewritten from the regular
+ * ChatMessageResponse JSON to short field names, without the chat id
+ * (implied by the topic), and with senders replaced by a number from a
+ * per-subscription dictionary:
+ *
+ * <pre>
+ * {"i": id, "t": timestamp, "m": content, "s": sender number}
+ * </pre>
+ *
+ * Frames from a sender carry its id and name ({@code "u"}, {@code "n"})
+ * along with its number until one of them has been handed to the session;
+ * only later frames rely on the number alone. A defining frame that is
+ * rejected, dropped or fails to send therefore leaves the next frame
+ * defining the number again. Once the dictionary is full, senders are sent
+ * inline without a number. Rewritten frames carry the same header.
+ *
+ * The broker serializes a broadcast once and shares the payload between
+ * subscribers; the payload is likewise parsed once per broadcast here.
+ */
+@Component
+@Slf4j
+public class CompactChatFrameEncoder implements ExecutorChannelInterceptor {
+
+    public static final String FORMAT_HEADER = "x-chat-format";
+    public static final String COMPACT = "compact";
+    private static final String DEFINITION_HEADER = CompactChatFrameEncoder.class.getName() + ".definition";
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxSenders;
+
+    /**
+     * Compact session id to its sender dictionaries, by subscription id.
+     */
+    private final Map<String, Map<String, Senders>> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * Last parsed broadcast; subscribers of one broadcast share the payload.
+     */
+    private final AtomicReference<Parsed> lastParsed = new AtomicReference<>();
+
+    public CompactChatFrameEncoder(
+            ObjectMapper objectMapper,
+            @Value("${app.websocket.compact.enabled:false}") boolean enabled,
+            @Value("${app.websocket.compact.max-senders:1024}") int maxSenders) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxSenders = maxSenders;
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        if (enabled && accessor.getSessionId() != null
+                && COMPACT.equalsIgnoreCase(accessor.getFirstNativeHeader(FORMAT_HEADER))) {
+            sessions.put(accessor.getSessionId(), new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Senders> subscriptions = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        if (subscriptions != null && accessor.getSubscriptionId() != null) {
+            subscriptions.remove(accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        sessions.remove(event.getSessionId());
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+        Map<String, Senders> subscriptions = sessionId == null ? null : sessions.get(sessionId);
+        if (subscriptions == null
+                || subscriptionId == null
+                || !(message.getPayload() instanceof byte[] payload)
+                || PresenceRegistry.chatId(SimpMessageHeaderAccessor.getDestination(message.getHeaders())) == null) {
+            return message;
+        }
+
+        try {
+            Senders senders = subscriptions.computeIfAbsent(subscriptionId, id -> new Senders());
+            ObjectNode frame = objectMapper.createObjectNode();
+            Definition definition = encode(parse(payload), senders, frame);
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+            accessor.setNativeHeader(FORMAT_HEADER, COMPACT);
+            if (definition != null) {
+                accessor.setHeader(DEFINITION_HEADER, definition);
+            }
+            return MessageBuilder.createMessage(objectMapper.writeValueAsBytes(frame), accessor.getMessageHeaders());
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Sending chat frame to session {} uncompressed: {}", sessionId, e.getMessage());
+            return message;
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel,
+            @NonNull MessageHandler handler, Exception ex) {
+        // Handed to the session: the client gets it unless the connection goes, and with it the dictionary
+        Definition definition = message.getHeaders().get(DEFINITION_HEADER, Definition.class);
+        if (ex == null && definition != null) {
+            definition.confirm();
+        }
+    }
+
+    private JsonNode parse(byte[] payload) throws IOException {
+        Parsed last = lastParsed.get();
+        if (last != null && last.payload() == payload) {
+            return last.json();
+        }
+        JsonNode json = objectMapper.readTree(payload);
+        lastParsed.set(new Parsed(payload, json));
+        return json;
+    }
+
+    /**
+     * Fill in the compact frame; returns the definition it carries, if any.
+     */
+    private Definition encode(JsonNode message, Senders senders, ObjectNode frame) {
+        JsonNode sender = message.path("sender");
+        if (!message.hasNonNull("id") || !sender.hasNonNull("id")) {
+            throw new IllegalArgumentException("not a chat message");
+        }
+        frame.set("i", message.get("id"));
+        frame.set("t", message.get("timestamp"));
+        frame.set("m", message.get("content"));
+
+        UUID senderId = UUID.fromString(sender.get("id").asText());
+        Integer number;
+        boolean defined;
+        // Broadcasts reach one session from several threads; numbers must stay unique
+        synchronized (senders) {
+            number = senders.numbers.get(senderId);
+            if (number == null && senders.numbers.size() < maxSenders) {
+                number = senders.numbers.size();
+                senders.numbers.put(senderId, number);
+            }
+            defined = number != null && senders.defined.contains(number);
+        }
+        if (!defined) {
+            frame.set("u", sender.get("id"));
+            frame.set("n", sender.get("name"));
+        }
+        if (number != null) {
+            frame.put("s", number);
+        }
+        return number != null && !defined ? new Definition(senders, number) : null;
+    }
+
+    private record Parsed(byte[] payload, JsonNode json) {
+    }
+
+    /**
+     * Sender dictionary of one subscription.
+     */
+    private static final class Senders {
+        private final Map<UUID, Integer> numbers = new HashMap<>();
+        /**
+         * Numbers whose defining frame has been handed to the session.
+         */
+        private final Set<Integer> defined = new HashSet<>();
+    }
+
+    /**
+     * A sender number defined by a frame, confirmed once the frame is handed to the session.
+     */
+    private record Definition(Senders senders, int number) {
+
+        void confirm() {
+            synchronized (senders) {
+                senders.defined.add(number);
+            }
+        }
+    }
+}
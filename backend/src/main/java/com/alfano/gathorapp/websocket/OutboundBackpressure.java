@@ -0,0 +1,321 @@
+package com.alfano.gathorapp.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-session backpressure for frames sent to WebSocket clients.
+ *
+ * Tracks, for every session, the bytes published to it on the client
+ * outbound channel that have not been written to its socket yet. When a
+ * session is above the soft limit, typing frames for it are dropped first;
+ * if it stays above the limit for longer than the eviction delay it is
+ * closed as a persistently slow consumer. The hard limits configured in
+ * {@link WebSocketConfig} (send time and buffer size) still apply on top.
+ *
+ * Registered both as an outbound channel interceptor (to count and filter
+ * frames) and as a handler decorator (to see each session and its writes).
+ * A counted frame carries its accounting in a header and is released
+ * exactly once: when it is written, when the executor rejects it or a later
+ * interceptor drops it, or when the handler fails on it. Writes that did not
+ * come through the channel, such as heartbeats, are not counted.
+ */
+@Component
+@Slf4j
+public class OutboundBackpressure implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
+    private static final String TYPING_SUFFIX = "/typing";
+    private static final String FRAME_HEADER = OutboundBackpressure.class.getName() + ".frame";
+
+    /**
+     * Counted frame being handled on the current outbound thread.
+     */
+    private static final ThreadLocal<Frame> HANDLING = new ThreadLocal<>();
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final long softLimitBytes;
+    private final long evictAfterMillis;
+    private final DistributionSummary bufferedBytes;
+    private final Counter droppedTyping;
+    private final Counter slowConsumerEvictions;
+    private final Counter sendLimitEvictions;
+
+    @Autowired
+    public OutboundBackpressure(
+            MeterRegistry meterRegistry,
+            @Value("${app.websocket.outbound.soft-limit-bytes:65536}") long softLimitBytes,
+            @Value("${app.websocket.outbound.evict-after-ms:15000}") long evictAfterMillis) {
+        this(meterRegistry, Clock.systemUTC(), softLimitBytes, evictAfterMillis);
+    }
+
+    OutboundBackpressure(MeterRegistry meterRegistry, Clock clock, long softLimitBytes, long evictAfterMillis) {
+        this.clock = clock;
+        this.softLimitBytes = softLimitBytes;
+        this.evictAfterMillis = evictAfterMillis;
+        this.bufferedBytes = DistributionSummary.builder("websocket.session.buffered.bytes")
+                .description("Bytes waiting to be written to a session, sampled on every outbound frame")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.droppedTyping = Counter.builder("websocket.outbound.dropped")
+                .description("Outbound frames dropped for slow sessions")
+                .tag("type", "typing")
+                .register(meterRegistry);
+        this.slowConsumerEvictions = Counter.builder("websocket.session.evictions")
+                .description("Sessions closed for not keeping up with outbound traffic")
+                .tag("reason", "slow-consumer")
+                .register(meterRegistry);
+        this.sendLimitEvictions = Counter.builder("websocket.session.evictions")
+                .description("Sessions closed for not keeping up with outbound traffic")
+                .tag("reason", "send-limit")
+                .register(meterRegistry);
+        Gauge.builder("websocket.session.buffered.bytes.max", this, OutboundBackpressure::maxBufferedBytes)
+                .description("Largest number of bytes waiting for a single session")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .description("Open WebSocket sessions")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Bytes published to a session and not yet written to its socket.
+     */
+    public long bufferedBytes(String sessionId) {
+        SessionState state = sessions.get(sessionId);
+        return state == null ? 0 : state.buffered.get();
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        SessionState state = sessionId == null ? null : sessions.get(sessionId);
+        if (state == null) {
+            return message;
+        }
+
+        if (state.buffered.get() > softLimitBytes) {
+            if (isTyping(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                droppedTyping.increment();
+                return null;
+            }
+            if (clock.millis() - state.overSince >= evictAfterMillis) {
+                evict(sessionId, state);
+                return null;
+            }
+        }
+
+        int size = message.getPayload() instanceof byte[] bytes ? bytes.length : 0;
+        long buffered = state.buffered.addAndGet(size);
+        if (buffered > softLimitBytes && state.overSince == 0) {
+            state.overSince = clock.millis();
+        }
+        bufferedBytes.record(buffered);
+        return MessageBuilder.fromMessage(message).setHeader(FRAME_HEADER, new Frame(state, size)).build();
+    }
+
+    @Override
+    public void afterSendCompletion(@NonNull Message<?> message, @NonNull MessageChannel channel, boolean sent,
+            Exception ex) {
+        // Not queued: rejected by the executor or dropped by a later interceptor
+        Frame frame = frame(message);
+        if (!sent && frame != null) {
+            frame.release();
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(@NonNull Message<?> message, @NonNull MessageChannel channel,
+            @NonNull MessageHandler handler) {
+        HANDLING.set(frame(message));
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel,
+            @NonNull MessageHandler handler, Exception ex) {
+        Frame frame = HANDLING.get();
+        HANDLING.remove();
+        if (frame == null || frame.released.get()) {
+            return;
+        }
+        if (ex != null) {
+            frame.release();
+        } else {
+            // Buffered by Spring behind a write on another thread, which will flush it
+            frame.state.handedOff.add(frame);
+        }
+    }
+
+    @Override
+    @NonNull
+    public WebSocketHandler decorate(@NonNull WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(@NonNull WebSocketSession session) throws Exception {
+                SessionState state = new SessionState();
+                state.session = new MeteredSession(session, state);
+                sessions.put(session.getId(), state);
+                super.afterConnectionEstablished(state.session);
+            }
+
+            @Override
+            public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus closeStatus)
+                    throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private void evict(String sessionId, SessionState state) {
+        if (state.closed.getAndSet(true)) {
+            return;
+        }
+        slowConsumerEvictions.increment();
+        log.warn("Closing slow WebSocket session {}: {} bytes pending for over {} ms",
+                sessionId, state.buffered.get(), evictAfterMillis);
+        // Closing sends a frame to the client, so keep it off the broker thread
+        CompletableFuture.runAsync(() -> {
+            try {
+                state.session.getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                log.debug("Error closing slow WebSocket session {}: {}", sessionId, e.getMessage());
+            }
+        });
+    }
+
+    private long maxBufferedBytes() {
+        long max = 0;
+        for (SessionState state : sessions.values()) {
+            max = Math.max(max, state.buffered.get());
+        }
+        return max;
+    }
+
+    private static Frame frame(Message<?> message) {
+        return message.getHeaders().get(FRAME_HEADER, Frame.class);
+    }
+
+    private static boolean isTyping(String destination) {
+        return destination != null && destination.startsWith(CHAT_TOPIC_PREFIX) && destination.endsWith(TYPING_SUFFIX);
+    }
+
+    /**
+     * Outbound accounting for one session.
+     */
+    private final class SessionState {
+        private final AtomicLong buffered = new AtomicLong();
+        /**
+         * Counted frames handed to the session but left in its send buffer, in hand-off order.
+         */
+        private final Queue<Frame> handedOff = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long overSince;
+        private MeteredSession session;
+
+        void written() {
+            Frame frame = HANDLING.get();
+            if (frame != null && frame.state == this && frame.release()) {
+                return;
+            }
+            // Not this thread's own frame: a buffered one flushed on its behalf, or an uncounted write
+            Frame flushed = handedOff.poll();
+            if (flushed != null) {
+                flushed.release();
+            }
+        }
+
+        void release(int size) {
+            if (buffered.addAndGet(-size) <= softLimitBytes) {
+                overSince = 0;
+            }
+        }
+    }
+
+    /**
+     * One counted frame; its bytes are released at most once.
+     */
+    private static final class Frame {
+        private final SessionState state;
+        private final int size;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Frame(SessionState state, int size) {
+            this.state = state;
+            this.size = size;
+        }
+
+        boolean release() {
+            if (!released.compareAndSet(false, true)) {
+                return false;
+            }
+            state.release(size);
+            return true;
+        }
+    }
+
+    /**
+     * Session wrapper that sees every frame as it is written to the socket,
+     * below Spring's own buffering decorator.
+     */
+    private final class MeteredSession extends WebSocketSessionDecorator {
+
+        private final SessionState state;
+
+        MeteredSession(WebSocketSession delegate, SessionState state) {
+            super(delegate);
+            this.state = state;
+        }
+
+        @Override
+        public void sendMessage(@NonNull WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                state.written();
+            }
+        }
+
+        @Override
+        public void close(@NonNull CloseStatus status) throws IOException {
+            // Spring closes sessions that exceed the send time or buffer limit
+            if (CloseStatus.SESSION_NOT_RELIABLE.equals(status) && !state.closed.getAndSet(true)) {
+                sendLimitEvictions.increment();
+            }
+            super.close(status);
+        }
+    }
+}
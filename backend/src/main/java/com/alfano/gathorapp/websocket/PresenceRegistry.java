@@ -0,0 +1,171 @@
+package com.alfano.gathorapp.websocket;
+
+import com.alfano.gathorapp.security.SecurityUser;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks which users are connected over WebSocket and which chat topics they
+ * are subscribed to, from the STOMP session lifecycle events.
+ *
+ * Lookups are constant time: the notification pipeline uses
+ * {@link #isOnline(UUID)} to skip WebSocket delivery to offline users, and
+ * chat uses {@link #onlineCount(UUID)} for per-chat presence.
+ *
+ * State is local to this node, like the simple broker it mirrors.
+ */
+@Component
+@Slf4j
+public class PresenceRegistry {
+
+    private static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
+
+    /**
+     * Session id to its user and chat subscriptions.
+     */
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * User id to open session ids.
+     */
+    private final Map<UUID, Set<String>> userSessions = new ConcurrentHashMap<>();
+
+    /**
+     * Chat id to subscribed users, with the number of subscriptions each holds.
+     */
+    private final Map<UUID, Map<UUID, Integer>> chatUsers = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the user has at least one open WebSocket session.
+     */
+    public boolean isOnline(UUID userId) {
+        return userSessions.containsKey(userId);
+    }
+
+    /**
+     * Number of distinct users subscribed to a chat.
+     */
+    public int onlineCount(UUID chatId) {
+        Map<UUID, Integer> users = chatUsers.get(chatId);
+        return users == null ? 0 : users.size();
+    }
+
+    /**
+     * Number of open WebSocket sessions on this node.
+     */
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        UUID userId = userId(event.getUser());
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (userId == null || sessionId == null) {
+            return;
+        }
+        sessions.put(sessionId, new Session(userId));
+        userSessions.compute(userId, (id, ids) -> {
+            Set<String> current = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            current.add(sessionId);
+            return current;
+        });
+        log.debug("User {} online (session {})", userId, sessionId);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Session session = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        UUID chatId = chatId(accessor.getDestination());
+        if (session == null || chatId == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        if (session.subscriptions.putIfAbsent(accessor.getSubscriptionId(), chatId) == null) {
+            chatUsers.compute(chatId, (id, users) -> {
+                Map<UUID, Integer> current = users != null ? users : new ConcurrentHashMap<>();
+                current.merge(session.userId, 1, Integer::sum);
+                return current;
+            });
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Session session = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        if (session == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        UUID chatId = session.subscriptions.remove(accessor.getSubscriptionId());
+        if (chatId != null) {
+            leaveChat(chatId, session.userId);
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Session session = sessions.remove(event.getSessionId());
+        if (session == null) {
+            return;
+        }
+        session.subscriptions.values().forEach(chatId -> leaveChat(chatId, session.userId));
+        userSessions.computeIfPresent(session.userId, (id, ids) -> {
+            ids.remove(event.getSessionId());
+            return ids.isEmpty() ? null : ids;
+        });
+        log.debug("Session {} of user {} closed", event.getSessionId(), session.userId);
+    }
+
+    private void leaveChat(UUID chatId, UUID userId) {
+        chatUsers.computeIfPresent(chatId, (id, users) -> {
+            users.computeIfPresent(userId, (user, count) -> count > 1 ? count - 1 : null);
+            return users.isEmpty() ? null : users;
+        });
+    }
+
+    /**
+     * Chat id of a chat message topic (/topic/chat/{chatId}), or null for any
+     * other destination, including the typing sub-topic.
+     */
+    static UUID chatId(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_TOPIC_PREFIX)) {
+            return null;
+        }
+        try {
+            return UUID.fromString(destination.substring(CHAT_TOPIC_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static UUID userId(Principal principal) {
+        if (principal instanceof Authentication authentication
+                && authentication.getPrincipal() instanceof SecurityUser securityUser) {
+            return securityUser.getUserId();
+        }
+        return null;
+    }
+
+    private static final class Session {
+        private final UUID userId;
+        private final Map<String, UUID> subscriptions = new ConcurrentHashMap<>();
+
+        Session(UUID userId) {
+            this.userId = userId;
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package com.alfano.gathorapp.websocket;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.lang.NonNull;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * WebSocket configuration for real-time notifications and chat.
@@ -21,13 +25,50 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
  * 2. Client authenticates via WebSocketAuthInterceptor
  * 3. Client subscribes to /user/queue/notifications for personal notifications
  * 4. Client subscribes to /topic/chat/{chatId} for chat messages
+ *
+ * When enabled, clients may ask for compact chat frames on CONNECT
+ * (see {@link CompactChatFrameEncoder}).
+ *
+ * Outbound frames go through a bounded executor and per-session send limits;
+ * sessions that exceed them are closed rather than buffering without bound
+ * (see {@link OutboundBackpressure}).
+ *
+ * With virtual threads enabled (spring.threads.virtual.enabled on Java 21+),
+ * the inbound channel runs each message on its own virtual thread; the
+ * outbound channel keeps its bounded pool so that slow clients still get
+ * frames rejected rather than an unbounded number of blocked writers.
  */
 @Configuration
 @EnableWebSocketMessageBroker
-@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthInterceptor authInterceptor;
+    private final OutboundBackpressure outboundBackpressure;
+    private final CompactChatFrameEncoder compactChatFrameEncoder;
+    private final int outboundPoolSize;
+    private final int outboundQueueCapacity;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+    private final boolean virtualThreads;
+
+    public WebSocketConfig(
+            WebSocketAuthInterceptor authInterceptor,
+            OutboundBackpressure outboundBackpressure,
+            CompactChatFrameEncoder compactChatFrameEncoder,
+            @Value("${app.websocket.outbound.pool-size:8}") int outboundPoolSize,
+            @Value("${app.websocket.outbound.queue-capacity:10000}") int outboundQueueCapacity,
+            @Value("${app.websocket.outbound.send-time-limit-ms:5000}") int sendTimeLimitMillis,
+            @Value("${app.websocket.outbound.send-buffer-size-limit:262144}") int sendBufferSizeLimit,
+            Environment environment) {
+        this.authInterceptor = authInterceptor;
+        this.outboundBackpressure = outboundBackpressure;
+        this.compactChatFrameEncoder = compactChatFrameEncoder;
+        this.outboundPoolSize = outboundPoolSize;
+        this.outboundQueueCapacity = outboundQueueCapacity;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.virtualThreads = Threading.VIRTUAL.isActive(environment);
+    }
 
     @Override
     public void configureMessageBroker(@NonNull MessageBrokerRegistry config) {
@@ -56,5 +97,35 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
         // Add authentication interceptor
         registration.interceptors(authInterceptor);
+        if (virtualThreads) {
+            // Handlers block on JPA; the connection pool bounds database concurrency
+            registration.executor(virtualThreadExecutor("ws-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(@NonNull ChannelRegistration registration) {
+        // Fixed pool with a bounded queue: frames beyond it are rejected instead of piling up.
+        // Kept with virtual threads too, where a thread per frame would have no bound at all
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        // Encode first so that backpressure counts the bytes actually sent
+        registration.interceptors(compactChatFrameEncoder, outboundBackpressure);
+    }
+
+    @Override
+    public void configureWebSocketTransport(@NonNull WebSocketTransportRegistration registration) {
+        // Hard per-session limits: a session over either one is closed by Spring
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .addDecoratorFactory(outboundBackpressure);
+    }
+
+    private static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
     }
 }
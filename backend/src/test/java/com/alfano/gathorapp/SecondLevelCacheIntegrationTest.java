@@ -0,0 +1,194 @@
+package com.alfano.gathorapp;
+
+import com.alfano.gathorapp.event.Event;
+import com.alfano.gathorapp.event.EventRepository;
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.review.RatingAggregates;
+import com.alfano.gathorapp.testutils.TestDatabaseCleaner;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.alfano.gathorapp.testutils.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the Hibernate second-level cache regions.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Second-Level Cache Integration Tests")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutingRepository outingRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RatingAggregates ratingAggregates;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestDatabaseCleaner testDatabaseCleaner;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        testDatabaseCleaner.truncateAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should serve repeated primary key lookups from the users region")
+    void userLookup_HitsCache() {
+        UUID userId = userRepository.save(user("alice@example.com")).getId();
+
+        userRepository.findById(userId);
+        userRepository.findById(userId);
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics("users");
+        assertTrue(region.getHitCount() >= 2);
+        assertEquals(0, region.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should publish a hit ratio gauge for every cache region")
+    void regionHitRatio_Published() {
+        // Values come from the JCache MBeans, which are registered once per cache
+        // manager URI: with several test contexts in the JVM they may belong to another one
+        for (String region : Set.of("users", "events", "rewards", "outing-participants")) {
+            assertNotNull(meterRegistry.find("cache.hit.ratio").tag("cache", region).gauge(), region);
+        }
+    }
+
+    @Test
+    @DisplayName("Should see updates made through Hibernate")
+    void userUpdate_Visible() {
+        UUID userId = userRepository.save(user("bob@example.com")).getId();
+        userRepository.findById(userId);
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(userId).orElseThrow().setName("Robert"));
+
+        assertEquals("Robert", userRepository.findById(userId).orElseThrow().getName());
+    }
+
+    @Test
+    @DisplayName("Should cache outing participants and refresh them on change")
+    void participants_CachedAndInvalidated() {
+        User organizer = userRepository.save(user("organizer@example.com"));
+        User alice = userRepository.save(user("alice@example.com"));
+        User bob = userRepository.save(user("bob@example.com"));
+        UUID outingId = outingRepository.save(outing(organizer)).getId();
+
+        transactionTemplate.executeWithoutResult(status ->
+                outingRepository.findById(outingId).orElseThrow().addParticipant(alice));
+        assertEquals(Set.of(alice.getId()), participantIds(outingId));
+        assertEquals(Set.of(alice.getId()), participantIds(outingId));
+        assertTrue(statistics.getDomainDataRegionStatistics("outing-participants").getHitCount() >= 1);
+
+        transactionTemplate.executeWithoutResult(status ->
+                outingRepository.findById(outingId).orElseThrow().addParticipant(bob));
+        assertEquals(Set.of(alice.getId(), bob.getId()), participantIds(outingId));
+    }
+
+    @Test
+    @DisplayName("Should evict all regions when the test database is truncated")
+    void truncateAll_EvictsCache() {
+        UUID userId = userRepository.save(user("carol@example.com")).getId();
+        userRepository.findById(userId);
+        assertTrue(entityManagerFactory.getCache().contains(User.class, userId));
+
+        testDatabaseCleaner.truncateAll();
+
+        assertFalse(entityManagerFactory.getCache().contains(User.class, userId));
+        assertTrue(userRepository.findById(userId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should evict only the reviewed event and keep its rating across stale saves")
+    void rating_EvictsOnlyReviewedEvent() {
+        User creator = userRepository.save(user("business@example.com"));
+        UUID reviewedId = eventRepository.save(event(creator, "Reviewed")).getId();
+        UUID otherId = eventRepository.save(event(creator, "Other")).getId();
+        Event stale = eventRepository.findById(reviewedId).orElseThrow();
+        eventRepository.findById(otherId);
+
+        transactionTemplate.executeWithoutResult(status -> ratingAggregates.addEventRating(reviewedId, 4));
+
+        assertFalse(entityManagerFactory.getCache().contains(Event.class, reviewedId));
+        assertTrue(entityManagerFactory.getCache().contains(Event.class, otherId));
+
+        stale.setTitle("Renamed");
+        eventRepository.save(stale);
+
+        Event reloaded = eventRepository.findById(reviewedId).orElseThrow();
+        assertEquals("Renamed", reloaded.getTitle());
+        assertEquals(4L, reloaded.getRatingSum());
+        assertEquals(1L, reloaded.getRatingCount());
+    }
+
+    private Set<UUID> participantIds(UUID outingId) {
+        return transactionTemplate.execute(status -> outingRepository.findById(outingId).orElseThrow()
+                .getParticipants().stream().map(User::getId).collect(Collectors.toSet()));
+    }
+
+    private static Event event(User creator, String title) {
+        return Event.builder()
+                .title(title)
+                .description("Description")
+                .location("Location")
+                .latitude(45.0)
+                .longitude(9.0)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .creator(creator)
+                .build();
+    }
+
+    private static Outing outing(User organizer) {
+        return Outing.builder()
+                .title("Outing")
+                .description("Description")
+                .location("Location")
+                .latitude(45.0)
+                .longitude(9.0)
+                .outingDate(LocalDateTime.now().plusDays(7))
+                .maxParticipants(10)
+                .organizer(organizer)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.alfano.gathorapp;
+
+import com.alfano.gathorapp.config.CacheConfig;
+import com.alfano.gathorapp.event.EventService;
+import com.alfano.gathorapp.event.dto.CreateEventRequest;
+import com.alfano.gathorapp.event.dto.EventResponse;
+import com.alfano.gathorapp.reward.RewardService;
+import com.alfano.gathorapp.reward.dto.CreateRewardRequest;
+import com.alfano.gathorapp.testutils.TestDatabaseCleaner;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the service caches and their eviction on change.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Service Cache Integration Tests")
+class ServiceCacheIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private RewardService rewardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestDatabaseCleaner testDatabaseCleaner;
+
+    private User business;
+
+    @BeforeEach
+    void setUp() {
+        testDatabaseCleaner.truncateAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        business = userRepository.save(User.builder()
+                .name("Business")
+                .email("business@example.com")
+                .passwordHash("hashedPassword")
+                .role(Role.BUSINESS)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should serve upcoming events from the cache until an event is created")
+    void upcomingEvents_CachedAndEvictedOnCreate() {
+        eventService.createEvent(eventRequest("First"), business.getId());
+
+        List<EventResponse> first = eventService.getUpcomingEvents();
+        assertSame(first, eventService.getUpcomingEvents());
+        assertNotNull(cache(CacheConfig.UPCOMING_EVENTS).get(SimpleKey.EMPTY));
+
+        eventService.createEvent(eventRequest("Second"), business.getId());
+
+        assertNull(cache(CacheConfig.UPCOMING_EVENTS).get(SimpleKey.EMPTY));
+        assertEquals(2, eventService.getUpcomingEvents().size());
+    }
+
+    @Test
+    @DisplayName("Should evict only the rewards of the event that changed")
+    void eventRewards_EvictedPerEvent() {
+        UUID eventId = eventService.createEvent(eventRequest("First"), business.getId()).getId();
+        UUID otherEventId = eventService.createEvent(eventRequest("Second"), business.getId()).getId();
+        rewardService.getRewardsByEvent(eventId);
+        rewardService.getRewardsByEvent(otherEventId);
+
+        rewardService.createReward(CreateRewardRequest.builder()
+                .title("Free Coffee")
+                .description("Free coffee for participants")
+                .requiredParticipants(3)
+                .eventId(eventId)
+                .build(), business.getId());
+
+        assertNull(cache(CacheConfig.EVENT_REWARDS).get(eventId));
+        assertNotNull(cache(CacheConfig.EVENT_REWARDS).get(otherEventId));
+        assertEquals(1, rewardService.getRewardsByEvent(eventId).size());
+    }
+
+    @Test
+    @DisplayName("Should evict an event's entries when it is deleted")
+    void deleteEvent_EvictsEntries() {
+        UUID eventId = eventService.createEvent(eventRequest("First"), business.getId()).getId();
+        eventService.getUpcomingEvents();
+        rewardService.getRewardsByEvent(eventId);
+
+        eventService.deleteEvent(eventId, business.getId());
+
+        assertNull(cache(CacheConfig.UPCOMING_EVENTS).get(SimpleKey.EMPTY));
+        assertNull(cache(CacheConfig.EVENT_REWARDS).get(eventId));
+        assertTrue(eventService.getUpcomingEvents().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should publish the hit ratio of each service cache")
+    void hitRatio_Published() {
+        eventService.getUpcomingEvents();
+        eventService.getUpcomingEvents();
+
+        double ratio = meterRegistry.get("cache.hit.ratio").tag("cache", CacheConfig.UPCOMING_EVENTS).gauge().value();
+        assertTrue(ratio > 0 && ratio <= 1, "hit ratio was " + ratio);
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private static CreateEventRequest eventRequest(String title) {
+        return CreateEventRequest.builder()
+                .title(title)
+                .description("Event description")
+                .location("Location")
+                .latitude(45.0)
+                .longitude(9.0)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .build();
+    }
+}
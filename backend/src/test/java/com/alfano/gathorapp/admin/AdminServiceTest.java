@@ -1,16 +1,20 @@
 package com.alfano.gathorapp.admin;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,16 +22,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.alfano.gathorapp.chat.ChatDeactivationScheduler;
-import com.alfano.gathorapp.chat.ChatRepository;
-import com.alfano.gathorapp.event.EventRepository;
-import com.alfano.gathorapp.outing.OutingRepository;
-import com.alfano.gathorapp.participation.ParticipationRepository;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserMapper;
 import com.alfano.gathorapp.user.UserRepository;
 import com.alfano.gathorapp.user.dto.UserResponse;
-import com.alfano.gathorapp.voucher.VoucherRepository;
 import com.alfano.gathorapp.voucher.VoucherService;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,29 +35,22 @@ public class AdminServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private EventRepository eventRepository;
-    @Mock
-    private OutingRepository outingRepository;
-    @Mock
-    private ParticipationRepository participationRepository;
-    @Mock
-    private ChatRepository chatRepository;
-    @Mock
-    private VoucherRepository voucherRepository;
-    @Mock
     private UserMapper userMapper;
     @Mock
     private ChatDeactivationScheduler chatDeactivationScheduler;
     @Mock
     private VoucherService voucherService;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private StatsSnapshot statsSnapshot;
 
     private AdminService adminService;
 
     @BeforeEach
     void setUp() {
-        this.adminService = new AdminService(userRepository, eventRepository, outingRepository,
-                participationRepository, chatRepository, voucherRepository, userMapper, chatDeactivationScheduler,
-                voucherService);
+        this.adminService = new AdminService(userRepository, userMapper, chatDeactivationScheduler,
+                voucherService, entityManager, statsSnapshot);
     }
 
     @Test
@@ -71,7 +63,8 @@ public class AdminServiceTest {
                 "password123",
                 Role.USER,
                 false,
-                LocalDateTime.of(2000, 11, 20, 10, 30));
+                LocalDateTime.of(2000, 11, 20, 10, 30),
+                null);
         UUID id2 = UUID.randomUUID();
         User user2 = new User(
                 id2,
@@ -80,9 +73,9 @@ public class AdminServiceTest {
                 "password123",
                 Role.USER,
                 false,
-                LocalDateTime.of(1995, 8, 15, 20, 15));
-        List<User> result = List.of(user1, user2);
-        when(userRepository.findAll()).thenReturn(result);
+                LocalDateTime.of(1995, 8, 15, 20, 15),
+                null);
+        when(userRepository.streamAll()).thenReturn(Stream.of(user1, user2));
 
         UserResponse userResponse1 = new UserResponse(
                 id1,
@@ -100,9 +93,10 @@ public class AdminServiceTest {
                 user2.getCreatedAt());
         when(userMapper.toResponse(user2)).thenReturn(userResponse2);
 
-        List<UserResponse> actual = adminService.getAllUsers();
+        List<UserResponse> actual = new ArrayList<>();
+        adminService.streamAllUsers(actual::add);
 
-        verify(userRepository).findAll();
+        verify(userRepository).streamAll();
         verify(userMapper).toResponse(user1);
         verify(userMapper).toResponse(user2);
 
@@ -129,7 +123,8 @@ public class AdminServiceTest {
                 "password123",
                 Role.USER,
                 false,
-                LocalDateTime.of(2000, 11, 20, 10, 30));
+                LocalDateTime.of(2000, 11, 20, 10, 30),
+                null);
 
         UserResponse userResponse = new UserResponse(
                 id,
@@ -146,6 +141,7 @@ public class AdminServiceTest {
 
         verify(userRepository).findById(id);
         verify(userRepository).save(user);
+        verify(statsSnapshot).markChanged(StatsSnapshot.Domain.USERS);
         verify(userMapper).toResponse(user);
 
         assertEquals(userResponse.getId(), actual.getId());
@@ -181,7 +177,8 @@ public class AdminServiceTest {
                 "password123",
                 Role.USER,
                 false,
-                LocalDateTime.of(2000, 11, 20, 10, 30));
+                LocalDateTime.of(2000, 11, 20, 10, 30),
+                null);
 
         when(userRepository.findById(id)).thenReturn(Optional.of(user));
         doNothing().when(userRepository).delete(user);
@@ -190,6 +187,7 @@ public class AdminServiceTest {
 
         verify(userRepository).findById(id);
         verify(userRepository).delete(user);
+        verify(statsSnapshot).markChanged(StatsSnapshot.Domain.values());
     }
 
     @Test
@@ -218,7 +216,8 @@ public class AdminServiceTest {
                 "password123",
                 Role.USER,
                 false,
-                LocalDateTime.of(2000, 11, 20, 10, 30));
+                LocalDateTime.of(2000, 11, 20, 10, 30),
+                null);
 
         UserResponse userResponse = new UserResponse(
                 id,
@@ -270,7 +269,8 @@ public class AdminServiceTest {
                 "password123",
                 Role.USER,
                 false,
-                LocalDateTime.of(2000, 11, 20, 10, 30));
+                LocalDateTime.of(2000, 11, 20, 10, 30),
+                null);
 
         UserResponse userResponse = new UserResponse(
                 id,
@@ -307,83 +307,16 @@ public class AdminServiceTest {
 
     @Test
     void test_getStatistics_success() {
-        // Mock user statistics
-        when(userRepository.count()).thenReturn(100L);
-        when(userRepository.countByRole(Role.USER)).thenReturn(70L);
-        when(userRepository.countByRole(Role.PREMIUM)).thenReturn(20L);
-        when(userRepository.countByRole(Role.BUSINESS)).thenReturn(10L);
-
-        // Mock event statistics
-        when(eventRepository.count()).thenReturn(50L);
-        when(eventRepository.findUpcomingEvents(org.mockito.ArgumentMatchers.any(LocalDateTime.class)))
-                .thenReturn(List.of());
-
-        // Mock outing statistics
-        when(outingRepository.count()).thenReturn(200L);
-        when(outingRepository.findUpcomingOutings(org.mockito.ArgumentMatchers.any(LocalDateTime.class)))
-                .thenReturn(List.of());
-
-        // Mock participation statistics
-        when(participationRepository.count()).thenReturn(500L);
-
-        // Mock chat statistics
-        when(chatRepository.count()).thenReturn(150L);
-        when(chatRepository.findByActiveTrue()).thenReturn(List.of());
-
-        // Mock voucher statistics
-        when(voucherRepository.count()).thenReturn(30L);
-        when(voucherRepository.countAllActiveVouchers(org.mockito.ArgumentMatchers.any(LocalDateTime.class)))
-                .thenReturn(15L);
+        when(statsSnapshot.read()).thenReturn(java.util.Map.of(
+                "users", java.util.Map.of("total", 100L),
+                "vouchers", java.util.Map.of("total", 30L, "active", 15L)));
 
         java.util.Map<String, Object> stats = adminService.getStatistics();
 
-        // Verify user statistics
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, Object> userStats = (java.util.Map<String, Object>) stats.get("users");
-        assertEquals(100L, userStats.get("total"));
-        assertEquals(70L, userStats.get("base"));
-        assertEquals(20L, userStats.get("premium"));
-        assertEquals(10L, userStats.get("business"));
-
-        // Verify event statistics
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, Object> eventStats = (java.util.Map<String, Object>) stats.get("events");
-        assertEquals(50L, eventStats.get("total"));
-        assertEquals(0L, eventStats.get("upcoming"));
-
-        // Verify outing statistics
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, Object> outingStats = (java.util.Map<String, Object>) stats.get("outings");
-        assertEquals(200L, outingStats.get("total"));
-        assertEquals(0L, outingStats.get("upcoming"));
-
-        // Verify participation statistics
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, Object> participationStats = (java.util.Map<String, Object>) stats.get("participations");
-        assertEquals(500L, participationStats.get("total"));
-
-        // Verify chat statistics
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, Object> chatStats = (java.util.Map<String, Object>) stats.get("chats");
-        assertEquals(150L, chatStats.get("total"));
-        assertEquals(0L, chatStats.get("active"));
-
-        // Verify voucher statistics
-        @SuppressWarnings("unchecked")
-        java.util.Map<String, Object> voucherStats = (java.util.Map<String, Object>) stats.get("vouchers");
-        assertEquals(30L, voucherStats.get("total"));
-        assertEquals(15L, voucherStats.get("active"));
-
-        // Verify all repository methods were called
-        verify(userRepository).count();
-        verify(userRepository).countByRole(Role.USER);
-        verify(userRepository).countByRole(Role.PREMIUM);
-        verify(userRepository).countByRole(Role.BUSINESS);
-        verify(eventRepository).count();
-        verify(outingRepository).count();
-        verify(participationRepository).count();
-        verify(chatRepository).count();
-        verify(voucherRepository).count();
+        assertEquals(java.util.Map.of("total", 100L), stats.get("users"));
+        assertEquals(java.util.Map.of("total", 30L, "active", 15L), stats.get("vouchers"));
+        assertInstanceOf(LocalDateTime.class, stats.get("generated_at"));
+        verify(statsSnapshot).read();
     }
 
     @Test
@@ -0,0 +1,110 @@
+package com.alfano.gathorapp.admin;
+
+import com.alfano.gathorapp.event.EventService;
+import com.alfano.gathorapp.event.dto.CreateEventRequest;
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.testutils.TestDatabaseCleaner;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static com.alfano.gathorapp.testutils.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the aggregate statistics queries and their snapshot.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Admin Statistics Integration Tests")
+class AdminStatisticsIntegrationTest {
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private StatsSnapshot statsSnapshot;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutingRepository outingRepository;
+
+    @Autowired
+    private TestDatabaseCleaner testDatabaseCleaner;
+
+    private User business;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        testDatabaseCleaner.truncateAll();
+        business = userRepository.save(user("business@example.com", Role.BUSINESS));
+        user = userRepository.save(user("user@example.com", Role.USER));
+        userRepository.save(user("premium@example.com", Role.PREMIUM));
+        outingRepository.save(outing(LocalDateTime.now().plusDays(7)));
+        outingRepository.save(outing(LocalDateTime.now().minusDays(7)));
+        // Seeded through the repositories, which publish no change events
+        statsSnapshot.markChanged(StatsSnapshot.Domain.values());
+    }
+
+    @Test
+    @DisplayName("Should count totals and filtered subsets with the aggregate queries")
+    void statistics_Counted() {
+        adminService.changeUserRole(user.getId(), Role.PREMIUM);
+
+        Map<String, Object> stats = adminService.getStatistics();
+
+        assertEquals(Map.of("total", 3L, "base", 0L, "premium", 2L, "business", 1L), stats.get("users"));
+        assertEquals(Map.of("total", 2L, "upcoming", 1L), stats.get("outings"));
+        assertEquals(Map.of("total", 0L, "active", 0L), stats.get("chats"));
+        assertEquals(Map.of("total", 0L, "active", 0L), stats.get("vouchers"));
+        assertNotNull(stats.get("generated_at"));
+    }
+
+    @Test
+    @DisplayName("Should refresh the event counts once an event is created")
+    void statistics_RefreshedByChangeEvent() {
+        adminService.getStatistics();
+
+        eventService.createEvent(CreateEventRequest.builder()
+                .title("Concert")
+                .description("Event description")
+                .location("Location")
+                .latitude(45.0)
+                .longitude(9.0)
+                .eventDate(LocalDateTime.now().plusDays(7))
+                .build(), business.getId());
+
+        assertEquals(Map.of("total", 1L, "upcoming", 1L), adminService.getStatistics().get("events"));
+    }
+
+    private Outing outing(LocalDateTime date) {
+        return Outing.builder()
+                .title("Outing")
+                .description("Description")
+                .location("Location")
+                .latitude(45.0)
+                .longitude(9.0)
+                .outingDate(date)
+                .maxParticipants(10)
+                .organizer(business)
+                .build();
+    }
+}
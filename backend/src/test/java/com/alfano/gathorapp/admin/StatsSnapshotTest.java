@@ -0,0 +1,210 @@
+package com.alfano.gathorapp.admin;
+
+import com.alfano.gathorapp.chat.ChatRepository;
+import com.alfano.gathorapp.event.EventChangedEvent;
+import com.alfano.gathorapp.event.EventRepository;
+import com.alfano.gathorapp.outing.OutingChangedEvent;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.participation.ParticipationChangedEvent;
+import com.alfano.gathorapp.participation.ParticipationRepository;
+import com.alfano.gathorapp.user.UserRepository;
+import com.alfano.gathorapp.voucher.VoucherRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link StatsSnapshot}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatsSnapshot Tests")
+class StatsSnapshotTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private OutingRepository outingRepository;
+
+    @Mock
+    private ParticipationRepository participationRepository;
+
+    @Mock
+    private ChatRepository chatRepository;
+
+    @Mock
+    private VoucherRepository voucherRepository;
+
+    private MutableClock clock;
+    private StatsSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T10:00:00Z"));
+        snapshot = new StatsSnapshot(userRepository, eventRepository, outingRepository, participationRepository,
+                chatRepository, voucherRepository, 60, clock);
+
+        when(userRepository.countPerRole()).thenReturn(new UserRepository.RoleCounts() {
+            public long getTotal() { return 100; }
+            public long getBase() { return 70; }
+            public long getPremium() { return 20; }
+            public long getBusiness() { return 10; }
+        });
+        when(eventRepository.countTotalAndUpcoming(any(LocalDateTime.class)))
+                .thenReturn(new EventRepository.EventCounts() {
+                    public long getTotal() { return 50; }
+                    public long getUpcoming() { return 5; }
+                });
+        when(outingRepository.countTotalAndUpcoming(any(LocalDateTime.class)))
+                .thenReturn(new OutingRepository.OutingCounts() {
+                    public long getTotal() { return 200; }
+                    public long getUpcoming() { return 40; }
+                });
+        when(participationRepository.count()).thenReturn(500L);
+        when(chatRepository.countTotalAndActive()).thenReturn(new ChatRepository.ChatCounts() {
+            public long getTotal() { return 150; }
+            public long getActive() { return 12; }
+        });
+        when(voucherRepository.countTotalAndActive(any(LocalDateTime.class)))
+                .thenReturn(new VoucherRepository.VoucherCounts() {
+                    public long getTotal() { return 30; }
+                    public long getActive() { return 15; }
+                });
+    }
+
+    @Test
+    @DisplayName("Should count every domain with one query each")
+    void read_CountsEveryDomain() {
+        Map<String, Object> stats = snapshot.read();
+
+        assertEquals(Map.of("total", 100L, "base", 70L, "premium", 20L, "business", 10L), stats.get("users"));
+        assertEquals(Map.of("total", 50L, "upcoming", 5L), stats.get("events"));
+        assertEquals(Map.of("total", 200L, "upcoming", 40L), stats.get("outings"));
+        assertEquals(Map.of("total", 500L), stats.get("participations"));
+        assertEquals(Map.of("total", 150L, "active", 12L), stats.get("chats"));
+        assertEquals(Map.of("total", 30L, "active", 15L), stats.get("vouchers"));
+        verify(eventRepository).countTotalAndUpcoming(LocalDateTime.ofInstant(clock.instant(), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads without querying")
+    void read_ServedFromSnapshot() {
+        snapshot.read();
+        snapshot.read();
+
+        verify(userRepository, times(1)).countPerRole();
+        verify(participationRepository, times(1)).count();
+        verify(voucherRepository, times(1)).countTotalAndActive(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should recount only the domains touched by a change event")
+    void changeEvents_InvalidateAffectedDomains() {
+        snapshot.read();
+
+        snapshot.onParticipationChanged(new ParticipationChangedEvent(
+                UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Alice",
+                ParticipationChangedEvent.Change.APPROVED));
+        snapshot.read();
+
+        verify(participationRepository, times(2)).count();
+        verify(outingRepository, times(1)).countTotalAndUpcoming(any(LocalDateTime.class));
+        verify(userRepository, times(1)).countPerRole();
+
+        snapshot.onOutingChanged(new OutingChangedEvent(UUID.randomUUID(), null, OutingChangedEvent.Change.DELETED));
+        snapshot.read();
+
+        verify(outingRepository, times(2)).countTotalAndUpcoming(any(LocalDateTime.class));
+        verify(participationRepository, times(3)).count();
+        verify(chatRepository, times(2)).countTotalAndActive();
+        verify(eventRepository, times(1)).countTotalAndUpcoming(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should leave outing counts alone when only participants change")
+    void outingParticipantsChanged_KeepsOutings() {
+        snapshot.read();
+
+        snapshot.onOutingChanged(new OutingChangedEvent(
+                UUID.randomUUID(), null, OutingChangedEvent.Change.PARTICIPANTS_CHANGED));
+        snapshot.onEventChanged(new EventChangedEvent(UUID.randomUUID(), EventChangedEvent.Change.UPDATED));
+        snapshot.read();
+
+        verify(outingRepository, times(1)).countTotalAndUpcoming(any(LocalDateTime.class));
+        verify(eventRepository, times(2)).countTotalAndUpcoming(any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should recount changes marked outside of a transaction right away")
+    void markChanged_WithoutTransaction() {
+        snapshot.read();
+
+        snapshot.markChanged(StatsSnapshot.Domain.USERS);
+        snapshot.read();
+
+        verify(userRepository, times(2)).countPerRole();
+        verify(chatRepository, times(1)).countTotalAndActive();
+    }
+
+    @Test
+    @DisplayName("Should recount every domain once the maximum age has passed")
+    void read_ExpiresAfterMaxAge() {
+        snapshot.read();
+
+        clock.advance(Duration.ofSeconds(59));
+        snapshot.read();
+        verify(voucherRepository, times(1)).countTotalAndActive(any(LocalDateTime.class));
+
+        clock.advance(Duration.ofSeconds(1));
+        snapshot.read();
+        verify(voucherRepository, times(2)).countTotalAndActive(any(LocalDateTime.class));
+        verify(userRepository, times(2)).countPerRole();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.alfano.gathorapp.analytics;
+
+import com.alfano.gathorapp.auth.JwtTokenProvider;
+import com.alfano.gathorapp.chat.ChatMessageSentEvent;
+import com.alfano.gathorapp.testutils.TestDatabaseCleaner;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.alfano.gathorapp.testutils.TestUsers.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the analytics endpoints over flushed and unflushed
+ * rollups.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Analytics Controller Integration Tests")
+class AnalyticsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AnalyticsRollups rollups;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TestDatabaseCleaner testDatabaseCleaner;
+
+    private String adminToken;
+    private String userToken;
+    private final UUID busyChat = UUID.randomUUID();
+    private final UUID quietChat = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        rollups.flush();
+        testDatabaseCleaner.truncateAll();
+        adminToken = token(userRepository.save(user("admin@example.com", Role.ADMIN)));
+        userToken = token(userRepository.save(user("user@example.com", Role.USER)));
+
+        // Three messages in the busy chat and one in the quiet chat are flushed, one more stays in memory
+        send(busyChat, 3);
+        send(quietChat, 1);
+        rollups.flush();
+        send(quietChat, 1);
+    }
+
+    @Test
+    @DisplayName("Should return one point per bucket, including unflushed counts")
+    void series_MergesFlushedAndUnflushed() throws Exception {
+        LocalDateTime today = LocalDateTime.now().toLocalDate().atStartOfDay();
+
+        mockMvc.perform(get("/api/admin/analytics/MESSAGES_SENT")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                        .param("granularity", "DAY")
+                        .param("from", today.minusDays(2).toString())
+                        .param("to", today.plusDays(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.points.length()").value(3))
+                .andExpect(jsonPath("$.points[0].count").value(0))
+                .andExpect(jsonPath("$.points[2].count").value(5));
+
+        mockMvc.perform(get("/api/admin/analytics/MESSAGES_SENT")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                        .param("granularity", "DAY")
+                        .param("from", today.toString())
+                        .param("to", today.plusDays(1).toString())
+                        .param("dimension", quietChat.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.points[0].count").value(2));
+    }
+
+    @Test
+    @DisplayName("Should rank dimensions by their total count")
+    void top_RanksDimensions() throws Exception {
+        LocalDateTime today = LocalDateTime.now().toLocalDate().atStartOfDay();
+
+        mockMvc.perform(get("/api/admin/analytics/MESSAGES_SENT/top")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                        .param("from", today.toString())
+                        .param("to", today.plusDays(1).toString())
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries.length()").value(1))
+                .andExpect(jsonPath("$.entries[0].dimension").value(busyChat.toString()))
+                .andExpect(jsonPath("$.entries[0].count").value(3));
+    }
+
+    @Test
+    @DisplayName("Should reject ranges with too many buckets")
+    void series_RangeTooLarge() throws Exception {
+        mockMvc.perform(get("/api/admin/analytics/MESSAGES_SENT")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                        .param("granularity", "MINUTE")
+                        .param("from", LocalDateTime.now().minusDays(30).toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should deny analytics to non-admin users")
+    void series_ForbiddenForUsers() throws Exception {
+        mockMvc.perform(get("/api/admin/analytics/MESSAGES_SENT")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken)
+                        .param("from", LocalDateTime.now().minusDays(1).toString()))
+                .andExpect(status().isForbidden());
+    }
+
+    private void send(UUID chatId, int messages) {
+        for (int i = 0; i < messages; i++) {
+            rollups.onMessageSent(new ChatMessageSentEvent(chatId, UUID.randomUUID(), UUID.randomUUID()));
+        }
+    }
+
+    private String token(User user) {
+        return jwtTokenProvider.generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
+    }
+}
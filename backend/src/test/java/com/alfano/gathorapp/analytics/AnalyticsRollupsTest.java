@@ -0,0 +1,130 @@
+package com.alfano.gathorapp.analytics;
+
+import com.alfano.gathorapp.chat.ChatMessageSentEvent;
+import com.alfano.gathorapp.outing.OutingChangedEvent;
+import com.alfano.gathorapp.participation.ParticipationChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AnalyticsRollups}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsRollups Tests")
+class AnalyticsRollupsTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 42, 17);
+
+    @Mock
+    private AnalyticsRollupRepository rollupRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AnalyticsRollups rollups;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T10:42:17Z"), ZoneOffset.UTC);
+        rollups = new AnalyticsRollups(rollupRepository, transactionManager, 48, 90, clock);
+    }
+
+    @Test
+    @DisplayName("Should count an event into minute, hour and day buckets")
+    void record_AllGranularities() {
+        UUID chatId = UUID.randomUUID();
+        rollups.onMessageSent(new ChatMessageSentEvent(chatId, UUID.randomUUID(), UUID.randomUUID()));
+        rollups.onMessageSent(new ChatMessageSentEvent(chatId, UUID.randomUUID(), UUID.randomUUID()));
+
+        assertEquals(Map.of(LocalDateTime.of(2025, 1, 1, 10, 42), 2L),
+                unflushed(AnalyticsMetric.MESSAGES_SENT, Granularity.MINUTE));
+        assertEquals(Map.of(LocalDateTime.of(2025, 1, 1, 10, 0), 2L),
+                unflushed(AnalyticsMetric.MESSAGES_SENT, Granularity.HOUR));
+        assertEquals(Map.of(LocalDateTime.of(2025, 1, 1, 0, 0), 2L),
+                unflushed(AnalyticsMetric.MESSAGES_SENT, Granularity.DAY));
+    }
+
+    @Test
+    @DisplayName("Should only count created outings and approved participations")
+    void record_OnlyRelevantChanges() {
+        rollups.onOutingChanged(new OutingChangedEvent(UUID.randomUUID(), null, OutingChangedEvent.Change.CREATED));
+        rollups.onOutingChanged(new OutingChangedEvent(UUID.randomUUID(), null, OutingChangedEvent.Change.DELETED));
+        rollups.onParticipationChanged(participation(ParticipationChangedEvent.Change.REQUESTED));
+        rollups.onParticipationChanged(participation(ParticipationChangedEvent.Change.APPROVED));
+
+        assertEquals(Map.of(NOW.withMinute(0).withSecond(0), 1L),
+                unflushed(AnalyticsMetric.OUTINGS_CREATED, Granularity.HOUR));
+        assertEquals(Map.of(NOW.withMinute(0).withSecond(0), 1L),
+                unflushed(AnalyticsMetric.PARTICIPATIONS_APPROVED, Granularity.HOUR));
+    }
+
+    @Test
+    @DisplayName("Should add flushed counts to existing rows and insert missing ones")
+    void flush_UpdatesOrInserts() {
+        rollups.onOutingChanged(new OutingChangedEvent(UUID.randomUUID(), null, OutingChangedEvent.Change.CREATED));
+        when(rollupRepository.increment(eq(AnalyticsMetric.OUTINGS_CREATED), any(), any(), eq(""), eq(1L)))
+                .thenReturn(1, 1, 0);
+
+        rollups.flush();
+
+        ArgumentCaptor<AnalyticsRollup> inserted = ArgumentCaptor.forClass(AnalyticsRollup.class);
+        verify(rollupRepository).saveAndFlush(inserted.capture());
+        assertEquals(1L, inserted.getValue().getCount());
+        assertTrue(unflushed(AnalyticsMetric.OUTINGS_CREATED, Granularity.DAY).isEmpty());
+
+        rollups.flush();
+        verify(rollupRepository, times(3)).increment(any(), any(), any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should keep the counts in memory when a flush fails")
+    void flush_FailureKeepsCounts() {
+        rollups.onOutingChanged(new OutingChangedEvent(UUID.randomUUID(), null, OutingChangedEvent.Change.CREATED));
+        when(rollupRepository.increment(any(), any(), any(), any(), anyLong())).thenReturn(0);
+        when(rollupRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        rollups.flush();
+
+        assertEquals(Map.of(LocalDateTime.of(2025, 1, 1, 0, 0), 1L),
+                unflushed(AnalyticsMetric.OUTINGS_CREATED, Granularity.DAY));
+    }
+
+    @Test
+    @DisplayName("Should purge minute and hour buckets past their retention")
+    void purge_DeletesExpiredBuckets() {
+        rollups.purge();
+
+        verify(rollupRepository).deleteOlderThan(Granularity.MINUTE, NOW.minusHours(48));
+        verify(rollupRepository).deleteOlderThan(Granularity.HOUR, NOW.minusDays(90));
+        verify(rollupRepository, never()).deleteOlderThan(eq(Granularity.DAY), any());
+    }
+
+    private Map<LocalDateTime, Long> unflushed(AnalyticsMetric metric, Granularity granularity) {
+        Map<LocalDateTime, Long> counts = new HashMap<>();
+        rollups.forEachUnflushed(metric, granularity, (key, count) -> counts.merge(key.bucketStart(), count, Long::sum));
+        return counts;
+    }
+
+    private static ParticipationChangedEvent participation(ParticipationChangedEvent.Change change) {
+        return new ParticipationChangedEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Alice", change);
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -243,4 +244,57 @@ class ChatControllerIntegrationTest {
                                 .content(objectMapper.writeValueAsString(request)))
                                 .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("GET /api/chats/{outingId}/messages - Should page backwards through history")
+        void getMessagePage_PagesBackwards() throws Exception {
+                // Given - five messages, two of them sharing a timestamp
+                LocalDateTime base = LocalDateTime.now().minusHours(1).withNano(0);
+                for (int i = 0; i < 5; i++) {
+                        chatMessageRepository.save(ChatMessage.builder()
+                                        .chat(testChat)
+                                        .sender(participant)
+                                        .content("Message " + i)
+                                        .timestamp(base.plusMinutes(Math.min(i, 3)))
+                                        .build());
+                }
+
+                // When & Then - newest page
+                String body = mockMvc.perform(get("/api/chats/" + testOuting.getId() + "/messages")
+                                .param("limit", "3")
+                                .header("Authorization", "Bearer " + participantToken))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.messages", hasSize(3)))
+                                .andExpect(jsonPath("$.hasMore", is(true)))
+                                .andExpect(jsonPath("$.messages[0].content", is("Message 2")))
+                                .andReturn().getResponse().getContentAsString();
+                String cursor = objectMapper.readTree(body).get("nextCursor").asText();
+
+                // When & Then - older page
+                mockMvc.perform(get("/api/chats/" + testOuting.getId() + "/messages")
+                                .param("limit", "3")
+                                .param("before", cursor)
+                                .header("Authorization", "Bearer " + participantToken))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.messages", hasSize(2)))
+                                .andExpect(jsonPath("$.hasMore", is(false)))
+                                .andExpect(jsonPath("$.messages[0].content", is("Message 0")))
+                                .andExpect(jsonPath("$.messages[1].content", is("Message 1")));
+        }
+
+        @Test
+        @DisplayName("GET /api/chats/{outingId}/messages - Should not create a missing chat")
+        void getMessagePage_NoChat_DoesNotCreate() throws Exception {
+                // Given
+                chatRepository.delete(testChat);
+
+                // When & Then
+                mockMvc.perform(get("/api/chats/" + testOuting.getId() + "/messages")
+                                .header("Authorization", "Bearer " + participantToken))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.messages", hasSize(0)))
+                                .andExpect(jsonPath("$.hasMore", is(false)));
+
+                assertTrue(chatRepository.findByOutingId(testOuting.getId()).isEmpty());
+        }
 }
@@ -1,5 +1,7 @@
 package com.alfano.gathorapp.chat;
 
+import com.alfano.gathorapp.chat.dto.ChatMessagePageResponse;
+import com.alfano.gathorapp.chat.dto.ChatPresenceResponse;
 import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
 import com.alfano.gathorapp.chat.dto.SendMessageRequest;
 import com.alfano.gathorapp.outing.Outing;
@@ -306,4 +308,40 @@ class ChatControllerTest {
         verify(chatService, times(1)).sendMessage(eq(outingId), any(SendMessageRequest.class), eq(user1Id));
         verify(chatService, times(1)).sendMessage(eq(outingId), any(SendMessageRequest.class), eq(user2Id));
     }
+
+    @Test
+    @DisplayName("GET /api/chats/{outingId}/messages - Should return a history page")
+    void getMessagePage_ReturnsPage() {
+        // Given
+        ChatMessagePageResponse page = ChatMessagePageResponse.builder()
+                .messages(List.of())
+                .nextCursor("cursor")
+                .hasMore(true)
+                .build();
+        when(chatService.getMessagePage(outingId, userId, "before", 20)).thenReturn(page);
+
+        // When
+        ResponseEntity<ChatMessagePageResponse> response =
+                chatController.getMessagePage(outingId, "before", 20, securityUser);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(page, response.getBody());
+        verify(chatService, times(1)).getMessagePage(outingId, userId, "before", 20);
+    }
+
+    @Test
+    @DisplayName("GET /api/chats/outing/{outingId}/presence - Should return online count")
+    void getPresence_ReturnsOnlineCount() {
+        // Given
+        ChatPresenceResponse presence = ChatPresenceResponse.builder().chatId(chatId).online(3).build();
+        when(chatService.getPresence(outingId, userId)).thenReturn(presence);
+
+        // When
+        ResponseEntity<ChatPresenceResponse> response = chatController.getPresence(outingId, securityUser);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(presence, response.getBody());
+    }
 }
@@ -31,6 +31,12 @@ class ChatDeactivationSchedulerTest {
     @Mock
     private ChatRepository chatRepository;
 
+    @Mock
+    private RecentMessageBuffer recentMessageBuffer;
+
+    @Mock
+    private ChatMembershipCache membershipCache;
+
     @InjectMocks
     private ChatDeactivationScheduler chatDeactivationScheduler;
 
@@ -82,6 +88,8 @@ class ChatDeactivationSchedulerTest {
         assertTrue(capturedDate.isBefore(expectedDate.plusMinutes(1)));
 
         verify(chatRepository, times(1)).save(chat);
+        verify(recentMessageBuffer, times(1)).invalidate(chatId);
+        verify(membershipCache, times(1)).chatDeactivated(outingId);
         assertFalse(chat.getActive(), "Chat should be deactivated");
     }
 
@@ -150,6 +158,8 @@ class ChatDeactivationSchedulerTest {
         // Then
         verify(chatRepository, times(1)).findById(chatId);
         verify(chatRepository, times(1)).save(chat);
+        verify(recentMessageBuffer, times(1)).invalidate(chatId);
+        verify(membershipCache, times(1)).chatDeactivated(outingId);
         assertFalse(chat.getActive(), "Chat should be deactivated");
     }
 
@@ -0,0 +1,230 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingChangedEvent;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.participation.ParticipationChangedEvent;
+import com.alfano.gathorapp.participation.ParticipationChangedEvent.Change;
+import com.alfano.gathorapp.participation.ParticipationRepository;
+import com.alfano.gathorapp.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ChatMembershipCache.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMembershipCache Tests")
+class ChatMembershipCacheTest {
+
+    @Mock
+    private OutingRepository outingRepository;
+
+    @Mock
+    private ChatRepository chatRepository;
+
+    @Mock
+    private ParticipationRepository participationRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatMembershipCache cache;
+    private UUID outingId;
+    private UUID organizerId;
+    private UUID participantId;
+    private Chat chat;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ChatMembershipCache(outingRepository, chatRepository, participationRepository,
+                transactionManager, 600, 100);
+
+        outingId = UUID.randomUUID();
+        organizerId = UUID.randomUUID();
+        participantId = UUID.randomUUID();
+
+        User organizer = User.builder().id(organizerId).name("Organizer").build();
+        Outing outing = Outing.builder().id(outingId).title("Test Outing").organizer(organizer).build();
+        chat = Chat.builder().id(UUID.randomUUID()).outing(outing).active(true).build();
+
+        lenient().when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
+        lenient().when(chatRepository.findByOutingId(outingId)).thenReturn(Optional.of(chat));
+        lenient().when(participationRepository.findApprovedParticipantsByOutingId(outingId))
+                .thenReturn(List.of(participant(participantId, "Participant")));
+    }
+
+    @Test
+    @DisplayName("get - Should load on miss and serve later reads from memory")
+    void get_LoadsOnceThenCaches() {
+        ChatMembership first = cache.get(outingId);
+        ChatMembership second = cache.get(outingId);
+
+        assertSame(first, second);
+        assertEquals(chat.getId(), first.chatId());
+        assertTrue(first.active());
+        assertTrue(first.isMember(organizerId));
+        assertTrue(first.isMember(participantId));
+        assertEquals("Participant", first.nameOf(participantId));
+        verify(outingRepository, times(1)).findById(outingId);
+        verify(participationRepository, times(1)).findApprovedParticipantsByOutingId(outingId);
+    }
+
+    @Test
+    @DisplayName("get - Should drop the longest-cached live entries beyond max-entries")
+    void get_OverMaxEntries_EvictsOldest() {
+        cache = new ChatMembershipCache(outingRepository, chatRepository, participationRepository,
+                transactionManager, 600, 2);
+        User organizer = User.builder().id(organizerId).name("Organizer").build();
+        List<UUID> outingIds = List.of(outingId, UUID.randomUUID(), UUID.randomUUID());
+        for (UUID id : outingIds) {
+            lenient().when(outingRepository.findById(id)).thenReturn(Optional.of(
+                    Outing.builder().id(id).title("Outing").organizer(organizer).build()));
+            cache.get(id);
+        }
+
+        // The first two may share a load time; one of them goes, the newest stays
+        assertEquals(1, outingIds.subList(0, 2).stream().filter(id -> cache.peek(id).isPresent()).count());
+        assertTrue(cache.peek(outingIds.get(2)).isPresent());
+    }
+
+    @Test
+    @DisplayName("get - Should throw and cache nothing when the outing does not exist")
+    void get_OutingNotFound_Throws() {
+        UUID missing = UUID.randomUUID();
+        when(outingRepository.findById(missing)).thenReturn(Optional.empty());
+
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> cache.get(missing));
+
+        assertTrue(exception.getMessage().contains("Outing not found"));
+        assertTrue(cache.peek(missing).isEmpty());
+    }
+
+    @Test
+    @DisplayName("get - Should report a missing chat as null and active")
+    void get_NoChatYet() {
+        when(chatRepository.findByOutingId(outingId)).thenReturn(Optional.empty());
+
+        ChatMembership membership = cache.get(outingId);
+
+        assertNull(membership.chatId());
+        assertTrue(membership.active());
+    }
+
+    @Test
+    @DisplayName("onParticipationChanged - Should grant access on approval only")
+    void onParticipationChanged_Approved_AddsParticipant() {
+        UUID newcomer = UUID.randomUUID();
+        cache.get(outingId);
+
+        cache.onParticipationChanged(event(newcomer, Change.REQUESTED));
+        assertFalse(cache.get(outingId).isMember(newcomer));
+
+        cache.onParticipationChanged(event(newcomer, Change.APPROVED));
+        assertTrue(cache.get(outingId).isMember(newcomer));
+        assertEquals("Newcomer", cache.get(outingId).nameOf(newcomer));
+        verify(outingRepository, times(1)).findById(outingId);
+    }
+
+    @Test
+    @DisplayName("onParticipationChanged - Should revoke access on leave and reject")
+    void onParticipationChanged_LeftOrRejected_RemovesParticipant() {
+        cache.get(outingId);
+
+        cache.onParticipationChanged(event(participantId, Change.LEFT));
+
+        assertFalse(cache.get(outingId).isMember(participantId));
+        assertTrue(cache.get(outingId).isMember(organizerId));
+    }
+
+    @Test
+    @DisplayName("onParticipationChanged - Should ignore outings that are not cached")
+    void onParticipationChanged_NotCached_DoesNothing() {
+        cache.onParticipationChanged(event(participantId, Change.APPROVED));
+
+        assertTrue(cache.peek(outingId).isEmpty());
+        verifyNoInteractions(outingRepository);
+    }
+
+    @Test
+    @DisplayName("chatCreated and chatDeactivated - Should update the cached chat state")
+    void chatLifecycle_UpdatesMembership() {
+        when(chatRepository.findByOutingId(outingId)).thenReturn(Optional.empty());
+        cache.get(outingId);
+        UUID chatId = UUID.randomUUID();
+
+        cache.chatCreated(outingId, chatId, true);
+        assertEquals(chatId, cache.get(outingId).chatId());
+
+        cache.chatDeactivated(outingId);
+        assertFalse(cache.get(outingId).active());
+        assertEquals(chatId, cache.get(outingId).chatId());
+    }
+
+    @Test
+    @DisplayName("get - Should discard a snapshot that changed while loading")
+    void get_ConcurrentChangeDuringLoad_DoesNotPublishSnapshot() {
+        UUID newcomer = UUID.randomUUID();
+        when(participationRepository.findApprovedParticipantsByOutingId(outingId)).thenAnswer(invocation -> {
+            cache.onParticipationChanged(event(newcomer, Change.APPROVED));
+            return List.of(participant(participantId, "Participant"));
+        });
+
+        cache.get(outingId);
+
+        assertTrue(cache.peek(outingId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("evict - Should force a reload")
+    void evict_ForcesReload() {
+        cache.get(outingId);
+
+        cache.evict(outingId);
+        cache.get(outingId);
+
+        verify(outingRepository, times(2)).findById(outingId);
+    }
+
+    @Test
+    @DisplayName("onOutingChanged - Should forget deleted outings only")
+    void onOutingChanged_Deleted_Evicts() {
+        cache.get(outingId);
+
+        cache.onOutingChanged(new OutingChangedEvent(outingId, null, OutingChangedEvent.Change.PARTICIPANTS_CHANGED));
+        assertTrue(cache.peek(outingId).isPresent());
+
+        cache.onOutingChanged(new OutingChangedEvent(outingId, null, OutingChangedEvent.Change.DELETED));
+        assertTrue(cache.peek(outingId).isEmpty());
+    }
+
+    private ParticipationChangedEvent event(UUID userId, Change change) {
+        return new ParticipationChangedEvent(UUID.randomUUID(), outingId, userId, "Newcomer", change);
+    }
+
+    private static ParticipationRepository.ApprovedParticipant participant(UUID id, String name) {
+        return new ParticipationRepository.ApprovedParticipant() {
+            @Override
+            public UUID getUserId() {
+                return id;
+            }
+
+            @Override
+            public String getUserName() {
+                return name;
+            }
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ChatMessageJournal.
+ */
+@DisplayName("ChatMessageJournal Tests")
+class ChatMessageJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should read back appended messages after a restart")
+    void appendAndReplay_RoundTrip() {
+        ChatMessageResponse first = message("Hello");
+        ChatMessageResponse second = message("Ciao, çà va? 👋");
+        try (ChatMessageJournal journal = new ChatMessageJournal(directory, 1024)) {
+            journal.append(first);
+            journal.append(second);
+        }
+
+        List<ChatMessageJournal.Entry> entries = new ChatMessageJournal(directory, 1024).readExisting();
+
+        assertEquals(2, entries.size());
+        assertEquals(first.getId(), entries.get(0).message().getId());
+        assertEquals(first.getChatId(), entries.get(0).message().getChatId());
+        assertEquals(first.getSender().getId(), entries.get(0).message().getSender().getId());
+        assertEquals(first.getTimestamp(), entries.get(0).message().getTimestamp());
+        assertEquals(second.getContent(), entries.get(1).message().getContent());
+    }
+
+    @Test
+    @DisplayName("Should ignore a record torn by a crash")
+    void replay_TornTail_IsIgnored() throws IOException {
+        try (ChatMessageJournal journal = new ChatMessageJournal(directory, 1024)) {
+            journal.append(message("Intact"));
+        }
+        Path segment = onlySegment();
+        Files.write(segment, new byte[] {0, 0, 0, 90, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        List<ChatMessageJournal.Entry> entries = new ChatMessageJournal(directory, 1024).readExisting();
+
+        assertEquals(1, entries.size());
+        assertEquals("Intact", entries.get(0).message().getContent());
+    }
+
+    @Test
+    @DisplayName("Should ignore a record whose checksum does not match")
+    void replay_CorruptRecord_IsIgnored() throws IOException {
+        try (ChatMessageJournal journal = new ChatMessageJournal(directory, 1024)) {
+            journal.append(message("Intact"));
+            journal.append(message("Corrupted"));
+        }
+        Path segment = onlySegment();
+        byte[] bytes = Files.readAllBytes(segment);
+        bytes[bytes.length - 1] ^= 0x7F;
+        Files.write(segment, bytes);
+
+        List<ChatMessageJournal.Entry> entries = new ChatMessageJournal(directory, 1024).readExisting();
+
+        assertEquals(1, entries.size());
+    }
+
+    @Test
+    @DisplayName("Should roll segments and delete only flushed ones")
+    void segments_RollAndDelete() {
+        try (ChatMessageJournal journal = new ChatMessageJournal(directory, 100)) {
+            long firstSegment = journal.append(message("A".repeat(80)));
+            long secondSegment = journal.append(message("B".repeat(80)));
+            assertTrue(secondSegment > firstSegment);
+            assertEquals(2, journal.segmentCount());
+
+            journal.deleteSegmentsBefore(secondSegment);
+            assertEquals(1, journal.segmentCount());
+
+            // The segment being written is kept even when everything is flushed
+            journal.deleteSegmentsBefore(Long.MAX_VALUE);
+            assertEquals(1, journal.segmentCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Should continue numbering after segments of a previous run")
+    void reopen_StartsNewSegment() {
+        long previous;
+        try (ChatMessageJournal journal = new ChatMessageJournal(directory, 1024)) {
+            previous = journal.append(message("Old"));
+        }
+
+        try (ChatMessageJournal journal = new ChatMessageJournal(directory, 1024)) {
+            assertEquals(1, journal.readExisting().size());
+            journal.deleteSegmentsBefore(Long.MAX_VALUE);
+            assertEquals(0, journal.segmentCount());
+
+            long next = journal.append(message("New"));
+            assertTrue(next > previous);
+        }
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.toList();
+            assertEquals(1, segments.size());
+            return segments.get(0);
+        }
+    }
+
+    private static ChatMessageResponse message(String content) {
+        return ChatMessageResponse.builder()
+                .id(UuidV7.generate())
+                .chatId(UUID.randomUUID())
+                .sender(ChatMessageResponse.SenderInfo.builder().id(UUID.randomUUID()).build())
+                .content(content)
+                .timestamp(LocalDateTime.of(2025, 6, 1, 12, 0, 0, 123_456_000))
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
+import com.alfano.gathorapp.chat.dto.SendMessageRequest;
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for chat message write-behind against the test database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@DisplayName("ChatMessageWriteBehind Integration Tests")
+class ChatMessageWriteBehindIntegrationTest {
+
+    @TempDir
+    static Path journalDirectory;
+
+    @DynamicPropertySource
+    static void writeBehindProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.chat.write-behind.enabled", () -> "true");
+        registry.add("app.chat.write-behind.journal-dir", () -> journalDirectory.resolve("live").toString());
+    }
+
+    @Autowired
+    private ChatService chatService;
+
+    @Autowired
+    private ChatMessageWriteBehind writeBehind;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatRepository chatRepository;
+
+    @Autowired
+    private OutingRepository outingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private com.alfano.gathorapp.testutils.TestDatabaseCleaner testDatabaseCleaner;
+
+    private User organizer;
+    private Outing outing;
+    private Chat chat;
+
+    @BeforeEach
+    void setUp() {
+        testDatabaseCleaner.truncateAll();
+
+        organizer = userRepository.save(User.builder()
+                .name("Organizer")
+                .email("organizer@example.com")
+                .passwordHash("hashedPassword")
+                .role(Role.USER)
+                .build());
+        outing = outingRepository.save(Outing.builder()
+                .title("Test Outing")
+                .description("Test Description")
+                .location("Test Location")
+                .latitude(40.3515)
+                .longitude(18.1750)
+                .outingDate(LocalDateTime.now().plusDays(7))
+                .maxParticipants(10)
+                .organizer(organizer)
+                .build());
+        chat = chatRepository.save(Chat.builder().outing(outing).active(true).build());
+    }
+
+    @Test
+    @DisplayName("Should insert sent messages in the background, in order")
+    void sendMessage_IsPersistedAsynchronously() throws InterruptedException {
+        for (int i = 0; i < 20; i++) {
+            SendMessageRequest request = SendMessageRequest.builder().content("Message " + i).build();
+            chatService.sendMessage(outing.getId(), request, organizer.getId());
+        }
+
+        awaitMessageCount(20);
+        List<ChatMessage> messages = chatMessageRepository.findByChatIdOrderByTimestamp(chat.getId());
+        assertEquals("Message 0", messages.get(0).getContent());
+        assertEquals("Message 19", messages.get(19).getContent());
+        assertEquals(organizer.getId(), messages.get(0).getSender().getId());
+    }
+
+    @Test
+    @DisplayName("Should replay a journal left by a crash, skipping persisted messages")
+    void start_ReplaysJournal() {
+        Path crashed = journalDirectory.resolve("crashed");
+        ChatMessageResponse persisted = message("Already persisted");
+        ChatMessageResponse lost = message("Lost in the crash");
+        try (ChatMessageJournal journal = new ChatMessageJournal(crashed, 1 << 20)) {
+            journal.append(persisted);
+            journal.append(lost);
+        }
+        jdbcTemplate.update(ChatMessageWriteBehind.INSERT_SQL, persisted.getId(), persisted.getChatId(),
+                persisted.getSender().getId(), persisted.getContent(), persisted.getTimestamp());
+
+        ChatMessageWriteBehind recovering = new ChatMessageWriteBehind(jdbcTemplate, transactionManager,
+                true, 100, 5, 100, crashed.toString(), 1 << 20);
+        recovering.start();
+        recovering.stop();
+
+        List<ChatMessage> messages = chatMessageRepository.findByChatIdOrderByTimestamp(chat.getId());
+        assertEquals(2, messages.size());
+        assertEquals(lost.getId(), messages.get(1).getId());
+        assertEquals(lost.getTimestamp(), messages.get(1).getTimestamp());
+        assertEquals(0, new ChatMessageJournal(crashed, 1 << 20).readExisting().size());
+    }
+
+    @Test
+    @DisplayName("Should drop messages whose chat no longer exists without blocking others")
+    void flush_SkipsRowsViolatingConstraints() throws InterruptedException {
+        ChatMessageResponse orphan = message("Orphan");
+        orphan.setChatId(java.util.UUID.randomUUID());
+
+        writeBehind.submit(orphan);
+        writeBehind.submit(message("Valid"));
+
+        awaitMessageCount(1);
+        assertEquals("Valid", chatMessageRepository.findByChatIdOrderByTimestamp(chat.getId()).get(0).getContent());
+    }
+
+    private ChatMessageResponse message(String content) {
+        return ChatMessageResponse.builder()
+                .id(UuidV7.generate())
+                .chatId(chat.getId())
+                .sender(ChatMessageResponse.SenderInfo.builder().id(organizer.getId()).build())
+                .content(content)
+                .timestamp(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                .build();
+    }
+
+    private void awaitMessageCount(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (chatMessageRepository.count() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, chatMessageRepository.count());
+        assertEquals(0, writeBehind.pending());
+    }
+}
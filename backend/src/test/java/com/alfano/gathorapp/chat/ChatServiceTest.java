@@ -1,27 +1,39 @@
 package com.alfano.gathorapp.chat;
 
+import com.alfano.gathorapp.chat.dto.ChatMessagePageResponse;
+import com.alfano.gathorapp.chat.dto.ChatPresenceResponse;
 import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
 import com.alfano.gathorapp.chat.dto.SendMessageRequest;
+import com.alfano.gathorapp.exception.BadRequestException;
 import com.alfano.gathorapp.notification.NotificationService;
+import com.alfano.gathorapp.notification.NotificationType;
 import com.alfano.gathorapp.outing.Outing;
 import com.alfano.gathorapp.outing.OutingRepository;
-import com.alfano.gathorapp.participation.ParticipationRepository;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
+import com.alfano.gathorapp.websocket.PresenceRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -30,8 +42,8 @@ import static org.mockito.Mockito.*;
  * Tests cover:
  * - Chat creation
  * - Message sending with permission checks
- * - Message retrieval
- * - Access control validation
+ * - Message retrieval and paging
+ * - Access control validation through the membership cache
  */
 @ExtendWith(MockitoExtension.class)
 class ChatServiceTest {
@@ -48,15 +60,27 @@ class ChatServiceTest {
     @Mock
     private UserRepository userRepository;
 
-    @Mock
-    private ParticipationRepository participationRepository;
-
     @Mock
     private ChatMapper chatMapper;
 
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private RecentMessageBuffer recentMessageBuffer;
+
+    @Mock
+    private ChatMembershipCache membershipCache;
+
+    @Mock
+    private ChatMessageWriteBehind writeBehind;
+
+    @Mock
+    private PresenceRegistry presenceRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ChatService chatService;
 
@@ -127,6 +151,7 @@ class ChatServiceTest {
         // Then
         assertNotNull(result);
         verify(chatRepository, times(1)).save(any(Chat.class));
+        verify(membershipCache).chatCreated(outingId, chat.getId(), true);
     }
 
     @Test
@@ -134,32 +159,17 @@ class ChatServiceTest {
         // Given
         SendMessageRequest request = new SendMessageRequest();
         request.setContent("Hello from organizer!");
-
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
-
-        ChatMessage savedMessage = new ChatMessage();
-        savedMessage.setId(UUID.randomUUID());
-        savedMessage.setContent(request.getContent());
-        savedMessage.setSender(organizer);
-        savedMessage.setChat(chat);
-
-        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(savedMessage);
-
-        ChatMessageResponse response = new ChatMessageResponse();
-        response.setContent(request.getContent());
-        when(chatMapper.toMessageResponse(savedMessage)).thenReturn(response);
-
-        when(participationRepository.findApprovedByOuting(outing)).thenReturn(new ArrayList<>());
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
+        ChatMessageResponse response = stubSave(request.getContent(), "Organizer");
 
         // When
         ChatMessageResponse result = chatService.sendMessage(outingId, request, organizerId);
 
         // Then
-        assertNotNull(result);
-        assertEquals(request.getContent(), result.getContent());
+        assertSame(response, result);
         verify(chatMessageRepository, times(1)).save(any(ChatMessage.class));
+        verify(eventPublisher).publishEvent(new ChatMessageSentEvent(chat.getId(), outingId, organizerId));
+        verifyNoInteractions(outingRepository);
     }
 
     @Test
@@ -167,32 +177,35 @@ class ChatServiceTest {
         // Given
         SendMessageRequest request = new SendMessageRequest();
         request.setContent("Hello from participant!");
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of(userId, "Test User")));
+        ChatMessageResponse response = stubSave(request.getContent(), "Test User");
 
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(participationRepository.existsByUserAndOuting(user, outing)).thenReturn(true);
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
-
-        ChatMessage savedMessage = new ChatMessage();
-        savedMessage.setId(UUID.randomUUID());
-        savedMessage.setContent(request.getContent());
-        savedMessage.setSender(user);
-        savedMessage.setChat(chat);
-
-        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(savedMessage);
+        // When
+        ChatMessageResponse result = chatService.sendMessage(outingId, request, userId);
 
-        ChatMessageResponse response = new ChatMessageResponse();
-        response.setContent(request.getContent());
-        when(chatMapper.toMessageResponse(savedMessage)).thenReturn(response);
+        // Then
+        assertSame(response, result);
+    }
 
-        when(participationRepository.findApprovedByOuting(outing)).thenReturn(new ArrayList<>());
+    @Test
+    void testSendMessage_OnlyTouchesDatabaseForInsert() {
+        // Given
+        SendMessageRequest request = new SendMessageRequest();
+        request.setContent("Cheap message");
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of(userId, "Test User")));
+        stubSave(request.getContent(), "Test User");
 
         // When
-        ChatMessageResponse result = chatService.sendMessage(outingId, request, userId);
+        chatService.sendMessage(outingId, request, userId);
 
         // Then
-        assertNotNull(result);
-        assertEquals(request.getContent(), result.getContent());
+        ArgumentCaptor<ChatMessage> captor = ArgumentCaptor.forClass(ChatMessage.class);
+        verify(chatMessageRepository).save(captor.capture());
+        assertEquals("Cheap message", captor.getValue().getContent());
+        verify(chatRepository).getReferenceById(chat.getId());
+        verify(userRepository).getReferenceById(userId);
+        verifyNoMoreInteractions(chatRepository, userRepository, chatMessageRepository);
+        verifyNoInteractions(outingRepository);
     }
 
     @Test
@@ -200,10 +213,7 @@ class ChatServiceTest {
         // Given
         SendMessageRequest request = new SendMessageRequest();
         request.setContent("Unauthorized message");
-
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(participationRepository.existsByUserAndOuting(user, outing)).thenReturn(false);
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
 
         // When/Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -217,47 +227,37 @@ class ChatServiceTest {
     @Test
     void testSendMessage_ToInactiveChat_ThrowsException() {
         // Given
-        chat.setActive(false);
         SendMessageRequest request = new SendMessageRequest();
         request.setContent("Message to inactive chat");
-
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()).withChat(chat.getId(), false));
 
         // When/Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
             chatService.sendMessage(outingId, request, organizerId);
         });
 
-        assertTrue(exception.getMessage().contains("chat has been deactivated"));
+        assertTrue(exception.getMessage().contains("deactivated"));
         verify(chatMessageRepository, never()).save(any(ChatMessage.class));
     }
 
     @Test
     void testGetMessages_AsOrganizer_Success() {
         // Given
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
-
-        List<ChatMessage> messages = new ArrayList<>();
-        when(chatMessageRepository.findByChatOrderByTimestampAsc(chat)).thenReturn(messages);
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
+        when(chatMessageRepository.findByChatIdOrderByTimestamp(chat.getId())).thenReturn(new ArrayList<>());
 
         // When
         List<ChatMessageResponse> result = chatService.getMessages(outingId, organizerId);
 
         // Then
         assertNotNull(result);
-        verify(chatMessageRepository, times(1)).findByChatOrderByTimestampAsc(chat);
+        verify(chatMessageRepository).findByChatIdOrderByTimestamp(chat.getId());
     }
 
     @Test
     void testGetMessages_AsNonParticipant_ThrowsException() {
         // Given
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(participationRepository.existsByUserAndOuting(user, outing)).thenReturn(false);
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
 
         // When/Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -265,27 +265,22 @@ class ChatServiceTest {
         });
 
         assertTrue(exception.getMessage().contains("Only participants and organizer can view messages"));
-        verify(chatMessageRepository, never()).findByChatOrderByTimestampAsc(any());
+        verifyNoInteractions(chatMessageRepository);
     }
 
     @Test
     void testGetMessages_AsParticipant_Success() {
         // Given
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(participationRepository.existsByUserAndOuting(user, outing)).thenReturn(true);
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
-
-        List<ChatMessage> messages = new ArrayList<>();
-        when(chatMessageRepository.findByChatOrderByTimestampAsc(chat)).thenReturn(messages);
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of(userId, "Test User")));
+        ChatMessage msg = message("Hi", LocalDateTime.now());
+        when(chatMessageRepository.findByChatIdOrderByTimestamp(chat.getId())).thenReturn(List.of(msg));
+        stubMapper(msg);
 
         // When
         List<ChatMessageResponse> result = chatService.getMessages(outingId, userId);
 
         // Then
-        assertNotNull(result);
-        verify(chatMessageRepository, times(1)).findByChatOrderByTimestampAsc(chat);
-        verify(participationRepository).existsByUserAndOuting(user, outing);
+        assertEquals(1, result.size());
     }
 
     @Test
@@ -299,16 +294,14 @@ class ChatServiceTest {
         });
 
         assertTrue(exception.getMessage().contains("Outing not found"));
-        verify(chatRepository, never()).save(any());
     }
 
     @Test
     void testSendMessage_OutingNotFound_ThrowsException() {
         // Given
         SendMessageRequest request = new SendMessageRequest();
-        request.setContent("Hello");
-
-        when(outingRepository.findById(outingId)).thenReturn(Optional.empty());
+        request.setContent("Test message");
+        when(membershipCache.get(outingId)).thenThrow(new RuntimeException("Outing not found"));
 
         // When/Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -316,31 +309,13 @@ class ChatServiceTest {
         });
 
         assertTrue(exception.getMessage().contains("Outing not found"));
-        verify(chatMessageRepository, never()).save(any());
-    }
-
-    @Test
-    void testSendMessage_UserNotFound_ThrowsException() {
-        // Given
-        SendMessageRequest request = new SendMessageRequest();
-        request.setContent("Hello");
-
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
-
-        // When/Then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            chatService.sendMessage(outingId, request, userId);
-        });
-
-        assertTrue(exception.getMessage().contains("User not found"));
-        verify(chatMessageRepository, never()).save(any());
+        verify(chatMessageRepository, never()).save(any(ChatMessage.class));
     }
 
     @Test
     void testGetMessages_OutingNotFound_ThrowsException() {
         // Given
-        when(outingRepository.findById(outingId)).thenReturn(Optional.empty());
+        when(membershipCache.get(outingId)).thenThrow(new RuntimeException("Outing not found"));
 
         // When/Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -348,238 +323,258 @@ class ChatServiceTest {
         });
 
         assertTrue(exception.getMessage().contains("Outing not found"));
-        verify(chatMessageRepository, never()).findByChatOrderByTimestampAsc(any());
+        verifyNoInteractions(chatMessageRepository);
     }
 
     @Test
-    void testGetMessages_UserNotFound_ThrowsException() {
+    void testGetMessages_ChatDoesNotExist_ReturnsEmptyWithoutCreating() {
         // Given
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()).withChat(null, true));
 
-        // When/Then
-        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
-            chatService.getMessages(outingId, userId);
-        });
+        // When
+        List<ChatMessageResponse> result = chatService.getMessages(outingId, organizerId);
 
-        assertTrue(exception.getMessage().contains("User not found"));
-        verify(chatMessageRepository, never()).findByChatOrderByTimestampAsc(any());
+        // Then
+        assertNotNull(result);
+        assertTrue(result.isEmpty());
+        verify(chatRepository, never()).save(any(Chat.class));
+        verifyNoInteractions(chatMessageRepository);
     }
 
     @Test
-    void testGetMessages_CreatesChatIfNotExists() {
+    void testGetMessagePage_FirstPage_ReturnsNewestInChronologicalOrder() {
         // Given
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
-        when(chatRepository.findByOuting(outing))
-                .thenReturn(Optional.empty())  // First call in getMessages
-                .thenReturn(Optional.empty());  // Second call in getOrCreateChat
-        when(chatRepository.save(any(Chat.class))).thenReturn(chat);
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
 
-        List<ChatMessage> messages = new ArrayList<>();
-        when(chatMessageRepository.findByChatOrderByTimestampAsc(chat)).thenReturn(messages);
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        ChatMessage newest = message("Third", now);
+        ChatMessage middle = message("Second", now.minusMinutes(1));
+        ChatMessage oldest = message("First", now.minusMinutes(2));
+        when(chatMessageRepository.findLatestByChatId(eq(chat.getId()), any(Pageable.class)))
+                .thenReturn(List.of(newest, middle, oldest));
+        stubMapper(newest, middle, oldest);
 
         // When
-        List<ChatMessageResponse> result = chatService.getMessages(outingId, organizerId);
+        ChatMessagePageResponse page = chatService.getMessagePage(outingId, organizerId, null, 2);
 
         // Then
-        assertNotNull(result);
-        verify(chatRepository).save(any(Chat.class));
+        assertTrue(page.isHasMore());
+        assertEquals(2, page.getMessages().size());
+        assertEquals("Second", page.getMessages().get(0).getContent());
+        assertEquals("Third", page.getMessages().get(1).getContent());
+        assertEquals(ChatCursor.of(middle), ChatCursor.decode(page.getNextCursor()));
     }
 
     @Test
-    void testSendMessage_CreatesChatIfNotExists() {
+    void testGetMessagePage_FirstPageBuffered_SkipsDatabase() {
         // Given
-        SendMessageRequest request = new SendMessageRequest();
-        request.setContent("First message!");
-
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
-        when(chatRepository.findByOuting(outing))
-                .thenReturn(Optional.empty())  // First call in sendMessage
-                .thenReturn(Optional.empty());  // Second call in getOrCreateChat
-        when(chatRepository.save(any(Chat.class))).thenReturn(chat);
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
 
-        ChatMessage savedMessage = new ChatMessage();
-        savedMessage.setId(UUID.randomUUID());
-        savedMessage.setContent(request.getContent());
-        savedMessage.setSender(organizer);
-        savedMessage.setChat(chat);
+        LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+        ChatMessageResponse newest = ChatMessageResponse.builder()
+                .id(UUID.randomUUID()).content("Newest").timestamp(now).build();
+        ChatMessageResponse older = ChatMessageResponse.builder()
+                .id(UUID.randomUUID()).content("Older").timestamp(now.minusMinutes(1)).build();
+        when(recentMessageBuffer.latest(eq(chat.getId()), eq(2), any()))
+                .thenReturn(Optional.of(new RecentMessageBuffer.Page(List.of(newest, older), true)));
 
-        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(savedMessage);
+        // When
+        ChatMessagePageResponse page = chatService.getMessagePage(outingId, organizerId, null, 2);
 
-        ChatMessageResponse response = new ChatMessageResponse();
-        response.setContent(request.getContent());
-        when(chatMapper.toMessageResponse(savedMessage)).thenReturn(response);
+        // Then
+        assertEquals(List.of(older, newest), page.getMessages());
+        assertTrue(page.isHasMore());
+        assertEquals(older.getId(), ChatCursor.decode(page.getNextCursor()).id());
+        verifyNoInteractions(chatMessageRepository);
+    }
 
-        when(participationRepository.findApprovedByOuting(outing)).thenReturn(new ArrayList<>());
+    @Test
+    void testGetMessagePage_InactiveChat_BypassesBuffer() {
+        // Given
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()).withChat(chat.getId(), false));
+        when(chatMessageRepository.findLatestByChatId(eq(chat.getId()), any(Pageable.class)))
+                .thenReturn(List.of());
 
         // When
-        ChatMessageResponse result = chatService.sendMessage(outingId, request, organizerId);
+        chatService.getMessagePage(outingId, organizerId, null, 10);
 
         // Then
-        assertNotNull(result);
-        verify(chatRepository).save(any(Chat.class));
-        verify(chatMessageRepository).save(any(ChatMessage.class));
+        verifyNoInteractions(recentMessageBuffer);
     }
 
     @Test
-    void testSendMessage_WithParticipants_SendsNotifications() {
+    void testSendMessage_AppendsToRecentBuffer() {
         // Given
         SendMessageRequest request = new SendMessageRequest();
-        request.setContent("Hello everyone!");
+        request.setContent("Buffered");
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
+        ChatMessageResponse response = stubSave(request.getContent(), "Organizer");
 
-        User participant1 = new User();
-        participant1.setId(UUID.randomUUID());
-        participant1.setName("Participant 1");
+        // When
+        chatService.sendMessage(outingId, request, organizerId);
 
-        User participant2 = new User();
-        participant2.setId(UUID.randomUUID());
-        participant2.setName("Participant 2");
+        // Then
+        verify(recentMessageBuffer).append(response);
+    }
 
-        // Create participations using Participation.builder()
-        com.alfano.gathorapp.participation.Participation participation1 =
-            com.alfano.gathorapp.participation.Participation.builder()
-                .user(participant1)
-                .outing(outing)
-                .build();
+    @Test
+    void testGetMessagePage_WithCursor_UsesKeysetQuery() {
+        // Given
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
 
-        com.alfano.gathorapp.participation.Participation participation2 =
-            com.alfano.gathorapp.participation.Participation.builder()
-                .user(participant2)
-                .outing(outing)
-                .build();
+        ChatCursor cursor = new ChatCursor(LocalDateTime.of(2025, 6, 1, 12, 0), UUID.randomUUID());
+        ChatMessage older = message("Older", cursor.timestamp().minusMinutes(5));
+        when(chatMessageRepository.findPageBefore(eq(chat.getId()), eq(cursor.timestamp()), eq(cursor.id()),
+                any(Pageable.class))).thenReturn(List.of(older));
+        stubMapper(older);
 
-        List<com.alfano.gathorapp.participation.Participation> participations =
-            List.of(participation1, participation2);
+        // When
+        ChatMessagePageResponse page = chatService.getMessagePage(outingId, organizerId, cursor.encode(), 10);
 
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(participationRepository.existsByUserAndOuting(user, outing)).thenReturn(true);
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
+        // Then
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+        assertEquals(1, page.getMessages().size());
+        verify(chatMessageRepository, never()).findLatestByChatId(any(), any());
+        verifyNoInteractions(recentMessageBuffer);
+    }
 
-        ChatMessage savedMessage = new ChatMessage();
-        savedMessage.setId(UUID.randomUUID());
-        savedMessage.setContent(request.getContent());
-        savedMessage.setSender(user);
-        savedMessage.setChat(chat);
+    @Test
+    void testGetMessagePage_ClampsLimit() {
+        // Given
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
+        when(chatMessageRepository.findLatestByChatId(eq(chat.getId()), any(Pageable.class)))
+                .thenReturn(List.of());
 
-        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(savedMessage);
+        // When
+        chatService.getMessagePage(outingId, organizerId, null, 10_000);
 
-        ChatMessageResponse response = new ChatMessageResponse();
-        response.setContent(request.getContent());
-        when(chatMapper.toMessageResponse(savedMessage)).thenReturn(response);
+        // Then
+        verify(chatMessageRepository).findLatestByChatId(chat.getId(),
+                PageRequest.of(0, ChatService.MAX_PAGE_SIZE + 1));
+    }
 
-        when(participationRepository.findApprovedByOuting(outing)).thenReturn(participations);
+    @Test
+    void testGetMessagePage_ChatDoesNotExist_ReturnsEmptyWithoutCreating() {
+        // Given
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()).withChat(null, true));
 
         // When
-        chatService.sendMessage(outingId, request, userId);
+        ChatMessagePageResponse page = chatService.getMessagePage(outingId, organizerId, null, null);
 
         // Then
-        // Should notify 2 participants + organizer (3 total, sender excluded)
-        verify(notificationService, times(3)).createNotification(any(), any(), any(), any(), any(), any());
+        assertTrue(page.getMessages().isEmpty());
+        assertFalse(page.isHasMore());
+        verify(chatRepository, never()).save(any(Chat.class));
     }
 
     @Test
-    void testSendMessage_AsOrganizer_NotifiesAllParticipants() {
+    void testGetMessagePage_AsNonParticipant_ThrowsException() {
         // Given
-        SendMessageRequest request = new SendMessageRequest();
-        request.setContent("Message from organizer!");
-
-        User participant = new User();
-        participant.setId(UUID.randomUUID());
-        participant.setName("Participant");
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
 
-        com.alfano.gathorapp.participation.Participation participation =
-            com.alfano.gathorapp.participation.Participation.builder()
-                .user(participant)
-                .outing(outing)
-                .build();
-
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
+        // When/Then
+        assertThrows(UnauthorizedChatAccessException.class,
+                () -> chatService.getMessagePage(outingId, userId, null, null));
+        verifyNoInteractions(chatMessageRepository, recentMessageBuffer);
+    }
 
-        ChatMessage savedMessage = new ChatMessage();
-        savedMessage.setId(UUID.randomUUID());
-        savedMessage.setContent(request.getContent());
-        savedMessage.setSender(organizer);
-        savedMessage.setChat(chat);
+    @Test
+    void testGetMessagePage_InvalidCursor_ThrowsBadRequest() {
+        // Given
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
 
-        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(savedMessage);
+        // When/Then
+        assertThrows(BadRequestException.class,
+                () -> chatService.getMessagePage(outingId, organizerId, "not-a-cursor", null));
+    }
 
-        ChatMessageResponse response = new ChatMessageResponse();
-        response.setContent(request.getContent());
-        when(chatMapper.toMessageResponse(savedMessage)).thenReturn(response);
+    @Test
+    void testSendMessage_CreatesChatIfNotExists() {
+        // Given
+        SendMessageRequest request = new SendMessageRequest();
+        request.setContent("First message!");
 
-        when(participationRepository.findApprovedByOuting(outing)).thenReturn(List.of(participation));
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()).withChat(null, true));
+        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
+        when(chatRepository.findByOuting(outing)).thenReturn(Optional.empty());
+        when(chatRepository.save(any(Chat.class))).thenReturn(chat);
+        stubSave(request.getContent(), "Organizer");
 
         // When
-        chatService.sendMessage(outingId, request, organizerId);
+        ChatMessageResponse result = chatService.sendMessage(outingId, request, organizerId);
 
         // Then
-        // Should notify only the participant (organizer is sender, so excluded)
-        verify(notificationService, times(1)).createNotification(any(), any(), any(), any(), any(), any());
+        assertNotNull(result);
+        verify(chatRepository).save(any(Chat.class));
+        verify(chatMessageRepository).save(any(ChatMessage.class));
+        verify(membershipCache).chatCreated(outingId, chat.getId(), true);
     }
 
     @Test
-    void testSendMessage_WithNoParticipants_NotifiesOnlyOrganizer() {
+    void testSendMessage_WithParticipants_SendsNotifications() {
         // Given
+        UUID otherId = UUID.randomUUID();
         SendMessageRequest request = new SendMessageRequest();
-        request.setContent("Message from participant!");
+        request.setContent("Hello everyone!");
+        when(membershipCache.get(outingId))
+                .thenReturn(membership(Map.of(userId, "Test User", otherId, "Other")));
+        stubSave(request.getContent(), "Test User");
 
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(participationRepository.existsByUserAndOuting(user, outing)).thenReturn(true);
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
+        // When
+        chatService.sendMessage(outingId, request, userId);
 
-        ChatMessage savedMessage = new ChatMessage();
-        savedMessage.setId(UUID.randomUUID());
-        savedMessage.setContent(request.getContent());
-        savedMessage.setSender(user);
-        savedMessage.setChat(chat);
+        // Then - the other participant and the organizer, never the sender
+        verify(notificationService).createNotification(eq(otherId), eq(NotificationType.NEW_MESSAGE),
+                eq("New message in Test Outing"), eq("Test User: Hello everyone!"), eq(outingId), eq("OUTING"));
+        verify(notificationService).createNotification(eq(organizerId), eq(NotificationType.NEW_MESSAGE),
+                anyString(), anyString(), eq(outingId), eq("OUTING"));
+        verify(notificationService, never()).createNotification(eq(userId), any(), any(), any(), any(), any());
+    }
 
-        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(savedMessage);
+    @Test
+    void testSendMessage_AsOrganizer_NotifiesAllParticipants() {
+        // Given
+        UUID otherId = UUID.randomUUID();
+        SendMessageRequest request = new SendMessageRequest();
+        request.setContent("Organizer announcement");
+        when(membershipCache.get(outingId))
+                .thenReturn(membership(Map.of(userId, "Test User", otherId, "Other")));
+        stubSave(request.getContent(), "Organizer");
 
-        ChatMessageResponse response = new ChatMessageResponse();
-        response.setContent(request.getContent());
-        when(chatMapper.toMessageResponse(savedMessage)).thenReturn(response);
+        // When
+        chatService.sendMessage(outingId, request, organizerId);
 
-        when(participationRepository.findApprovedByOuting(outing)).thenReturn(new ArrayList<>());
+        // Then
+        verify(notificationService, times(2)).createNotification(any(), any(), any(), any(), any(), any());
+        verify(notificationService, never()).createNotification(eq(organizerId), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void testSendMessage_WithNoParticipants_NotifiesOnlyOrganizer() {
+        // Given
+        SendMessageRequest request = new SendMessageRequest();
+        request.setContent("Lonely message");
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of(userId, "Test User")));
+        stubSave(request.getContent(), "Test User");
 
         // When
         chatService.sendMessage(outingId, request, userId);
 
         // Then
-        // Should notify only organizer (sender is participant)
-        verify(notificationService, times(1)).createNotification(any(), any(), any(), any(), any(), any());
+        verify(notificationService, times(1)).createNotification(eq(organizerId), any(), any(), any(), any(), any());
     }
 
     @Test
     void testGetMessages_WithMultipleMessages_ReturnsSorted() {
         // Given
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
-
-        ChatMessage msg1 = new ChatMessage();
-        msg1.setId(UUID.randomUUID());
-        msg1.setContent("First");
-
-        ChatMessage msg2 = new ChatMessage();
-        msg2.setId(UUID.randomUUID());
-        msg2.setContent("Second");
-
-        List<ChatMessage> messages = List.of(msg1, msg2);
-        when(chatMessageRepository.findByChatOrderByTimestampAsc(chat)).thenReturn(messages);
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
 
-        ChatMessageResponse response1 = new ChatMessageResponse();
-        response1.setContent("First");
-        ChatMessageResponse response2 = new ChatMessageResponse();
-        response2.setContent("Second");
-
-        when(chatMapper.toMessageResponse(msg1)).thenReturn(response1);
-        when(chatMapper.toMessageResponse(msg2)).thenReturn(response2);
+        LocalDateTime now = LocalDateTime.now();
+        ChatMessage msg1 = message("First", now.minusMinutes(1));
+        ChatMessage msg2 = message("Second", now);
+        when(chatMessageRepository.findByChatIdOrderByTimestamp(chat.getId())).thenReturn(List.of(msg1, msg2));
+        stubMapper(msg1, msg2);
 
         // When
         List<ChatMessageResponse> result = chatService.getMessages(outingId, organizerId);
@@ -594,11 +589,8 @@ class ChatServiceTest {
     @Test
     void testGetMessages_EmptyChat_ReturnsEmptyList() {
         // Given
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
-
-        when(chatMessageRepository.findByChatOrderByTimestampAsc(chat)).thenReturn(new ArrayList<>());
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
+        when(chatMessageRepository.findByChatIdOrderByTimestamp(chat.getId())).thenReturn(new ArrayList<>());
 
         // When
         List<ChatMessageResponse> result = chatService.getMessages(outingId, organizerId);
@@ -613,31 +605,14 @@ class ChatServiceTest {
         // Given
         SendMessageRequest request = new SendMessageRequest();
         request.setContent("");
-
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
-
-        ChatMessage savedMessage = new ChatMessage();
-        savedMessage.setId(UUID.randomUUID());
-        savedMessage.setContent("");
-        savedMessage.setSender(organizer);
-        savedMessage.setChat(chat);
-
-        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(savedMessage);
-
-        ChatMessageResponse response = new ChatMessageResponse();
-        response.setContent("");
-        when(chatMapper.toMessageResponse(savedMessage)).thenReturn(response);
-
-        when(participationRepository.findApprovedByOuting(outing)).thenReturn(new ArrayList<>());
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
+        stubSave("", "Organizer");
 
         // When
         ChatMessageResponse result = chatService.sendMessage(outingId, request, organizerId);
 
         // Then
         assertNotNull(result);
-        assertEquals("", result.getContent());
         verify(chatMessageRepository).save(any(ChatMessage.class));
     }
 
@@ -647,30 +622,13 @@ class ChatServiceTest {
         String longContent = "A".repeat(1000);
         SendMessageRequest request = new SendMessageRequest();
         request.setContent(longContent);
-
-        when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
-        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
-        when(chatRepository.findByOuting(outing)).thenReturn(Optional.of(chat));
-
-        ChatMessage savedMessage = new ChatMessage();
-        savedMessage.setId(UUID.randomUUID());
-        savedMessage.setContent(longContent);
-        savedMessage.setSender(organizer);
-        savedMessage.setChat(chat);
-
-        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(savedMessage);
-
-        ChatMessageResponse response = new ChatMessageResponse();
-        response.setContent(longContent);
-        when(chatMapper.toMessageResponse(savedMessage)).thenReturn(response);
-
-        when(participationRepository.findApprovedByOuting(outing)).thenReturn(new ArrayList<>());
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
+        stubSave(longContent, "Organizer");
 
         // When
         ChatMessageResponse result = chatService.sendMessage(outingId, request, organizerId);
 
         // Then
-        assertNotNull(result);
         assertEquals(longContent, result.getContent());
     }
 
@@ -679,13 +637,7 @@ class ChatServiceTest {
         // Given
         when(outingRepository.findById(outingId)).thenReturn(Optional.of(outing));
         when(chatRepository.findByOuting(outing)).thenReturn(Optional.empty());
-
-        Chat newChat = new Chat();
-        newChat.setId(UUID.randomUUID());
-        newChat.setOuting(outing);
-        newChat.setActive(true);
-
-        when(chatRepository.save(any(Chat.class))).thenReturn(newChat);
+        when(chatRepository.save(any(Chat.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         Chat result = chatService.getOrCreateChat(outingId);
@@ -693,6 +645,89 @@ class ChatServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(true, result.getActive());
+        assertEquals(outing, result.getOuting());
         verify(chatRepository).save(any(Chat.class));
     }
+
+    @Test
+    void testSendMessage_WriteBehind_DefersInsert() {
+        // Given
+        SendMessageRequest request = new SendMessageRequest();
+        request.setContent("Queued");
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of(userId, "Test User")));
+        when(writeBehind.isEnabled()).thenReturn(true);
+
+        // When
+        ChatMessageResponse result = chatService.sendMessage(outingId, request, userId);
+
+        // Then
+        assertEquals(7, result.getId().version());
+        assertEquals(chat.getId(), result.getChatId());
+        assertEquals(userId, result.getSender().getId());
+        assertEquals("Test User", result.getSender().getName());
+        assertNotNull(result.getTimestamp());
+        verify(writeBehind).submit(result);
+        verify(recentMessageBuffer).append(result);
+        verifyNoInteractions(chatMessageRepository, chatMapper);
+    }
+
+    @Test
+    void testGetPresence_ReturnsOnlineCountFromRegistry() {
+        // Given
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of(userId, "Test User")));
+        when(presenceRegistry.onlineCount(chat.getId())).thenReturn(4);
+
+        // When
+        ChatPresenceResponse presence = chatService.getPresence(outingId, userId);
+
+        // Then
+        assertEquals(chat.getId(), presence.getChatId());
+        assertEquals(4, presence.getOnline());
+        verifyNoInteractions(chatRepository, chatMessageRepository);
+    }
+
+    @Test
+    void testGetPresence_AsNonParticipant_ThrowsException() {
+        // Given
+        when(membershipCache.get(outingId)).thenReturn(membership(Map.of()));
+
+        // When/Then
+        assertThrows(UnauthorizedChatAccessException.class, () -> chatService.getPresence(outingId, userId));
+        verifyNoInteractions(presenceRegistry);
+    }
+
+    private ChatMembership membership(Map<UUID, String> participants) {
+        return new ChatMembership(outingId, "Test Outing", organizerId, "Organizer", chat.getId(), true,
+                participants);
+    }
+
+    private ChatMessageResponse stubSave(String content, String senderName) {
+        ChatMessage savedMessage = message(content, LocalDateTime.now());
+        when(chatMessageRepository.save(any(ChatMessage.class))).thenReturn(savedMessage);
+
+        ChatMessageResponse response = new ChatMessageResponse();
+        response.setContent(content);
+        when(chatMapper.toMessageResponse(savedMessage, senderName)).thenReturn(response);
+        return response;
+    }
+
+    private ChatMessage message(String content, LocalDateTime timestamp) {
+        ChatMessage message = new ChatMessage();
+        message.setId(UUID.randomUUID());
+        message.setChat(chat);
+        message.setSender(organizer);
+        message.setContent(content);
+        message.setTimestamp(timestamp);
+        return message;
+    }
+
+    private void stubMapper(ChatMessage... messages) {
+        for (ChatMessage message : messages) {
+            ChatMessageResponse response = new ChatMessageResponse();
+            response.setId(message.getId());
+            response.setContent(message.getContent());
+            response.setTimestamp(message.getTimestamp());
+            when(chatMapper.toMessageResponse(message)).thenReturn(response);
+        }
+    }
 }
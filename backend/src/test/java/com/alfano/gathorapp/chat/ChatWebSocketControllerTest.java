@@ -2,6 +2,7 @@ package com.alfano.gathorapp.chat;
 
 import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
 import com.alfano.gathorapp.chat.dto.SendMessageRequest;
+import com.alfano.gathorapp.chat.dto.TypingRequest;
 import com.alfano.gathorapp.outing.Outing;
 import com.alfano.gathorapp.security.SecurityUser;
 import com.alfano.gathorapp.user.Role;
@@ -39,6 +40,9 @@ class ChatWebSocketControllerTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
+    @Mock
+    private TypingIndicatorService typingIndicatorService;
+
     @InjectMocks
     private ChatWebSocketController chatWebSocketController;
 
@@ -113,6 +117,7 @@ class ChatWebSocketControllerTest {
 
         // Then
         verify(chatService, times(1)).sendMessage(outingId, request, userId);
+        verify(typingIndicatorService).stopped(chatId, userId);
 
         ArgumentCaptor<String> destinationCaptor = ArgumentCaptor.forClass(String.class);
         ArgumentCaptor<ChatMessageResponse> messageCaptor = ArgumentCaptor.forClass(ChatMessageResponse.class);
@@ -220,87 +225,41 @@ class ChatWebSocketControllerTest {
     }
 
     @Test
-    @DisplayName("userTyping - Should broadcast typing indicator successfully")
-    void userTyping_ValidRequest_BroadcastsTypingIndicator() {
-        // Given
-        when(chatService.getOrCreateChat(outingId)).thenReturn(chat);
-
+    @DisplayName("userTyping - Should hand typing events to the typing service")
+    void userTyping_ValidRequest_DelegatesToTypingService() {
         // When
-        chatWebSocketController.userTyping(outingId, principal);
-
-        // Then
-        verify(chatService, times(1)).getOrCreateChat(outingId);
-
-        ArgumentCaptor<String> destinationCaptor = ArgumentCaptor.forClass(String.class);
-        ArgumentCaptor<Object> indicatorCaptor = ArgumentCaptor.forClass(Object.class);
+        chatWebSocketController.userTyping(outingId, TypingRequest.builder().typing(true).build(), principal);
+        chatWebSocketController.userTyping(outingId, TypingRequest.builder().typing(false).build(), principal);
 
-        verify(messagingTemplate, times(1)).convertAndSend(
-                destinationCaptor.capture(),
-                indicatorCaptor.capture()
-        );
+        // Then - nothing is broadcast or read from the database per event
+        verify(typingIndicatorService).typing(outingId, userId, true);
+        verify(typingIndicatorService).typing(outingId, userId, false);
+        verifyNoInteractions(chatService, messagingTemplate);
+    }
 
-        assertEquals("/topic/chat/" + chatId + "/typing", destinationCaptor.getValue());
+    @Test
+    @DisplayName("userTyping - Should treat a missing payload as typing")
+    void userTyping_NoPayload_DefaultsToTyping() {
+        // When
+        chatWebSocketController.userTyping(outingId, null, principal);
 
-        // Verify typing indicator contains correct user info
-        Object indicator = indicatorCaptor.getValue();
-        assertNotNull(indicator);
-        assertTrue(indicator.toString().contains(userId.toString()));
-        assertTrue(indicator.toString().contains("test@example.com")); // getUsername() returns email
+        // Then
+        verify(typingIndicatorService).typing(outingId, userId, true);
     }
 
     @Test
     @DisplayName("userTyping - Should handle service exception gracefully")
     void userTyping_ServiceThrowsException_HandlesGracefully() {
         // Given
-        RuntimeException exception = new RuntimeException("Chat not found");
-        when(chatService.getOrCreateChat(outingId)).thenThrow(exception);
+        doThrow(new RuntimeException("Outing not found"))
+                .when(typingIndicatorService).typing(outingId, userId, true);
 
         // When / Then (should not throw, just log error)
-        assertDoesNotThrow(() -> chatWebSocketController.userTyping(outingId, principal));
+        assertDoesNotThrow(() -> chatWebSocketController.userTyping(outingId, null, principal));
 
-        verify(chatService, times(1)).getOrCreateChat(outingId);
         verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
     }
 
-    @Test
-    @DisplayName("userTyping - Should broadcast to correct chat typing topic")
-    void userTyping_DifferentChats_BroadcastsToCorrectTypingTopic() {
-        // Given
-        UUID outingId1 = UUID.randomUUID();
-        UUID outingId2 = UUID.randomUUID();
-        UUID chatId1 = UUID.randomUUID();
-        UUID chatId2 = UUID.randomUUID();
-
-        Chat chat1 = Chat.builder()
-                .id(chatId1)
-                .outing(outing)
-                .active(true)
-                .build();
-
-        Chat chat2 = Chat.builder()
-                .id(chatId2)
-                .outing(outing)
-                .active(true)
-                .build();
-
-        when(chatService.getOrCreateChat(outingId1)).thenReturn(chat1);
-        when(chatService.getOrCreateChat(outingId2)).thenReturn(chat2);
-
-        // When
-        chatWebSocketController.userTyping(outingId1, principal);
-        chatWebSocketController.userTyping(outingId2, principal);
-
-        // Then
-        ArgumentCaptor<String> destinationCaptor = ArgumentCaptor.forClass(String.class);
-        verify(messagingTemplate, times(2)).convertAndSend(
-                destinationCaptor.capture(),
-                any(Object.class)
-        );
-
-        assertEquals("/topic/chat/" + chatId1 + "/typing", destinationCaptor.getAllValues().get(0));
-        assertEquals("/topic/chat/" + chatId2 + "/typing", destinationCaptor.getAllValues().get(1));
-    }
-
     @Test
     @DisplayName("sendMessage - Should handle different users sending messages")
     void sendMessage_DifferentUsers_ProcessesCorrectly() {
@@ -388,10 +347,10 @@ class ChatWebSocketControllerTest {
 
         // When / Then
         assertThrows(RuntimeException.class, () -> {
-            chatWebSocketController.userTyping(outingId, invalidPrincipal);
+            chatWebSocketController.userTyping(outingId, null, invalidPrincipal);
         });
 
-        verify(chatService, never()).getOrCreateChat(any());
+        verifyNoInteractions(typingIndicatorService);
     }
 
     @Test
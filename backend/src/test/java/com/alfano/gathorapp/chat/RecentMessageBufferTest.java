@@ -0,0 +1,168 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RecentMessageBuffer.
+ */
+@DisplayName("RecentMessageBuffer Tests")
+class RecentMessageBufferTest {
+
+    private UUID chatId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        chatId = UUID.randomUUID();
+        base = LocalDateTime.of(2025, 6, 1, 12, 0);
+    }
+
+    @Test
+    @DisplayName("Should hydrate once and then serve pages from memory")
+    void testLatest_HydratesOnce() {
+        RecentMessageBuffer buffer = new RecentMessageBuffer(5, 1_000_000);
+        List<ChatMessageResponse> history = newestFirst(3);
+        AtomicInteger loads = new AtomicInteger();
+
+        buffer.latest(chatId, 2, rows -> {
+            loads.incrementAndGet();
+            assertEquals(6, rows);
+            return history;
+        });
+        Optional<RecentMessageBuffer.Page> page = buffer.latest(chatId, 2, rows -> fail("should not reload"));
+
+        assertEquals(1, loads.get());
+        assertTrue(page.isPresent());
+        assertEquals(List.of(history.get(0), history.get(1)), page.get().newestFirst());
+        assertTrue(page.get().hasMore());
+    }
+
+    @Test
+    @DisplayName("Should know when the whole chat history is buffered")
+    void testLatest_CompleteHistory_NoMore() {
+        RecentMessageBuffer buffer = new RecentMessageBuffer(5, 1_000_000);
+
+        Optional<RecentMessageBuffer.Page> page = buffer.latest(chatId, 10, rows -> newestFirst(3));
+
+        assertTrue(page.isPresent());
+        assertEquals(3, page.get().newestFirst().size());
+        assertFalse(page.get().hasMore());
+    }
+
+    @Test
+    @DisplayName("Should defer to the database when the ring is too short for the page")
+    void testLatest_PartialHistory_ReturnsEmpty() {
+        RecentMessageBuffer buffer = new RecentMessageBuffer(3, 1_000_000);
+
+        Optional<RecentMessageBuffer.Page> page = buffer.latest(chatId, 5, rows -> newestFirst(10));
+
+        assertTrue(page.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should append new messages in order and drop the oldest past capacity")
+    void testAppend_KeepsNewestWindow() {
+        RecentMessageBuffer buffer = new RecentMessageBuffer(3, 1_000_000);
+        buffer.latest(chatId, 1, rows -> newestFirst(2));
+
+        ChatMessageResponse late = message(base.plusMinutes(10), "late");
+        ChatMessageResponse earlier = message(base.plusMinutes(5), "earlier");
+        buffer.append(late);
+        buffer.append(earlier);
+        buffer.append(late);
+
+        RecentMessageBuffer.Page page = buffer.latest(chatId, 3, rows -> fail("should not reload")).orElseThrow();
+        assertEquals("late", page.newestFirst().get(0).getContent());
+        assertEquals("earlier", page.newestFirst().get(1).getContent());
+        assertTrue(page.hasMore());
+    }
+
+    @Test
+    @DisplayName("Should ignore appends for chats that are not buffered")
+    void testAppend_UnknownChat_Ignored() {
+        RecentMessageBuffer buffer = new RecentMessageBuffer(3, 1_000_000);
+
+        buffer.append(message(base, "orphan"));
+
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.totalBytes());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used chats over the memory budget")
+    void testBudget_EvictsIdleChats() {
+        RecentMessageBuffer buffer = new RecentMessageBuffer(10, 3_000);
+        UUID idle = UUID.randomUUID();
+        buffer.latest(idle, 1, rows -> newestFirst(4));
+        buffer.latest(chatId, 1, rows -> newestFirst(4));
+
+        buffer.latest(UUID.randomUUID(), 1, rows -> newestFirst(4));
+
+        assertTrue(buffer.totalBytes() <= 3_000);
+        AtomicInteger reloads = new AtomicInteger();
+        buffer.latest(idle, 1, rows -> {
+            reloads.incrementAndGet();
+            return newestFirst(4);
+        });
+        assertEquals(1, reloads.get());
+    }
+
+    @Test
+    @DisplayName("Should release memory when a chat is invalidated")
+    void testInvalidate_ReleasesChat() {
+        RecentMessageBuffer buffer = new RecentMessageBuffer(10, 1_000_000);
+        buffer.latest(chatId, 1, rows -> newestFirst(4));
+        assertTrue(buffer.totalBytes() > 0);
+
+        buffer.invalidate(chatId);
+
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.totalBytes());
+    }
+
+    @Test
+    @DisplayName("Should keep messages committed while hydrating")
+    void testHydration_MergesConcurrentAppends() {
+        RecentMessageBuffer buffer = new RecentMessageBuffer(10, 1_000_000);
+        ChatMessageResponse concurrent = message(base.plusHours(1), "concurrent");
+
+        buffer.latest(chatId, 10, rows -> {
+            buffer.append(concurrent);
+            return newestFirst(2);
+        });
+
+        RecentMessageBuffer.Page page = buffer.latest(chatId, 10, rows -> fail("should not reload")).orElseThrow();
+        assertEquals(3, page.newestFirst().size());
+        assertEquals("concurrent", page.newestFirst().get(0).getContent());
+    }
+
+    private List<ChatMessageResponse> newestFirst(int count) {
+        List<ChatMessageResponse> messages = new ArrayList<>();
+        for (int i = count - 1; i >= 0; i--) {
+            messages.add(message(base.plusMinutes(i), "Message " + i));
+        }
+        return messages;
+    }
+
+    private ChatMessageResponse message(LocalDateTime timestamp, String content) {
+        return ChatMessageResponse.builder()
+                .id(UUID.nameUUIDFromBytes((timestamp + content).getBytes()))
+                .chatId(chatId)
+                .content(content)
+                .timestamp(timestamp)
+                .sender(ChatMessageResponse.SenderInfo.builder().id(UUID.randomUUID()).name("Sender").build())
+                .build();
+    }
+}
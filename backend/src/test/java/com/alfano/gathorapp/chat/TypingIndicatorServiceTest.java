@@ -0,0 +1,154 @@
+package com.alfano.gathorapp.chat;
+
+import com.alfano.gathorapp.chat.dto.ChatMessageResponse;
+import com.alfano.gathorapp.chat.dto.TypingUsersResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TypingIndicatorService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TypingIndicatorService Tests")
+class TypingIndicatorServiceTest {
+
+    private static final long EXPIRY_MILLIS = 3000;
+
+    @Mock
+    private ChatMembershipCache membershipCache;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private Clock clock;
+
+    private long now = 1_000_000;
+    private TypingIndicatorService service;
+    private UUID outingId;
+    private UUID chatId;
+    private UUID organizerId;
+    private UUID participantId;
+    private String topic;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenAnswer(invocation -> now);
+        service = new TypingIndicatorService(membershipCache, messagingTemplate, clock, EXPIRY_MILLIS);
+        outingId = UUID.randomUUID();
+        chatId = UUID.randomUUID();
+        organizerId = UUID.randomUUID();
+        participantId = UUID.randomUUID();
+        topic = "/topic/chat/" + chatId + "/typing";
+
+        lenient().when(membershipCache.get(outingId)).thenReturn(new ChatMembership(outingId, "Outing",
+                organizerId, "Organizer", chatId, true, Map.of(participantId, "Participant")));
+    }
+
+    @Test
+    @DisplayName("Should coalesce repeated events into a single frame per tick")
+    void typing_RepeatedEvents_OneFrame() {
+        for (int i = 0; i < 10; i++) {
+            service.typing(outingId, organizerId, true);
+            service.typing(outingId, participantId, true);
+        }
+
+        service.tick();
+
+        TypingUsersResponse frame = captureFrames(1);
+        assertEquals(chatId, frame.getChatId());
+        assertEquals(2, frame.getUsers().size());
+        assertTrue(frame.getUsers().stream().map(ChatMessageResponse.SenderInfo::getName)
+                .anyMatch("Participant"::equals));
+    }
+
+    @Test
+    @DisplayName("Should not broadcast again while the typing list is unchanged")
+    void tick_NoChange_NoFrame() {
+        service.typing(outingId, participantId, true);
+        service.tick();
+
+        now += 1000;
+        service.typing(outingId, participantId, true);
+        service.tick();
+
+        verify(messagingTemplate, times(1)).convertAndSend(eq(topic), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should broadcast an empty list when the last user stops typing")
+    void typing_Stop_BroadcastsEmptyList() {
+        service.typing(outingId, participantId, true);
+        service.tick();
+
+        service.typing(outingId, participantId, false);
+        service.tick();
+
+        ArgumentCaptor<TypingUsersResponse> captor = ArgumentCaptor.forClass(TypingUsersResponse.class);
+        verify(messagingTemplate, times(2)).convertAndSend(eq(topic), captor.capture());
+        assertTrue(captor.getAllValues().get(1).getUsers().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should expire users who stop sending events")
+    void tick_Expired_RemovesUser() {
+        service.typing(outingId, participantId, true);
+        service.tick();
+
+        now += EXPIRY_MILLIS;
+        service.tick();
+        service.tick();
+
+        ArgumentCaptor<TypingUsersResponse> captor = ArgumentCaptor.forClass(TypingUsersResponse.class);
+        verify(messagingTemplate, times(2)).convertAndSend(eq(topic), captor.capture());
+        assertTrue(captor.getAllValues().get(1).getUsers().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should clear the indicator once the user sends a message")
+    void stopped_ClearsIndicator() {
+        service.typing(outingId, participantId, true);
+        service.stopped(chatId, participantId);
+
+        service.tick();
+
+        // Started and stopped within one tick: the frame shows nobody typing
+        assertTrue(captureFrames(1).getUsers().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ignore events from non-members and chats that do not exist yet")
+    void typing_NotAllowed_Ignored() {
+        service.typing(outingId, UUID.randomUUID(), true);
+
+        UUID otherOuting = UUID.randomUUID();
+        when(membershipCache.get(otherOuting)).thenReturn(new ChatMembership(otherOuting, "Other",
+                organizerId, "Organizer", null, true, Map.of()));
+        service.typing(otherOuting, organizerId, true);
+
+        service.tick();
+
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    private TypingUsersResponse captureFrames(int expected) {
+        ArgumentCaptor<TypingUsersResponse> captor = ArgumentCaptor.forClass(TypingUsersResponse.class);
+        verify(messagingTemplate, times(expected)).convertAndSend(eq(topic), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,192 @@
+package com.alfano.gathorapp.conditional;
+
+import com.alfano.gathorapp.auth.JwtTokenProvider;
+import com.alfano.gathorapp.notification.Notification;
+import com.alfano.gathorapp.notification.NotificationRepository;
+import com.alfano.gathorapp.notification.NotificationType;
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.testutils.TestDatabaseCleaner;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static com.alfano.gathorapp.testutils.TestUsers.user;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for conditional GET on the polled endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Conditional GET Integration Tests")
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OutingRepository outingRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TestDatabaseCleaner testDatabaseCleaner;
+
+    private User organizer;
+    private User participant;
+    private String organizerToken;
+    private String participantToken;
+
+    @BeforeEach
+    void setUp() {
+        testDatabaseCleaner.truncateAll();
+        organizer = userRepository.save(user("organizer@example.com", Role.PREMIUM));
+        participant = userRepository.save(user("participant@example.com", Role.USER));
+        organizerToken = token(organizer);
+        participantToken = token(participant);
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without a body while the outings are unchanged")
+    void outings_NotModified() throws Exception {
+        outingRepository.save(outing("First"));
+        String etag = etag("/api/outings", organizerToken);
+
+        mockMvc.perform(get("/api/outings")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + organizerToken)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should change the ETag when an outing is added or a participant joins")
+    void outings_ChangedByWrites() throws Exception {
+        UUID outingId = outingRepository.save(outing("First")).getId();
+        String initial = etag("/api/outings", organizerToken);
+
+        outingRepository.save(outing("Second"));
+        String afterCreate = etag("/api/outings", organizerToken);
+        assertNotEquals(initial, afterCreate);
+
+        mockMvc.perform(post("/api/outings/{id}/join", outingId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + participantToken))
+                .andExpect(status().isOk());
+        assertNotEquals(afterCreate, etag("/api/outings", organizerToken));
+    }
+
+    @Test
+    @DisplayName("Should version an outing's detail by its own rows only")
+    void outingDetail_VersionedByOwnRows() throws Exception {
+        UUID outingId = outingRepository.save(outing("First")).getId();
+        String path = "/api/outings/" + outingId;
+        String initial = etag(path, organizerToken);
+
+        outingRepository.save(outing("Second"));
+        participant.setName("Renamed");
+        userRepository.save(participant);
+        assertEquals(initial, etag(path, organizerToken));
+
+        mockMvc.perform(post("/api/outings/{id}/join", outingId)
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + participantToken))
+                .andExpect(status().isOk());
+        String afterJoin = etag(path, organizerToken);
+        assertNotEquals(initial, afterJoin);
+
+        participant.setName("Renamed again");
+        userRepository.save(participant);
+        assertNotEquals(afterJoin, etag(path, organizerToken));
+    }
+
+    @Test
+    @DisplayName("Should change the ETag of events when their creator is renamed")
+    void events_ChangedByUserRename() throws Exception {
+        String initial = etag("/api/events", organizerToken);
+
+        organizer.setName("Renamed");
+        userRepository.save(organizer);
+
+        assertNotEquals(initial, etag("/api/events", organizerToken));
+    }
+
+    @Test
+    @DisplayName("Should version notifications per user, including read state")
+    void notifications_PerUserAndReadState() throws Exception {
+        Notification notification = notificationRepository.save(Notification.builder()
+                .user(participant)
+                .type(NotificationType.PARTICIPATION_APPROVED)
+                .title("Approved")
+                .message("You can join")
+                .build());
+        String initial = etag("/api/notifications", participantToken);
+        assertNotEquals(initial, etag("/api/notifications", organizerToken));
+
+        mockMvc.perform(put("/api/notifications/{id}/read", notification.getId())
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + participantToken))
+                .andExpect(status().isOk());
+
+        assertNotEquals(initial, etag("/api/notifications", participantToken));
+    }
+
+    @Test
+    @DisplayName("Should leave writes and unversioned endpoints untouched")
+    void otherEndpoints_NoEtag() throws Exception {
+        mockMvc.perform(get("/api/users/me")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + organizerToken))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private String etag(String path, String token) throws Exception {
+        String etag = mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("no-cache")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        assertTrue(etag.startsWith("W/\""));
+        return etag;
+    }
+
+    private String token(User user) {
+        return jwtTokenProvider.generateAccessToken(user.getId(), user.getEmail(), user.getRole().name());
+    }
+
+    private Outing outing(String title) {
+        return Outing.builder()
+                .title(title)
+                .description("Description")
+                .location("Location")
+                .latitude(45.0)
+                .longitude(9.0)
+                .outingDate(LocalDateTime.now().plusDays(7))
+                .maxParticipants(10)
+                .organizer(organizer)
+                .build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.alfano.gathorapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DataSourcePoolConfig.
+ */
+@DisplayName("DataSourcePoolConfig Tests")
+class DataSourcePoolConfigTest {
+
+    @Test
+    @DisplayName("Should derive the pool size from cores")
+    void poolSizeFor_DerivedFromCores() {
+        assertEquals(9, DataSourcePoolConfig.poolSizeFor(4));
+        assertEquals(17, DataSourcePoolConfig.poolSizeFor(8));
+    }
+
+    @Test
+    @DisplayName("Should size Hikari to a fixed pool")
+    void hikariPoolSizing_DerivedSize() {
+        BeanPostProcessor processor = DataSourcePoolConfig.hikariPoolSizing(new MockEnvironment());
+        HikariDataSource dataSource = new HikariDataSource();
+
+        processor.postProcessBeforeInitialization(dataSource, "dataSource");
+
+        int expected = DataSourcePoolConfig.poolSizeFor(Runtime.getRuntime().availableProcessors());
+        assertEquals(expected, dataSource.getMaximumPoolSize());
+        assertEquals(expected, dataSource.getMinimumIdle());
+    }
+
+    @Test
+    @DisplayName("Should use the configured pool size when set")
+    void hikariPoolSizing_ConfiguredSize() {
+        MockEnvironment environment = new MockEnvironment().withProperty("app.datasource.pool-size", "12");
+        HikariDataSource dataSource = new HikariDataSource();
+
+        DataSourcePoolConfig.hikariPoolSizing(environment).postProcessBeforeInitialization(dataSource, "dataSource");
+
+        assertEquals(12, dataSource.getMaximumPoolSize());
+    }
+
+    @Test
+    @DisplayName("Should leave the pool alone when the Hikari maximum is set")
+    void hikariPoolSizing_HikariMaximumWins() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.datasource.pool-size", "12")
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "20");
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(20);
+        dataSource.setMinimumIdle(5);
+
+        DataSourcePoolConfig.hikariPoolSizing(environment).postProcessBeforeInitialization(dataSource, "dataSource");
+
+        assertEquals(20, dataSource.getMaximumPoolSize());
+        assertEquals(5, dataSource.getMinimumIdle());
+    }
+
+    @Test
+    @DisplayName("Should keep an explicit Hikari minimum idle")
+    void hikariPoolSizing_KeepsMinimumIdle() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.datasource.pool-size", "12")
+                .withProperty("spring.datasource.hikari.minimum-idle", "2");
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMinimumIdle(2);
+
+        DataSourcePoolConfig.hikariPoolSizing(environment).postProcessBeforeInitialization(dataSource, "dataSource");
+
+        assertEquals(12, dataSource.getMaximumPoolSize());
+        assertEquals(2, dataSource.getMinimumIdle());
+    }
+
+    @Test
+    @DisplayName("Should leave other beans untouched")
+    void hikariPoolSizing_OtherBeans() {
+        Object bean = new Object();
+
+        assertSame(bean, DataSourcePoolConfig.hikariPoolSizing(new MockEnvironment())
+                .postProcessBeforeInitialization(bean, "other"));
+    }
+}
@@ -0,0 +1,188 @@
+package com.alfano.gathorapp.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark harness for the JDBC settings of the prod profile, run against a
+ * real PostgreSQL (H2 ignores them). Skipped unless a database is given:
+ *
+ * <pre>
+ * gradle test --tests '*PostgresTuningBenchmark' \
+ *     -Pbenchmark.db.url=jdbc:postgresql://localhost:5432/gathorapp \
+ *     -Pbenchmark.db.username=gathorapp -Pbenchmark.db.password=...
+ * </pre>
+ *
+ * Results are printed to the test output (build/test-results); only temporary
+ * tables are used.
+ */
+@EnabledIfSystemProperty(named = "benchmark.db.url", matches = ".+")
+@DisplayName("PostgreSQL Tuning Benchmark")
+class PostgresTuningBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int BATCH_SIZE = 50;
+    private static final int LOOKUPS = 10_000;
+    private static final int WARMUP_ROUNDS = 2;
+
+    @Test
+    @DisplayName("Insert throughput: row by row vs batched vs batched with reWriteBatchedInserts")
+    void insertThroughput() throws SQLException {
+        List<Object[]> rows = rows(ROWS);
+
+        long single = measureInserts(connectionProperties(false, 5), rows, 1);
+        long batched = measureInserts(connectionProperties(false, 5), rows, BATCH_SIZE);
+        long rewritten = measureInserts(connectionProperties(true, 5), rows, BATCH_SIZE);
+
+        System.out.printf("%n%d inserts%n", ROWS);
+        print("row by row", single, ROWS);
+        print("batch " + BATCH_SIZE, batched, ROWS);
+        print("batch " + BATCH_SIZE + " + reWriteBatchedInserts", rewritten, ROWS);
+    }
+
+    @Test
+    @DisplayName("Lookups: client-side vs server-side prepared statements")
+    void preparedStatementLookups() throws SQLException {
+        long clientSide = measureLookups(connectionProperties(true, 0));
+        long serverSide = measureLookups(connectionProperties(true, 3));
+
+        System.out.printf("%n%d primary key lookups%n", LOOKUPS);
+        print("prepareThreshold=0 (never server-prepared)", clientSide, LOOKUPS);
+        print("prepareThreshold=3", serverSide, LOOKUPS);
+    }
+
+    private long measureInserts(Properties properties, List<Object[]> rows, int batchSize) throws SQLException {
+        try (Connection connection = connect(properties)) {
+            createTable(connection);
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                truncate(connection);
+                long start = System.nanoTime();
+                insert(connection, rows, batchSize);
+                best = Math.min(best, System.nanoTime() - start);
+            }
+            assertEquals(rows.size(), count(connection));
+            return best;
+        }
+    }
+
+    private long measureLookups(Properties properties) throws SQLException {
+        try (Connection connection = connect(properties)) {
+            createTable(connection);
+            List<Object[]> rows = rows(1_000);
+            insert(connection, rows, BATCH_SIZE);
+
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round <= WARMUP_ROUNDS; round++) {
+                long start = System.nanoTime();
+                int found = 0;
+                for (int i = 0; i < LOOKUPS; i++) {
+                    // A new statement per lookup, as Hibernate does; the driver caches it
+                    try (PreparedStatement statement = connection.prepareStatement(
+                            "SELECT content FROM bench_messages WHERE id = ?")) {
+                        statement.setObject(1, rows.get(i % rows.size())[0]);
+                        try (ResultSet resultSet = statement.executeQuery()) {
+                            found += resultSet.next() ? 1 : 0;
+                        }
+                    }
+                }
+                best = Math.min(best, System.nanoTime() - start);
+                assertEquals(LOOKUPS, found);
+            }
+            return best;
+        }
+    }
+
+    private static void insert(Connection connection, List<Object[]> rows, int batchSize) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO bench_messages (id, chat_id, content, timestamp) VALUES (?, ?, ?, ?)")) {
+            int pending = 0;
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i]);
+                }
+                if (batchSize == 1) {
+                    statement.executeUpdate();
+                    continue;
+                }
+                statement.addBatch();
+                if (++pending == batchSize) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private static void createTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMPORARY TABLE IF NOT EXISTS bench_messages "
+                    + "(id UUID PRIMARY KEY, chat_id UUID NOT NULL, content VARCHAR(1000), timestamp TIMESTAMP)");
+        }
+    }
+
+    private static void truncate(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE bench_messages");
+        }
+    }
+
+    private static int count(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM bench_messages")) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    private static List<Object[]> rows(int count) {
+        UUID chatId = UUID.randomUUID();
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {
+                    UUID.randomUUID(), chatId, "Benchmark message " + i, Timestamp.valueOf(LocalDateTime.now())
+            });
+        }
+        return rows;
+    }
+
+    private static Properties connectionProperties(boolean rewriteBatchedInserts, int prepareThreshold) {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty("benchmark.db.username", "gathorapp"));
+        properties.setProperty("password", System.getProperty("benchmark.db.password", ""));
+        properties.setProperty("reWriteBatchedInserts", String.valueOf(rewriteBatchedInserts));
+        properties.setProperty("prepareThreshold", String.valueOf(prepareThreshold));
+        return properties;
+    }
+
+    private static Connection connect(Properties properties) throws SQLException {
+        return DriverManager.getConnection(System.getProperty("benchmark.db.url"), properties);
+    }
+
+    private static void print(String variant, long nanos, int operations) {
+        double millis = nanos / 1_000_000.0;
+        System.out.printf("  %-48s %10.1f ms %12.0f ops/s%n", variant, millis, operations / (millis / 1000));
+    }
+}
@@ -0,0 +1,85 @@
+package com.alfano.gathorapp.dataimport;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CsvRowReader}.
+ */
+@DisplayName("CsvRowReader Tests")
+class CsvRowReaderTest {
+
+    @Test
+    @DisplayName("Should map fields to the header names")
+    void readsRowsByHeader() throws IOException {
+        CsvRowReader reader = reader("title,location\r\nConcert,Lecce\r\nWorkshop,Bari\r\n");
+
+        ImportRow first = reader.next();
+        assertEquals(1, first.number());
+        assertEquals("Concert", first.get("title"));
+        assertEquals("Lecce", first.get("location"));
+        assertNull(first.error());
+
+        ImportRow second = reader.next();
+        assertEquals(2, second.number());
+        assertEquals("Bari", second.get("location"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should read quoted fields with commas, quotes and line breaks")
+    void readsQuotedFields() throws IOException {
+        CsvRowReader reader = reader("title,description\n\"Jazz, live\",\"Say \"\"hi\"\"\nsecond line\"\n");
+
+        ImportRow row = reader.next();
+        assertEquals("Jazz, live", row.get("title"));
+        assertEquals("Say \"hi\"\nsecond line", row.get("description"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should leave empty fields out and skip blank lines")
+    void skipsEmptyFieldsAndBlankLines() throws IOException {
+        CsvRowReader reader = reader("\uFEFF title , eventId \n\nOuting,\n\n");
+
+        ImportRow row = reader.next();
+        assertEquals(1, row.number());
+        assertEquals("Outing", row.get("title"));
+        assertFalse(row.values().containsKey("eventId"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should report rows with the wrong number of fields and go on")
+    void reportsMalformedRows() throws IOException {
+        CsvRowReader reader = reader("a,b\n1,2,3\n4,5\n\"6,7\n");
+
+        assertEquals("Expected 2 fields but found 3", reader.next().error());
+        assertEquals("5", reader.next().get("b"));
+        ImportRow unterminated = reader.next();
+        assertEquals(3, unterminated.number());
+        assertEquals("Unterminated quoted field", unterminated.error());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Should reject a header with repeated names")
+    void rejectsRepeatedHeaderNames() {
+        assertThrows(IOException.class, () -> reader("a,b,a\n1,2,3\n"));
+    }
+
+    @Test
+    @DisplayName("Should read an empty file as no rows")
+    void readsEmptyFile() throws IOException {
+        assertNull(reader("").next());
+    }
+
+    private static CsvRowReader reader(String csv) throws IOException {
+        return new CsvRowReader(new StringReader(csv));
+    }
+}
@@ -0,0 +1,309 @@
+package com.alfano.gathorapp.dataimport;
+
+import com.alfano.gathorapp.auth.JwtTokenProvider;
+import com.alfano.gathorapp.event.Event;
+import com.alfano.gathorapp.event.EventRepository;
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingQuotaRepository;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.testutils.TestDatabaseCleaner;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for bulk imports through {@link ImportController}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Import Integration Tests")
+class ImportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutingRepository outingRepository;
+
+    @Autowired
+    private OutingQuotaRepository quotaRepository;
+
+    @Autowired
+    private ImportJobRepository jobRepository;
+
+    @Autowired
+    private ImportRunner importRunner;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TestDatabaseCleaner testDatabaseCleaner;
+
+    private User admin;
+    private User business;
+    private User organizer;
+    private String adminToken;
+    private String businessToken;
+    private final String eventDate = LocalDateTime.now().plusDays(30).withNano(0).toString();
+
+    @BeforeEach
+    void setUp() {
+        testDatabaseCleaner.truncateAll();
+        admin = save("Admin", "admin@example.com", Role.ADMIN);
+        business = save("Business", "business@example.com", Role.BUSINESS);
+        organizer = save("Organizer", "organizer@example.com", Role.USER);
+        adminToken = jwtTokenProvider.generateAccessToken(admin.getId(), admin.getEmail(), admin.getRole().name());
+        businessToken = jwtTokenProvider.generateAccessToken(
+                business.getId(), business.getEmail(), business.getRole().name());
+    }
+
+    @Test
+    @DisplayName("Should import the valid events of a business CSV and report the others")
+    void businessImportsEventsFromCsv() throws Exception {
+        String csv = "title,description,location,latitude,longitude,eventDate\n"
+                + "Jazz night,\"Live jazz, with \"\"guests\"\"\",Lecce,40.35,18.17," + eventDate + "\n"
+                + "No,Too short,Lecce,40.35,18.17," + eventDate + "\n"
+                + "Wine tasting,Local wines and food,Bari,abc,16.87," + eventDate + "\n"
+                + "Art fair,Paintings and sculptures,Bari,41.12,16.87," + eventDate + "\n";
+
+        UUID jobId = submit("events", "text/csv", csv, businessToken);
+        ImportJob job = awaitFinished(jobId);
+
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        assertEquals(4, job.getProcessedRows());
+        assertEquals(2, job.getImportedRows());
+        assertEquals(2, job.getFailedRows());
+        List<Event> events = eventRepository.findByCreatorId(business.getId());
+        assertEquals(2, events.size());
+        assertTrue(events.stream().anyMatch(event -> event.getDescription().equals("Live jazz, with \"guests\"")));
+
+        mockMvc.perform(get("/api/imports/" + jobId + "/errors")
+                        .header("Authorization", "Bearer " + businessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].rowNumber").value(2))
+                .andExpect(jsonPath("$[0].message", containsString("Title must be between 3 and 200 characters")))
+                .andExpect(jsonPath("$[1].rowNumber").value(3))
+                .andExpect(jsonPath("$[1].message").value("Invalid value for latitude"));
+    }
+
+    @Test
+    @DisplayName("Should only let business users import events")
+    void businessCannotImportOutings() throws Exception {
+        mockMvc.perform(post("/api/imports/outings")
+                        .header("Authorization", "Bearer " + businessToken)
+                        .contentType("text/csv")
+                        .content("title\nOuting\n"))
+                .andExpect(status().isForbidden());
+        assertEquals(0, jobRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should import NDJSON outings and count them towards the organizer's quota")
+    void adminImportsOutingsFromNdjson() throws Exception {
+        String ndjson = outingLine("organizer@example.com") + "\n"
+                + "{not json\n"
+                + outingLine("nobody@example.com") + "\n"
+                + "\n"
+                + outingLine("organizer@example.com") + "\n";
+
+        UUID jobId = submit("outings", "application/x-ndjson", ndjson, adminToken);
+        ImportJob job = awaitFinished(jobId);
+
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getImportedRows());
+        assertEquals(2, job.getFailedRows());
+        List<Outing> outings = outingRepository.findByOrganizerId(organizer.getId());
+        assertEquals(2, outings.size());
+        assertEquals(1, quotaRepository.count());
+        assertEquals(2, quotaRepository.findCount(organizer.getId(),
+                LocalDateTime.now().toLocalDate().withDayOfMonth(1)).orElseThrow());
+
+        mockMvc.perform(get("/api/imports/" + jobId + "/errors")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(jsonPath("$[0].message", startsWith("Invalid JSON")))
+                .andExpect(jsonPath("$[1].message").value("Unknown organizer nobody@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should import users with plain or hashed passwords and reject duplicates")
+    void adminImportsUsers() throws Exception {
+        String hash = passwordEncoder.encode("migrated-password");
+        String csv = "name,email,password,passwordHash,role\n"
+                + "Anna,anna@example.com,password123,,PREMIUM\n"
+                + "Bruno,bruno@example.com,," + hash + ",\n"
+                + "Carla,anna@example.com,password123,,\n"
+                + "Dario,organizer@example.com,password123,,\n"
+                + "Elena,elena@example.com,password123,,ADMIN\n";
+
+        ImportJob job = awaitFinished(submit("users", "text/csv", csv, adminToken));
+
+        assertEquals(2, job.getImportedRows());
+        assertEquals(3, job.getFailedRows());
+        User anna = userRepository.findByEmail("anna@example.com").orElseThrow();
+        assertEquals(Role.PREMIUM, anna.getRole());
+        assertEquals("Anna", anna.getName());
+        assertTrue(passwordEncoder.matches("password123", anna.getPasswordHash()));
+        User bruno = userRepository.findByEmail("bruno@example.com").orElseThrow();
+        assertEquals(Role.USER, bruno.getRole());
+        assertEquals(hash, bruno.getPasswordHash());
+        assertTrue(userRepository.findByEmail("elena@example.com").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should resume a failed import after its last committed row")
+    void resumesFailedImport() throws Exception {
+        Path file = Path.of("build/test-imports", UUID.randomUUID() + ".csv");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "title,description,location,latitude,longitude,eventDate\n"
+                + "Jazz night,Already imported before,Lecce,40.35,18.17," + eventDate + "\n"
+                + "Art fair,Paintings and sculptures,Bari,41.12,16.87," + eventDate + "\n",
+                StandardCharsets.UTF_8);
+        ImportJob failed = jobRepository.save(ImportJob.builder()
+                .type(ImportType.EVENTS)
+                .format(ImportFormat.CSV)
+                .status(ImportStatus.FAILED)
+                .requestedBy(business.getId())
+                .ownerId(business.getId())
+                .filePath(file.toString())
+                .fileSize(Files.size(file))
+                .processedRows(1L)
+                .importedRows(1L)
+                .errorMessage("Interrupted by a restart, resume it to continue")
+                .build());
+
+        mockMvc.perform(post("/api/imports/" + failed.getId() + "/resume")
+                        .header("Authorization", "Bearer " + businessToken))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+        ImportJob job = awaitFinished(failed.getId());
+
+        assertEquals(ImportStatus.COMPLETED, job.getStatus());
+        assertEquals(2, job.getProcessedRows());
+        assertEquals(2, job.getImportedRows());
+        List<Event> events = eventRepository.findByCreatorId(business.getId());
+        assertEquals(1, events.size());
+        assertEquals("Art fair", events.get(0).getTitle());
+        assertFalse(Files.exists(file));
+
+        mockMvc.perform(post("/api/imports/" + failed.getId() + "/resume")
+                        .header("Authorization", "Bearer " + businessToken))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should fail only this node's unfinished imports on startup")
+    void failsOnlyThisNodesJobsOnStartup() {
+        ImportJob mine = jobRepository.save(runningJob(importRunner.node()));
+        ImportJob other = jobRepository.save(runningJob("other-node"));
+
+        importRunner.failInterruptedJobs();
+
+        assertEquals(ImportStatus.FAILED, jobRepository.findById(mine.getId()).orElseThrow().getStatus());
+        assertEquals(ImportStatus.RUNNING, jobRepository.findById(other.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Should only show an import to its requester and admins")
+    void restrictsAccessToRequester() throws Exception {
+        UUID jobId = submit("users", "text/csv", "name,email,password\n", adminToken);
+        awaitFinished(jobId);
+
+        mockMvc.perform(get("/api/imports/" + jobId)
+                        .header("Authorization", "Bearer " + businessToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/imports")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].type").value("USERS"));
+    }
+
+    private UUID submit(String type, String contentType, String body, String token) throws Exception {
+        String response = mockMvc.perform(post("/api/imports/" + type)
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(contentType)
+                        .content(body))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        return UUID.fromString(objectMapper.readTree(response).get("id").asText());
+    }
+
+    private ImportJob awaitFinished(UUID jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline) {
+            ImportJob job = jobRepository.findById(jobId).orElseThrow();
+            if (job.getStatus() == ImportStatus.COMPLETED || job.getStatus() == ImportStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        fail("Import " + jobId + " did not finish");
+        return null;
+    }
+
+    private String outingLine(String organizerEmail) {
+        return "{\"title\":\"Evening walk\",\"description\":\"Walk along the seafront\",\"location\":\"Lecce\","
+                + "\"latitude\":40.35,\"longitude\":18.17,\"outingDate\":\"" + eventDate + "\","
+                + "\"maxParticipants\":8,\"organizerEmail\":\"" + organizerEmail + "\"}";
+    }
+
+    private User save(String name, String email, Role role) {
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(email)
+                .passwordHash("hashedPassword")
+                .role(role)
+                .build());
+    }
+
+    private ImportJob runningJob(String node) {
+        return ImportJob.builder()
+                .type(ImportType.EVENTS)
+                .format(ImportFormat.CSV)
+                .status(ImportStatus.RUNNING)
+                .requestedBy(business.getId())
+                .node(node)
+                .filePath("build/test-imports/" + UUID.randomUUID() + ".csv")
+                .fileSize(1L)
+                .build();
+    }
+}
@@ -73,6 +73,32 @@ class EventMapperTest {
         assertEquals(creator.getId(), response.getCreator().getId());
         assertEquals("Event Creator", response.getCreator().getName());
         assertEquals("creator@example.com", response.getCreator().getEmail());
+        assertNull(response.getAverageRating()); // No reviews
+    }
+
+    @Test
+    @DisplayName("Should include the average rating from the rating aggregate")
+    void toResponse_WithRatings_IncludesAverage() {
+        // Given
+        Event event = Event.builder()
+                .id(eventId)
+                .title("Test Event")
+                .description("Test Description")
+                .location("Test Location")
+                .latitude(45.4642)
+                .longitude(9.1900)
+                .eventDate(LocalDateTime.now().minusDays(1))
+                .creator(creator)
+                .ratingSum(9L)
+                .ratingCount(2L)
+                .build();
+
+        // When
+        EventResponse response = eventMapper.toResponse(event);
+
+        // Then
+        assertEquals(4.5, response.getAverageRating());
+        assertEquals(2L, response.getRatingCount());
     }
 
     @Test
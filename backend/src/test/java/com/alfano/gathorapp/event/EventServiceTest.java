@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -45,6 +46,9 @@ class EventServiceTest {
     @Mock
     private EventMapper eventMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private EventService eventService;
 
@@ -223,6 +227,7 @@ class EventServiceTest {
         assertNotNull(result);
         assertEquals(eventId, result.getId());
         verify(eventRepository, times(1)).save(event);
+        verify(eventPublisher).publishEvent(any(EventChangedEvent.class));
     }
 
     @Test
@@ -285,6 +290,7 @@ class EventServiceTest {
         // Then
         assertNotNull(result);
         verify(eventRepository, times(1)).save(any(Event.class));
+        verify(eventPublisher).publishEvent(new EventChangedEvent(eventId, EventChangedEvent.Change.UPDATED));
     }
 
     @Test
@@ -334,6 +340,7 @@ class EventServiceTest {
 
         // Then
         verify(eventRepository, times(1)).delete(event);
+        verify(eventPublisher).publishEvent(new EventChangedEvent(eventId, EventChangedEvent.Change.DELETED));
     }
 
     @Test
@@ -0,0 +1,146 @@
+package com.alfano.gathorapp.map;
+
+import com.alfano.gathorapp.auth.JwtTokenProvider;
+import com.alfano.gathorapp.config.CacheConfig;
+import com.alfano.gathorapp.config.CacheEvictionListener;
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingChangedEvent;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.testutils.TestDatabaseCleaner;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.alfano.gathorapp.testutils.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for outing discovery over the candidate query and its
+ * cache.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Discovery Integration Tests")
+class DiscoveryIntegrationTest {
+
+    private static final double LATITUDE = 45.4642;
+    private static final double LONGITUDE = 9.1900;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DiscoveryService discoveryService;
+
+    @Autowired
+    private CacheEvictionListener cacheEvictionListener;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private OutingRepository outingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private TestDatabaseCleaner testDatabaseCleaner;
+
+    private User organizer;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        testDatabaseCleaner.truncateAll();
+        cacheManager.getCache(CacheConfig.OUTING_DISCOVERY).clear();
+        organizer = userRepository.save(user("organizer@example.com"));
+        token = jwtTokenProvider.generateAccessToken(organizer.getId(), organizer.getEmail(), organizer.getRole().name());
+        User alice = userRepository.save(user("alice@example.com"));
+        User bob = userRepository.save(user("bob@example.com"));
+
+        Outing popular = outing("Popular", LONGITUDE + 0.02, LocalDateTime.now().plusDays(3));
+        popular.setRatingSum(18L);
+        popular.setRatingCount(4L);
+        popular.setParticipants(new HashSet<>(Set.of(alice, bob)));
+        outingRepository.save(popular);
+        outingRepository.save(outing("Quiet", LONGITUDE, LocalDateTime.now().plusDays(3)));
+        outingRepository.save(outing("Far away", LONGITUDE + 1, LocalDateTime.now().plusDays(3)));
+        outingRepository.save(outing("Too late", LONGITUDE, LocalDateTime.now().plusDays(30)));
+        outingRepository.save(outing("Past", LONGITUDE, LocalDateTime.now().minusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Should rank outings in the radius and date window by score")
+    void discover_RanksCandidates() throws Exception {
+        mockMvc.perform(get("/api/map/outings/discover")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .param("latitude", String.valueOf(LATITUDE))
+                        .param("longitude", String.valueOf(LONGITUDE))
+                        .param("days", "7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].outing.title").value("Popular"))
+                .andExpect(jsonPath("$[0].outing.currentParticipants").value(2))
+                .andExpect(jsonPath("$[1].outing.title").value("Quiet"));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid coordinates")
+    void discover_InvalidCoordinates() throws Exception {
+        mockMvc.perform(get("/api/map/outings/discover")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .param("latitude", "120")
+                        .param("longitude", String.valueOf(LONGITUDE)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should serve a cell from the cache until an outing changes")
+    void discover_CachedPerCellUntilOutingChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        List<DiscoveryResult> first = discoveryService.discover(DiscoveryQuery.of(LATITUDE, LONGITUDE, 10, 7, 20, now));
+
+        assertSame(first, discoveryService.discover(DiscoveryQuery.of(LATITUDE + 0.001, LONGITUDE, 10, 7, 20, now)));
+
+        outingRepository.save(outing("New", LONGITUDE, LocalDateTime.now().plusDays(1)));
+        cacheEvictionListener.onOutingChanged(new OutingChangedEvent(null, null, OutingChangedEvent.Change.CREATED));
+
+        assertEquals(3, discoveryService.discover(DiscoveryQuery.of(LATITUDE, LONGITUDE, 10, 7, 20, now)).size());
+    }
+
+    private Outing outing(String title, double longitude, LocalDateTime date) {
+        return Outing.builder()
+                .title(title)
+                .description("Outing description")
+                .location("Milan")
+                .latitude(LATITUDE)
+                .longitude(longitude)
+                .outingDate(date)
+                .maxParticipants(10)
+                .organizer(organizer)
+                .build();
+    }
+}
@@ -0,0 +1,145 @@
+package com.alfano.gathorapp.map;
+
+import com.alfano.gathorapp.exception.BadRequestException;
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingMapper;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.outing.dto.OutingResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link DiscoveryService} and {@link DiscoveryQuery}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DiscoveryService Tests")
+class DiscoveryServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 10, 42, 17);
+
+    @Mock
+    private OutingRepository outingRepository;
+
+    @Mock
+    private OutingMapper outingMapper;
+
+    @InjectMocks
+    private DiscoveryService discoveryService;
+
+    @Test
+    @DisplayName("Should snap queries in the same cell and bucket to the same key")
+    void query_SnapsToCellAndBucket() {
+        DiscoveryQuery first = DiscoveryQuery.of(45.4642, 9.1900, 10, 14, 20, NOW);
+        DiscoveryQuery second = DiscoveryQuery.of(45.4688, 9.1951, 10, 14, 20, NOW.plusMinutes(2));
+
+        assertEquals(first, second);
+        assertEquals(45.465, first.latitude(), 1e-9);
+        assertEquals(9.195, first.longitude(), 1e-9);
+        assertEquals(LocalDateTime.of(2025, 1, 1, 10, 40), first.windowStart());
+        assertNotEquals(first, DiscoveryQuery.of(45.4642, 9.1900, 10, 14, 20, NOW.plusMinutes(3)));
+    }
+
+    @Test
+    @DisplayName("Should clamp radius, window and limit, and reject invalid coordinates")
+    void query_ClampsAndValidates() {
+        DiscoveryQuery query = DiscoveryQuery.of(45, 9, 1000, 1000, 1000, NOW);
+
+        assertEquals(DiscoveryQuery.MAX_RADIUS_KM, query.radiusKm());
+        assertEquals(DiscoveryQuery.MAX_DAYS, query.days());
+        assertEquals(DiscoveryQuery.MAX_LIMIT, query.limit());
+        assertThrows(BadRequestException.class, () -> DiscoveryQuery.of(91, 9, 10, 14, 20, NOW));
+        assertThrows(BadRequestException.class, () -> DiscoveryQuery.of(45, 9, 0, 14, 20, NOW));
+    }
+
+    @Test
+    @DisplayName("Should keep only the best candidates inside the radius, best first")
+    @SuppressWarnings("unchecked")
+    void discover_ReturnsTopKInRadius() {
+        DiscoveryQuery query = DiscoveryQuery.of(45.0, 9.0, 10, 14, 2, NOW);
+        Candidate popular = new Candidate(query.latitude(), query.longitude() + 0.02, 45, 10, 20);
+        Candidate close = new Candidate(query.latitude(), query.longitude(), 0, 0, 0);
+        Candidate weak = new Candidate(query.latitude() + 0.05, query.longitude(), 2, 1, 0);
+        Candidate outside = new Candidate(query.latitude(), query.longitude() + 0.2, 50, 10, 30);
+        when(outingRepository.findDiscoveryCandidates(anyDouble(), anyDouble(), anyDouble(), anyDouble(),
+                eq(query.windowStart()), eq(query.windowEnd())))
+                .thenReturn(List.of(weak, outside, close, popular));
+        when(outingRepository.findAllById(anyList())).thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0)
+                .stream()
+                .map(id -> Outing.builder().id(id).build())
+                .toList());
+        when(outingMapper.toResponse(any())).thenAnswer(invocation -> OutingResponse.builder()
+                .id(invocation.<Outing>getArgument(0).getId())
+                .build());
+
+        List<DiscoveryResult> results = discoveryService.discover(query);
+
+        assertEquals(List.of(popular.getId(), close.getId()),
+                results.stream().map(result -> result.getOuting().getId()).toList());
+        assertTrue(results.get(0).getScore() > results.get(1).getScore());
+        assertEquals(1.57, results.get(0).getDistanceKm(), 0.01);
+
+        ArgumentCaptor<List<UUID>> loaded = ArgumentCaptor.forClass(List.class);
+        verify(outingRepository).findAllById(loaded.capture());
+        assertEquals(2, loaded.getValue().size());
+    }
+
+    @Test
+    @DisplayName("Should not let a single 5-star review outrank many good reviews")
+    void score_PullsFewReviewsTowardsPrior() {
+        double single = DiscoveryService.score(new Candidate(0, 0, 5, 1, 0), 1, 10);
+        double many = DiscoveryService.score(new Candidate(0, 0, 180, 40, 0), 1, 10);
+
+        assertTrue(many > single);
+    }
+
+    private record Candidate(UUID id, Double latitude, Double longitude, Long ratingSum, Long ratingCount,
+            Integer participantCount) implements OutingRepository.DiscoveryCandidate {
+
+        Candidate(double latitude, double longitude, long ratingSum, long ratingCount, int participantCount) {
+            this(UUID.randomUUID(), latitude, longitude, ratingSum, ratingCount, participantCount);
+        }
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public Double getLatitude() {
+            return latitude;
+        }
+
+        @Override
+        public Double getLongitude() {
+            return longitude;
+        }
+
+        @Override
+        public Long getRatingSum() {
+            return ratingSum;
+        }
+
+        @Override
+        public Long getRatingCount() {
+            return ratingCount;
+        }
+
+        @Override
+        public Integer getParticipantCount() {
+            return participantCount;
+        }
+    }
+}
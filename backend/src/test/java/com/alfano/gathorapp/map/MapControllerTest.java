@@ -31,6 +31,9 @@ class MapControllerTest {
     @Mock
     private MapService mapService;
 
+    @Mock
+    private DiscoveryService discoveryService;
+
     @InjectMocks
     private MapController mapController;
 
@@ -92,6 +95,28 @@ class MapControllerTest {
         assertTrue(response.getBody().isEmpty());
     }
 
+    @Test
+    @DisplayName("GET /api/map/outings/discover - Should rank outings for the snapped query")
+    void discoverOutings_ReturnsRankedOutings() {
+        // Given
+        DiscoveryResult result = DiscoveryResult.builder()
+                .outing(OutingResponse.builder().id(UUID.randomUUID()).title("Top Outing").build())
+                .distanceKm(1.2)
+                .score(0.8)
+                .build();
+        when(discoveryService.discover(any(DiscoveryQuery.class))).thenReturn(List.of(result));
+
+        // When
+        ResponseEntity<List<DiscoveryResult>> response =
+                mapController.discoverOutings(testLatitude, testLongitude, testRadius, 14, 20);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Top Outing", response.getBody().get(0).getOuting().getTitle());
+        verify(discoveryService).discover(argThat(query -> query.latitude() == 45.465
+                && query.longitude() == 9.195 && query.days() == 14 && query.limit() == 20));
+    }
+
     @Test
     @DisplayName("GET /api/map/outings/nearby - Should return nearby outings")
     void getNearbyOutings_ReturnsOutingList() {
@@ -18,6 +18,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -123,8 +124,11 @@ class OutingControllerIntegrationTest {
                 outingRepository.save(outing);
 
                 // When & Then
-                mockMvc.perform(get("/api/outings")
+                MvcResult result = mockMvc.perform(get("/api/outings")
                                 .header("Authorization", "Bearer " + userToken))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                mockMvc.perform(asyncDispatch(result))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$", hasSize(1)))
                                 .andExpect(jsonPath("$[0].title", is("Test Outing")))
@@ -132,6 +136,35 @@ class OutingControllerIntegrationTest {
                                 .andExpect(jsonPath("$[0].maxParticipants", is(10)));
         }
 
+        @Test
+        @DisplayName("GET /api/outings - Should stream more outings than are kept in the persistence context")
+        void getAllOutings_ManyRows_Streamed() throws Exception {
+                // Given
+                for (int i = 0; i < 250; i++) {
+                        outingRepository.save(Outing.builder()
+                                        .title("Outing " + i)
+                                        .description("Test Description")
+                                        .location("Test Location")
+                                        .latitude(40.3515)
+                                        .longitude(18.1750)
+                                        .outingDate(LocalDateTime.now().plusDays(7))
+                                        .maxParticipants(10)
+                                        .organizer(i % 2 == 0 ? testUser : premiumUser)
+                                        .event(i % 3 == 0 ? testEvent : null)
+                                        .build());
+                }
+
+                // When & Then
+                MvcResult result = mockMvc.perform(get("/api/outings")
+                                .header("Authorization", "Bearer " + userToken))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(250)))
+                                .andExpect(jsonPath("$[249].organizer.name", notNullValue()));
+        }
+
         @Test
         @DisplayName("POST /api/outings - Should create independent outing")
         void createOuting_Independent_Success() throws Exception {
@@ -3,22 +3,30 @@ package com.alfano.gathorapp.outing;
 import com.alfano.gathorapp.outing.dto.CreateOutingRequest;
 import com.alfano.gathorapp.outing.dto.OutingResponse;
 import com.alfano.gathorapp.security.SecurityUser;
+import com.alfano.gathorapp.streaming.JsonArrayStreamer;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -36,6 +44,9 @@ class OutingControllerTest {
     @Mock
     private OutingService outingService;
 
+    @Spy
+    private JsonArrayStreamer jsonArrayStreamer = new JsonArrayStreamer(new ObjectMapper().findAndRegisterModules());
+
     @InjectMocks
     private OutingController outingController;
 
@@ -78,22 +89,23 @@ class OutingControllerTest {
 
     @Test
     @DisplayName("GET /api/outings - Should return all outings")
-    void getAllOutings_ReturnsOutingList() {
+    void getAllOutings_ReturnsOutingList() throws IOException {
         // Given
-        List<OutingResponse> mockOutings = new ArrayList<>();
-        mockOutings.add(outingResponse);
-
-        when(outingService.getAllOutings()).thenReturn(mockOutings);
+        doAnswer(invocation -> {
+            invocation.<Consumer<OutingResponse>>getArgument(0).accept(outingResponse);
+            return null;
+        }).when(outingService).streamAllOutings(any());
 
         // When
-        ResponseEntity<List<OutingResponse>> response = outingController.getAllOutings();
+        ResponseEntity<StreamingResponseBody> response = outingController.getAllOutings();
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(1, response.getBody().size());
-        assertEquals("Test Outing", response.getBody().get(0).getTitle());
-        verify(outingService, times(1)).getAllOutings();
+        JsonNode outings = streamed(response);
+        assertEquals(1, outings.size());
+        assertEquals("Test Outing", outings.get(0).get("title").asText());
+        verify(outingService, times(1)).streamAllOutings(any());
     }
 
     @Test
@@ -278,17 +290,14 @@ class OutingControllerTest {
 
     @Test
     @DisplayName("GET /api/outings - Should return empty list when no outings exist")
-    void getAllOutings_EmptyList_ReturnsEmptyList() {
-        // Given
-        when(outingService.getAllOutings()).thenReturn(new ArrayList<>());
-
+    void getAllOutings_EmptyList_ReturnsEmptyList() throws IOException {
         // When
-        ResponseEntity<List<OutingResponse>> response = outingController.getAllOutings();
+        ResponseEntity<StreamingResponseBody> response = outingController.getAllOutings();
 
         // Then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertTrue(response.getBody().isEmpty());
+        assertTrue(streamed(response).isEmpty());
     }
 
     @Test
@@ -305,4 +314,10 @@ class OutingControllerTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertTrue(response.getBody().isEmpty());
     }
+
+    private static JsonNode streamed(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        response.getBody().writeTo(body);
+        return new ObjectMapper().readTree(body.toByteArray());
+    }
 }
@@ -87,6 +87,34 @@ class OutingMapperTest {
         assertNull(response.getIsParticipant()); // No user context
         assertNotNull(response.getOrganizer());
         assertEquals(organizer.getId(), response.getOrganizer().getId());
+        assertNull(response.getAverageRating()); // No reviews
+        assertEquals(0L, response.getRatingCount());
+    }
+
+    @Test
+    @DisplayName("Should include the average rating from the rating aggregate")
+    void toResponse_WithRatings_IncludesAverage() {
+        // Given
+        Outing outing = Outing.builder()
+                .id(outingId)
+                .title("Test Outing")
+                .description("Test Description")
+                .location("Test Location")
+                .latitude(45.4642)
+                .longitude(9.1900)
+                .outingDate(LocalDateTime.now().minusDays(1))
+                .maxParticipants(10)
+                .organizer(organizer)
+                .ratingSum(11L)
+                .ratingCount(3L)
+                .build();
+
+        // When
+        OutingResponse response = outingMapper.toResponse(outing);
+
+        // Then
+        assertEquals(11.0 / 3, response.getAverageRating());
+        assertEquals(3L, response.getRatingCount());
     }
 
     @Test
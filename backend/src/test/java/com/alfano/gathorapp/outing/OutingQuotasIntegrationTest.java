@@ -0,0 +1,155 @@
+package com.alfano.gathorapp.outing;
+
+import com.alfano.gathorapp.outing.dto.CreateOutingRequest;
+import com.alfano.gathorapp.outing.dto.OutingResponse;
+import com.alfano.gathorapp.testutils.TestDatabaseCleaner;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the monthly outing limit kept by {@link OutingQuotas}.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Outing Quotas Integration Tests")
+class OutingQuotasIntegrationTest {
+
+    @Autowired
+    private OutingService outingService;
+
+    @Autowired
+    private OutingQuotas outingQuotas;
+
+    @Autowired
+    private OutingRepository outingRepository;
+
+    @Autowired
+    private OutingQuotaRepository quotaRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestDatabaseCleaner testDatabaseCleaner;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        testDatabaseCleaner.truncateAll();
+        user = userRepository.save(User.builder()
+                .name("Base User")
+                .email("base@example.com")
+                .passwordHash("hashedPassword")
+                .role(Role.USER)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should seed the counter from the outings already created this month")
+    void seedsFromExistingOutings() {
+        for (int i = 0; i < 3; i++) {
+            outingRepository.save(Outing.builder()
+                    .title("Existing " + i)
+                    .description("Description")
+                    .location("Location")
+                    .latitude(45.0)
+                    .longitude(9.0)
+                    .outingDate(LocalDateTime.now().plusDays(7))
+                    .maxParticipants(5)
+                    .organizer(user)
+                    .build());
+        }
+
+        outingService.createOuting(request(), user.getId());
+        outingService.createOuting(request(), user.getId());
+
+        assertEquals(5, outingQuotas.current(user.getId(), LocalDate.now().withDayOfMonth(1)));
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> outingService.createOuting(request(), user.getId()));
+        assertTrue(exception.getMessage().contains("monthly limit of 5"));
+    }
+
+    @Test
+    @DisplayName("Should not let concurrent creates exceed the monthly limit")
+    void concurrentCreates_StayWithinLimit() throws Exception {
+        int attempts = 12;
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService creators = Executors.newFixedThreadPool(attempts);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < attempts; i++) {
+            futures.add(creators.submit(() -> {
+                start.await();
+                try {
+                    outingService.createOuting(request(), user.getId());
+                    created.incrementAndGet();
+                } catch (RuntimeException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        creators.shutdown();
+
+        assertEquals(5, created.get());
+        assertEquals(attempts - 5, rejected.get());
+        assertEquals(5, outingRepository.findByOrganizerId(user.getId()).size());
+        assertEquals(1, quotaRepository.count());
+    }
+
+    @Test
+    @DisplayName("Should give the slot of a deleted outing back")
+    void delete_ReleasesSlot() {
+        List<OutingResponse> outings = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            outings.add(outingService.createOuting(request(), user.getId()));
+        }
+        assertThrows(RuntimeException.class, () -> outingService.createOuting(request(), user.getId()));
+
+        outingService.deleteOuting(outings.get(0).getId(), user.getId());
+
+        assertNotNull(outingService.createOuting(request(), user.getId()));
+        assertEquals(5, outingQuotas.current(user.getId(), LocalDate.now().withDayOfMonth(1)));
+    }
+
+    private static CreateOutingRequest request() {
+        return CreateOutingRequest.builder()
+                .title("Outing")
+                .description("Description")
+                .location("Location")
+                .latitude(45.0)
+                .longitude(9.0)
+                .outingDate(LocalDateTime.now().plusDays(7))
+                .maxParticipants(5)
+                .build();
+    }
+}
@@ -7,15 +7,20 @@ import com.alfano.gathorapp.outing.dto.OutingResponse;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.LongPredicate;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -46,9 +51,18 @@ class OutingServiceTest {
     @Mock
     private OutingMapper outingMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
     @Mock
     private com.alfano.gathorapp.pattern.strategy.UserStrategyFactory strategyFactory;
 
+    @Mock
+    private OutingQuotas outingQuotas;
+
     @InjectMocks
     private OutingService outingService;
 
@@ -156,6 +170,60 @@ class OutingServiceTest {
         assertNotNull(result);
         assertEquals(outingId, result.getId());
         verify(outingRepository, times(1)).save(any(Outing.class));
+        verify(outingQuotas).acquire(organizerId);
+    }
+
+    @Test
+    void testCreateOuting_Independent_CheckedAgainstMonthlyCount() {
+        // Given
+        CreateOutingRequest request = CreateOutingRequest.builder()
+                .title("New Outing")
+                .maxParticipants(5)
+                .build();
+
+        com.alfano.gathorapp.pattern.strategy.UserLimitationStrategy mockStrategy = mock(
+                com.alfano.gathorapp.pattern.strategy.UserLimitationStrategy.class);
+
+        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
+        when(strategyFactory.getStrategy(organizer)).thenReturn(mockStrategy);
+        when(mockStrategy.canCreateIndependentOuting(organizer, 3)).thenReturn(true);
+        when(outingQuotas.tryAcquire(eq(organizerId), any()))
+                .thenAnswer(invocation -> invocation.<LongPredicate>getArgument(1).test(3));
+        when(outingMapper.toEntity(any(CreateOutingRequest.class), eq(organizer), isNull())).thenReturn(outing);
+        when(outingRepository.save(any(Outing.class))).thenReturn(outing);
+        when(outingMapper.toResponse(any(Outing.class))).thenReturn(OutingResponse.builder().id(outingId).build());
+
+        // When
+        OutingResponse result = outingService.createOuting(request, organizerId);
+
+        // Then
+        assertEquals(outingId, result.getId());
+        verify(mockStrategy).canCreateIndependentOuting(organizer, 3);
+    }
+
+    @Test
+    void testCreateOuting_Independent_MonthlyLimitReached_ThrowsException() {
+        // Given
+        CreateOutingRequest request = CreateOutingRequest.builder()
+                .title("New Outing")
+                .maxParticipants(5)
+                .build();
+
+        com.alfano.gathorapp.pattern.strategy.UserLimitationStrategy mockStrategy = mock(
+                com.alfano.gathorapp.pattern.strategy.UserLimitationStrategy.class);
+
+        when(userRepository.findById(organizerId)).thenReturn(Optional.of(organizer));
+        when(strategyFactory.getStrategy(organizer)).thenReturn(mockStrategy);
+        when(mockStrategy.getMaxIndependentOutingsPerMonth()).thenReturn(5);
+        when(outingQuotas.tryAcquire(eq(organizerId), any())).thenReturn(false);
+
+        // When/Then
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> {
+            outingService.createOuting(request, organizerId);
+        });
+
+        assertTrue(exception.getMessage().contains("monthly limit of 5"));
+        verify(outingRepository, never()).save(any(Outing.class));
     }
 
     @Test
@@ -248,6 +316,8 @@ class OutingServiceTest {
         assertTrue(result.getIsParticipant());
         assertEquals(1, result.getCurrentParticipants());
         verify(outingRepository, times(1)).save(any(Outing.class));
+        verify(eventPublisher).publishEvent(
+                new OutingChangedEvent(outingId, eventId, OutingChangedEvent.Change.PARTICIPANTS_CHANGED));
     }
 
     @Test
@@ -382,8 +452,7 @@ class OutingServiceTest {
     @Test
     void testGetAllOutings_Success() {
         // Given
-        List<Outing> outings = Arrays.asList(outing);
-        when(outingRepository.findAll()).thenReturn(outings);
+        when(outingRepository.streamAll()).thenReturn(Stream.of(outing));
 
         OutingResponse response = OutingResponse.builder()
                 .id(outingId)
@@ -393,13 +462,13 @@ class OutingServiceTest {
         when(outingMapper.toResponse(outing)).thenReturn(response);
 
         // When
-        List<OutingResponse> result = outingService.getAllOutings();
+        List<OutingResponse> result = new ArrayList<>();
+        outingService.streamAllOutings(result::add);
 
         // Then
-        assertNotNull(result);
         assertEquals(1, result.size());
         assertEquals(outingId, result.get(0).getId());
-        verify(outingRepository, times(1)).findAll();
+        verify(outingRepository, times(1)).streamAll();
     }
 
     @Test
@@ -413,6 +482,8 @@ class OutingServiceTest {
 
         // Then
         verify(outingRepository, times(1)).delete(outing);
+        verify(outingQuotas).release(outing);
+        verify(eventPublisher).publishEvent(any(OutingChangedEvent.class));
     }
 
     @Test
@@ -481,6 +552,21 @@ class OutingServiceTest {
         verify(outingRepository, times(1)).findUpcomingOutings(any(LocalDateTime.class));
     }
 
+    @Test
+    void testGetTopRatedOutings_ClampsLimit() {
+        // Given
+        when(outingRepository.findTopRated(3L, PageRequest.of(0, OutingService.MAX_TOP_RATED)))
+                .thenReturn(List.of(outing));
+        OutingResponse response = OutingResponse.builder().id(outingId).build();
+        when(outingMapper.toResponse(outing)).thenReturn(response);
+
+        // When
+        List<OutingResponse> result = outingService.getTopRatedOutings(1000, 3);
+
+        // Then
+        assertEquals(List.of(response), result);
+    }
+
     @Test
     void testGetOutingsByOrganizer_Success() {
         // Given
@@ -558,15 +644,15 @@ class OutingServiceTest {
     @Test
     void testGetAllOutings_EmptyList() {
         // Given
-        when(outingRepository.findAll()).thenReturn(Collections.emptyList());
+        when(outingRepository.streamAll()).thenReturn(Stream.empty());
 
         // When
-        List<OutingResponse> result = outingService.getAllOutings();
+        List<OutingResponse> result = new ArrayList<>();
+        outingService.streamAllOutings(result::add);
 
         // Then
-        assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(outingRepository, times(1)).findAll();
+        verify(outingRepository, times(1)).streamAll();
     }
 
     @Test
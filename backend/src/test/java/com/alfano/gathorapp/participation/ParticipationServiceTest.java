@@ -8,7 +8,6 @@ import com.alfano.gathorapp.participation.dto.ParticipationResponse;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
-import com.alfano.gathorapp.voucher.VoucherService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -52,7 +52,7 @@ class ParticipationServiceTest {
     private NotificationService notificationService;
 
     @Mock
-    private VoucherService voucherService;
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ParticipationService participationService;
@@ -237,7 +237,6 @@ class ParticipationServiceTest {
         when(outingRepository.save(testOuting)).thenReturn(testOuting);
         when(participationMapper.toResponse(testParticipation))
                 .thenReturn(ParticipationResponse.builder().id(participationId).build());
-        doNothing().when(voucherService).checkAndIssueVoucher(any(), any());
         doNothing().when(notificationService).createNotification(any(), any(), any(), any(), any(), any());
 
         ParticipationResponse result = participationService.approveParticipation(participationId, organizerId);
@@ -245,11 +244,12 @@ class ParticipationServiceTest {
         assertThat(result.getId()).isEqualTo(participationId);
         assertThat(testParticipation.getStatus()).isEqualTo(ParticipationStatus.APPROVED);
         verify(participationRepository).save(testParticipation);
-        verify(voucherService).checkAndIssueVoucher(outingId, organizerId);
         verify(notificationService).createNotification(
                 eq(userId),
                 eq(NotificationType.PARTICIPATION_APPROVED),
                 any(), any(), any(), eq("OUTING"));
+        verify(eventPublisher).publishEvent(new ParticipationChangedEvent(
+                participationId, outingId, userId, "Test User", ParticipationChangedEvent.Change.APPROVED));
     }
 
     @Test
@@ -323,6 +323,8 @@ class ParticipationServiceTest {
                 eq(userId),
                 eq(NotificationType.PARTICIPATION_REJECTED),
                 any(), any(), any(), eq("OUTING"));
+        verify(eventPublisher).publishEvent(new ParticipationChangedEvent(
+                participationId, outingId, userId, "Test User", ParticipationChangedEvent.Change.REJECTED));
     }
 
     @Test
@@ -364,6 +366,8 @@ class ParticipationServiceTest {
 
         verify(outingRepository).save(testOuting);
         verify(participationRepository).delete(testParticipation);
+        verify(eventPublisher).publishEvent(new ParticipationChangedEvent(
+                participationId, outingId, userId, "Test User", ParticipationChangedEvent.Change.LEFT));
     }
 
     @Test
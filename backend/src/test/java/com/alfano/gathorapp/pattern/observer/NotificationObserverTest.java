@@ -5,6 +5,7 @@ import com.alfano.gathorapp.notification.NotificationRepository;
 import com.alfano.gathorapp.notification.NotificationType;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.websocket.PresenceRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,6 +42,9 @@ class NotificationObserverTest {
     @Mock
     private SimpMessagingTemplate messagingTemplate;
 
+    @Mock
+    private PresenceRegistry presenceRegistry;
+
     private NotificationManager notificationManager;
     private PersistenceNotificationObserver persistenceObserver;
     private WebSocketNotificationObserver webSocketObserver;
@@ -55,7 +59,7 @@ class NotificationObserverTest {
     void setUp() {
         notificationManager = new NotificationManager();
         persistenceObserver = new PersistenceNotificationObserver(notificationRepository);
-        webSocketObserver = new WebSocketNotificationObserver(messagingTemplate);
+        webSocketObserver = new WebSocketNotificationObserver(messagingTemplate, presenceRegistry);
 
         mockObserver1 = mock(NotificationObserver.class);
         mockObserver2 = mock(NotificationObserver.class);
@@ -68,6 +72,7 @@ class NotificationObserverTest {
                 .email("test@example.com")
                 .role(Role.USER)
                 .build();
+        lenient().when(presenceRegistry.isOnline(testUser.getId())).thenReturn(true);
 
         testNotification = Notification.builder()
                 .id(UUID.randomUUID())
@@ -346,6 +351,16 @@ class NotificationObserverTest {
         );
     }
 
+    @Test
+    @DisplayName("WebSocketObserver - Should skip users who are offline")
+    void webSocketObserver_OfflineUser_Skipped() {
+        when(presenceRegistry.isOnline(testUser.getId())).thenReturn(false);
+
+        webSocketObserver.onNotification(testNotification);
+
+        verifyNoInteractions(messagingTemplate);
+    }
+
     @Test
     @DisplayName("WebSocketObserver - Should have correct name")
     void webSocketObserver_CorrectName() {
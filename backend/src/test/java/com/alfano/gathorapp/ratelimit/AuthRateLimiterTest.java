@@ -0,0 +1,96 @@
+package com.alfano.gathorapp.ratelimit;
+
+import com.alfano.gathorapp.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AuthRateLimiter.
+ */
+@DisplayName("AuthRateLimiter Tests")
+class AuthRateLimiterTest {
+
+    private AuthRateLimiter rateLimiter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-01-01T10:00:00Z"), ZoneOffset.UTC);
+        rateLimiter = new AuthRateLimiter(new InMemoryRateLimitStore(1000), clock, true, false,
+                new RateLimitPolicy("login-ip", 5, 60_000),
+                new RateLimitPolicy("login-email", 3, 60_000),
+                new RateLimitPolicy("register-ip", 2, 60_000));
+        request = new MockHttpServletRequest();
+        request.setRemoteAddr("10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("Should reject login after too many attempts for the same email")
+    void testCheckLogin_EmailLimitExceeded_Throws() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.checkLogin(request, "Victim@Example.com");
+        }
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.checkLogin(request, "victim@example.com"));
+        assertEquals(60, ex.getRetryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("Should reject login after too many attempts from the same IP")
+    void testCheckLogin_IpLimitExceeded_Throws() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.checkLogin(request, "user" + i + "@example.com");
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> rateLimiter.checkLogin(request, "another@example.com"));
+
+        MockHttpServletRequest otherClient = new MockHttpServletRequest();
+        otherClient.setRemoteAddr("10.0.0.2");
+        assertDoesNotThrow(() -> rateLimiter.checkLogin(otherClient, "another@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should reset the email counter after a successful login")
+    void testLoginSucceeded_ResetsEmailCounter() {
+        rateLimiter.checkLogin(request, "user@example.com");
+        rateLimiter.checkLogin(request, "user@example.com");
+        rateLimiter.loginSucceeded("user@example.com");
+
+        assertDoesNotThrow(() -> rateLimiter.checkLogin(request, "user@example.com"));
+        assertDoesNotThrow(() -> rateLimiter.checkLogin(request, "user@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should limit registrations per IP")
+    void testCheckRegister_LimitExceeded_Throws() {
+        rateLimiter.checkRegister(request);
+        rateLimiter.checkRegister(request);
+
+        assertThrows(TooManyRequestsException.class, () -> rateLimiter.checkRegister(request));
+    }
+
+    @Test
+    @DisplayName("Should not count anything when disabled")
+    void testDisabled_NeverThrows() {
+        AuthRateLimiter disabled = new AuthRateLimiter(new InMemoryRateLimitStore(10), Clock.systemUTC(),
+                false, false,
+                new RateLimitPolicy("login-ip", 1, 60_000),
+                new RateLimitPolicy("login-email", 1, 60_000),
+                new RateLimitPolicy("register-ip", 1, 60_000));
+
+        for (int i = 0; i < 10; i++) {
+            disabled.checkLogin(request, "user@example.com");
+            disabled.checkRegister(request);
+        }
+    }
+}
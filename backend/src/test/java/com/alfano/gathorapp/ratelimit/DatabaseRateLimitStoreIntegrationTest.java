@@ -0,0 +1,57 @@
+package com.alfano.gathorapp.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for DatabaseRateLimitStore against the test database.
+ */
+@SpringBootTest(properties = "app.rate-limit.store=database")
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("DatabaseRateLimitStore Integration Tests")
+class DatabaseRateLimitStoreIntegrationTest {
+
+    @Autowired
+    private RateLimitStore store;
+
+    @Autowired
+    private RateLimitBucketRepository bucketRepository;
+
+    private final RateLimitPolicy policy = new RateLimitPolicy("test", 5, 10_000, 10);
+
+    @Test
+    @DisplayName("Should use the database store when configured")
+    void testStoreSelection() {
+        assertInstanceOf(DatabaseRateLimitStore.class, store);
+    }
+
+    @Test
+    @DisplayName("Should count hits across buckets and slide the window")
+    void testHit_SlidingWindow() {
+        assertEquals(1, store.hit("ip:1", policy, 0));
+        assertEquals(2, store.hit("ip:1", policy, 500));
+        assertEquals(3, store.hit("ip:1", policy, 5_000));
+        assertEquals(2, store.hit("ip:1", policy, 10_500));
+        assertEquals(1, store.hit("ip:2", policy, 10_500));
+    }
+
+    @Test
+    @DisplayName("Should delete buckets on reset and expiry")
+    void testResetAndEviction() {
+        store.hit("email:a", policy, 0);
+        store.hit("email:b", policy, 0);
+
+        store.reset("email:a");
+        assertEquals(1, store.hit("email:a", policy, 0));
+
+        store.evictExpired(60_000);
+        assertEquals(0, bucketRepository.count());
+    }
+}
@@ -0,0 +1,90 @@
+package com.alfano.gathorapp.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for InMemoryRateLimitStore.
+ */
+@DisplayName("InMemoryRateLimitStore Tests")
+class InMemoryRateLimitStoreTest {
+
+    private final RateLimitPolicy policy = new RateLimitPolicy("test", 5, 10_000, 10);
+
+    @Test
+    @DisplayName("Should count hits inside the window")
+    void testHit_CountsWithinWindow() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100);
+
+        assertEquals(1, store.hit("k", policy, 0));
+        assertEquals(2, store.hit("k", policy, 1_500));
+        assertEquals(3, store.hit("k", policy, 9_999));
+    }
+
+    @Test
+    @DisplayName("Should slide the window and forget old buckets")
+    void testHit_SlidesWindow() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100);
+        store.hit("k", policy, 0);
+        store.hit("k", policy, 5_000);
+
+        // Bucket 0 falls out of the window, bucket 5 is still in
+        assertEquals(2, store.hit("k", policy, 10_000));
+        // Everything before 11s is gone
+        assertEquals(1, store.hit("k", policy, 21_000));
+    }
+
+    @Test
+    @DisplayName("Should keep keys independent and reset them")
+    void testReset_ClearsKey() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100);
+        store.hit("a", policy, 0);
+        store.hit("a", policy, 0);
+        store.hit("b", policy, 0);
+
+        store.reset("a");
+
+        assertEquals(1, store.hit("a", policy, 0));
+        assertEquals(2, store.hit("b", policy, 0));
+    }
+
+    @Test
+    @DisplayName("Should evict expired counters and stay within max keys")
+    void testBoundedMemory() {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(3);
+        store.hit("a", policy, 0);
+        store.hit("b", policy, 0);
+        store.hit("c", policy, 0);
+
+        store.evictExpired(5_000);
+        assertEquals(3, store.size());
+
+        store.hit("d", policy, 5_000);
+        assertEquals(3, store.size());
+
+        store.evictExpired(60_000);
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("Should not lose hits under concurrent access")
+    void testHit_Concurrent() throws InterruptedException {
+        InMemoryRateLimitStore store = new InMemoryRateLimitStore(100);
+        RateLimitPolicy wide = new RateLimitPolicy("wide", 100_000, 60_000, 6);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        for (int i = 0; i < 8_000; i++) {
+            executor.submit(() -> store.hit("k", wide, 1_000));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(8_001, store.hit("k", wide, 1_000));
+    }
+}
@@ -3,22 +3,30 @@ package com.alfano.gathorapp.report;
 import com.alfano.gathorapp.report.dto.CreateReportRequest;
 import com.alfano.gathorapp.report.dto.ReportResponse;
 import com.alfano.gathorapp.security.SecurityUser;
+import com.alfano.gathorapp.streaming.JsonArrayStreamer;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +35,9 @@ class ReportControllerTest {
     @Mock
     private ReportService reportService;
 
+    @Spy
+    private JsonArrayStreamer jsonArrayStreamer = new JsonArrayStreamer(new ObjectMapper().findAndRegisterModules());
+
     @InjectMocks
     private ReportController reportController;
 
@@ -101,14 +112,19 @@ class ReportControllerTest {
     }
 
     @Test
-    void getAllReports_success() {
-        when(reportService.getAllReports()).thenReturn(List.of(reportResponse));
+    void getAllReports_success() throws IOException {
+        doAnswer(invocation -> {
+            invocation.<Consumer<ReportResponse>>getArgument(0).accept(reportResponse);
+            return null;
+        }).when(reportService).streamAllReports(any());
 
-        ResponseEntity<List<ReportResponse>> result = reportController.getAllReports();
+        ResponseEntity<StreamingResponseBody> result = reportController.getAllReports();
 
         assertEquals(200, result.getStatusCode().value());
-        assertEquals(1, result.getBody().size());
-        verify(reportService).getAllReports();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        result.getBody().writeTo(body);
+        assertEquals(1, new ObjectMapper().readTree(body.toByteArray()).size());
+        verify(reportService).streamAllReports(any());
     }
 
     @Test
@@ -7,6 +7,7 @@ import com.alfano.gathorapp.report.dto.ReportResponse;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +15,7 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,6 +35,9 @@ class ReportServiceTest {
     @Mock
     private NotificationService notificationService;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ReportService reportService;
 
@@ -124,13 +129,14 @@ class ReportServiceTest {
 
     @Test
     void getAllReports_success() {
-        when(reportRepository.findAll()).thenReturn(List.of(report));
+        when(reportRepository.streamAll()).thenReturn(Stream.of(report));
         when(reportMapper.toResponse(report)).thenReturn(response);
 
-        List<ReportResponse> list = reportService.getAllReports();
+        List<ReportResponse> list = new ArrayList<>();
+        reportService.streamAllReports(list::add);
 
         assertEquals(1, list.size());
-        verify(reportRepository).findAll();
+        verify(reportRepository).streamAll();
     }
 
     @Test
@@ -27,6 +27,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -56,6 +57,9 @@ class ReviewControllerIntegrationTest {
         @Autowired
         private ReviewRepository reviewRepository;
 
+        @Autowired
+        private RatingAggregateReconciler ratingAggregateReconciler;
+
         @Autowired
         private JwtTokenProvider jwtTokenProvider;
 
@@ -221,4 +225,58 @@ class ReviewControllerIntegrationTest {
                                 .content(objectMapper.writeValueAsString(duplicateRequest)))
                                 .andExpect(status().isBadRequest());
         }
+
+        @Test
+        @DisplayName("POST /api/reviews/outings/{id} - Should update the outing's rating aggregate")
+        void createReview_UpdatesRatingAggregate() throws Exception {
+                CreateReviewRequest request = CreateReviewRequest.builder()
+                                .rating(4)
+                                .comment("Nice")
+                                .build();
+
+                mockMvc.perform(post("/api/reviews/outings/" + testOuting.getId())
+                                .header("Authorization", "Bearer " + participantToken)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isCreated());
+
+                mockMvc.perform(get("/api/outings/" + testOuting.getId())
+                                .header("Authorization", "Bearer " + participantToken))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.averageRating").value(4.0))
+                                .andExpect(jsonPath("$.ratingCount").value(1));
+
+                mockMvc.perform(get("/api/reviews/outings/" + testOuting.getId() + "/average")
+                                .header("Authorization", "Bearer " + participantToken))
+                                .andExpect(status().isOk())
+                                .andExpect(content().string("4.0"));
+
+                mockMvc.perform(get("/api/outings/top-rated")
+                                .header("Authorization", "Bearer " + participantToken)
+                                .param("minRatings", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(1)))
+                                .andExpect(jsonPath("$[0].id").value(testOuting.getId().toString()));
+
+                mockMvc.perform(get("/api/outings/top-rated")
+                                .header("Authorization", "Bearer " + participantToken))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$", hasSize(0)));
+        }
+
+        @Test
+        @DisplayName("Should recompute rating aggregates that are out of sync with the reviews")
+        void reconcile_RecomputesAggregates() {
+                reviewRepository.save(Review.builder()
+                                .reviewer(participant)
+                                .outing(testOuting)
+                                .rating(3)
+                                .build());
+
+                ratingAggregateReconciler.reconcile();
+
+                Outing outing = outingRepository.findById(testOuting.getId()).orElseThrow();
+                assertEquals(3L, outing.getRatingSum());
+                assertEquals(1L, outing.getRatingCount());
+        }
 }
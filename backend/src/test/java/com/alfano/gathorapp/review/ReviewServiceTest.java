@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,6 +27,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -54,6 +56,12 @@ class ReviewServiceTest {
     @Mock
     private ReviewMapper reviewMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RatingAggregates ratingAggregates;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -165,6 +173,27 @@ class ReviewServiceTest {
         verify(reviewRepository).findByOutingId(outingId);
     }
 
+    // ==================== getAverageRatingForOuting Tests ====================
+
+    @Test
+    @DisplayName("Should read the average rating from the outing's rating aggregate")
+    void getAverageRatingForOuting_FromAggregate() {
+        testOuting.setRatingSum(9L);
+        testOuting.setRatingCount(2L);
+        when(outingRepository.findById(outingId)).thenReturn(Optional.of(testOuting));
+
+        assertThat(reviewService.getAverageRatingForOuting(outingId)).isEqualTo(4.5);
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    @DisplayName("Should return zero for an outing without reviews")
+    void getAverageRatingForOuting_NoReviews() {
+        when(outingRepository.findById(outingId)).thenReturn(Optional.of(testOuting));
+
+        assertThat(reviewService.getAverageRatingForOuting(outingId)).isEqualTo(0.0);
+    }
+
     // ==================== createReview for Event Tests ====================
 
     @Test
@@ -188,6 +217,9 @@ class ReviewServiceTest {
         assertThat(result.getId()).isEqualTo(reviewId);
         assertThat(result.getRating()).isEqualTo(5);
         verify(reviewRepository).save(any(Review.class));
+        verify(ratingAggregates).addEventRating(eventId, 5);
+        verify(ratingAggregates, never()).addOutingRating(any(), anyInt());
+        verify(eventPublisher).publishEvent(new ReviewChangedEvent(reviewId, eventId, null));
     }
 
     @Test
@@ -307,6 +339,7 @@ class ReviewServiceTest {
         assertThat(result.getRating()).isEqualTo(4);
         verify(reviewRepository).save(any(Review.class));
         verify(participationRepository).existsByUserAndOuting(testUser, testOuting);
+        verify(ratingAggregates).addOutingRating(outingId, 4);
     }
 
     @Test
@@ -2,11 +2,13 @@ package com.alfano.gathorapp.reward;
 
 import com.alfano.gathorapp.event.Event;
 import com.alfano.gathorapp.event.EventRepository;
+import com.alfano.gathorapp.exception.ForbiddenException;
 import com.alfano.gathorapp.reward.dto.CreateRewardRequest;
 import com.alfano.gathorapp.reward.dto.RewardResponse;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
+import com.alfano.gathorapp.voucher.RewardEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -45,6 +48,12 @@ class RewardServiceTest {
     @Mock
     private RewardMapper rewardMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RewardEngine rewardEngine;
+
     @InjectMocks
     private RewardService rewardService;
 
@@ -194,6 +203,7 @@ class RewardServiceTest {
         assertThat(result.getTitle()).isEqualTo("Free Coffee");
         assertThat(result.getRequiredParticipants()).isEqualTo(3);
         verify(rewardRepository).save(any(Reward.class));
+        verify(eventPublisher).publishEvent(new RewardChangedEvent(rewardId, eventId));
     }
 
     @Test
@@ -432,4 +442,25 @@ class RewardServiceTest {
 
         verify(rewardRepository, times(2)).save(any(Reward.class));
     }
+
+    @Test
+    @DisplayName("Should queue a re-evaluation of the owner's event")
+    void reevaluateEvent_Owner_Queued() {
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
+
+        rewardService.reevaluateEvent(eventId, businessId);
+
+        verify(rewardEngine).submitEvent(eventId);
+    }
+
+    @Test
+    @DisplayName("Should not let another user re-evaluate an event")
+    void reevaluateEvent_NotOwner_Forbidden() {
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(testEvent));
+
+        assertThatThrownBy(() -> rewardService.reevaluateEvent(eventId, premiumId))
+                .isInstanceOf(ForbiddenException.class);
+
+        verify(rewardEngine, never()).submitEvent(any());
+    }
 }
@@ -0,0 +1,53 @@
+package com.alfano.gathorapp.streaming;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for EntityStreams.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EntityStreams Tests")
+class EntityStreamsTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("forEachDetached - Should visit every row and clear the persistence context periodically")
+    void forEachDetached_ClearsEveryBatch() {
+        List<Integer> visited = new ArrayList<>();
+
+        EntityStreams.forEachDetached(IntStream.range(0, 250).boxed(), entityManager, visited::add);
+
+        assertEquals(250, visited.size());
+        verify(entityManager, times(250 / EntityStreams.CLEAR_EVERY)).clear();
+    }
+
+    @Test
+    @DisplayName("forEachDetached - Should close the stream, also when the action fails")
+    void forEachDetached_ClosesStream() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> rows = Stream.of(1, 2, 3).onClose(() -> closed.set(true));
+
+        assertThrows(IllegalStateException.class, () -> EntityStreams.forEachDetached(rows, entityManager, row -> {
+            throw new IllegalStateException("client gone");
+        }));
+
+        assertTrue(closed.get());
+        verifyNoInteractions(entityManager);
+    }
+}
@@ -0,0 +1,83 @@
+package com.alfano.gathorapp.streaming;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JsonArrayStreamer.
+ */
+@DisplayName("JsonArrayStreamer Tests")
+class JsonArrayStreamerTest {
+
+    private JsonArrayStreamer streamer;
+
+    @BeforeEach
+    void setUp() {
+        streamer = new JsonArrayStreamer(new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    @DisplayName("Should write the pushed elements as a JSON array")
+    void ok_WritesArray() throws IOException {
+        ResponseEntity<StreamingResponseBody> response = streamer.<Map<String, Object>>ok(action -> {
+            action.accept(Map.of("id", 1));
+            action.accept(Map.of("id", 2));
+        });
+
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("[{\"id\":1},{\"id\":2}]", write(response));
+    }
+
+    @Test
+    @DisplayName("Should write an empty array when nothing is pushed")
+    void ok_Empty() throws IOException {
+        assertEquals("[]", write(streamer.ok(action -> { })));
+    }
+
+    @Test
+    @DisplayName("Should use the application's serialization settings")
+    void ok_UsesObjectMapperModules() throws IOException {
+        String json = write(streamer.<LocalDateTime>ok(action -> action.accept(LocalDateTime.of(2025, 1, 2, 3, 4))));
+
+        assertTrue(json.contains("2025"), json);
+    }
+
+    @Test
+    @DisplayName("Should not flush the output for every element")
+    void ok_DoesNotFlushPerElement() throws IOException {
+        int[] flushes = new int[1];
+        OutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes[0]++;
+            }
+        };
+
+        streamer.<Integer>ok(action -> {
+            for (int i = 0; i < 1000; i++) {
+                action.accept(i);
+            }
+        }).getBody().writeTo(output);
+
+        assertTrue(flushes[0] <= 1, "flushed " + flushes[0] + " times");
+    }
+
+    private static String write(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        return output.toString();
+    }
+}
@@ -3,6 +3,7 @@ package com.alfano.gathorapp.testutils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -16,9 +17,11 @@ public class TestDatabaseCleaner {
     private static final Logger logger = LoggerFactory.getLogger(TestDatabaseCleaner.class);
 
     private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
 
-    public TestDatabaseCleaner(JdbcTemplate jdbcTemplate) {
+    public TestDatabaseCleaner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
         this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     public void truncateAll() {
@@ -28,6 +31,10 @@ public class TestDatabaseCleaner {
         // This ensures FK constraints won't block truncation even with referential
         // integrity enabled
         List<String> tableOrder = List.of(
+                "analytics_rollups", // no dependencies
+                "outing_quotas", // no dependencies
+                "import_row_errors", // depends on import_jobs
+                "import_jobs", // no dependencies
                 "chat_messages", // depends on chats, users
                 "chats", // depends on outings
                 "reviews", // depends on outings, users
@@ -82,6 +89,9 @@ public class TestDatabaseCleaner {
         }
 
         jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+
+        // Truncation bypasses Hibernate, so drop what the second-level cache still holds
+        entityManagerFactory.getCache().evictAll();
         logger.info("=== Database cleanup complete ===");
     }
 }
@@ -0,0 +1,26 @@
+package com.alfano.gathorapp.testutils;
+
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+
+/**
+ * Unsaved users for integration tests.
+ */
+public final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    public static User user(String email) {
+        return user(email, Role.USER);
+    }
+
+    public static User user(String email, Role role) {
+        return User.builder()
+                .name("User")
+                .email(email)
+                .passwordHash("hashedPassword")
+                .role(role)
+                .build();
+    }
+}
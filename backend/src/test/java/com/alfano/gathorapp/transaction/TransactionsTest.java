@@ -0,0 +1,59 @@
+package com.alfano.gathorapp.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link Transactions}.
+ */
+@DisplayName("Transactions Tests")
+class TransactionsTest {
+
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run immediately without a transaction")
+    void afterCommit_NoTransaction_RunsNow() {
+        Transactions.afterCommit(runs::incrementAndGet);
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("Should run only once the transaction commits")
+    void afterCommit_InTransaction_RunsOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        Transactions.afterCommit(runs::incrementAndGet);
+        assertEquals(0, runs.get());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    @DisplayName("Should not run when the transaction rolls back")
+    void afterCommit_RolledBack_NeverRuns() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        Transactions.afterCommit(runs::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(0, runs.get());
+    }
+}
@@ -0,0 +1,114 @@
+package com.alfano.gathorapp.voucher;
+
+import com.alfano.gathorapp.participation.ParticipationChangedEvent;
+import com.alfano.gathorapp.reward.RewardChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RewardEngine}, with a queue run by hand in place of
+ * the worker thread.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RewardEngine Tests")
+class RewardEngineTest {
+
+    @Mock
+    private VoucherService voucherService;
+
+    private final List<Runnable> queue = new ArrayList<>();
+    private RewardEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        engine = new RewardEngine(voucherService, queue::add);
+    }
+
+    @Test
+    @DisplayName("Should evaluate the outing of an approved participation")
+    void approved_EvaluatesOuting() {
+        UUID outingId = UUID.randomUUID();
+
+        engine.onParticipationChanged(participation(outingId, ParticipationChangedEvent.Change.APPROVED));
+        engine.onParticipationChanged(participation(outingId, ParticipationChangedEvent.Change.REQUESTED));
+        runQueue();
+
+        verify(voucherService, times(1)).evaluateOuting(outingId);
+    }
+
+    @Test
+    @DisplayName("Should queue an outing only once until its evaluation starts")
+    void submitOuting_Coalesced() {
+        UUID outingId = UUID.randomUUID();
+
+        engine.submitOuting(outingId);
+        engine.submitOuting(outingId);
+        assertEquals(1, queue.size());
+        runQueue();
+        engine.submitOuting(outingId);
+
+        assertEquals(1, queue.size());
+        verify(voucherService, times(1)).evaluateOuting(outingId);
+    }
+
+    @Test
+    @DisplayName("Should backfill the event of a new reward")
+    void rewardCreated_BackfillsEvent() {
+        UUID eventId = UUID.randomUUID();
+
+        engine.onRewardChanged(new RewardChangedEvent(UUID.randomUUID(), eventId));
+        runQueue();
+
+        verify(voucherService).backfillEvent(eventId);
+    }
+
+    @Test
+    @DisplayName("Should evaluate again once when a voucher was issued concurrently")
+    void duplicate_RetriedOnce() {
+        UUID eventId = UUID.randomUUID();
+        when(voucherService.backfillEvent(eventId))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenReturn(0);
+
+        engine.submitEvent(eventId);
+        runQueue();
+
+        verify(voucherService, times(2)).backfillEvent(eventId);
+    }
+
+    @Test
+    @DisplayName("Should keep working after a failed evaluation")
+    void failure_Contained() {
+        UUID failing = UUID.randomUUID();
+        UUID next = UUID.randomUUID();
+        doThrow(new IllegalStateException("boom")).when(voucherService).evaluateOuting(failing);
+
+        engine.submitOuting(failing);
+        engine.submitOuting(next);
+
+        assertDoesNotThrow(this::runQueue);
+        verify(voucherService).evaluateOuting(next);
+    }
+
+    private void runQueue() {
+        List<Runnable> tasks = new ArrayList<>(queue);
+        queue.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static ParticipationChangedEvent participation(UUID outingId, ParticipationChangedEvent.Change change) {
+        return new ParticipationChangedEvent(UUID.randomUUID(), outingId, UUID.randomUUID(), "Alice", change);
+    }
+}
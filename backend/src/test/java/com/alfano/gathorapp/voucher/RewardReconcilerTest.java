@@ -0,0 +1,52 @@
+package com.alfano.gathorapp.voucher;
+
+import com.alfano.gathorapp.participation.ParticipationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link RewardReconciler}.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RewardReconciler Tests")
+class RewardReconcilerTest {
+
+    @Mock
+    private ParticipationRepository participationRepository;
+
+    @Mock
+    private RewardEngine rewardEngine;
+
+    @InjectMocks
+    private RewardReconciler reconciler;
+
+    @Test
+    @DisplayName("Should queue a backfill of every event with approvals in the lookback window")
+    void reconcile_QueuesRecentlyApprovedEvents() {
+        ReflectionTestUtils.setField(reconciler, "lookbackHours", 24L);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(participationRepository.findRewardedEventIdsApprovedSince(any())).thenReturn(List.of(first, second));
+
+        reconciler.reconcile();
+
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(participationRepository).findRewardedEventIdsApprovedSince(since.capture());
+        assertTrue(since.getValue().isBefore(LocalDateTime.now().minusHours(23)));
+        verify(rewardEngine).submitEvent(first);
+        verify(rewardEngine).submitEvent(second);
+    }
+}
@@ -0,0 +1,98 @@
+package com.alfano.gathorapp.voucher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VoucherCodeFilter and its BloomFilter.
+ */
+@DisplayName("VoucherCodeFilter Tests")
+class VoucherCodeFilterTest {
+
+    @Test
+    @DisplayName("Should let every plausible code through until the first rebuild")
+    void testMightExist_BeforeRebuild() {
+        VoucherCodeFilter filter = new VoucherCodeFilter(true, 1000, 0.01);
+
+        assertTrue(filter.mightExist(VoucherCodes.generate()));
+        assertTrue(filter.mightExist("VOUCHER-1A2B3C4D"));
+        assertFalse(filter.mightExist(""));
+    }
+
+    @Test
+    @DisplayName("Should know rebuilt and persisted codes and reject others")
+    void testMightExist_AfterRebuild() {
+        VoucherCodeFilter filter = new VoucherCodeFilter(true, 1000, 0.01);
+        String issued = VoucherCodes.generate();
+        String persisted = VoucherCodes.generate();
+
+        filter.rebuild(1, () -> Stream.of(issued));
+        new VoucherCodeListener(filter).onPersist(Voucher.builder().qrCode(persisted).build());
+
+        assertTrue(filter.mightExist(issued));
+        assertTrue(filter.mightExist(persisted));
+        assertFalse(filter.mightExist("VOUCHER-NEVER"));
+    }
+
+    @Test
+    @DisplayName("Should keep codes persisted while a rebuild runs")
+    void testRebuild_KeepsConcurrentCodes() {
+        VoucherCodeFilter filter = new VoucherCodeFilter(true, 1000, 0.01);
+        String concurrent = VoucherCodes.generate();
+
+        filter.rebuild(1, () -> Stream.of(VoucherCodes.generate()).peek(code -> filter.add(concurrent)));
+
+        assertTrue(filter.mightExist(concurrent));
+    }
+
+    @Test
+    @DisplayName("Should keep codes added after the rebuild starts but before the codes are queried")
+    void testRebuild_KeepsCodesAddedBeforeQuery() {
+        VoucherCodeFilter filter = new VoucherCodeFilter(true, 1000, 0.01);
+        filter.rebuild(0, Stream::empty);
+        String committed = VoucherCodes.generate();
+
+        filter.rebuild(1, () -> {
+            filter.add(committed);
+            return Stream.empty();
+        });
+
+        assertTrue(filter.mightExist(committed));
+    }
+
+    @Test
+    @DisplayName("Should only check the format when disabled")
+    void testDisabled() {
+        VoucherCodeFilter filter = new VoucherCodeFilter(false, 1000, 0.01);
+
+        filter.rebuild(0, Stream::empty);
+
+        assertTrue(filter.mightExist("VOUCHER-NEVER"));
+    }
+
+    @Test
+    @DisplayName("Should stay near the configured false positive rate")
+    void testBloomFilter_FalsePositiveRate() {
+        BloomFilter bloom = new BloomFilter(10_000, 0.01);
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String code = VoucherCodes.generate();
+            bloom.add(code);
+            added.add(code);
+        }
+
+        assertEquals(7, bloom.hashCount());
+        assertTrue(added.stream().allMatch(bloom::mightContain));
+        long falsePositives = Stream.generate(VoucherCodes::generate)
+                .limit(100_000)
+                .filter(bloom::mightContain)
+                .count();
+        assertTrue(falsePositives < 2_000, falsePositives + " false positives");
+    }
+}
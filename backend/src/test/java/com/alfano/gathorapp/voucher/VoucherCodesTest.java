@@ -0,0 +1,85 @@
+package com.alfano.gathorapp.voucher;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for VoucherCodes.
+ */
+@DisplayName("VoucherCodes Tests")
+class VoucherCodesTest {
+
+    private static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+
+    @Test
+    @DisplayName("Should generate distinct fixed-length Crockford Base32 codes")
+    void testGenerate_FixedLengthBase32() {
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            String code = VoucherCodes.generate();
+            assertEquals(VoucherCodes.LENGTH, code.length());
+            assertTrue(code.chars().allMatch(c -> ALPHABET.indexOf(c) >= 0), code);
+            assertTrue(VoucherCodes.isPlausible(code), code);
+            codes.add(code);
+        }
+        assertEquals(10_000, codes.size());
+    }
+
+    @Test
+    @DisplayName("Should reject every single-symbol substitution")
+    void testIsPlausible_DetectsSubstitution() {
+        String code = VoucherCodes.generate();
+
+        for (int i = 0; i < code.length(); i++) {
+            for (char symbol : ALPHABET.toCharArray()) {
+                if (symbol != code.charAt(i)) {
+                    String typo = code.substring(0, i) + symbol + code.substring(i + 1);
+                    assertFalse(VoucherCodes.isPlausible(typo), typo);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject most swapped neighbouring symbols")
+    void testIsPlausible_DetectsTransposition() {
+        int swaps = 0;
+        int detected = 0;
+        for (int n = 0; n < 200; n++) {
+            String code = VoucherCodes.generate();
+            for (int i = 0; i < code.length() - 1; i++) {
+                if (code.charAt(i) != code.charAt(i + 1)) {
+                    String swapped = code.substring(0, i) + code.charAt(i + 1) + code.charAt(i) + code.substring(i + 2);
+                    swaps++;
+                    if (!VoucherCodes.isPlausible(swapped)) {
+                        detected++;
+                    }
+                }
+            }
+        }
+        assertTrue(detected > swaps * 0.95, detected + " of " + swaps);
+    }
+
+    @Test
+    @DisplayName("Should read look-alike and lower-case symbols of typed codes")
+    void testNormalize_TypedCode() {
+        String code = VoucherCodes.generate();
+        String typed = code.toLowerCase().replace('0', 'o').replace('1', 'i');
+
+        assertEquals(code, VoucherCodes.normalize(typed));
+    }
+
+    @Test
+    @DisplayName("Should pass older codes through unchanged")
+    void testLegacyCodes() {
+        assertEquals("VOUCHER-1A2B3C4D", VoucherCodes.normalize("VOUCHER-1A2B3C4D"));
+        assertTrue(VoucherCodes.isPlausible("VOUCHER-1A2B3C4D"));
+        assertFalse(VoucherCodes.isPlausible(" "));
+        assertFalse(VoucherCodes.isPlausible(null));
+    }
+}
@@ -5,6 +5,9 @@ import com.alfano.gathorapp.event.Event;
 import com.alfano.gathorapp.event.EventRepository;
 import com.alfano.gathorapp.outing.Outing;
 import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.participation.Participation;
+import com.alfano.gathorapp.participation.ParticipationRepository;
+import com.alfano.gathorapp.participation.ParticipationStatus;
 import com.alfano.gathorapp.reward.Reward;
 import com.alfano.gathorapp.reward.RewardRepository;
 import com.alfano.gathorapp.user.Role;
@@ -16,13 +19,18 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -55,9 +63,18 @@ class VoucherControllerIntegrationTest {
         @Autowired
         private OutingRepository outingRepository;
 
+        @Autowired
+        private ParticipationRepository participationRepository;
+
         @Autowired
         private JwtTokenProvider jwtTokenProvider;
 
+        @Autowired
+        private VoucherService voucherService;
+
+        @Autowired
+        private TransactionTemplate transactionTemplate;
+
         @Autowired
         private com.alfano.gathorapp.testutils.TestDatabaseCleaner testDatabaseCleaner;
 
@@ -167,7 +184,7 @@ class VoucherControllerIntegrationTest {
                                 .qrCode("EXPIRED-VOUCHER")
                                 .user(premiumUser)
                                 .reward(testReward)
-                                .outing(testOuting)
+                                .outing(anotherOuting())
                                 .status(VoucherStatus.EXPIRED)
                                 .issuedAt(LocalDateTime.now().minusDays(70))
                                 .expiresAt(LocalDateTime.now().minusDays(10))
@@ -235,7 +252,7 @@ class VoucherControllerIntegrationTest {
                                 .qrCode("EXPIRED-VOUCHER")
                                 .user(premiumUser)
                                 .reward(testReward)
-                                .outing(testOuting)
+                                .outing(anotherOuting())
                                 .status(VoucherStatus.EXPIRED)
                                 .issuedAt(LocalDateTime.now().minusDays(70))
                                 .expiresAt(LocalDateTime.now().minusDays(10))
@@ -278,4 +295,207 @@ class VoucherControllerIntegrationTest {
                                 .header("Authorization", "Bearer " + businessToken))
                                 .andExpect(status().isNotFound());
         }
+
+        @Test
+        @DisplayName("POST /api/vouchers/redeem/{qrCode} - Should redeem a typed generated code and reject a mistyped one")
+        void redeemVoucher_GeneratedCode() throws Exception {
+                // Given - a voucher with a generated code
+                Voucher generated = voucherRepository.save(Voucher.builder()
+                                .user(premiumUser)
+                                .reward(testReward)
+                                .outing(anotherOuting())
+                                .build());
+                String code = generated.getQrCode();
+                char last = code.charAt(code.length() - 1);
+                String mistyped = code.substring(0, code.length() - 1) + (last == '0' ? '1' : '0');
+                assertEquals(VoucherCodes.LENGTH, code.length());
+
+                // When & Then
+                mockMvc.perform(post("/api/vouchers/redeem/" + mistyped)
+                                .header("Authorization", "Bearer " + businessToken))
+                                .andExpect(status().isNotFound());
+                mockMvc.perform(post("/api/vouchers/redeem/" + code.toLowerCase())
+                                .header("Authorization", "Bearer " + businessToken))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.qrCode", is(code)))
+                                .andExpect(jsonPath("$.status", is("REDEEMED")));
+        }
+
+        @Test
+        @DisplayName("Should allow only one voucher per user, reward and outing")
+        void voucher_UniquePerRewardAndOuting() {
+                assertTrue(voucherRepository.existsByUserIdAndRewardIdAndOutingId(
+                                premiumUser.getId(), testReward.getId(), testOuting.getId()));
+                assertFalse(voucherRepository.existsByUserIdAndRewardIdAndOutingId(
+                                businessUser.getId(), testReward.getId(), testOuting.getId()));
+
+                Voucher duplicate = Voucher.builder()
+                                .user(premiumUser)
+                                .reward(testReward)
+                                .outing(testOuting)
+                                .build();
+
+                assertThrows(DataIntegrityViolationException.class, () -> voucherRepository.saveAndFlush(duplicate));
+        }
+
+        @Test
+        @DisplayName("POST /api/rewards/event/{eventId}/evaluate - Should issue vouchers for a reward added later")
+        void reevaluateEvent_BackfillsNewReward() throws Exception {
+                // Given - two approved participants, then a reward that needs two
+                for (String email : new String[] { "first@example.com", "second@example.com" }) {
+                        User participant = userRepository.save(User.builder()
+                                        .name("Participant")
+                                        .email(email)
+                                        .passwordHash("hashedPassword")
+                                        .role(Role.USER)
+                                        .build());
+                        participationRepository.save(Participation.builder()
+                                        .user(participant)
+                                        .outing(testOuting)
+                                        .status(ParticipationStatus.APPROVED)
+                                        .build());
+                }
+                Reward smallReward = rewardRepository.save(Reward.builder()
+                                .title("Small Reward")
+                                .description("Reward for two participants")
+                                .requiredParticipants(2)
+                                .event(testOuting.getEvent())
+                                .business(businessUser)
+                                .build());
+
+                // When & Then
+                mockMvc.perform(post("/api/rewards/event/" + testOuting.getEvent().getId() + "/evaluate")
+                                .header("Authorization", "Bearer " + businessToken))
+                                .andExpect(status().isAccepted());
+
+                long deadline = System.currentTimeMillis() + 5000;
+                while (!voucherRepository.existsByUserIdAndRewardIdAndOutingId(
+                                premiumUser.getId(), smallReward.getId(), testOuting.getId())
+                                && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(20);
+                }
+                assertTrue(voucherRepository.existsByUserIdAndRewardIdAndOutingId(
+                                premiumUser.getId(), smallReward.getId(), testOuting.getId()));
+                assertEquals(2, voucherRepository.findByUserId(premiumUser.getId()).size());
+        }
+
+        @Test
+        @DisplayName("Should persist vouchers evaluated after another transaction has committed")
+        void backfillEvent_AfterCommit() {
+                // Given - two approved participants and a reward that needs two
+                for (String email : new String[] { "first@example.com", "second@example.com" }) {
+                        User participant = userRepository.save(User.builder()
+                                        .name("Participant")
+                                        .email(email)
+                                        .passwordHash("hashedPassword")
+                                        .role(Role.USER)
+                                        .build());
+                        participationRepository.save(Participation.builder()
+                                        .user(participant)
+                                        .outing(testOuting)
+                                        .status(ParticipationStatus.APPROVED)
+                                        .build());
+                }
+                Reward smallReward = rewardRepository.save(Reward.builder()
+                                .title("Small Reward")
+                                .description("Reward for two participants")
+                                .requiredParticipants(2)
+                                .event(testOuting.getEvent())
+                                .business(businessUser)
+                                .build());
+
+                // When - evaluated the way the reward engine does when its queue is full
+                transactionTemplate.executeWithoutResult(status ->
+                                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                                        @Override
+                                        public void afterCommit() {
+                                                voucherService.backfillEvent(testOuting.getEvent().getId());
+                                        }
+                                }));
+
+                // Then
+                assertTrue(voucherRepository.existsByUserIdAndRewardIdAndOutingId(
+                                premiumUser.getId(), smallReward.getId(), testOuting.getId()));
+        }
+
+        @Test
+        @DisplayName("POST /api/rewards/event/{eventId}/evaluate - Should be forbidden for other users")
+        void reevaluateEvent_NotOwner() throws Exception {
+                mockMvc.perform(post("/api/rewards/event/" + testOuting.getEvent().getId() + "/evaluate")
+                                .header("Authorization", "Bearer " + premiumToken))
+                                .andExpect(status().isForbidden());
+        }
+
+        @Test
+        @DisplayName("POST /api/vouchers/redeem - Should report the outcome of each code in a batch")
+        void redeemVouchers_Batch() throws Exception {
+                // When & Then
+                mockMvc.perform(post("/api/vouchers/redeem")
+                                .header("Authorization", "Bearer " + businessToken)
+                                .contentType("application/json")
+                                .content("{\"qrCodes\": [\"" + testVoucher.getQrCode() + "\", \"UNKNOWN\", \""
+                                                + testVoucher.getQrCode() + "\"]}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.redeemed", is(1)))
+                                .andExpect(jsonPath("$.results[0].outcome", is("REDEEMED")))
+                                .andExpect(jsonPath("$.results[0].voucherId", is(testVoucher.getId().toString())))
+                                .andExpect(jsonPath("$.results[1].outcome", is("NOT_FOUND")))
+                                .andExpect(jsonPath("$.results[2].outcome", is("ALREADY_REDEEMED")));
+
+                Voucher redeemed = voucherRepository.findById(testVoucher.getId()).orElseThrow();
+                assertEquals(VoucherStatus.REDEEMED, redeemed.getStatus());
+                assertNotNull(redeemed.getRedeemedAt());
+        }
+
+        @Test
+        @DisplayName("POST /api/vouchers/redeem - Should not redeem vouchers of another business")
+        void redeemVouchers_OtherBusiness() throws Exception {
+                User otherBusiness = userRepository.save(User.builder()
+                                .name("Other Business")
+                                .email("other-business@example.com")
+                                .passwordHash("hashedPassword")
+                                .role(Role.BUSINESS)
+                                .build());
+                String otherToken = jwtTokenProvider.generateAccessToken(
+                                otherBusiness.getId(), otherBusiness.getEmail(), otherBusiness.getRole().name());
+
+                mockMvc.perform(post("/api/vouchers/redeem")
+                                .header("Authorization", "Bearer " + otherToken)
+                                .contentType("application/json")
+                                .content("{\"qrCodes\": [\"" + testVoucher.getQrCode() + "\"]}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.redeemed", is(0)))
+                                .andExpect(jsonPath("$.results[0].outcome", is("FORBIDDEN")))
+                                .andExpect(jsonPath("$.results[0].voucherId", nullValue()));
+
+                assertEquals(VoucherStatus.ACTIVE, voucherRepository.findById(testVoucher.getId()).orElseThrow().getStatus());
+        }
+
+        @Test
+        @DisplayName("POST /api/vouchers/redeem - Should reject an empty batch")
+        void redeemVouchers_Empty() throws Exception {
+                mockMvc.perform(post("/api/vouchers/redeem")
+                                .header("Authorization", "Bearer " + businessToken)
+                                .contentType("application/json")
+                                .content("{\"qrCodes\": []}"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        /**
+         * A second outing of the same organizer and event, for additional
+         * vouchers of the test reward.
+         */
+        private Outing anotherOuting() {
+                return outingRepository.save(Outing.builder()
+                                .title("Another Outing")
+                                .description("Test Description")
+                                .location("Test Location")
+                                .latitude(40.3515)
+                                .longitude(18.1750)
+                                .outingDate(LocalDateTime.now().plusDays(14))
+                                .maxParticipants(10)
+                                .organizer(premiumUser)
+                                .event(testOuting.getEvent())
+                                .build());
+        }
 }
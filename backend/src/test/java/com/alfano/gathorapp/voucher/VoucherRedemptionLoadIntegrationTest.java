@@ -0,0 +1,169 @@
+package com.alfano.gathorapp.voucher;
+
+import com.alfano.gathorapp.event.Event;
+import com.alfano.gathorapp.event.EventRepository;
+import com.alfano.gathorapp.outing.Outing;
+import com.alfano.gathorapp.outing.OutingRepository;
+import com.alfano.gathorapp.reward.Reward;
+import com.alfano.gathorapp.reward.RewardRepository;
+import com.alfano.gathorapp.testutils.TestDatabaseCleaner;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+import com.alfano.gathorapp.user.UserRepository;
+import com.alfano.gathorapp.voucher.dto.BatchRedeemResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.alfano.gathorapp.testutils.TestUsers.user;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test of voucher redemption: many scanners redeem the same codes at
+ * the same time, singly and in batches, and every voucher must be redeemed
+ * exactly once.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext
+@DisplayName("Voucher Redemption Load Integration Tests")
+class VoucherRedemptionLoadIntegrationTest {
+
+    private static final int VOUCHERS = 300;
+    private static final int SCANNERS = 12;
+
+    @Autowired
+    private VoucherService voucherService;
+
+    @Autowired
+    private VoucherRepository voucherRepository;
+
+    @Autowired
+    private RewardRepository rewardRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private OutingRepository outingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestDatabaseCleaner testDatabaseCleaner;
+
+    private User business;
+    private final List<String> codes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        testDatabaseCleaner.truncateAll();
+        business = userRepository.save(user("business@example.com", Role.BUSINESS));
+        User premium = userRepository.save(user("premium@example.com", Role.PREMIUM));
+        Event event = eventRepository.save(Event.builder()
+                .title("Event")
+                .description("Event description")
+                .location("Location")
+                .latitude(45.0)
+                .longitude(9.0)
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .creator(business)
+                .build());
+        Outing outing = outingRepository.save(Outing.builder()
+                .title("Outing")
+                .description("Outing description")
+                .location("Location")
+                .latitude(45.0)
+                .longitude(9.0)
+                .outingDate(LocalDateTime.now().plusDays(7))
+                .maxParticipants(10)
+                .organizer(premium)
+                .event(event)
+                .build());
+
+        // One reward per voucher, as vouchers are unique per reward and outing
+        List<Voucher> vouchers = new ArrayList<>();
+        for (int i = 0; i < VOUCHERS; i++) {
+            Reward reward = rewardRepository.save(Reward.builder()
+                    .title("Reward " + i)
+                    .description("Reward description")
+                    .requiredParticipants(1)
+                    .event(event)
+                    .business(business)
+                    .build());
+            vouchers.add(Voucher.builder()
+                    .qrCode("LOAD-" + i)
+                    .user(premium)
+                    .reward(reward)
+                    .outing(outing)
+                    .build());
+        }
+        voucherRepository.saveAll(vouchers);
+        vouchers.forEach(voucher -> codes.add(voucher.getQrCode()));
+    }
+
+    @Test
+    @DisplayName("Should redeem every voucher exactly once under concurrent scans")
+    void concurrentScans_RedeemEachVoucherOnce() throws Exception {
+        AtomicInteger redeemed = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService scanners = Executors.newFixedThreadPool(SCANNERS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int scanner = 0; scanner < SCANNERS; scanner++) {
+            boolean offline = scanner % 3 == 0;
+            List<String> order = new ArrayList<>(codes);
+            Collections.shuffle(order);
+            futures.add(scanners.submit(() -> {
+                start.await();
+                if (offline) {
+                    // Offline scanners sync their scans in batches of 50
+                    for (int i = 0; i < order.size(); i += 50) {
+                        BatchRedeemResponse response = voucherService.redeemVouchers(
+                                order.subList(i, Math.min(i + 50, order.size())), business.getId());
+                        redeemed.addAndGet(response.getRedeemed());
+                        rejected.addAndGet(response.getResults().size() - response.getRedeemed());
+                    }
+                } else {
+                    for (String code : order) {
+                        try {
+                            voucherService.redeemVoucher(code, business.getId());
+                            redeemed.incrementAndGet();
+                        } catch (VoucherRedemptionException e) {
+                            rejected.incrementAndGet();
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        scanners.shutdown();
+
+        assertEquals(VOUCHERS, redeemed.get());
+        assertEquals(VOUCHERS * (SCANNERS - 1), rejected.get());
+        assertTrue(voucherRepository.findAll().stream()
+                .allMatch(voucher -> voucher.getStatus() == VoucherStatus.REDEEMED && voucher.getRedeemedAt() != null));
+    }
+}
@@ -1,5 +1,6 @@
 package com.alfano.gathorapp.voucher;
 
+import com.alfano.gathorapp.exception.ResourceNotFoundException;
 import com.alfano.gathorapp.outing.Outing;
 import com.alfano.gathorapp.outing.OutingRepository;
 import com.alfano.gathorapp.participation.ParticipationRepository;
@@ -9,21 +10,30 @@ import com.alfano.gathorapp.reward.RewardRepository;
 import com.alfano.gathorapp.user.Role;
 import com.alfano.gathorapp.user.User;
 import com.alfano.gathorapp.user.UserRepository;
+import com.alfano.gathorapp.voucher.dto.BatchRedeemResponse;
 import com.alfano.gathorapp.voucher.dto.VoucherResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -56,6 +66,15 @@ class VoucherServiceTest {
     @Mock
     private VoucherMapper voucherMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private VoucherCodeFilter codeFilter;
+
     @InjectMocks
     private VoucherService voucherService;
 
@@ -201,9 +220,10 @@ class VoucherServiceTest {
     void testRedeemVoucher_Success() {
         // Given
         String qrCode = "VOUCHER-TEST123";
+        when(codeFilter.mightExist(qrCode)).thenReturn(true);
 
-        when(voucherRepository.findByQrCode(qrCode)).thenReturn(Optional.of(voucher));
-        when(voucherRepository.save(any(Voucher.class))).thenReturn(voucher);
+        when(voucherRepository.redeemIfActive(eq(qrCode), eq(businessUserId), any(LocalDateTime.class))).thenReturn(1);
+        when(voucherRepository.findWithDetailsByQrCode(qrCode)).thenReturn(Optional.of(voucher));
 
         VoucherResponse response = new VoucherResponse();
         response.setStatus(VoucherStatus.REDEEMED);
@@ -216,16 +236,21 @@ class VoucherServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(VoucherStatus.REDEEMED, result.getStatus());
-        verify(voucherRepository, times(1)).save(any(Voucher.class));
+        verify(voucherRepository, never()).save(any(Voucher.class));
+        verify(voucherRepository, never()).findRedemptionStates(any());
+        verify(eventPublisher).publishEvent(new VoucherRedeemedEvent(voucher.getId(), reward.getId(), businessUserId));
     }
 
     @Test
     void testRedeemVoucher_WrongBusiness_ThrowsException() {
         // Given
         String qrCode = "VOUCHER-TEST123";
+        when(codeFilter.mightExist(qrCode)).thenReturn(true);
         UUID wrongBusinessId = UUID.randomUUID();
 
-        when(voucherRepository.findByQrCode(qrCode)).thenReturn(Optional.of(voucher));
+        when(voucherRepository.redeemIfActive(eq(qrCode), eq(wrongBusinessId), any(LocalDateTime.class))).thenReturn(0);
+        when(voucherRepository.findRedemptionStates(List.of(qrCode)))
+                .thenReturn(List.of(state(qrCode, VoucherStatus.ACTIVE, LocalDateTime.now().plusDays(1))));
 
         // When/Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -233,15 +258,35 @@ class VoucherServiceTest {
         });
 
         assertTrue(exception.getMessage().contains("Unauthorized"));
-        verify(voucherRepository, never()).save(any(Voucher.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testRedeemVoucher_AlreadyRedeemed_ThrowsException() {
+        // Given
+        String qrCode = "VOUCHER-TEST123";
+        when(codeFilter.mightExist(qrCode)).thenReturn(true);
+
+        when(voucherRepository.redeemIfActive(eq(qrCode), eq(businessUserId), any(LocalDateTime.class))).thenReturn(0);
+        when(voucherRepository.findRedemptionStates(List.of(qrCode)))
+                .thenReturn(List.of(state(qrCode, VoucherStatus.REDEEMED, LocalDateTime.now().plusDays(1))));
+
+        // When/Then
+        VoucherRedemptionException exception = assertThrows(VoucherRedemptionException.class, () -> {
+            voucherService.redeemVoucher(qrCode, businessUserId);
+        });
+
+        assertTrue(exception.getMessage().contains("REDEEMED"));
     }
 
     @Test
     void testRedeemVoucher_NotFound_ThrowsException() {
         // Given
         String qrCode = "INVALID-QR";
+        when(codeFilter.mightExist(qrCode)).thenReturn(true);
 
-        when(voucherRepository.findByQrCode(qrCode)).thenReturn(Optional.empty());
+        when(voucherRepository.redeemIfActive(eq(qrCode), eq(businessUserId), any(LocalDateTime.class))).thenReturn(0);
+        when(voucherRepository.findRedemptionStates(List.of(qrCode))).thenReturn(List.of());
 
         // When/Then
         RuntimeException exception = assertThrows(RuntimeException.class, () -> {
@@ -251,6 +296,60 @@ class VoucherServiceTest {
         assertTrue(exception.getMessage().contains("not found"));
     }
 
+    @Test
+    void testRedeemVoucher_RejectedByCodeFilter_ThrowsWithoutQuery() {
+        // Given
+        String qrCode = "7M2QK9XH4CBWNP3RA";
+
+        when(codeFilter.mightExist(qrCode)).thenReturn(false);
+
+        // When/Then
+        assertThrows(ResourceNotFoundException.class, () -> voucherService.redeemVoucher(qrCode, businessUserId));
+        verifyNoInteractions(voucherRepository, eventPublisher);
+    }
+
+    @Test
+    void testRedeemVoucher_NormalizesTypedCode() {
+        // Given
+        String code = VoucherCodes.generate();
+        String typed = code.toLowerCase().replace('0', 'o').replace('1', 'l');
+
+        when(codeFilter.mightExist(code)).thenReturn(true);
+        when(voucherRepository.redeemIfActive(eq(code), eq(businessUserId), any(LocalDateTime.class))).thenReturn(1);
+        when(voucherRepository.findWithDetailsByQrCode(code)).thenReturn(Optional.of(voucher));
+
+        // When
+        voucherService.redeemVoucher(typed, businessUserId);
+
+        // Then
+        verify(voucherRepository).redeemIfActive(eq(code), eq(businessUserId), any(LocalDateTime.class));
+    }
+
+    @Test
+    void testRedeemVouchers_ReportsEachCode() {
+        // Given
+        List<String> codes = List.of("CODE-C", "CODE-A", "CODE-E", "CODE-B", "CODE-D");
+        when(codeFilter.mightExist(anyString())).thenAnswer(invocation -> !"CODE-E".equals(invocation.getArgument(0)));
+        VoucherRepository.RedemptionState redeemable = state("CODE-A", VoucherStatus.ACTIVE, LocalDateTime.now().plusDays(1));
+        when(jdbcTemplate.batchUpdate(eq(VoucherService.REDEEM_SQL), anyList())).thenReturn(new int[] { 1, 0, 0, 0 });
+        when(voucherRepository.findRedemptionStates(List.of("CODE-A", "CODE-B", "CODE-C", "CODE-D"))).thenReturn(List.of(
+                redeemable,
+                state("CODE-B", VoucherStatus.REDEEMED, LocalDateTime.now().plusDays(1)),
+                state("CODE-D", VoucherStatus.ACTIVE, LocalDateTime.now().minusDays(1))));
+
+        // When
+        BatchRedeemResponse response = voucherService.redeemVouchers(codes, businessUserId);
+
+        // Then
+        assertEquals(1, response.getRedeemed());
+        // The batch runs in code order without the filtered code, the results come back in request order
+        assertEquals(List.of(RedemptionOutcome.NOT_FOUND, RedemptionOutcome.REDEEMED, RedemptionOutcome.NOT_FOUND,
+                        RedemptionOutcome.ALREADY_REDEEMED, RedemptionOutcome.EXPIRED),
+                response.getResults().stream().map(BatchRedeemResponse.Result::getOutcome).toList());
+        verify(eventPublisher).publishEvent(new VoucherRedeemedEvent(redeemable.getId(), reward.getId(), businessUserId));
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+    }
+
     @Test
     void testExpireOldVouchers_UpdatesExpiredVouchers() {
         // Given
@@ -283,7 +382,8 @@ class VoucherServiceTest {
         when(rewardRepository.findByEventId(event.getId())).thenReturn(List.of(reward));
         when(participationRepository.countByOutingAndStatus(outing, ParticipationStatus.APPROVED))
                 .thenReturn(5L); // Meets requirement
-        when(voucherRepository.findByUserId(userId)).thenReturn(List.of());
+        when(voucherRepository.existsByUserIdAndRewardIdAndOutingId(userId, reward.getId(), outingId))
+                .thenReturn(false);
         when(voucherRepository.save(any(Voucher.class))).thenReturn(voucher);
 
         // When
@@ -293,6 +393,82 @@ class VoucherServiceTest {
         verify(voucherRepository, times(1)).save(any(Voucher.class));
     }
 
+    @Test
+    void testCheckAndIssueVoucher_LoadedEntities_SkipsLookups() {
+        // Given
+        when(rewardRepository.findByEventId(event.getId())).thenReturn(List.of(reward));
+        when(participationRepository.countByOutingAndStatus(outing, ParticipationStatus.APPROVED))
+                .thenReturn(5L);
+        when(voucherRepository.existsByUserIdAndRewardIdAndOutingId(userId, reward.getId(), outing.getId()))
+                .thenReturn(false);
+
+        // When
+        voucherService.checkAndIssueVoucher(outing, user);
+
+        // Then
+        verify(voucherRepository).save(argThat(v -> v.getUser() == user && v.getOuting() == outing));
+        verify(outingRepository, never()).findById(any());
+        verify(userRepository, never()).findById(any());
+        verify(voucherRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    void testEvaluateOuting_DeletedOuting_DoesNothing() {
+        // Given
+        UUID outingId = outing.getId();
+        when(outingRepository.findById(outingId)).thenReturn(Optional.empty());
+
+        // When
+        voucherService.evaluateOuting(outingId);
+
+        // Then
+        verifyNoInteractions(rewardRepository);
+        verify(voucherRepository, never()).save(any(Voucher.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testBackfillEvent_IssuesOnlyMissingVouchers() {
+        // Given
+        Reward bigReward = new Reward();
+        bigReward.setId(UUID.randomUUID());
+        bigReward.setRequiredParticipants(8);
+        UUID otherOutingId = UUID.randomUUID();
+        UUID otherOrganizerId = UUID.randomUUID();
+
+        when(rewardRepository.findByEventId(event.getId())).thenReturn(List.of(reward, bigReward));
+        when(participationRepository.countApprovedPerPremiumOuting(event.getId())).thenReturn(List.of(
+                approvedCount(outing.getId(), userId, 10),
+                approvedCount(otherOutingId, otherOrganizerId, 6)));
+        // The first outing already has its voucher for the smaller reward
+        VoucherRepository.IssuedVoucher issued = mock(VoucherRepository.IssuedVoucher.class);
+        when(issued.getOutingId()).thenReturn(outing.getId());
+        when(issued.getRewardId()).thenReturn(reward.getId());
+        when(voucherRepository.findIssuedForEvent(event.getId())).thenReturn(List.of(issued));
+        when(outingRepository.getReferenceById(any())).thenAnswer(invocation -> {
+            Outing reference = new Outing();
+            reference.setId(invocation.getArgument(0));
+            return reference;
+        });
+        when(userRepository.getReferenceById(any())).thenAnswer(invocation -> {
+            User reference = new User();
+            reference.setId(invocation.getArgument(0));
+            return reference;
+        });
+
+        // When
+        int count = voucherService.backfillEvent(event.getId());
+
+        // Then
+        assertEquals(2, count);
+        ArgumentCaptor<List<Voucher>> saved = ArgumentCaptor.forClass(List.class);
+        verify(voucherRepository).saveAll(saved.capture());
+        assertEquals(Set.of(outing.getId() + ":" + bigReward.getId(), otherOutingId + ":" + reward.getId()),
+                saved.getValue().stream()
+                        .map(v -> v.getOuting().getId() + ":" + v.getReward().getId())
+                        .collect(Collectors.toSet()));
+    }
+
     @Test
     void testCheckAndIssueVoucher_InsufficientParticipants_NoVoucherCreated() {
         // Given
@@ -389,7 +565,8 @@ class VoucherServiceTest {
         when(rewardRepository.findByEventId(event.getId())).thenReturn(List.of(reward));
         when(participationRepository.countByOutingAndStatus(outing, ParticipationStatus.APPROVED))
                 .thenReturn(5L);
-        when(voucherRepository.findByUserId(userId)).thenReturn(List.of(voucher)); // Existing voucher
+        when(voucherRepository.existsByUserIdAndRewardIdAndOutingId(userId, reward.getId(), outingId))
+                .thenReturn(true); // Existing voucher
 
         // When
         voucherService.checkAndIssueVoucher(outingId, userId);
@@ -452,4 +629,58 @@ class VoucherServiceTest {
 
         assertTrue(exception.getMessage().contains("User not found"));
     }
+
+    private static ParticipationRepository.ApprovedCount approvedCount(UUID outingId, UUID organizerId, long approved) {
+        return new ParticipationRepository.ApprovedCount() {
+            @Override
+            public UUID getOutingId() {
+                return outingId;
+            }
+
+            @Override
+            public UUID getOrganizerId() {
+                return organizerId;
+            }
+
+            @Override
+            public long getApproved() {
+                return approved;
+            }
+        };
+    }
+
+    private VoucherRepository.RedemptionState state(String qrCode, VoucherStatus status, LocalDateTime expiresAt) {
+        UUID id = UUID.randomUUID();
+        return new VoucherRepository.RedemptionState() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public String getQrCode() {
+                return qrCode;
+            }
+
+            @Override
+            public UUID getRewardId() {
+                return reward.getId();
+            }
+
+            @Override
+            public UUID getBusinessId() {
+                return businessUserId;
+            }
+
+            @Override
+            public VoucherStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
 }
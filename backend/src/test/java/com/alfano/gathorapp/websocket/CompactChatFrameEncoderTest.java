@@ -0,0 +1,221 @@
+package com.alfano.gathorapp.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for CompactChatFrameEncoder.
+ */
+@DisplayName("CompactChatFrameEncoder Tests")
+class CompactChatFrameEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final MessageHandler handler = mock(MessageHandler.class);
+    private CompactChatFrameEncoder encoder;
+    private UUID chatId;
+    private UUID aliceId;
+    private UUID bobId;
+
+    @BeforeEach
+    void setUp() {
+        encoder = new CompactChatFrameEncoder(objectMapper, true, 2);
+        chatId = UUID.randomUUID();
+        aliceId = UUID.randomUUID();
+        bobId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should define a sender number on first use and reference it afterwards")
+    void compactSession_UsesSenderDictionary() throws Exception {
+        connect("s1", CompactChatFrameEncoder.COMPACT);
+
+        Message<?> first = encoder.preSend(frame("s1", chatMessage(aliceId, "Alice", "Hello")), channel);
+        JsonNode json = body(first);
+        assertEquals("Hello", json.get("m").asText());
+        assertEquals(aliceId.toString(), json.get("u").asText());
+        assertEquals("Alice", json.get("n").asText());
+        assertEquals(0, json.get("s").asInt());
+        assertFalse(json.has("chatId"));
+        assertEquals(CompactChatFrameEncoder.COMPACT, SimpMessageHeaderAccessor.wrap(first)
+                .getFirstNativeHeader(CompactChatFrameEncoder.FORMAT_HEADER));
+
+        encoder.afterMessageHandled(first, channel, handler, null);
+
+        JsonNode second = body(encoder.preSend(frame("s1", chatMessage(aliceId, "Alice", "Again")), channel));
+        assertEquals(0, second.get("s").asInt());
+        assertFalse(second.has("u"));
+        assertFalse(second.has("n"));
+    }
+
+    @Test
+    @DisplayName("Should keep defining a sender until a defining frame is handed to the session")
+    void definition_RepeatedUntilHandled() throws Exception {
+        connect("s1", CompactChatFrameEncoder.COMPACT);
+        Message<?> dropped = encoder.preSend(frame("s1", chatMessage(aliceId, "Alice", "a")), channel);
+        Message<?> failed = encoder.preSend(frame("s1", chatMessage(aliceId, "Alice", "b")), channel);
+        encoder.afterMessageHandled(failed, channel, handler, new IllegalStateException("closed"));
+
+        JsonNode json = body(encoder.preSend(frame("s1", chatMessage(aliceId, "Alice", "c")), channel));
+
+        assertEquals(0, body(dropped).get("s").asInt());
+        assertEquals(0, json.get("s").asInt());
+        assertEquals(aliceId.toString(), json.get("u").asText());
+        assertEquals("Alice", json.get("n").asText());
+    }
+
+    @Test
+    @DisplayName("Should send senders inline once the dictionary is full")
+    void fullDictionary_SendsInline() throws Exception {
+        connect("s1", CompactChatFrameEncoder.COMPACT);
+        encoder.preSend(frame("s1", chatMessage(aliceId, "Alice", "a")), channel);
+        encoder.preSend(frame("s1", chatMessage(bobId, "Bob", "b")), channel);
+
+        UUID carolId = UUID.randomUUID();
+        JsonNode json = body(encoder.preSend(frame("s1", chatMessage(carolId, "Carol", "c")), channel));
+
+        assertEquals(carolId.toString(), json.get("u").asText());
+        assertFalse(json.has("s"));
+    }
+
+    @Test
+    @DisplayName("Should keep separate dictionaries per session")
+    void dictionaries_PerSession() throws Exception {
+        connect("s1", CompactChatFrameEncoder.COMPACT);
+        connect("s2", CompactChatFrameEncoder.COMPACT);
+        encoder.preSend(frame("s1", chatMessage(aliceId, "Alice", "a")), channel);
+
+        JsonNode json = body(encoder.preSend(frame("s2", chatMessage(aliceId, "Alice", "a")), channel));
+
+        assertEquals("Alice", json.get("n").asText());
+    }
+
+    @Test
+    @DisplayName("Should keep separate dictionaries per subscription")
+    void dictionaries_PerSubscription() throws Exception {
+        connect("s1", CompactChatFrameEncoder.COMPACT);
+        Message<?> first = encoder.preSend(frame("s1", chatMessage(aliceId, "Alice", "a")), channel);
+        encoder.afterMessageHandled(first, channel, handler, null);
+
+        JsonNode json = body(encoder.preSend(frame("s1", "sub-2", "/topic/chat/" + chatId,
+                chatMessage(aliceId, "Alice", "b")), channel));
+
+        assertEquals("Alice", json.get("n").asText());
+    }
+
+    @Test
+    @DisplayName("Should forget a subscription's dictionary on unsubscribe")
+    void unsubscribe_ForgetsDictionary() throws Exception {
+        connect("s1", CompactChatFrameEncoder.COMPACT);
+        Message<?> first = encoder.preSend(frame("s1", chatMessage(aliceId, "Alice", "a")), channel);
+        encoder.afterMessageHandled(first, channel, handler, null);
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId("s1");
+        accessor.setSubscriptionId("sub-1");
+        encoder.onUnsubscribe(new SessionUnsubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+
+        JsonNode json = body(encoder.preSend(frame("s1", chatMessage(aliceId, "Alice", "b")), channel));
+        assertEquals("Alice", json.get("n").asText());
+    }
+
+    @Test
+    @DisplayName("Should ignore the format header unless compact frames are enabled")
+    void disabled_Unchanged() {
+        encoder = new CompactChatFrameEncoder(objectMapper, false, 2);
+        connect("s1", CompactChatFrameEncoder.COMPACT);
+        Message<byte[]> message = frame("s1", chatMessage(aliceId, "Alice", "Hello"));
+
+        assertSame(message, encoder.preSend(message, channel));
+    }
+
+    @Test
+    @DisplayName("Should leave frames unchanged for sessions that did not opt in")
+    void regularSession_Unchanged() {
+        connect("s1", null);
+        Message<byte[]> message = frame("s1", chatMessage(aliceId, "Alice", "Hello"));
+
+        assertSame(message, encoder.preSend(message, channel));
+    }
+
+    @Test
+    @DisplayName("Should leave non-chat destinations unchanged")
+    void otherDestination_Unchanged() {
+        connect("s1", CompactChatFrameEncoder.COMPACT);
+        Message<byte[]> message = frame("s1", "/topic/chat/" + chatId + "/typing",
+                "{\"chatId\":\"" + chatId + "\",\"users\":[]}");
+
+        assertSame(message, encoder.preSend(message, channel));
+    }
+
+    @Test
+    @DisplayName("Should forget the session on disconnect")
+    void disconnect_ForgetsSession() {
+        connect("s1", CompactChatFrameEncoder.COMPACT);
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+        accessor.setSessionId("s1");
+        encoder.onDisconnect(new SessionDisconnectEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), "s1", CloseStatus.NORMAL));
+
+        Message<byte[]> message = frame("s1", chatMessage(aliceId, "Alice", "Hello"));
+        assertSame(message, encoder.preSend(message, channel));
+    }
+
+    private void connect(String sessionId, String format) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        if (format != null) {
+            accessor.setNativeHeader(CompactChatFrameEncoder.FORMAT_HEADER, format);
+        }
+        encoder.onConnect(new SessionConnectEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private String chatMessage(UUID senderId, String senderName, String content) {
+        return "{\"id\":\"" + UUID.randomUUID() + "\",\"chatId\":\"" + chatId
+                + "\",\"sender\":{\"id\":\"" + senderId + "\",\"name\":\"" + senderName
+                + "\"},\"content\":\"" + content + "\",\"timestamp\":\"2025-01-01T10:00:00\"}";
+    }
+
+    private Message<byte[]> frame(String sessionId, String json) {
+        return frame(sessionId, "/topic/chat/" + chatId, json);
+    }
+
+    private static Message<byte[]> frame(String sessionId, String destination, String json) {
+        return frame(sessionId, "sub-1", destination, json);
+    }
+
+    private static Message<byte[]> frame(String sessionId, String subscriptionId, String destination, String json) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    private JsonNode body(Message<?> message) throws Exception {
+        assertNotNull(message);
+        return objectMapper.readTree((byte[]) message.getPayload());
+    }
+}
@@ -0,0 +1,232 @@
+package com.alfano.gathorapp.websocket;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OutboundBackpressure.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboundBackpressure Tests")
+class OutboundBackpressureTest {
+
+    private static final long SOFT_LIMIT = 100;
+    private static final long EVICT_AFTER = 1000;
+
+    @Mock
+    private Clock clock;
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession rawSession;
+
+    @Mock
+    private MessageChannel channel;
+
+    @Mock
+    private MessageHandler messageHandler;
+
+    private MeterRegistry meterRegistry;
+    private OutboundBackpressure backpressure;
+    private WebSocketSession session;
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final String chatTopic = "/topic/chat/" + UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        lenient().when(clock.millis()).thenAnswer(invocation -> now.get());
+        lenient().when(rawSession.getId()).thenReturn("s1");
+        meterRegistry = new SimpleMeterRegistry();
+        backpressure = new OutboundBackpressure(meterRegistry, clock, SOFT_LIMIT, EVICT_AFTER);
+
+        backpressure.decorate(handler).afterConnectionEstablished(rawSession);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(captor.capture());
+        session = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("Should count bytes from publish until written to the socket")
+    void bufferedBytes_TrackedUntilWritten() throws Exception {
+        Message<?> first = backpressure.preSend(frame("s1", chatTopic, 40), channel);
+        Message<?> second = backpressure.preSend(frame("s1", chatTopic, 30), channel);
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals(70, backpressure.bufferedBytes("s1"));
+        assertEquals(70, meterRegistry.get("websocket.session.buffered.bytes.max").gauge().value());
+
+        write(first);
+        assertEquals(30, backpressure.bufferedBytes("s1"));
+
+        write(second);
+        assertEquals(0, backpressure.bufferedBytes("s1"));
+        verify(rawSession, times(2)).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("Should not count writes that did not come through the channel")
+    void uncountedWrite_LeavesBufferedBytes() throws Exception {
+        backpressure.preSend(frame("s1", chatTopic, 40), channel);
+
+        session.sendMessage(new TextMessage("\n"));
+
+        assertEquals(40, backpressure.bufferedBytes("s1"));
+    }
+
+    @Test
+    @DisplayName("Should release frames that were not queued")
+    void notSent_Released() {
+        Message<?> rejected = backpressure.preSend(frame("s1", chatTopic, 40), channel);
+        Message<?> dropped = backpressure.preSend(frame("s1", chatTopic, 30), channel);
+
+        backpressure.afterSendCompletion(rejected, channel, false, new IllegalStateException("rejected"));
+        backpressure.afterSendCompletion(dropped, channel, false, null);
+        backpressure.afterSendCompletion(dropped, channel, false, null);
+
+        assertEquals(0, backpressure.bufferedBytes("s1"));
+    }
+
+    @Test
+    @DisplayName("Should release a frame the handler failed on")
+    void handlerFailed_Released() {
+        Message<?> message = backpressure.preSend(frame("s1", chatTopic, 40), channel);
+        backpressure.afterSendCompletion(message, channel, true, null);
+
+        backpressure.beforeHandle(message, channel, messageHandler);
+        backpressure.afterMessageHandled(message, channel, messageHandler, new IllegalStateException("closed"));
+
+        assertEquals(0, backpressure.bufferedBytes("s1"));
+    }
+
+    @Test
+    @DisplayName("Should release a buffered frame when another write flushes it")
+    void bufferedFrame_ReleasedWhenFlushed() throws Exception {
+        Message<?> buffered = backpressure.preSend(frame("s1", chatTopic, 40), channel);
+        Message<?> next = backpressure.preSend(frame("s1", chatTopic, 30), channel);
+
+        // Handled without a write: left in the session's send buffer
+        backpressure.beforeHandle(buffered, channel, messageHandler);
+        backpressure.afterMessageHandled(buffered, channel, messageHandler, null);
+        assertEquals(70, backpressure.bufferedBytes("s1"));
+
+        // The next frame's thread flushes both
+        backpressure.beforeHandle(next, channel, messageHandler);
+        session.sendMessage(new TextMessage("x"));
+        session.sendMessage(new TextMessage("x"));
+        backpressure.afterMessageHandled(next, channel, messageHandler, null);
+
+        assertEquals(0, backpressure.bufferedBytes("s1"));
+    }
+
+    @Test
+    @DisplayName("Should drop typing frames to a session above the soft limit")
+    void typingDropped_AboveSoftLimit() {
+        backpressure.preSend(frame("s1", chatTopic, 150), channel);
+
+        assertNull(backpressure.preSend(frame("s1", chatTopic + "/typing", 10), channel));
+        assertNotNull(backpressure.preSend(frame("s1", chatTopic, 10), channel));
+        assertEquals(160, backpressure.bufferedBytes("s1"));
+        assertEquals(1.0, meterRegistry.get("websocket.outbound.dropped").tag("type", "typing").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep typing frames while under the soft limit")
+    void typingKept_UnderSoftLimit() {
+        backpressure.preSend(frame("s1", chatTopic, 50), channel);
+
+        assertNotNull(backpressure.preSend(frame("s1", chatTopic + "/typing", 10), channel));
+    }
+
+    @Test
+    @DisplayName("Should close a session that stays above the soft limit")
+    void slowConsumer_Evicted() throws Exception {
+        backpressure.preSend(frame("s1", chatTopic, 150), channel);
+
+        now.addAndGet(EVICT_AFTER - 1);
+        assertNotNull(backpressure.preSend(frame("s1", chatTopic, 10), channel));
+
+        now.addAndGet(1);
+        assertNull(backpressure.preSend(frame("s1", chatTopic, 10), channel));
+        verify(rawSession, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1.0, evictions("slow-consumer"));
+    }
+
+    @Test
+    @DisplayName("Should restart the eviction delay once the session catches up")
+    void caughtUp_NotEvicted() throws Exception {
+        write(backpressure.preSend(frame("s1", chatTopic, 150), channel));
+        now.addAndGet(EVICT_AFTER / 2);
+
+        backpressure.preSend(frame("s1", chatTopic, 150), channel);
+        now.addAndGet(EVICT_AFTER / 2);
+
+        assertNotNull(backpressure.preSend(frame("s1", chatTopic, 10), channel));
+        assertEquals(0.0, evictions("slow-consumer"));
+    }
+
+    @Test
+    @DisplayName("Should count sessions closed by the send limits")
+    void sendLimitClose_Counted() throws Exception {
+        session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        session.close(CloseStatus.SESSION_NOT_RELIABLE);
+
+        assertEquals(1.0, evictions("send-limit"));
+        verify(rawSession, times(2)).close(CloseStatus.SESSION_NOT_RELIABLE);
+    }
+
+    @Test
+    @DisplayName("Should forget a session once it is closed")
+    void closedSession_Forgotten() throws Exception {
+        backpressure.preSend(frame("s1", chatTopic, 40), channel);
+
+        backpressure.decorate(handler).afterConnectionClosed(rawSession, CloseStatus.NORMAL);
+
+        assertEquals(0, backpressure.bufferedBytes("s1"));
+        assertNotNull(backpressure.preSend(frame("s1", chatTopic, 40), channel));
+        assertEquals(0, meterRegistry.get("websocket.sessions").gauge().value());
+    }
+
+    private double evictions(String reason) {
+        return meterRegistry.get("websocket.session.evictions").tag("reason", reason).counter().count();
+    }
+
+    private void write(Message<?> message) throws Exception {
+        backpressure.beforeHandle(message, channel, messageHandler);
+        session.sendMessage(new TextMessage("x"));
+        backpressure.afterMessageHandled(message, channel, messageHandler, null);
+    }
+
+    private static Message<byte[]> frame(String sessionId, String destination, int size) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setSessionId(sessionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[size], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,170 @@
+package com.alfano.gathorapp.websocket;
+
+import com.alfano.gathorapp.security.SecurityUser;
+import com.alfano.gathorapp.user.Role;
+import com.alfano.gathorapp.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PresenceRegistry, driven by STOMP session events.
+ */
+@DisplayName("PresenceRegistry Tests")
+class PresenceRegistryTest {
+
+    private PresenceRegistry registry;
+    private UUID aliceId;
+    private UUID bobId;
+    private Principal alice;
+    private Principal bob;
+    private UUID chatId;
+
+    @BeforeEach
+    void setUp() {
+        registry = new PresenceRegistry();
+        aliceId = UUID.randomUUID();
+        bobId = UUID.randomUUID();
+        alice = principal(aliceId);
+        bob = principal(bobId);
+        chatId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should track users from connect to disconnect")
+    void connectAndDisconnect() {
+        assertFalse(registry.isOnline(aliceId));
+
+        connect("s1", alice);
+        assertTrue(registry.isOnline(aliceId));
+        assertEquals(1, registry.sessionCount());
+
+        disconnect("s1", alice);
+        assertFalse(registry.isOnline(aliceId));
+        assertEquals(0, registry.sessionCount());
+    }
+
+    @Test
+    @DisplayName("Should keep a user online while any of their sessions is open")
+    void multipleSessions() {
+        connect("s1", alice);
+        connect("s2", alice);
+
+        disconnect("s1", alice);
+        assertTrue(registry.isOnline(aliceId));
+
+        disconnect("s2", alice);
+        assertFalse(registry.isOnline(aliceId));
+    }
+
+    @Test
+    @DisplayName("Should count distinct users subscribed to a chat")
+    void onlineCount_CountsDistinctUsers() {
+        connect("s1", alice);
+        connect("s2", alice);
+        connect("s3", bob);
+
+        subscribe("s1", "sub-0", "/topic/chat/" + chatId);
+        subscribe("s2", "sub-0", "/topic/chat/" + chatId);
+        subscribe("s3", "sub-0", "/topic/chat/" + chatId);
+        subscribe("s3", "sub-1", "/topic/chat/" + chatId + "/typing");
+        subscribe("s3", "sub-2", "/user/queue/notifications");
+
+        assertEquals(2, registry.onlineCount(chatId));
+
+        unsubscribe("s1", "sub-0");
+        assertEquals(2, registry.onlineCount(chatId));
+
+        unsubscribe("s2", "sub-0");
+        assertEquals(1, registry.onlineCount(chatId));
+    }
+
+    @Test
+    @DisplayName("Should drop chat subscriptions when the session disconnects")
+    void disconnect_ClearsSubscriptions() {
+        connect("s1", alice);
+        subscribe("s1", "sub-0", "/topic/chat/" + chatId);
+
+        disconnect("s1", alice);
+
+        assertEquals(0, registry.onlineCount(chatId));
+    }
+
+    @Test
+    @DisplayName("Should ignore unauthenticated sessions")
+    void unauthenticated_Ignored() {
+        connect("s1", null);
+        subscribe("s1", "sub-0", "/topic/chat/" + chatId);
+
+        assertEquals(0, registry.sessionCount());
+        assertEquals(0, registry.onlineCount(chatId));
+    }
+
+    @Test
+    @DisplayName("Should parse only chat message topics")
+    void chatId_ParsesChatTopics() {
+        assertEquals(chatId, PresenceRegistry.chatId("/topic/chat/" + chatId));
+        assertNull(PresenceRegistry.chatId("/topic/chat/" + chatId + "/typing"));
+        assertNull(PresenceRegistry.chatId("/topic/chat/not-a-uuid"));
+        assertNull(PresenceRegistry.chatId("/queue/errors"));
+        assertNull(PresenceRegistry.chatId(null));
+    }
+
+    private void connect(String sessionId, Principal user) {
+        registry.onConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, sessionId), user));
+    }
+
+    private void disconnect(String sessionId, Principal user) {
+        registry.onDisconnect(new SessionDisconnectEvent(this, message(StompCommand.DISCONNECT, sessionId),
+                sessionId, CloseStatus.NORMAL, user));
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        registry.onSubscribe(new SessionSubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        registry.onUnsubscribe(new SessionUnsubscribeEvent(this,
+                MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders())));
+    }
+
+    private static Message<byte[]> message(StompCommand command, String sessionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Principal principal(UUID userId) {
+        SecurityUser securityUser = new SecurityUser(User.builder()
+                .id(userId)
+                .name("User")
+                .email(userId + "@example.com")
+                .passwordHash("hashedPassword")
+                .role(Role.USER)
+                .build());
+        return new UsernamePasswordAuthenticationToken(securityUser, null, securityUser.getAuthorities());
+    }
+}
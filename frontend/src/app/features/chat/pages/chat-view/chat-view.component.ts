@@ -408,8 +408,8 @@ export class ChatViewComponent implements OnInit, OnDestroy {
 
     // Subscribe to typing indicators
     this.wsService.typing$.subscribe((typingData) => {
-      if (typingData && typingData.userId !== this.currentUserId()) {
-        this.someoneTyping.set(typingData.isTyping);
+      if (typingData) {
+        this.someoneTyping.set(typingData.users.some((user) => user.id !== this.currentUserId()));
       }
     });
   }
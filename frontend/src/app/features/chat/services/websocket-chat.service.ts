@@ -4,6 +4,33 @@ import SockJS from 'sockjs-client';
 import { BehaviorSubject, Observable } from 'rxjs';
 import { ChatMessageResponse } from '../../../generated/model/chatMessageResponse';
 
+/**
+ * Users currently typing in a chat, broadcast by the server whenever the list changes
+ */
+export interface TypingUsers {
+  chatId: string;
+  users: { id: string; name?: string }[];
+}
+
+/**
+ * Compact chat frame, requested with the x-chat-format: compact CONNECT header
+ * and sent only when the server has them enabled (frames carry the same header).
+ * Senders are numbered per subscription: frames from a sender carry its id and
+ * name (u, n) along with its number (s) until the server knows one was sent,
+ * later frames only the number.
+ */
+interface CompactChatFrame {
+  i: string;
+  t: string;
+  m: string;
+  s?: number;
+  u?: string;
+  n?: string;
+}
+
+const CHAT_FORMAT_HEADER = 'x-chat-format';
+const COMPACT_FORMAT = 'compact';
+
 /**
  * WebSocket service for real-time chat using STOMP protocol
  * Connects to Spring Boot WebSocket endpoint
@@ -14,9 +41,13 @@ import { ChatMessageResponse } from '../../../generated/model/chatMessageRespons
 export class WebSocketChatService {
   private stompClient: Client | null = null;
   private messageSubject = new BehaviorSubject<ChatMessageResponse | null>(null);
-  private typingSubject = new BehaviorSubject<{ userId: string; isTyping: boolean } | null>(null);
+  private typingSubject = new BehaviorSubject<TypingUsers | null>(null);
   private connectionReadySubject = new BehaviorSubject<boolean>(false);
 
+  // Sender dictionaries by subscription id, and frames waiting for a sender definition
+  private senders = new Map<string, Map<number, { id: string; name?: string }>>();
+  private pendingFrames = new Map<string, Map<number, CompactChatFrame[]>>();
+
   // Signals for reactive state management
   connected = signal(false);
   connecting = signal(false);
@@ -24,8 +55,7 @@ export class WebSocketChatService {
 
   // Observables for message streams
   messages$: Observable<ChatMessageResponse | null> = this.messageSubject.asObservable();
-  typing$: Observable<{ userId: string; isTyping: boolean } | null> =
-    this.typingSubject.asObservable();
+  typing$: Observable<TypingUsers | null> = this.typingSubject.asObservable();
 
   // Observable for connection state - emit when WebSocket is ready for subscriptions
   connectionReady$: Observable<boolean> = this.connectionReadySubject.asObservable();
@@ -51,6 +81,7 @@ export class WebSocketChatService {
       webSocketFactory: socketFactory,
       connectHeaders: {
         Authorization: `Bearer ${token}`,
+        [CHAT_FORMAT_HEADER]: COMPACT_FORMAT,
       },
       debug: (str: string) => {
         console.log('STOMP Debug:', str);
@@ -64,6 +95,9 @@ export class WebSocketChatService {
 
     this.stompClient.onConnect = (frame) => {
       console.log('WebSocket connected:', frame);
+      // Sender numbers are only valid within one subscription of one connection
+      this.senders.clear();
+      this.pendingFrames.clear();
       this.connected.set(true);
       this.connecting.set(false);
       this.error.set(null);
@@ -126,6 +160,10 @@ export class WebSocketChatService {
     // Subscribe to chat messages
     const subscription = this.stompClient.subscribe(`/topic/chat/${chatId}`, (message: IMessage) => {
       console.log('[WebSocket] Message received on topic:', message);
+      if (message.headers[CHAT_FORMAT_HEADER] === COMPACT_FORMAT) {
+        this.receiveCompact(message.headers['subscription'], chatId, JSON.parse(message.body));
+        return;
+      }
       const chatMessage: ChatMessageResponse = JSON.parse(message.body);
       console.log('[WebSocket] Parsed message:', chatMessage);
       this.messageSubject.next(chatMessage);
@@ -136,13 +174,56 @@ export class WebSocketChatService {
     // Subscribe to typing indicators
     this.stompClient.subscribe(`/topic/chat/${chatId}/typing`, (message: IMessage) => {
       console.log('[WebSocket] Typing indicator received:', message);
-      const typingData = JSON.parse(message.body);
+      const typingData: TypingUsers = JSON.parse(message.body);
       this.typingSubject.next(typingData);
     });
 
     console.log(`[WebSocket] Successfully subscribed to chat ${chatId}`);
   }
 
+  /**
+   * Expand a compact chat frame, holding it until its sender number is defined
+   */
+  private receiveCompact(subscription: string, chatId: string, frame: CompactChatFrame): void {
+    const senders = this.senders.get(subscription) ?? new Map<number, { id: string; name?: string }>();
+    this.senders.set(subscription, senders);
+    const pendingFrames = this.pendingFrames.get(subscription) ?? new Map<number, CompactChatFrame[]>();
+    this.pendingFrames.set(subscription, pendingFrames);
+
+    if (frame.u !== undefined) {
+      const sender = { id: frame.u, name: frame.n };
+      if (frame.s !== undefined) {
+        senders.set(frame.s, sender);
+      }
+      this.emitCompact(chatId, frame, sender);
+      if (frame.s !== undefined) {
+        const pending = pendingFrames.get(frame.s) ?? [];
+        pendingFrames.delete(frame.s);
+        pending.forEach((p) => this.emitCompact(chatId, p, sender));
+      }
+      return;
+    }
+
+    const sender = frame.s !== undefined ? senders.get(frame.s) : undefined;
+    if (sender) {
+      this.emitCompact(chatId, frame, sender);
+    } else if (frame.s !== undefined) {
+      const pending = pendingFrames.get(frame.s) ?? [];
+      pending.push(frame);
+      pendingFrames.set(frame.s, pending);
+    }
+  }
+
+  private emitCompact(chatId: string, frame: CompactChatFrame, sender: { id: string; name?: string }): void {
+    this.messageSubject.next({
+      id: frame.i,
+      chatId,
+      sender,
+      content: frame.m,
+      timestamp: frame.t,
+    });
+  }
+
   /**
    * Unsubscribe from a chat
    * @param chatId Chat ID to unsubscribe from